@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.charts.aggregation;
+
+import java.util.Objects;
+
+/**
+ * The aggregation applied to the entries of a chart during its rendering to bound their number.
+ *
+ * @param kind
+ *         The kind of aggregation
+ * @param maxEntries
+ *         The maximum number of entries once aggregated
+ * @param othersKey
+ *         The key of the entry containing the values which are not part of the top entries
+ *
+ * @author agent
+ */
+public record ChartAggregation(ChartAggregationKind kind, int maxEntries, String othersKey) {
+
+    public ChartAggregation {
+        Objects.requireNonNull(kind);
+        Objects.requireNonNull(othersKey);
+        if (kind != ChartAggregationKind.NONE && maxEntries < 1) {
+            throw new IllegalArgumentException("The maximum number of entries must be positive");
+        }
+    }
+
+    public static ChartAggregation none() {
+        return new ChartAggregation(ChartAggregationKind.NONE, 0, "");
+    }
+
+    public static ChartAggregation topN(int maxEntries, String othersKey) {
+        return new ChartAggregation(ChartAggregationKind.TOP_N, maxEntries, othersKey);
+    }
+
+    public static ChartAggregation binning(int maxEntries) {
+        return new ChartAggregation(ChartAggregationKind.BINNING, maxEntries, "");
+    }
+
+    public static ChartAggregation sampling(int maxEntries) {
+        return new ChartAggregation(ChartAggregationKind.SAMPLING, maxEntries, "");
+    }
+}
@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.charts.aggregation;
+
+/**
+ * The kinds of aggregation which can be applied to the entries of a chart.
+ *
+ * <p>
+ * With TOP_N, the entries with the greatest values are kept and the other ones are merged in a single entry. With
+ * BINNING, consecutive entries are merged in bins of the same size. With SAMPLING, entries are picked at regular
+ * intervals.
+ * </p>
+ *
+ * @author agent
+ */
+public enum ChartAggregationKind {
+    NONE,
+    TOP_N,
+    BINNING,
+    SAMPLING
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.charts.aggregation;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The keys and the values of the entries of a chart.
+ *
+ * @param keys
+ *         The keys of the entries
+ * @param values
+ *         The values of the entries
+ *
+ * @author agent
+ */
+public record ChartEntries(List<String> keys, List<Number> values) {
+
+    public ChartEntries {
+        Objects.requireNonNull(keys);
+        Objects.requireNonNull(values);
+    }
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.charts.aggregation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Used to aggregate the entries of a chart in order to bound the number of entries sent to the client.
+ *
+ * @author agent
+ */
+public class ChartEntriesAggregator {
+
+    /**
+     * Aggregates the given entries.
+     *
+     * <p>
+     * The keys and the values are matched by their index, the extra keys or values are ignored. The entries are left
+     * untouched if their number does not exceed the maximum number of entries of the aggregation. The missing values
+     * are considered as 0 to rank and merge the entries.
+     * </p>
+     *
+     * @param keys
+     *         The keys of the entries
+     * @param values
+     *         The values of the entries
+     * @param aggregation
+     *         The aggregation to apply
+     * @return The aggregated entries
+     */
+    public ChartEntries aggregate(List<String> keys, List<Number> values, ChartAggregation aggregation) {
+        Objects.requireNonNull(aggregation);
+        int size = Math.min(keys.size(), values.size());
+
+        ChartEntries chartEntries = new ChartEntries(keys, values);
+        if (aggregation.kind() != ChartAggregationKind.NONE && size > aggregation.maxEntries()) {
+            List<String> truncatedKeys = keys.subList(0, size);
+            List<Number> truncatedValues = values.subList(0, size);
+            chartEntries = switch (aggregation.kind()) {
+                case TOP_N -> this.topN(truncatedKeys, truncatedValues, aggregation.maxEntries(), aggregation.othersKey());
+                case BINNING -> this.binning(truncatedKeys, truncatedValues, aggregation.maxEntries());
+                case SAMPLING -> this.sampling(truncatedKeys, truncatedValues, aggregation.maxEntries());
+                default -> chartEntries;
+            };
+        }
+        return chartEntries;
+    }
+
+    /**
+     * Keeps the entries with the greatest values, in their original order, and merges the other ones in a last entry.
+     */
+    private ChartEntries topN(List<String> keys, List<Number> values, int maxEntries, String othersKey) {
+        int keptEntriesCount = Math.max(0, maxEntries - 1);
+        boolean[] isKept = new boolean[keys.size()];
+        IntStream.range(0, keys.size())
+                .boxed()
+                .sorted(Comparator.comparingDouble((Integer index) -> this.toDouble(values.get(index))).reversed())
+                .limit(keptEntriesCount)
+                .forEach(index -> isKept[index] = true);
+
+        List<String> aggregatedKeys = new ArrayList<>(maxEntries);
+        List<Number> aggregatedValues = new ArrayList<>(maxEntries);
+        List<Number> otherValues = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (isKept[i]) {
+                aggregatedKeys.add(keys.get(i));
+                aggregatedValues.add(values.get(i));
+            } else {
+                otherValues.add(values.get(i));
+            }
+        }
+        aggregatedKeys.add(othersKey);
+        aggregatedValues.add(this.sum(otherValues));
+
+        return new ChartEntries(aggregatedKeys, aggregatedValues);
+    }
+
+    /**
+     * Merges consecutive entries in bins containing the same number of entries, except for the last one.
+     */
+    private ChartEntries binning(List<String> keys, List<Number> values, int maxEntries) {
+        int binSize = (keys.size() + maxEntries - 1) / maxEntries;
+
+        List<String> aggregatedKeys = new ArrayList<>(maxEntries);
+        List<Number> aggregatedValues = new ArrayList<>(maxEntries);
+        for (int start = 0; start < keys.size(); start += binSize) {
+            int end = Math.min(start + binSize, keys.size());
+            if (end - start == 1) {
+                aggregatedKeys.add(keys.get(start));
+            } else {
+                aggregatedKeys.add(keys.get(start) + " - " + keys.get(end - 1));
+            }
+            aggregatedValues.add(this.sum(values.subList(start, end)));
+        }
+
+        return new ChartEntries(aggregatedKeys, aggregatedValues);
+    }
+
+    /**
+     * Picks entries at regular intervals, starting with the first one.
+     */
+    private ChartEntries sampling(List<String> keys, List<Number> values, int maxEntries) {
+        List<String> aggregatedKeys = new ArrayList<>(maxEntries);
+        List<Number> aggregatedValues = new ArrayList<>(maxEntries);
+        for (int i = 0; i < maxEntries; i++) {
+            int index = (int) ((long) i * keys.size() / maxEntries);
+            aggregatedKeys.add(keys.get(index));
+            aggregatedValues.add(values.get(index));
+        }
+
+        return new ChartEntries(aggregatedKeys, aggregatedValues);
+    }
+
+    /**
+     * Sums the given values, the missing values are ignored and the sum of integral values stays integral.
+     */
+    private Number sum(List<Number> values) {
+        List<Number> presentValues = values.stream()
+                .filter(Objects::nonNull)
+                .toList();
+        boolean isIntegral = presentValues.stream().allMatch(value -> value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte);
+
+        Number sum;
+        if (isIntegral) {
+            sum = presentValues.stream().mapToLong(Number::longValue).sum();
+        } else {
+            sum = presentValues.stream().mapToDouble(Number::doubleValue).sum();
+        }
+        return sum;
+    }
+
+    private double toDouble(Number value) {
+        double result = 0;
+        if (value != null) {
+            result = value.doubleValue();
+        }
+        return result;
+    }
+}
@@ -17,6 +17,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.eclipse.sirius.components.charts.aggregation.ChartEntries;
+import org.eclipse.sirius.components.charts.aggregation.ChartEntriesAggregator;
 import org.eclipse.sirius.components.charts.barchart.BarChart;
 import org.eclipse.sirius.components.charts.barchart.descriptions.BarChartDescription;
 import org.eclipse.sirius.components.charts.barchart.elements.BarChartElementProps;
@@ -49,6 +51,7 @@ public class BarChartComponent implements IComponent {
         String targetObjectId = barChartDescription.getTargetObjectIdProvider().apply(variableManager);
         List<Number> values = barChartDescription.getValuesProvider().apply(variableManager);
         List<String> keys = barChartDescription.getKeysProvider().apply(variableManager);
+        ChartEntries chartEntries = new ChartEntriesAggregator().aggregate(keys, values, barChartDescription.getAggregation());
         String yAxisLabel = barChartDescription.getYAxisLabelProvider().apply(variableManager);
         BarChartStyle barChartStyle = barChartDescription.getStyleProvider().apply(variableManager);
 
@@ -56,10 +59,10 @@ public class BarChartComponent implements IComponent {
                 .label(label)
                 .descriptionId(barChartDescription.getId())
                 .targetObjectId(targetObjectId)
-                .values(values)
+                .values(chartEntries.values())
                 .width(barChartDescription.getWidth())
                 .height(barChartDescription.getHeight())
-                .keys(keys);
+                .keys(chartEntries.keys());
 
         if (barChartStyle != null) {
             builder.style(barChartStyle);
@@ -17,6 +17,7 @@ import java.util.Objects;
 import java.util.function.Function;
 
 import org.eclipse.sirius.components.annotations.Immutable;
+import org.eclipse.sirius.components.charts.aggregation.ChartAggregation;
 import org.eclipse.sirius.components.charts.barchart.components.BarChartStyle;
 import org.eclipse.sirius.components.charts.descriptions.IChartDescription;
 import org.eclipse.sirius.components.representations.VariableManager;
@@ -49,6 +50,8 @@ public final class BarChartDescription implements IChartDescription {
 
     private Function<VariableManager, String> yAxisLabelProvider;
 
+    private ChartAggregation aggregation;
+
     private BarChartDescription() {
         // prevent instantiation
     }
@@ -95,6 +98,10 @@ public final class BarChartDescription implements IChartDescription {
         return this.yAxisLabelProvider;
     }
 
+    public ChartAggregation getAggregation() {
+        return this.aggregation;
+    }
+
     public static Builder newBarChartDescription(String id) {
         return new Builder(id);
     }
@@ -126,6 +133,8 @@ public final class BarChartDescription implements IChartDescription {
 
         private Function<VariableManager, String> yAxisLabelProvider = variableManager -> null;
 
+        private ChartAggregation aggregation = ChartAggregation.none();
+
         public Builder(String id) {
             this.id = Objects.requireNonNull(id);
         }
@@ -175,6 +184,11 @@ public final class BarChartDescription implements IChartDescription {
             return this;
         }
 
+        public Builder aggregation(ChartAggregation aggregation) {
+            this.aggregation = Objects.requireNonNull(aggregation);
+            return this;
+        }
+
         public BarChartDescription build() {
             BarChartDescription barChartDescription = new BarChartDescription();
             barChartDescription.id = Objects.requireNonNull(this.id);
@@ -187,6 +201,7 @@ public final class BarChartDescription implements IChartDescription {
             barChartDescription.width = this.width;
             barChartDescription.height = this.height;
             barChartDescription.yAxisLabelProvider = Objects.requireNonNull(this.yAxisLabelProvider);
+            barChartDescription.aggregation = Objects.requireNonNull(this.aggregation);
             return barChartDescription;
         }
     }
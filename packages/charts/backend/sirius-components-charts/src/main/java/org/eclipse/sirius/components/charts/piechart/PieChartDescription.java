@@ -17,6 +17,7 @@ import java.util.Objects;
 import java.util.function.Function;
 
 import org.eclipse.sirius.components.annotations.Immutable;
+import org.eclipse.sirius.components.charts.aggregation.ChartAggregation;
 import org.eclipse.sirius.components.charts.descriptions.IChartDescription;
 import org.eclipse.sirius.components.charts.piechart.components.PieChartStyle;
 import org.eclipse.sirius.components.representations.VariableManager;
@@ -41,6 +42,8 @@ public final class PieChartDescription implements IChartDescription {
 
     private Function<VariableManager, PieChartStyle> styleProvider;
 
+    private ChartAggregation aggregation;
+
     private PieChartDescription() {
         // prevent instantiation
     }
@@ -71,6 +74,10 @@ public final class PieChartDescription implements IChartDescription {
         return this.styleProvider;
     }
 
+    public ChartAggregation getAggregation() {
+        return this.aggregation;
+    }
+
     public static Builder newPieChartDescription(String id) {
         return new Builder(id);
     }
@@ -94,6 +101,8 @@ public final class PieChartDescription implements IChartDescription {
 
         private Function<VariableManager, PieChartStyle> styleProvider;
 
+        private ChartAggregation aggregation = ChartAggregation.none();
+
         public Builder(String id) {
             this.id = Objects.requireNonNull(id);
         }
@@ -123,6 +132,11 @@ public final class PieChartDescription implements IChartDescription {
             return this;
         }
 
+        public Builder aggregation(ChartAggregation aggregation) {
+            this.aggregation = Objects.requireNonNull(aggregation);
+            return this;
+        }
+
         public PieChartDescription build() {
             PieChartDescription pieChartDescription = new PieChartDescription();
             pieChartDescription.id = Objects.requireNonNull(this.id);
@@ -131,6 +145,7 @@ public final class PieChartDescription implements IChartDescription {
             pieChartDescription.valuesProvider = Objects.requireNonNull(this.valuesProvider);
             pieChartDescription.keysProvider = Objects.requireNonNull(this.keysProvider);
             pieChartDescription.styleProvider = Objects.requireNonNull(this.styleProvider);
+            pieChartDescription.aggregation = Objects.requireNonNull(this.aggregation);
             return pieChartDescription;
         }
     }
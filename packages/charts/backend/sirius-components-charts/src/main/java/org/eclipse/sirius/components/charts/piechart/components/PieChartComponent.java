@@ -17,6 +17,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.eclipse.sirius.components.charts.aggregation.ChartEntries;
+import org.eclipse.sirius.components.charts.aggregation.ChartEntriesAggregator;
 import org.eclipse.sirius.components.charts.piechart.PieChart;
 import org.eclipse.sirius.components.charts.piechart.PieChartDescription;
 import org.eclipse.sirius.components.charts.piechart.elements.PieChartElementProps;
@@ -49,14 +51,15 @@ public class PieChartComponent implements IComponent {
         String targetObjectId = pieChartDescription.getTargetObjectIdProvider().apply(variableManager);
         List<Number> values = pieChartDescription.getValuesProvider().apply(variableManager);
         List<String> keys = pieChartDescription.getKeysProvider().apply(variableManager);
+        ChartEntries chartEntries = new ChartEntriesAggregator().aggregate(keys, values, pieChartDescription.getAggregation());
         PieChartStyle pieChartStyle = pieChartDescription.getStyleProvider().apply(variableManager);
 
         Builder builder = PieChartElementProps.newPieChartElementProps(id)
                 .label(label)
                 .descriptionId(pieChartDescription.getId())
                 .targetObjectId(targetObjectId)
-                .values(values)
-                .keys(keys);
+                .values(chartEntries.values())
+                .keys(chartEntries.keys());
         if (pieChartStyle != null) {
             builder.style(pieChartStyle);
         }
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.charts.aggregation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the aggregation of the entries of the charts.
+ *
+ * @author agent
+ */
+public class ChartEntriesAggregatorTests {
+
+    private static final String OTHERS = "Others";
+
+    private final List<String> keys = List.of("a", "b", "c", "d", "e", "f");
+
+    private final List<Number> values = List.of(1, 6, 2, 5, 3, 4);
+
+    @Test
+    public void testEntriesAreKeptWithoutAggregation() {
+        var chartEntries = new ChartEntriesAggregator().aggregate(this.keys, this.values, ChartAggregation.none());
+        assertThat(chartEntries.keys()).isEqualTo(this.keys);
+        assertThat(chartEntries.values()).isEqualTo(this.values);
+    }
+
+    @Test
+    public void testTopEntriesAreKeptWithOthersBucket() {
+        var chartEntries = new ChartEntriesAggregator().aggregate(this.keys, this.values, ChartAggregation.topN(3, OTHERS));
+        assertThat(chartEntries.keys()).containsExactly("b", "d", OTHERS);
+        assertThat(chartEntries.values()).containsExactly(6, 5, 10L);
+    }
+
+    @Test
+    public void testConsecutiveEntriesAreBinned() {
+        var chartEntries = new ChartEntriesAggregator().aggregate(this.keys, this.values, ChartAggregation.binning(4));
+        assertThat(chartEntries.keys()).containsExactly("a - b", "c - d", "e - f");
+        assertThat(chartEntries.values()).containsExactly(7L, 7L, 7L);
+    }
+
+    @Test
+    public void testEntriesAreSampled() {
+        var chartEntries = new ChartEntriesAggregator().aggregate(this.keys, this.values, ChartAggregation.sampling(3));
+        assertThat(chartEntries.keys()).containsExactly("a", "c", "e");
+        assertThat(chartEntries.values()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void testMissingValuesAreConsideredAsZero() {
+        List<Number> valuesWithNulls = Arrays.asList(1, null, 2, 5, null, 4);
+
+        var topEntries = new ChartEntriesAggregator().aggregate(this.keys, valuesWithNulls, ChartAggregation.topN(3, OTHERS));
+        assertThat(topEntries.keys()).containsExactly("d", "f", OTHERS);
+        assertThat(topEntries.values()).containsExactly(5, 4, 3L);
+
+        var binnedEntries = new ChartEntriesAggregator().aggregate(this.keys, valuesWithNulls, ChartAggregation.binning(4));
+        assertThat(binnedEntries.values()).containsExactly(1L, 7L, 4L);
+    }
+}
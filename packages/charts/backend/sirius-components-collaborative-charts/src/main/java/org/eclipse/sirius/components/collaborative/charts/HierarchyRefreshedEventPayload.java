@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Obeo.
+ * Copyright (c) 2022, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -16,14 +16,14 @@ import java.util.Objects;
 import java.util.UUID;
 
 import org.eclipse.sirius.components.charts.hierarchy.Hierarchy;
-import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshedEventPayload;
 
 /**
  * Payload used to indicate that the hierarchy representation has been refreshed.
  *
  * @author sbegaudeau
  */
-public record HierarchyRefreshedEventPayload(UUID id, Hierarchy hierarchy) implements IPayload {
+public record HierarchyRefreshedEventPayload(UUID id, Hierarchy hierarchy) implements IRepresentationRefreshedEventPayload {
     public HierarchyRefreshedEventPayload {
         Objects.requireNonNull(id);
         Objects.requireNonNull(hierarchy);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,11 +14,17 @@ package org.eclipse.sirius.components.compatibility.emf;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import org.eclipse.acceleo.query.parser.AstResult;
 import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.sirius.components.compatibility.api.IAQLInterpreterFactory;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
@@ -34,6 +40,12 @@ import org.springframework.stereotype.Service;
 /**
  * This class is used to create a new AQL interpreter using all the Java classes defined in a viewpoint.
  *
+ * <p>
+ * A new interpreter, with its own query environment and its own instances of the Java services, is created each time
+ * one is requested. Only the expressions parsed in advance are shared by all the interpreters of a description, so that
+ * the expressions of a description are only parsed once. The descriptions are weakly referenced.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -41,6 +53,8 @@ public class AQLInterpreterFactory implements IAQLInterpreterFactory {
 
     private final Logger logger = LoggerFactory.getLogger(AQLInterpreterFactory.class);
 
+    private final Map<EObject, Map<String, AstResult>> description2preparsedExpressions = Collections.synchronizedMap(new WeakHashMap<>());
+
     @Override
     public AQLInterpreter create(DiagramDescription diagramDescription) {
         // @formatter:off
@@ -52,7 +66,7 @@ public class AQLInterpreterFactory implements IAQLInterpreterFactory {
         // @formatter:on
 
         List<EPackage> ePackages = diagramDescription.getMetamodel();
-        return new AQLInterpreter(javaClasses, ePackages);
+        return new AQLInterpreter(javaClasses, List.of(), ePackages, this.getPreparsedExpressions(diagramDescription));
     }
 
     @Override
@@ -72,7 +86,11 @@ public class AQLInterpreterFactory implements IAQLInterpreterFactory {
 
         List<EPackage> ePackages = viewExtensionDescription.getMetamodels();
 
-        return new AQLInterpreter(javaClasses, ePackages);
+        return new AQLInterpreter(javaClasses, List.of(), ePackages, this.getPreparsedExpressions(viewExtensionDescription));
+    }
+
+    private Map<String, AstResult> getPreparsedExpressions(EObject description) {
+        return this.description2preparsedExpressions.computeIfAbsent(description, key -> new ConcurrentHashMap<>());
     }
 
     private List<Class<?>> getJavaServices(Viewpoint viewpoint) {
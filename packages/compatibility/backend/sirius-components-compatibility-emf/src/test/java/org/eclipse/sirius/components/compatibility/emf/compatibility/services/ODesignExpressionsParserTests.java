@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.compatibility.emf.compatibility.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.sirius.components.compatibility.emf.AQLInterpreterFactory;
+import org.eclipse.sirius.components.compatibility.services.representations.ODesignExpressionsParser;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.interpreter.Result;
+import org.eclipse.sirius.components.interpreter.Status;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.diagram.description.DescriptionFactory;
+import org.eclipse.sirius.diagram.description.DiagramDescription;
+import org.eclipse.sirius.diagram.description.Layer;
+import org.eclipse.sirius.diagram.description.NodeMapping;
+import org.eclipse.sirius.viewpoint.description.Group;
+import org.eclipse.sirius.viewpoint.description.Viewpoint;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the parsing of the interpreted expressions of the odesigns.
+ *
+ * @author agent
+ */
+public class ODesignExpressionsParserTests {
+
+    private static final String INVALID_EXPRESSION = "aql:self.eContents()->select(";
+
+    @Test
+    public void testValidExpressionsAreParsedWithoutErrors() {
+        Group group = this.createGroup("aql:self.eContents()");
+
+        int errorCount = new ODesignExpressionsParser(new AQLInterpreterFactory()).parse(group);
+
+        assertThat(errorCount).isZero();
+    }
+
+    @Test
+    public void testInvalidExpressionsAreReported() {
+        Group group = this.createGroup(INVALID_EXPRESSION);
+        DiagramDescription diagramDescription = (DiagramDescription) group.getOwnedViewpoints().get(0).getOwnedRepresentations().get(0);
+        diagramDescription.getDefaultLayer().getNodeMappings().get(0).setPreconditionExpression("aql:self.name = ");
+
+        int errorCount = new ODesignExpressionsParser(new AQLInterpreterFactory()).parse(group);
+
+        assertThat(errorCount).isEqualTo(2);
+    }
+
+    @Test
+    public void testInvalidExpressionsUsedTwiceAreReportedOnce() {
+        Group group = this.createGroup(INVALID_EXPRESSION);
+        DiagramDescription diagramDescription = (DiagramDescription) group.getOwnedViewpoints().get(0).getOwnedRepresentations().get(0);
+        diagramDescription.getDefaultLayer().getNodeMappings().get(0).setPreconditionExpression(INVALID_EXPRESSION);
+
+        int errorCount = new ODesignExpressionsParser(new AQLInterpreterFactory()).parse(group);
+
+        assertThat(errorCount).isEqualTo(1);
+    }
+
+    @Test
+    public void testInterpretersAreCreatedForEachRequestWithTheExpressionsParsedInAdvance() {
+        Group group = this.createGroup("aql:self.eContents()");
+        DiagramDescription diagramDescription = (DiagramDescription) group.getOwnedViewpoints().get(0).getOwnedRepresentations().get(0);
+
+        AQLInterpreterFactory interpreterFactory = new AQLInterpreterFactory();
+        new ODesignExpressionsParser(interpreterFactory).parse(group);
+
+        AQLInterpreter interpreter = interpreterFactory.create(diagramDescription);
+        assertThat(interpreterFactory.create(diagramDescription)).isNotSameAs(interpreter);
+
+        Result result = interpreter.evaluateExpression(Map.of(VariableManager.SELF, EcorePackage.eINSTANCE), "aql:self.eContents()");
+        assertThat(result.getStatus()).isEqualTo(Status.OK);
+        assertThat(result.asObjects()).hasValueSatisfying(objects -> assertThat(objects).containsAll(EcorePackage.eINSTANCE.eContents()));
+    }
+
+    private Group createGroup(String semanticCandidatesExpression) {
+        NodeMapping nodeMapping = DescriptionFactory.eINSTANCE.createNodeMapping();
+        nodeMapping.setName("Node");
+        nodeMapping.setSemanticCandidatesExpression(semanticCandidatesExpression);
+
+        Layer layer = DescriptionFactory.eINSTANCE.createLayer();
+        layer.setName("Default");
+        layer.getNodeMappings().add(nodeMapping);
+
+        DiagramDescription diagramDescription = DescriptionFactory.eINSTANCE.createDiagramDescription();
+        diagramDescription.setName("Diagram");
+        diagramDescription.getMetamodel().add(EcorePackage.eINSTANCE);
+        diagramDescription.setDefaultLayer(layer);
+
+        Viewpoint viewpoint = org.eclipse.sirius.viewpoint.description.DescriptionFactory.eINSTANCE.createViewpoint();
+        viewpoint.setName("Viewpoint");
+        viewpoint.getOwnedRepresentations().add(diagramDescription);
+
+        Group group = org.eclipse.sirius.viewpoint.description.DescriptionFactory.eINSTANCE.createGroup();
+        group.setName("Group");
+        group.getOwnedViewpoints().add(viewpoint);
+        return group;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ import java.util.Optional;
 import org.eclipse.sirius.components.compatibility.services.ODesignRegistry;
 import org.eclipse.sirius.components.compatibility.services.api.IODesignRegistry;
 import org.eclipse.sirius.components.compatibility.services.api.ISiriusConfiguration;
+import org.eclipse.sirius.components.compatibility.services.representations.ODesignExpressionsParser;
 import org.eclipse.sirius.components.compatibility.services.representations.ODesignReader;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,12 +28,16 @@ import org.springframework.core.io.ClassPathResource;
 /**
  * Used to initialize the odesign registry.
  *
+ * <p>
+ * The interpreted expressions of the odesigns are parsed once while the registry is initialized.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Configuration
 public class ODesignConfiguration {
     @Bean
-    public IODesignRegistry oDesignRegistry(ODesignReader oDesignReader, List<ISiriusConfiguration> siriusConfigurations) {
+    public IODesignRegistry oDesignRegistry(ODesignReader oDesignReader, ODesignExpressionsParser oDesignExpressionsParser, List<ISiriusConfiguration> siriusConfigurations) {
         ODesignRegistry oDesignRegistry = new ODesignRegistry();
 
         // @formatter:off
@@ -45,6 +50,8 @@ public class ODesignConfiguration {
             .forEach(oDesignRegistry::add);
         // @formatter:on
 
+        oDesignRegistry.getODesigns().forEach(oDesignExpressionsParser::parse);
+
         return oDesignRegistry;
     }
 }
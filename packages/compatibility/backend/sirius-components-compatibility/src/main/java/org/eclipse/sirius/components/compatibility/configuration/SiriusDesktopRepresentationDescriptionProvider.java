@@ -17,9 +17,8 @@ import java.util.Objects;
 
 import org.eclipse.sirius.components.collaborative.forms.services.api.IPropertiesDescriptionRegistry;
 import org.eclipse.sirius.components.collaborative.forms.services.api.IPropertiesDescriptionRegistryConfigurer;
-import org.eclipse.sirius.components.compatibility.services.api.ISiriusConfiguration;
+import org.eclipse.sirius.components.compatibility.services.api.IODesignRegistry;
 import org.eclipse.sirius.components.compatibility.services.api.ISiriusDesktopRepresentationDescriptionConverter;
-import org.eclipse.sirius.components.compatibility.services.representations.ODesignReader;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextRepresentationDescriptionProvider;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
@@ -27,28 +26,29 @@ import org.eclipse.sirius.components.forms.description.FormDescription;
 import org.eclipse.sirius.components.representations.IRepresentationDescription;
 import org.eclipse.sirius.components.selection.description.SelectionDescription;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.ClassPathResource;
 
 /**
  * Used to add the default representation descriptions to the registry such as the description of the model explorer and
  * the default form description and all the descriptions from the odesign files registered in the Sirius configurations.
  *
+ * <p>
+ * The odesigns of the registry are converted once and the resulting descriptions, which are immutable, are shared by
+ * all the editing contexts.
+ * </p>
+ *
  * @author sbegaudeau
  * @author hmarchadour
  */
 @Configuration
 public class SiriusDesktopRepresentationDescriptionProvider implements IEditingContextRepresentationDescriptionProvider, IPropertiesDescriptionRegistryConfigurer {
 
-    private final List<ISiriusConfiguration> siriusConfigurations;
-
-    private final ODesignReader oDesignReader;
-
-    private final ISiriusDesktopRepresentationDescriptionConverter representationDescriptionConverter;
+    private final List<IRepresentationDescription> representationDescriptions;
 
-    public SiriusDesktopRepresentationDescriptionProvider(List<ISiriusConfiguration> siriusConfigurations, ODesignReader oDesignReader, ISiriusDesktopRepresentationDescriptionConverter representationDescriptionConverter) {
-        this.siriusConfigurations = Objects.requireNonNull(siriusConfigurations);
-        this.oDesignReader = Objects.requireNonNull(oDesignReader);
-        this.representationDescriptionConverter = Objects.requireNonNull(representationDescriptionConverter);
+    public SiriusDesktopRepresentationDescriptionProvider(IODesignRegistry oDesignRegistry, ISiriusDesktopRepresentationDescriptionConverter representationDescriptionConverter) {
+        this.representationDescriptions = Objects.requireNonNull(oDesignRegistry).getODesigns().stream()
+                .map(Objects.requireNonNull(representationDescriptionConverter)::getRepresentationDescriptions)
+                .flatMap(List::stream)
+                .toList();
     }
 
     @Override
@@ -56,32 +56,18 @@ public class SiriusDesktopRepresentationDescriptionProvider implements IEditingC
         // We should probably not filter only diagram and selection representations but instead of
         // opening the floodgates, we will be conservative for now
 
-        return this.siriusConfigurations.stream()
-                .map(ISiriusConfiguration::getODesignPaths)
-                .flatMap(List::stream)
-                .map(this::getRepresentationDescriptions)
-                .flatMap(List::stream)
+        return this.representationDescriptions.stream()
                 .filter(description -> description instanceof DiagramDescription || description instanceof SelectionDescription)
                 .toList();
     }
 
     @Override
     public void addPropertiesDescriptions(IPropertiesDescriptionRegistry registry) {
-        this.siriusConfigurations.stream()
-                .map(ISiriusConfiguration::getODesignPaths)
-                .flatMap(List::stream)
-                .map(this::getRepresentationDescriptions)
-                .flatMap(List::stream)
+        this.representationDescriptions.stream()
                 .filter(FormDescription.class::isInstance)
                 .map(FormDescription.class::cast)
                 .map(FormDescription::getPageDescriptions)
                 .flatMap(List::stream)
                 .forEach(registry::add);
     }
-
-    private List<IRepresentationDescription> getRepresentationDescriptions(String odesignPath) {
-        return this.oDesignReader.read(new ClassPathResource(odesignPath))
-                .map(this.representationDescriptionConverter::getRepresentationDescriptions)
-                .orElse(List.of());
-    }
 }
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.compatibility.services.representations;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.compatibility.api.IAQLInterpreterFactory;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.interpreter.Status;
+import org.eclipse.sirius.diagram.description.DiagramDescription;
+import org.eclipse.sirius.properties.ViewExtensionDescription;
+import org.eclipse.sirius.viewpoint.description.DescriptionPackage;
+import org.eclipse.sirius.viewpoint.description.Group;
+import org.eclipse.sirius.viewpoint.description.Viewpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to parse all the interpreted expressions of an odesign once, when it is loaded.
+ *
+ * <p>
+ * The expressions are parsed by the interpreter shared by all the editing contexts for their description, the result
+ * of the parsing is thus reused during their evaluation. The expressions which cannot be parsed are reported when the
+ * odesign is loaded instead of during the first rendering of a representation.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class ODesignExpressionsParser {
+
+    private final Logger logger = LoggerFactory.getLogger(ODesignExpressionsParser.class);
+
+    private final IAQLInterpreterFactory interpreterFactory;
+
+    public ODesignExpressionsParser(IAQLInterpreterFactory interpreterFactory) {
+        this.interpreterFactory = Objects.requireNonNull(interpreterFactory);
+    }
+
+    /**
+     * Parses the interpreted expressions of the diagram descriptions and the view extension descriptions of the given
+     * group.
+     *
+     * @param group
+     *         The group of the odesign
+     * @return The number of expressions which could not be parsed
+     */
+    public int parse(Group group) {
+        int errorCount = 0;
+
+        List<DiagramDescription> diagramDescriptions = group.getOwnedViewpoints().stream()
+                .map(Viewpoint::getOwnedRepresentations)
+                .flatMap(Collection::stream)
+                .filter(DiagramDescription.class::isInstance)
+                .map(DiagramDescription.class::cast)
+                .toList();
+        for (DiagramDescription diagramDescription : diagramDescriptions) {
+            errorCount += this.parse(this.interpreterFactory.create(diagramDescription), diagramDescription);
+        }
+
+        List<ViewExtensionDescription> viewExtensionDescriptions = group.getExtensions().stream()
+                .filter(ViewExtensionDescription.class::isInstance)
+                .map(ViewExtensionDescription.class::cast)
+                .toList();
+        for (ViewExtensionDescription viewExtensionDescription : viewExtensionDescriptions) {
+            errorCount += this.parse(this.interpreterFactory.create(viewExtensionDescription), viewExtensionDescription);
+        }
+
+        if (errorCount > 0) {
+            this.logger.warn("{} interpreted expression(s) of the odesign '{}' could not be parsed", errorCount, group.getName());
+        }
+        return errorCount;
+    }
+
+    private int parse(AQLInterpreter interpreter, EObject description) {
+        List<String> expressions = new ArrayList<>();
+        this.collectExpressions(description, expressions);
+        description.eAllContents().forEachRemaining(eObject -> this.collectExpressions(eObject, expressions));
+
+        return (int) expressions.stream()
+                .distinct()
+                .map(interpreter::parseExpression)
+                .filter(status -> status.compareTo(Status.ERROR) >= 0)
+                .count();
+    }
+
+    private void collectExpressions(EObject eObject, List<String> expressions) {
+        for (EAttribute eAttribute : eObject.eClass().getEAllAttributes()) {
+            if (DescriptionPackage.Literals.INTERPRETED_EXPRESSION.equals(eAttribute.getEAttributeType()) && !eAttribute.isMany()) {
+                var value = eObject.eGet(eAttribute);
+                if (value instanceof String expression && !expression.isBlank()) {
+                    expressions.add(expression);
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Obeo.
+ * Copyright (c) 2021, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -28,6 +28,12 @@ import org.eclipse.sirius.components.core.api.IInput;
  */
 public class ChangeDescription {
 
+    /**
+     * The key of the parameter containing the semantic elements modified by the input. When this parameter is absent,
+     * every semantic element should be considered as potentially modified.
+     */
+    public static final String CHANGED_ELEMENTS = "changedElements";
+
     private final String kind;
 
     private final String sourceId;
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.api;
+
+import java.util.Collection;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.representations.RepresentationDependencies;
+
+/**
+ * Refresh policy used to refresh a representation after a semantic change only if one of the objects used during its
+ * last rendering has been impacted.
+ *
+ * <p>
+ * The elements under {@link ChangeDescription#CHANGED_ELEMENTS} are expected to contain the modified objects along with
+ * the objects from which they can be reached, like the objects containing or referencing them, so that the values read
+ * from the dependencies of the representation by its expressions are covered. Semantic changes without this parameter
+ * are considered as impacting every representation. The other kinds of changes are delegated to the default refresh
+ * policy of the representation.
+ * </p>
+ *
+ * @author agent
+ */
+public class ChangedElementsRefreshPolicy implements IRepresentationRefreshPolicy {
+
+    private final RepresentationDependencies representationDependencies;
+
+    private final IRepresentationRefreshPolicy defaultRefreshPolicy;
+
+    public ChangedElementsRefreshPolicy(RepresentationDependencies representationDependencies, IRepresentationRefreshPolicy defaultRefreshPolicy) {
+        this.representationDependencies = Objects.requireNonNull(representationDependencies);
+        this.defaultRefreshPolicy = Objects.requireNonNull(defaultRefreshPolicy);
+    }
+
+    @Override
+    public boolean shouldRefresh(ChangeDescription changeDescription) {
+        boolean shouldRefresh = this.defaultRefreshPolicy.shouldRefresh(changeDescription);
+        if (shouldRefresh && ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind())
+                && changeDescription.getParameters().get(ChangeDescription.CHANGED_ELEMENTS) instanceof Collection<?> changedElements) {
+            shouldRefresh = this.representationDependencies.containsAny(changedElements);
+        }
+        return shouldRefresh;
+    }
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.api;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+
+/**
+ * Used to find the semantic elements which may have been impacted by the changes of an editing context.
+ *
+ * <p>
+ * The elements found are stored in the parameters of the semantic change descriptions under the key
+ * {@link ChangeDescription#CHANGED_ELEMENTS} in order to let the representation event processors refresh only what
+ * has been impacted by a change. Since the values displayed for a semantic element may be computed from other
+ * elements, implementations should return all the elements whose derived values may have changed and not only those
+ * which have been modified, or an empty optional when they cannot be found.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IChangedElementsProvider {
+
+    /**
+     * Returns the elements impacted by the changes performed since the previous call for the same editing context.
+     *
+     * @param editingContext
+     *         The editing context
+     * @return The impacted elements or an empty optional if the changes of this editing context are not tracked by
+     *         this provider
+     */
+    Optional<Set<Object>> getChangedElements(IEditingContext editingContext);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author agent
+     */
+    class NoOp implements IChangedElementsProvider {
+
+        @Override
+        public Optional<Set<Object>> getChangedElements(IEditingContext editingContext) {
+            return Optional.empty();
+        }
+    }
+}
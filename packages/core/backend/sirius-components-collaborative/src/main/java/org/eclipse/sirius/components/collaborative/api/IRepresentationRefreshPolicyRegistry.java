@@ -15,6 +15,7 @@ package org.eclipse.sirius.components.collaborative.api;
 import java.util.Optional;
 
 import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.eclipse.sirius.components.representations.RepresentationDependencies;
 
 /**
  * Registry of contributed representation refresh policy.
@@ -25,6 +26,25 @@ public interface IRepresentationRefreshPolicyRegistry {
 
     Optional<IRepresentationRefreshPolicy> getRepresentationRefreshPolicy(IRepresentationDescription representationDescription);
 
+    /**
+     * Returns the refresh policy contributed for the given representation description or, if none has been
+     * contributed, a policy which restricts the given default policy to the semantic changes impacting the
+     * dependencies of the representation.
+     *
+     * @param representationDescription
+     *         The description of the representation
+     * @param representationDependencies
+     *         The objects used during the last rendering of the representation
+     * @param defaultRefreshPolicy
+     *         The default refresh policy of the representation
+     * @return The refresh policy to use
+     */
+    default IRepresentationRefreshPolicy getChangedElementsRefreshPolicy(IRepresentationDescription representationDescription, RepresentationDependencies representationDependencies,
+            IRepresentationRefreshPolicy defaultRefreshPolicy) {
+        return this.getRepresentationRefreshPolicy(representationDescription)
+                .orElseGet(() -> new ChangedElementsRefreshPolicy(representationDependencies, defaultRefreshPolicy));
+    }
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
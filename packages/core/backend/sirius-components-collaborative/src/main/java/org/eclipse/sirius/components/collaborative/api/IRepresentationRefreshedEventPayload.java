@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.api;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+
+/**
+ * Implemented by the payloads containing the whole new state of a representation after a refresh.
+ *
+ * <p>
+ * Since such a payload supersedes the previous ones of the same type, a subscriber which has not received a refreshed
+ * payload yet only receives the most recent one.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IRepresentationRefreshedEventPayload extends IPayload {
+
+}
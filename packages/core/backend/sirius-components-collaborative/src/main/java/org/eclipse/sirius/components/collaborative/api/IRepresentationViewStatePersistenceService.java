@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.api;
+
+import java.util.Map;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.components.representations.IRepresentation;
+
+/**
+ * Used to persist the view state of the elements of the representations.
+ *
+ * <p>
+ * The view state of an element, such as the collapsed state of a lane, is changed by the end users without modifying
+ * the content of the representation. Implementations can thus persist it separately from the rest of the
+ * representation and only for the elements whose view state has changed. In this case, it has to be merged back in the
+ * representation when it is loaded.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IRepresentationViewStatePersistenceService {
+
+    /**
+     * Persists the view state of some elements of the given representation.
+     *
+     * @param cause
+     *         The cause of the new view state
+     * @param editingContext
+     *         The editing context
+     * @param representation
+     *         The representation with its new view state
+     * @param changedViewStates
+     *         The view state of the elements which has changed, by path of element. The path of an element is the
+     *         name of the property of the serialized representation containing it and its id, separated by a slash,
+     *         for example <code>lanes/laneId</code>, since the ids of some elements are only unique among the elements
+     *         of the same kind. The properties of each view state are those of the serialized element which they
+     *         replace
+     */
+    void save(ICause cause, IEditingContext editingContext, IRepresentation representation, Map<String, Object> changedViewStates);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author agent
+     */
+    class NoOp implements IRepresentationViewStatePersistenceService {
+
+        @Override
+        public void save(ICause cause, IEditingContext editingContext, IRepresentation representation, Map<String, Object> changedViewStates) {
+            // Do nothing
+        }
+    }
+}
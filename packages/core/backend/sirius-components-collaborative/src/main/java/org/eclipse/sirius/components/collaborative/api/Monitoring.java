@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -24,6 +24,19 @@ public final class Monitoring {
     public static final String TIMER_REFRESH_REPRESENTATION = "timer_refresh_representation";
     public static final String TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR = "timer_create_representation_event_processor";
     public static final String TIMER_PROCESSING_INPUT = "timer_processing_input";
+    public static final String TIMER_WAITING_INPUT = "timer_waiting_input";
+    public static final String TIMER_HANDLING_INPUT = "timer_handling_input";
+    public static final String TIMER_PERSIST_EDITING_CONTEXT = "timer_persist_editing_context";
+    public static final String COUNTER_CONFLATED_PAYLOADS = "siriusweb_subscription_conflated_payloads";
+    public static final String COUNTER_COALESCED_CHANGE_DESCRIPTIONS = "siriusweb_editingcontext_coalesced_change_descriptions";
+    public static final String TIMER_SERVER_LAYOUT = "timer_diagram_server_layout";
+    public static final String COUNTER_REJECTED_SERVER_LAYOUTS = "siriusweb_diagram_rejected_server_layouts";
+
+    public static final String INPUT = "input";
+    public static final String HANDLER = "handler";
+    public static final String REPRESENTATION_KIND = "representationKind";
+    public static final String CHANGE_KIND = "changeKind";
+    public static final String PAYLOAD = "payload";
 
     public static final String NAME = "name";
 
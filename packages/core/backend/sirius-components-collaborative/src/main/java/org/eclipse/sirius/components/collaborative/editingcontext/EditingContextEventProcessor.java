@@ -14,16 +14,22 @@ package org.eclipse.sirius.components.collaborative.editingcontext;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.logging.Level;
@@ -31,6 +37,7 @@ import java.util.stream.Collectors;
 
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IChangedElementsProvider;
 import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
@@ -48,6 +55,7 @@ import org.eclipse.sirius.components.core.api.ErrorPayload;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
 import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IInputTraceRegistry;
 import org.eclipse.sirius.components.core.api.IPayload;
 import org.eclipse.sirius.components.core.api.IRepresentationInput;
 import org.eclipse.sirius.components.representations.IRepresentation;
@@ -71,6 +79,13 @@ import reactor.core.scheduler.Schedulers;
  * Handles all the inputs which concern a particular editing context one at a time, in order of arrival, and in a
  * dedicated thread and emit the output events.
  *
+ * <p>
+ * The time spent waiting for the editing context, in the event handlers, refreshing the representations and
+ * persisting the editing context is measured by timers whose tags only contain bounded values such as the type of the
+ * inputs. The details of a sample of the inputs, including the id of their editing context, are kept by the
+ * {@link IInputTraceRegistry}.
+ * </p>
+ *
  * @author sbegaudeau
  * @author pcdavid
  */
@@ -82,6 +97,21 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     public static final String INPUT = "INPUT";
 
+    /**
+     * The maximum number of inputs whose change descriptions are coalesced before being processed.
+     */
+    private static final int MAX_COALESCED_INPUTS = 50;
+
+    /**
+     * The maximum time, in nanoseconds, during which the change descriptions are coalesced before being processed.
+     */
+    private static final long MAX_COALESCING_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    /**
+     * The maximum time, in seconds, to wait for the inputs already submitted when the processor is disposed.
+     */
+    private static final long DISPOSAL_TIMEOUT_SECONDS = 5;
+
     private final Logger logger = LoggerFactory.getLogger(EditingContextEventProcessor.class);
 
     private final ICollaborativeMessageService messageService;
@@ -114,8 +144,46 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     private final List<IInputPostProcessor> inputPostProcessors;
 
+    private final List<IChangedElementsProvider> changedElementsProviders;
+
     private final MeterRegistry meterRegistry;
 
+    private final IInputTraceRegistry inputTraceRegistry;
+
+    /**
+     * The phases of the input currently executed in the dedicated thread, used to measure the refresh and the
+     * persistence triggered by its change descriptions.
+     */
+    private InputPhases currentInputPhases;
+
+    /**
+     * Indicates if the change descriptions of the inputs waiting to be handled should be processed together.
+     */
+    private final boolean coalesceChangeDescriptions;
+
+    /**
+     * The number of inputs submitted to the executor service which have not been handled yet.
+     */
+    private final AtomicInteger pendingInputsCount = new AtomicInteger();
+
+    /**
+     * The change descriptions emitted by the inputs handled since the last refresh, only used when the change
+     * descriptions are coalesced.
+     */
+    private final List<ChangeDescription> pendingChangeDescriptions = new ArrayList<>();
+
+    private boolean isCollectingChangeDescriptions;
+
+    /**
+     * The number of inputs handled since the change descriptions have been processed for the last time.
+     */
+    private int coalescedInputsCount;
+
+    /**
+     * The time at which the first input whose change descriptions have not been processed yet has been handled.
+     */
+    private long coalescingStartTime;
+
     public EditingContextEventProcessor(EditingContextEventProcessorParameters parameters) {
         this.messageService = parameters.messageService();
         this.editingContext = parameters.editingContext();
@@ -127,62 +195,170 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         this.executorService = parameters.executorServiceProvider().getExecutorService(this.editingContext);
         this.inputPreProcessors = parameters.inputPreProcessors();
         this.inputPostProcessors = parameters.inputPostProcessors();
+        this.changedElementsProviders = parameters.changedElementsProviders();
         this.changeDescriptionDisposable = this.setupChangeDescriptionSinkConsumer();
         this.meterRegistry = parameters.meterRegistry();
+        this.inputTraceRegistry = parameters.inputTraceRegistry();
+        this.coalesceChangeDescriptions = parameters.coalesceChangeDescriptions();
     }
 
-    @SuppressWarnings("checkstyle:IllegalCatch")
     private Disposable setupChangeDescriptionSinkConsumer() {
-        Consumer<ChangeDescription> consumer = changeDescription -> {
-            if (ChangeKind.REPRESENTATION_TO_DELETE.equals(changeDescription.getKind())) {
-                Object representationId = changeDescription.getParameters().get(REPRESENTATION_ID);
-                if (representationId instanceof String) {
-                    DeleteRepresentationInput deleteRepresentationInput = new DeleteRepresentationInput(UUID.randomUUID(), (String) representationId);
-                    this.doHandle(Sinks.one(), deleteRepresentationInput);
-                }
-            } else if (ChangeKind.REPRESENTATION_TO_RENAME.equals(changeDescription.getKind())) {
-                Object representationId = changeDescription.getParameters().get(REPRESENTATION_ID);
-                Object representationLabel = changeDescription.getParameters().get(REPRESENTATION_LABEL);
-                if (representationId instanceof String && representationLabel instanceof String) {
-                    RenameRepresentationInput renameRepresentationInput = new RenameRepresentationInput(UUID.randomUUID(), this.getEditingContextId(), (String) representationId,
-                            (String) representationLabel);
-                    this.doHandle(Sinks.one(), renameRepresentationInput);
-                }
-            } else if (ChangeKind.NOTHING.equals(changeDescription.getKind())) {
-                return;
+        Consumer<ChangeDescription> consumer = emittedChangeDescription -> {
+            ChangeDescription changeDescription = this.addChangedElements(emittedChangeDescription);
+            if (this.isCollectingChangeDescriptions) {
+                this.pendingChangeDescriptions.add(changeDescription);
+            } else {
+                this.processChangeDescription(changeDescription);
             }
+        };
 
-            this.publishEvent(changeDescription);
-            this.disposeRepresentationIfNeeded();
+        Consumer<Throwable> errorConsumer = throwable -> this.logger.warn(throwable.getMessage(), throwable);
 
-            var refreshRepresentationSample = Timer.start(this.meterRegistry);
+        return this.changeDescriptionSink.asFlux().subscribe(consumer, errorConsumer);
+    }
 
-            RepresentationEventProcessorEntry representationEventProcessorEntry = this.representationEventProcessors.get(changeDescription.getSourceId());
-            if (representationEventProcessorEntry != null) {
-                try {
-                    IRepresentationEventProcessor representationEventProcessor = representationEventProcessorEntry.getRepresentationEventProcessor();
-                    representationEventProcessor.refresh(changeDescription);
-                    IRepresentation representation = representationEventProcessor.getRepresentation();
-                    this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
-                } catch (Exception exception) {
-                    this.logger.warn(exception.getMessage(), exception);
-                }
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void processChangeDescription(ChangeDescription changeDescription) {
+        if (ChangeKind.REPRESENTATION_TO_DELETE.equals(changeDescription.getKind())) {
+            Object representationId = changeDescription.getParameters().get(REPRESENTATION_ID);
+            if (representationId instanceof String) {
+                DeleteRepresentationInput deleteRepresentationInput = new DeleteRepresentationInput(UUID.randomUUID(), (String) representationId);
+                this.doHandle(Sinks.one(), deleteRepresentationInput, this.changeDescriptionSink, new InputPhases(deleteRepresentationInput));
             }
-            this.refreshOtherRepresentations(changeDescription);
+        } else if (ChangeKind.REPRESENTATION_TO_RENAME.equals(changeDescription.getKind())) {
+            Object representationId = changeDescription.getParameters().get(REPRESENTATION_ID);
+            Object representationLabel = changeDescription.getParameters().get(REPRESENTATION_LABEL);
+            if (representationId instanceof String && representationLabel instanceof String) {
+                RenameRepresentationInput renameRepresentationInput = new RenameRepresentationInput(UUID.randomUUID(), this.getEditingContextId(), (String) representationId,
+                        (String) representationLabel);
+                this.doHandle(Sinks.one(), renameRepresentationInput, this.changeDescriptionSink, new InputPhases(renameRepresentationInput));
+            }
+        } else if (ChangeKind.NOTHING.equals(changeDescription.getKind())) {
+            return;
+        }
 
-            var timer = this.meterRegistry.timer(Monitoring.TIMER_REFRESH_REPRESENTATION, "changeDescription", changeDescription.getSourceId());
-            refreshRepresentationSample.stop(timer);
+        this.publishEvent(changeDescription);
+        this.disposeRepresentationIfNeeded();
 
-            if (this.shouldPersistTheEditingContext(changeDescription)) {
-                this.editingContextPersistenceService.persist(changeDescription.getInput(), this.editingContext);
+        long refreshStartTime = System.nanoTime();
+
+        RepresentationEventProcessorEntry representationEventProcessorEntry = this.representationEventProcessors.get(changeDescription.getSourceId());
+        if (representationEventProcessorEntry != null) {
+            try {
+                IRepresentationEventProcessor representationEventProcessor = representationEventProcessorEntry.getRepresentationEventProcessor();
+                representationEventProcessor.refresh(changeDescription);
+                IRepresentation representation = representationEventProcessor.getRepresentation();
+                this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
+            } catch (Exception exception) {
+                this.logger.warn(exception.getMessage(), exception);
             }
-            this.danglingRepresentationDeletionService.deleteDanglingRepresentations(changeDescription.getInput(), this.editingContext);
+        }
+        this.refreshOtherRepresentations(changeDescription);
 
-        };
+        long refreshTime = System.nanoTime() - refreshStartTime;
+        this.getTimer(Monitoring.TIMER_REFRESH_REPRESENTATION, Monitoring.CHANGE_KIND, changeDescription.getKind()).record(refreshTime, TimeUnit.NANOSECONDS);
+        if (this.currentInputPhases != null) {
+            this.currentInputPhases.addRefresh(refreshTime);
+        }
 
-        Consumer<Throwable> errorConsumer = throwable -> this.logger.warn(throwable.getMessage(), throwable);
+        if (this.shouldPersistTheEditingContext(changeDescription)) {
+            long persistStartTime = System.nanoTime();
+            this.editingContextPersistenceService.persist(changeDescription.getInput(), this.editingContext);
+            long persistTime = System.nanoTime() - persistStartTime;
+            this.getTimer(Monitoring.TIMER_PERSIST_EDITING_CONTEXT).record(persistTime, TimeUnit.NANOSECONDS);
+            if (this.currentInputPhases != null) {
+                this.currentInputPhases.addPersist(persistTime);
+            }
+        }
+        this.danglingRepresentationDeletionService.deleteDanglingRepresentations(changeDescription.getInput(), this.editingContext);
+    }
 
-        return this.changeDescriptionSink.asFlux().subscribe(consumer, errorConsumer);
+    /**
+     * Processes the change descriptions collected while handling a burst of inputs.
+     *
+     * <p>
+     * The consecutive semantic changes are merged into a single one so that the representations are refreshed and the
+     * editing context is persisted only once for all of them. The other change descriptions are processed in order
+     * since they carry parameters specific to their input.
+     * </p>
+     */
+    private void processPendingChangeDescriptions() {
+        List<ChangeDescription> coalescedChangeDescriptions = new ArrayList<>();
+        int mergedCount = 0;
+        for (ChangeDescription changeDescription : this.pendingChangeDescriptions) {
+            int lastIndex = coalescedChangeDescriptions.size() - 1;
+            if (lastIndex >= 0 && this.isSemanticChange(changeDescription) && this.isSemanticChange(coalescedChangeDescriptions.get(lastIndex))) {
+                coalescedChangeDescriptions.set(lastIndex, this.merge(coalescedChangeDescriptions.get(lastIndex), changeDescription));
+                mergedCount++;
+            } else if (!ChangeKind.NOTHING.equals(changeDescription.getKind())) {
+                coalescedChangeDescriptions.add(changeDescription);
+            }
+        }
+        this.pendingChangeDescriptions.clear();
+        this.coalescedInputsCount = 0;
+
+        if (mergedCount > 0) {
+            this.meterRegistry.counter(Monitoring.COUNTER_COALESCED_CHANGE_DESCRIPTIONS).increment(mergedCount);
+        }
+        coalescedChangeDescriptions.forEach(this::processChangeDescription);
+    }
+
+    private boolean isSemanticChange(ChangeDescription changeDescription) {
+        return ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind());
+    }
+
+    /**
+     * Merges two consecutive semantic changes.
+     *
+     * <p>
+     * The merged change description keeps the source and the input of the most recent one. Its changed elements are the
+     * union of the changed elements of both, unless one of them does not track its changed elements in which case
+     * everything should be considered as changed.
+     * </p>
+     *
+     * @param previousChangeDescription
+     *         The previous semantic change
+     * @param changeDescription
+     *         The most recent semantic change
+     * @return The merged semantic change
+     */
+    private ChangeDescription merge(ChangeDescription previousChangeDescription, ChangeDescription changeDescription) {
+        Map<String, Object> parameters = new HashMap<>(previousChangeDescription.getParameters());
+        parameters.putAll(changeDescription.getParameters());
+
+        Object previousChangedElements = previousChangeDescription.getParameters().get(ChangeDescription.CHANGED_ELEMENTS);
+        Object changedElements = changeDescription.getParameters().get(ChangeDescription.CHANGED_ELEMENTS);
+        if (previousChangedElements instanceof Collection<?> previousCollection && changedElements instanceof Collection<?> collection) {
+            Set<Object> mergedChangedElements = new LinkedHashSet<>(previousCollection);
+            mergedChangedElements.addAll(collection);
+            parameters.put(ChangeDescription.CHANGED_ELEMENTS, mergedChangedElements);
+        } else {
+            parameters.remove(ChangeDescription.CHANGED_ELEMENTS);
+        }
+        return new ChangeDescription(changeDescription.getKind(), changeDescription.getSourceId(), changeDescription.getInput(), parameters);
+    }
+
+    /**
+     * Adds to a semantic change description the semantic elements which have been modified since the previous one, if
+     * they are tracked for this editing context.
+     *
+     * @param changeDescription
+     *         The change description emitted
+     * @return The change description to use to refresh the representations
+     */
+    private ChangeDescription addChangedElements(ChangeDescription changeDescription) {
+        if (ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind()) && !changeDescription.getParameters().containsKey(ChangeDescription.CHANGED_ELEMENTS)) {
+            var optionalChangedElements = this.changedElementsProviders.stream()
+                    .map(changedElementsProvider -> changedElementsProvider.getChangedElements(this.editingContext))
+                    .flatMap(Optional::stream)
+                    .findFirst();
+            if (optionalChangedElements.isPresent()) {
+                Map<String, Object> parameters = new HashMap<>(changeDescription.getParameters());
+                parameters.put(ChangeDescription.CHANGED_ELEMENTS, optionalChangedElements.get());
+                return new ChangeDescription(changeDescription.getKind(), changeDescription.getSourceId(), changeDescription.getInput(), parameters);
+            }
+        }
+        return changeDescription;
     }
 
     private void publishEvent(ChangeDescription changeDescription) {
@@ -230,23 +406,42 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         Timer.Sample handleTimer = Timer.start(this.meterRegistry);
         if (this.executorService.isShutdown()) {
             this.logger.warn("Handler for editing context {} is shutdown", this.editingContext.getId());
-            handleTimer.stop(this.meterRegistry.timer(Monitoring.EVENT_HANDLER, INPUT, input.getClass().getSimpleName(),
-                    "inputId", input.id().toString()));
+            handleTimer.stop(this.meterRegistry.timer(Monitoring.EVENT_HANDLER, INPUT, input.getClass().getSimpleName()));
             return Mono.empty();
         }
 
         this.logger.trace(input.toString());
 
         One<IPayload> payloadSink = Sinks.one();
-        Future<?> future = this.executorService.submit(() -> this.doHandle(payloadSink, input));
+        InputPhases inputPhases = new InputPhases(input);
+        long submissionTime = System.nanoTime();
+        this.pendingInputsCount.incrementAndGet();
+        Future<?> future = this.executorService.submit(() -> {
+            this.pendingInputsCount.decrementAndGet();
+            this.recordQueueWait(inputPhases, System.nanoTime() - submissionTime);
+            this.currentInputPhases = inputPhases;
+            try {
+                if (this.coalesceChangeDescriptions) {
+                    this.doHandleCoalescingChangeDescriptions(payloadSink, input, inputPhases);
+                } else {
+                    this.doHandle(payloadSink, input, this.changeDescriptionSink, inputPhases);
+                }
+            } finally {
+                this.currentInputPhases = null;
+            }
+        });
         try {
             // Block until the event has been processed
             future.get();
         } catch (InterruptedException | ExecutionException exception) {
             this.logger.warn(exception.getMessage(), exception);
         }
-        handleTimer.stop(this.meterRegistry.timer(Monitoring.TIMER_PROCESSING_INPUT, "input", input.getClass().getSimpleName(),
-                "inputId", input.id().toString()));
+        handleTimer.stop(this.getTimer(Monitoring.TIMER_PROCESSING_INPUT, Monitoring.INPUT, inputPhases.getInputType()));
+        this.getTimer(Monitoring.TIMER_HANDLING_INPUT, Monitoring.INPUT, inputPhases.getInputType(), Monitoring.HANDLER, inputPhases.getHandler())
+                .record(inputPhases.getHandlingNanos(), TimeUnit.NANOSECONDS);
+        if (this.inputTraceRegistry.shouldTrace()) {
+            this.inputTraceRegistry.add(inputPhases.toInputTrace(this.editingContext.getId()));
+        }
 
         var timeoutFallback = Mono.just(new ErrorPayload(input.id(), this.messageService.timeout()))
                 .doOnSuccess(payload -> this.logger.warn("Timeout fallback for the input {}", input));
@@ -256,6 +451,66 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
                 .doOnError(throwable -> this.logger.warn(throwable.getMessage(), throwable));
     }
 
+    /**
+     * Handles the given input while collecting its change descriptions.
+     *
+     * <p>
+     * The change descriptions collected are only processed once there is no other input waiting to be handled. A burst
+     * of inputs thus triggers a single refresh of the representations and a single persistence of the editing context
+     * while the payload of each input is still sent as soon as it has been handled. The inputs of a burst which rely
+     * on the representations are handled against the representations refreshed before the burst.
+     * </p>
+     *
+     * <p>
+     * In order to keep the representations and the persisted editing context up to date under a steady flow of inputs,
+     * the change descriptions are also processed once {@link #MAX_COALESCED_INPUTS} inputs have been handled or once
+     * {@link #MAX_COALESCING_NANOS} have elapsed since the first of them. They are processed even if the handling of
+     * the input has failed, and the ones still pending when the processor is disposed are processed once the inputs
+     * already submitted have been handled.
+     * </p>
+     *
+     * @param payloadSink
+     *         The sink to publish payload
+     * @param input
+     *         The input event
+     * @param inputPhases
+     *         The phases of the execution of the input
+     */
+    private void doHandleCoalescingChangeDescriptions(One<IPayload> payloadSink, IInput input, InputPhases inputPhases) {
+        if (this.coalescedInputsCount == 0) {
+            this.coalescingStartTime = System.nanoTime();
+        }
+        this.coalescedInputsCount++;
+
+        this.isCollectingChangeDescriptions = true;
+        try {
+            this.doHandle(payloadSink, input, this.changeDescriptionSink, inputPhases);
+        } finally {
+            this.isCollectingChangeDescriptions = false;
+            if (this.shouldProcessPendingChangeDescriptions()) {
+                this.processPendingChangeDescriptions();
+            }
+        }
+    }
+
+    private boolean shouldProcessPendingChangeDescriptions() {
+        return this.pendingInputsCount.get() == 0
+                || this.coalescedInputsCount >= MAX_COALESCED_INPUTS
+                || System.nanoTime() - this.coalescingStartTime >= MAX_COALESCING_NANOS;
+    }
+
+    private void recordQueueWait(InputPhases inputPhases, long queueWait) {
+        inputPhases.addQueueWait(queueWait);
+        this.getTimer(Monitoring.TIMER_WAITING_INPUT, Monitoring.INPUT, inputPhases.getInputType()).record(queueWait, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer getTimer(String name, String... tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry);
+    }
+
     /**
      * Finds the proper event handler to perform the task matching the given input event.
      *
@@ -263,21 +518,27 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
      *         The sink to publish payload
      * @param input
      *         The input event
-     * @return The response computed by the event handler
+     * @param inputChangeDescriptionSink
+     *         The sink used to publish the change descriptions
+     * @param inputPhases
+     *         The phases of the execution of the input
      */
-    private void doHandle(One<IPayload> payloadSink, IInput input) {
+    private void doHandle(One<IPayload> payloadSink, IInput input, Many<ChangeDescription> inputChangeDescriptionSink, InputPhases inputPhases) {
         this.logger.trace("Input received: {}", input);
+        inputPhases.startHandling();
 
         AtomicReference<IInput> inputAfterPreProcessing = new AtomicReference<>(input);
-        this.inputPreProcessors.forEach(preProcessor -> inputAfterPreProcessing.set(preProcessor.preProcess(this.editingContext, inputAfterPreProcessing.get(), this.changeDescriptionSink)));
+        this.inputPreProcessors.forEach(preProcessor -> inputAfterPreProcessing.set(preProcessor.preProcess(this.editingContext, inputAfterPreProcessing.get(), inputChangeDescriptionSink)));
 
         if (inputAfterPreProcessing.get() instanceof IRepresentationInput representationInput) {
-            this.handleRepresentationInput(payloadSink, representationInput);
+            this.handleRepresentationInput(payloadSink, representationInput, inputChangeDescriptionSink, inputPhases);
         } else {
-            this.handleInput(payloadSink, inputAfterPreProcessing.get());
+            this.handleInput(payloadSink, inputAfterPreProcessing.get(), inputChangeDescriptionSink, inputPhases);
         }
 
-        this.inputPostProcessors.forEach(postProcessor -> postProcessor.postProcess(this.editingContext, inputAfterPreProcessing.get(), this.changeDescriptionSink));
+        this.inputPostProcessors.forEach(postProcessor -> postProcessor.postProcess(this.editingContext, inputAfterPreProcessing.get(), inputChangeDescriptionSink));
+
+        inputPhases.stopHandling();
 
     }
 
@@ -321,7 +582,7 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
             .forEach(this::disposeRepresentation);
     }
 
-    private void handleInput(One<IPayload> payloadSink, IInput input) {
+    private void handleInput(One<IPayload> payloadSink, IInput input, Many<ChangeDescription> inputChangeDescriptionSink, InputPhases inputPhases) {
         if (input instanceof DeleteRepresentationInput deleteRepresentationInput) {
             this.disposeRepresentation(deleteRepresentationInput.representationId());
         }
@@ -332,18 +593,20 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
         if (optionalEditingContextEventHandler.isPresent()) {
             IEditingContextEventHandler editingContextEventHandler = optionalEditingContextEventHandler.get();
-            editingContextEventHandler.handle(payloadSink, this.changeDescriptionSink, this.editingContext, input);
+            inputPhases.setHandler(editingContextEventHandler.getClass().getSimpleName());
+            editingContextEventHandler.handle(payloadSink, inputChangeDescriptionSink, this.editingContext, input);
         } else {
             this.logger.warn("No handler found for event: {}", input);
         }
     }
 
-    private void handleRepresentationInput(One<IPayload> payloadSink, IRepresentationInput representationInput) {
+    private void handleRepresentationInput(One<IPayload> payloadSink, IRepresentationInput representationInput, Many<ChangeDescription> inputChangeDescriptionSink, InputPhases inputPhases) {
         Optional<IRepresentationEventProcessor> optionalRepresentationEventProcessor = this.acquireRepresentationEventProcessor(representationInput.representationId(), representationInput);
 
         if (optionalRepresentationEventProcessor.isPresent()) {
             IRepresentationEventProcessor representationEventProcessor = optionalRepresentationEventProcessor.get();
-            representationEventProcessor.handle(payloadSink, this.changeDescriptionSink, representationInput);
+            inputPhases.setHandler(representationEventProcessor.getRepresentation().getKind());
+            representationEventProcessor.handle(payloadSink, inputChangeDescriptionSink, representationInput);
         } else {
             this.logger.warn("No representation event processor found for event: {}", representationInput);
         }
@@ -374,15 +637,14 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
                 var representationEventProcessorEntry = new RepresentationEventProcessorEntry(representationEventProcessor, subscription);
                 this.representationEventProcessors.put(representationId, representationEventProcessorEntry);
+
+                var timer = this.getTimer(Monitoring.TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR,
+                        Monitoring.INPUT, input.getClass().getSimpleName(),
+                        Monitoring.REPRESENTATION_KIND, representationEventProcessor.getRepresentation().getKind());
+                getRepresentationEventProcessorSample.stop(timer);
             } else {
                 this.logger.debug("The representation with the id {} does not exist", representationId);
             }
-        } else {
-            var timer = this.meterRegistry.timer(Monitoring.TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR,
-                    "editingContext", this.editingContext.getId(),
-                    "input", input.getClass().getSimpleName(),
-                    REPRESENTATION_ID, representationId);
-            getRepresentationEventProcessorSample.stop(timer);
         }
 
         this.logger.trace("Representation event processors count: {}", this.representationEventProcessors.size());
@@ -424,6 +686,9 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
     public void dispose() {
         this.logger.trace("Disposing the editing context event processor {}", this.editingContext.getId());
 
+        this.executorService.shutdown();
+        this.processRemainingChangeDescriptions();
+
         EmitResult changeDescriptionEmitResult = this.changeDescriptionSink.tryEmitComplete();
         if (changeDescriptionEmitResult.isFailure()) {
             String pattern = "An error has occurred while marking the publisher as complete: {}";
@@ -431,8 +696,6 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         }
         this.changeDescriptionDisposable.dispose();
 
-        this.executorService.shutdown();
-
         this.representationEventProcessors.values().forEach(RepresentationEventProcessorEntry::dispose);
         this.representationEventProcessors.clear();
 
@@ -445,4 +708,23 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         }
 
     }
+
+    /**
+     * Waits for the inputs already submitted to be handled and processes the change descriptions which are still
+     * waiting to be coalesced, in order to refresh the representations and persist the editing context one last time.
+     */
+    private void processRemainingChangeDescriptions() {
+        try {
+            if (this.executorService.awaitTermination(DISPOSAL_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                if (!this.pendingChangeDescriptions.isEmpty()) {
+                    this.processPendingChangeDescriptions();
+                }
+            } else {
+                this.logger.warn("The inputs of the editing context {} have not been handled before its disposal", this.editingContext.getId());
+            }
+        } catch (InterruptedException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+            Thread.currentThread().interrupt();
+        }
+    }
 }
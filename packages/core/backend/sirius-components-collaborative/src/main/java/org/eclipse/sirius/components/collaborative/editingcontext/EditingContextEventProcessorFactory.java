@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Objects;
 
 import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.sirius.components.collaborative.api.IChangedElementsProvider;
 import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
@@ -27,6 +28,7 @@ import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingCo
 import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.core.api.IInputTraceRegistry;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
@@ -56,8 +58,14 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
 
     private final List<IInputPostProcessor> inputPostProcessors;
 
+    private final List<IChangedElementsProvider> changedElementsProviders;
+
     private final MeterRegistry meterRegistry;
 
+    private final IInputTraceRegistry inputTraceRegistry;
+
+    private final boolean coalesceChangeDescriptions;
+
     public EditingContextEventProcessorFactory(ICollaborativeMessageService messageService, ApplicationEventPublisher applicationEventPublisher,
             IDanglingRepresentationDeletionService representationDeletionService, EditingContextEventProcessorFactoryParameters parameters) {
         this.messageService = Objects.requireNonNull(messageService);
@@ -69,7 +77,10 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
         this.executorServiceProvider = parameters.getExecutorServiceProvider();
         this.inputPreProcessors = parameters.getInputPreProcessors();
         this.inputPostProcessors = parameters.getInputPostProcessors();
+        this.changedElementsProviders = parameters.getChangedElementsProviders();
         this.meterRegistry = parameters.getMeterRegistry();
+        this.inputTraceRegistry = parameters.getInputTraceRegistry();
+        this.coalesceChangeDescriptions = parameters.isCoalesceChangeDescriptions();
     }
 
     @Override
@@ -85,7 +96,10 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
                 .executorServiceProvider(this.executorServiceProvider)
                 .inputPreProcessors(this.inputPreProcessors)
                 .inputPostProcessors(this.inputPostProcessors)
+                .changedElementsProviders(this.changedElementsProviders)
                 .meterRegistry(this.meterRegistry)
+                .inputTraceRegistry(this.inputTraceRegistry)
+                .coalesceChangeDescriptions(this.coalesceChangeDescriptions)
                 .build();
         return new EditingContextEventProcessor(parameters);
     }
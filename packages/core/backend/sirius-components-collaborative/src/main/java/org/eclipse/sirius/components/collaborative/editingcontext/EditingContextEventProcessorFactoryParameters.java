@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -16,12 +16,15 @@ import java.util.List;
 import java.util.Objects;
 
 import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.sirius.components.collaborative.api.IChangedElementsProvider;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
 import org.eclipse.sirius.components.collaborative.api.IInputPostProcessor;
 import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessorComposedFactory;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEventProcessorExecutorServiceProvider;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.core.api.IInputTraceRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -44,18 +47,29 @@ public class EditingContextEventProcessorFactoryParameters {
     private final List<IInputPreProcessor> inputPreProcessors;
 
     private final List<IInputPostProcessor> inputPostProcessors;
+
+    private final List<IChangedElementsProvider> changedElementsProviders;
+
     private final MeterRegistry meterRegistry;
 
+    private final IInputTraceRegistry inputTraceRegistry;
+
+    private final boolean coalesceChangeDescriptions;
+
     public EditingContextEventProcessorFactoryParameters(IEditingContextPersistenceService editingContextPersistenceService, List<IEditingContextEventHandler> editingContextEventHandlers,
             IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory, IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider,
-            List<IInputPreProcessor> inputPreProcessors, List<IInputPostProcessor> inputPostProcessors, MeterRegistry meterRegistry) {
+            List<IInputPreProcessor> inputPreProcessors, List<IInputPostProcessor> inputPostProcessors, List<IChangedElementsProvider> changedElementsProviders, MeterRegistry meterRegistry,
+            IInputTraceRegistry inputTraceRegistry, @Value("${sirius.components.editingContext.coalesceChangeDescriptions:false}") boolean coalesceChangeDescriptions) {
         this.editingContextPersistenceService = Objects.requireNonNull(editingContextPersistenceService);
         this.editingContextEventHandlers = Objects.requireNonNull(editingContextEventHandlers);
         this.representationEventProcessorComposedFactory = Objects.requireNonNull(representationEventProcessorComposedFactory);
         this.executorServiceProvider = Objects.requireNonNull(executorServiceProvider);
         this.inputPreProcessors = Objects.requireNonNull(inputPreProcessors);
         this.inputPostProcessors = Objects.requireNonNull(inputPostProcessors);
+        this.changedElementsProviders = Objects.requireNonNull(changedElementsProviders);
         this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.inputTraceRegistry = Objects.requireNonNull(inputTraceRegistry);
+        this.coalesceChangeDescriptions = coalesceChangeDescriptions;
     }
 
     public IEditingContextPersistenceService getEditingContextPersistenceService() {
@@ -85,4 +99,16 @@ public class EditingContextEventProcessorFactoryParameters {
     public List<IInputPostProcessor> getInputPostProcessors() {
         return this.inputPostProcessors;
     }
+
+    public List<IChangedElementsProvider> getChangedElementsProviders() {
+        return this.changedElementsProviders;
+    }
+
+    public IInputTraceRegistry getInputTraceRegistry() {
+        return this.inputTraceRegistry;
+    }
+
+    public boolean isCoalesceChangeDescriptions() {
+        return this.coalesceChangeDescriptions;
+    }
 }
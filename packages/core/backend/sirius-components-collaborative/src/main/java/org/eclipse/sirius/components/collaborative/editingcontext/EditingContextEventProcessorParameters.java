@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,7 @@ import java.util.Objects;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import org.eclipse.sirius.components.annotations.Builder;
+import org.eclipse.sirius.components.collaborative.api.IChangedElementsProvider;
 import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
 import org.eclipse.sirius.components.collaborative.api.IInputPostProcessor;
@@ -26,6 +27,7 @@ import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingCo
 import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.core.api.IInputTraceRegistry;
 import org.springframework.context.ApplicationEventPublisher;
 
 /**
@@ -44,7 +46,10 @@ public record EditingContextEventProcessorParameters(
         IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider,
         List<IInputPreProcessor> inputPreProcessors,
         List<IInputPostProcessor> inputPostProcessors,
-        MeterRegistry meterRegistry
+        List<IChangedElementsProvider> changedElementsProviders,
+        MeterRegistry meterRegistry,
+        IInputTraceRegistry inputTraceRegistry,
+        boolean coalesceChangeDescriptions
 ) {
 
     public EditingContextEventProcessorParameters {
@@ -58,7 +63,9 @@ public record EditingContextEventProcessorParameters(
         Objects.requireNonNull(executorServiceProvider);
         Objects.requireNonNull(inputPreProcessors);
         Objects.requireNonNull(inputPostProcessors);
+        Objects.requireNonNull(changedElementsProviders);
         Objects.requireNonNull(meterRegistry);
+        Objects.requireNonNull(inputTraceRegistry);
     }
 
     public static EditingContextEventProcessorParametersBuilder newEditingContextEventProcessorParameters() {
@@ -94,8 +101,14 @@ public record EditingContextEventProcessorParameters(
         
         private List<IInputPostProcessor> inputPostProcessors;
 
+        private List<IChangedElementsProvider> changedElementsProviders;
+
         private MeterRegistry meterRegistry;
 
+        private IInputTraceRegistry inputTraceRegistry;
+
+        private boolean coalesceChangeDescriptions;
+
         private EditingContextEventProcessorParametersBuilder() {
             // Prevent instantiation
         }
@@ -150,11 +163,26 @@ public record EditingContextEventProcessorParameters(
             return this;
         }
 
+        public EditingContextEventProcessorParametersBuilder changedElementsProviders(List<IChangedElementsProvider> changedElementsProviders) {
+            this.changedElementsProviders = Objects.requireNonNull(changedElementsProviders);
+            return this;
+        }
+
         public EditingContextEventProcessorParametersBuilder meterRegistry(MeterRegistry meterRegistry) {
             this.meterRegistry = Objects.requireNonNull(meterRegistry);
             return this;
         }
 
+        public EditingContextEventProcessorParametersBuilder inputTraceRegistry(IInputTraceRegistry inputTraceRegistry) {
+            this.inputTraceRegistry = Objects.requireNonNull(inputTraceRegistry);
+            return this;
+        }
+
+        public EditingContextEventProcessorParametersBuilder coalesceChangeDescriptions(boolean coalesceChangeDescriptions) {
+            this.coalesceChangeDescriptions = coalesceChangeDescriptions;
+            return this;
+        }
+
         public EditingContextEventProcessorParameters build() {
             return new EditingContextEventProcessorParameters(
                     this.messageService,
@@ -167,7 +195,10 @@ public record EditingContextEventProcessorParameters(
                     this.executorServiceProvider,
                     this.inputPreProcessors,
                     this.inputPostProcessors,
-                    this.meterRegistry
+                    this.changedElementsProviders,
+                    this.meterRegistry,
+                    this.inputTraceRegistry,
+                    this.coalesceChangeDescriptions
             );
         }
     }
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.InputTrace;
+
+/**
+ * Accumulates the time spent in each phase of the execution of an input by the editing context event processor.
+ *
+ * <p>
+ * The representations may be refreshed and the editing context persisted while the event handler emits its change
+ * descriptions, the time spent in those phases during the handling of the input is thus removed from the time spent
+ * in the event handler. When the change descriptions are coalesced, they are processed after the handling of the input
+ * and their time is not removed.
+ * </p>
+ *
+ * @author agent
+ */
+public class InputPhases {
+
+    private static final String UNKNOWN_HANDLER = "none";
+
+    private final IInput input;
+
+    private final Instant startDate = Instant.now();
+
+    private String handler = UNKNOWN_HANDLER;
+
+    private long queueWaitNanos;
+
+    private long handlingNanos;
+
+    private long handlingStartTime;
+
+    private boolean isHandling;
+
+    /**
+     * The time spent refreshing the representations and persisting the editing context during the handling.
+     */
+    private long nestedNanos;
+
+    private long refreshNanos;
+
+    private long persistNanos;
+
+    public InputPhases(IInput input) {
+        this.input = Objects.requireNonNull(input);
+    }
+
+    public String getInputType() {
+        return this.input.getClass().getSimpleName();
+    }
+
+    public String getHandler() {
+        return this.handler;
+    }
+
+    public void setHandler(String handler) {
+        this.handler = Objects.requireNonNull(handler);
+    }
+
+    public void addQueueWait(long nanos) {
+        this.queueWaitNanos += nanos;
+    }
+
+    public void startHandling() {
+        this.handlingStartTime = System.nanoTime();
+        this.isHandling = true;
+    }
+
+    public void stopHandling() {
+        this.handlingNanos += System.nanoTime() - this.handlingStartTime;
+        this.isHandling = false;
+    }
+
+    public void addRefresh(long nanos) {
+        this.refreshNanos += nanos;
+        this.addNested(nanos);
+    }
+
+    public void addPersist(long nanos) {
+        this.persistNanos += nanos;
+        this.addNested(nanos);
+    }
+
+    private void addNested(long nanos) {
+        if (this.isHandling) {
+            this.nestedNanos += nanos;
+        }
+    }
+
+    /**
+     * Returns the time spent in the event handler itself.
+     *
+     * @return The time spent in the event handler, without the refresh of the representations and the persistence
+     *         performed during the handling
+     */
+    public long getHandlingNanos() {
+        return this.handlingNanos - this.nestedNanos;
+    }
+
+    public InputTrace toInputTrace(String editingContextId) {
+        return new InputTrace(editingContextId, this.getInputType(), this.handler, this.startDate, Duration.ofNanos(this.queueWaitNanos), Duration.ofNanos(this.getHandlingNanos()),
+                Duration.ofNanos(this.refreshNanos), Duration.ofNanos(this.persistNanos));
+    }
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.representations;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshedEventPayload;
+import org.eclipse.sirius.components.core.api.IPayload;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Scheduler.Worker;
+
+/**
+ * Delivers the payloads of a representation to a single subscriber.
+ *
+ * <p>
+ * The payloads are received on the thread of the editing context and queued. They are then delivered to the
+ * subscriber by a worker, so that a slow subscriber does not slow down the editing context or the other subscribers.
+ * While a refreshed payload has not been delivered yet, it is replaced by the next refreshed payload of the same type.
+ * The other payloads are all delivered in order.
+ * </p>
+ *
+ * @author agent
+ */
+public class ConflatingPayloadSink {
+
+    private final FluxSink<IPayload> sink;
+
+    private final Worker worker;
+
+    private final Consumer<IPayload> onConflated;
+
+    private final Deque<IPayload> pendingPayloads = new ArrayDeque<>();
+
+    private final AtomicInteger drainRequests = new AtomicInteger();
+
+    private Throwable error;
+
+    private boolean done;
+
+    private Disposable upstream;
+
+    public ConflatingPayloadSink(FluxSink<IPayload> sink, Worker worker, Consumer<IPayload> onConflated) {
+        this.sink = Objects.requireNonNull(sink);
+        this.worker = Objects.requireNonNull(worker);
+        this.onConflated = Objects.requireNonNull(onConflated);
+    }
+
+    public void setUpstream(Disposable upstream) {
+        this.upstream = upstream;
+        if (this.sink.isCancelled()) {
+            upstream.dispose();
+        }
+    }
+
+    public void next(IPayload payload) {
+        synchronized (this.pendingPayloads) {
+            if (payload instanceof IRepresentationRefreshedEventPayload) {
+                boolean hasBeenConflated = this.pendingPayloads.removeIf(pendingPayload -> pendingPayload.getClass().equals(payload.getClass()));
+                if (hasBeenConflated) {
+                    this.onConflated.accept(payload);
+                }
+            }
+            this.pendingPayloads.addLast(payload);
+        }
+        this.drain();
+    }
+
+    public void error(Throwable throwable) {
+        synchronized (this.pendingPayloads) {
+            this.error = throwable;
+            this.done = true;
+        }
+        this.drain();
+    }
+
+    public void complete() {
+        synchronized (this.pendingPayloads) {
+            this.done = true;
+        }
+        this.drain();
+    }
+
+    /**
+     * Schedules the delivery of the pending payloads if it is not already in progress.
+     */
+    public void drain() {
+        if (this.drainRequests.getAndIncrement() == 0) {
+            this.worker.schedule(this::deliverPendingPayloads);
+        }
+    }
+
+    public void dispose() {
+        if (this.upstream != null) {
+            this.upstream.dispose();
+        }
+        this.worker.dispose();
+        synchronized (this.pendingPayloads) {
+            this.pendingPayloads.clear();
+        }
+    }
+
+    private void deliverPendingPayloads() {
+        int missedDrainRequests = 1;
+        while (missedDrainRequests != 0) {
+            var payload = this.poll();
+            while (payload != null) {
+                this.sink.next(payload);
+                payload = this.poll();
+            }
+
+            this.deliverTermination();
+
+            missedDrainRequests = this.drainRequests.addAndGet(-missedDrainRequests);
+        }
+    }
+
+    private IPayload poll() {
+        IPayload payload = null;
+        if (!this.sink.isCancelled() && this.sink.requestedFromDownstream() > 0) {
+            synchronized (this.pendingPayloads) {
+                payload = this.pendingPayloads.pollFirst();
+            }
+        }
+        return payload;
+    }
+
+    private void deliverTermination() {
+        boolean isTerminated;
+        Throwable throwable;
+        synchronized (this.pendingPayloads) {
+            isTerminated = this.done && this.pendingPayloads.isEmpty();
+            throwable = this.error;
+        }
+
+        if (isTerminated && !this.sink.isCancelled()) {
+            if (throwable != null) {
+                this.sink.error(throwable);
+            } else {
+                this.sink.complete();
+            }
+        }
+    }
+}
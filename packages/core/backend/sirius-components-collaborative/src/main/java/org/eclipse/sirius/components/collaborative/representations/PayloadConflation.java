@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.representations;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Used to deliver the payloads of a representation to each subscriber with conflation of the refreshed payloads.
+ *
+ * <p>
+ * Each subscriber keeps at most the most recent refreshed payload which has not been delivered yet, the previous ones
+ * are dropped and counted. The payloads are delivered off the thread of the editing context.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class PayloadConflation implements Function<Flux<IPayload>, Flux<IPayload>> {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Scheduler scheduler;
+
+    public PayloadConflation(MeterRegistry meterRegistry) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.scheduler = Schedulers.boundedElastic();
+    }
+
+    @Override
+    public Flux<IPayload> apply(Flux<IPayload> payloads) {
+        return Flux.create(sink -> {
+            var conflatingPayloadSink = new ConflatingPayloadSink(sink, this.scheduler.createWorker(), this::onConflated);
+            sink.onRequest(requested -> conflatingPayloadSink.drain());
+            sink.onDispose(conflatingPayloadSink::dispose);
+            conflatingPayloadSink.setUpstream(payloads.subscribe(conflatingPayloadSink::next, conflatingPayloadSink::error, conflatingPayloadSink::complete));
+        });
+    }
+
+    private void onConflated(IPayload payload) {
+        Counter.builder(Monitoring.COUNTER_CONFLATED_PAYLOADS)
+                .tag(Monitoring.PAYLOAD, payload.getClass().getSimpleName())
+                .register(this.meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,423 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IChangedElementsProvider;
+import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IInputTraceRegistry;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.InputTrace;
+import org.eclipse.sirius.components.core.api.SuccessPayload;
+import org.eclipse.sirius.components.core.services.InputTraceRegistry;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Unit tests of the editing context event processor.
+ *
+ * @author agent
+ */
+public class EditingContextEventProcessorTests {
+
+    private static final int INPUT_COUNT = 4;
+
+    @Test
+    public void givenInputsModifyingTheEditingContextWhenTheyAreHandledThenTheyAreExecutedOneAtATime() {
+        AtomicInteger concurrentExecutions = new AtomicInteger();
+        AtomicInteger maxConcurrentExecutions = new AtomicInteger();
+        IEditingContextEventHandler eventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return input instanceof WriteInput;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                maxConcurrentExecutions.accumulateAndGet(concurrentExecutions.incrementAndGet(), Math::max);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(50);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                concurrentExecutions.decrementAndGet();
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        IInputTraceRegistry inputTraceRegistry = new InputTraceRegistry(1, INPUT_COUNT);
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(List.of(eventHandler), meterRegistry, inputTraceRegistry);
+
+        List<IPayload> payloads = Flux.range(0, INPUT_COUNT)
+                .flatMap(index -> Mono.defer(() -> editingContextEventProcessor.handle(new WriteInput(UUID.randomUUID()))).subscribeOn(Schedulers.boundedElastic()))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(payloads).hasSize(INPUT_COUNT).allMatch(SuccessPayload.class::isInstance);
+        assertThat(maxConcurrentExecutions.get()).isEqualTo(1);
+        assertThat(meterRegistry.timer(Monitoring.TIMER_WAITING_INPUT, Monitoring.INPUT, WriteInput.class.getSimpleName()).count()).isEqualTo(INPUT_COUNT);
+        assertThat(meterRegistry.find(Monitoring.TIMER_PROCESSING_INPUT).timers()).hasSize(1);
+
+        List<InputTrace> slowestInputTraces = inputTraceRegistry.getSlowestInputTraces(2);
+        assertThat(slowestInputTraces).hasSize(2);
+        assertThat(slowestInputTraces.get(0).input()).isEqualTo(WriteInput.class.getSimpleName());
+        assertThat(slowestInputTraces.get(0).handling()).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        assertThat(slowestInputTraces.get(0).total()).isGreaterThanOrEqualTo(slowestInputTraces.get(1).total());
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void givenBurstOfInputsModifyingTheEditingContextWhenChangeDescriptionsAreCoalescedThenTheEditingContextIsPersistedOnce() {
+        CountDownLatch firstInputStarted = new CountDownLatch(1);
+        CountDownLatch allInputsSubmitted = new CountDownLatch(1);
+        IEditingContextEventHandler eventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return input instanceof WriteInput;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                firstInputStarted.countDown();
+                try {
+                    // Keeps the other inputs waiting in the queue of the editing context
+                    allInputsSubmitted.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input));
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        AtomicInteger persistCount = new AtomicInteger();
+        IEditingContextPersistenceService editingContextPersistenceService = (cause, editingContext) -> persistCount.incrementAndGet();
+
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(List.of(eventHandler), meterRegistry, new IInputTraceRegistry.NoOp(), editingContextPersistenceService,
+                executorService, true);
+
+        var firstPayload = Mono.defer(() -> editingContextEventProcessor.handle(new WriteInput(UUID.randomUUID()))).subscribeOn(Schedulers.boundedElastic()).toFuture();
+        this.awaitUntil(() -> firstInputStarted.getCount() == 0);
+        var otherPayloads = Flux.range(1, INPUT_COUNT - 1)
+                .flatMap(index -> Mono.defer(() -> editingContextEventProcessor.handle(new WriteInput(UUID.randomUUID()))).subscribeOn(Schedulers.boundedElastic()))
+                .collectList()
+                .toFuture();
+        this.awaitUntil(() -> executorService.getQueue().size() == INPUT_COUNT - 1);
+        allInputsSubmitted.countDown();
+
+        assertThat(firstPayload.join()).isInstanceOf(SuccessPayload.class);
+        assertThat(otherPayloads.join()).hasSize(INPUT_COUNT - 1).allMatch(SuccessPayload.class::isInstance);
+        assertThat(persistCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter(Monitoring.COUNTER_COALESCED_CHANGE_DESCRIPTIONS).count()).isEqualTo(INPUT_COUNT - 1);
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void givenSteadyFlowOfInputsWhenChangeDescriptionsAreCoalescedThenTheyAreProcessedByBatches() throws Exception {
+        CountDownLatch firstInputStarted = new CountDownLatch(1);
+        CountDownLatch allInputsSubmitted = new CountDownLatch(1);
+        IEditingContextEventHandler eventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return input instanceof WriteInput;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                firstInputStarted.countDown();
+                try {
+                    allInputsSubmitted.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input));
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        AtomicInteger persistCount = new AtomicInteger();
+        IEditingContextPersistenceService editingContextPersistenceService = (cause, editingContext) -> persistCount.incrementAndGet();
+
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(List.of(eventHandler), new SimpleMeterRegistry(), new IInputTraceRegistry.NoOp(),
+                editingContextPersistenceService, executorService, true);
+
+        // More inputs than the maximum number of inputs coalesced are waiting while the first one is handled
+        int queuedInputCount = 60;
+        var firstPayload = Mono.defer(() -> editingContextEventProcessor.handle(new WriteInput(UUID.randomUUID()))).subscribeOn(Schedulers.boundedElastic()).toFuture();
+        this.awaitUntil(() -> firstInputStarted.getCount() == 0);
+        ExecutorService callers = Executors.newFixedThreadPool(queuedInputCount);
+        try {
+            List<Future<IPayload>> otherPayloads = new ArrayList<>();
+            for (int i = 0; i < queuedInputCount; i++) {
+                otherPayloads.add(callers.submit(() -> editingContextEventProcessor.handle(new WriteInput(UUID.randomUUID())).block()));
+            }
+            this.awaitUntil(() -> executorService.getQueue().size() == queuedInputCount);
+            allInputsSubmitted.countDown();
+
+            assertThat(firstPayload.join()).isInstanceOf(SuccessPayload.class);
+            for (Future<IPayload> otherPayload : otherPayloads) {
+                assertThat(otherPayload.get(10, TimeUnit.SECONDS)).isInstanceOf(SuccessPayload.class);
+            }
+            assertThat(persistCount.get()).isGreaterThanOrEqualTo(2);
+        } finally {
+            allInputsSubmitted.countDown();
+            callers.shutdown();
+            editingContextEventProcessor.dispose();
+        }
+    }
+
+    @Test
+    public void givenInputFailingWhenChangeDescriptionsAreCoalescedThenItsChangeDescriptionsAreStillProcessed() {
+        IEditingContextEventHandler eventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return input instanceof WriteInput;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input));
+                throw new IllegalStateException("The input has failed after modifying the editing context");
+            }
+        };
+
+        AtomicInteger persistCount = new AtomicInteger();
+        IEditingContextPersistenceService editingContextPersistenceService = (cause, editingContext) -> persistCount.incrementAndGet();
+
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(List.of(eventHandler), new SimpleMeterRegistry(), new IInputTraceRegistry.NoOp(),
+                editingContextPersistenceService, Executors.newSingleThreadExecutor(), true);
+
+        editingContextEventProcessor.handle(new WriteInput(UUID.randomUUID()));
+        assertThat(persistCount.get()).isEqualTo(1);
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void givenInputModifyingTheEditingContextFollowedByQueryWhenChangeDescriptionsAreCoalescedThenTheEditingContextIsPersisted() {
+        CountDownLatch firstInputStarted = new CountDownLatch(1);
+        CountDownLatch allInputsSubmitted = new CountDownLatch(1);
+        IEditingContextEventHandler eventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return input instanceof WriteInput || input instanceof QueryInput;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                if (input instanceof WriteInput) {
+                    firstInputStarted.countDown();
+                    try {
+                        allInputsSubmitted.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                    changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input));
+                }
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        AtomicInteger persistCount = new AtomicInteger();
+        IEditingContextPersistenceService editingContextPersistenceService = (cause, editingContext) -> persistCount.incrementAndGet();
+
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(List.of(eventHandler), new SimpleMeterRegistry(), new IInputTraceRegistry.NoOp(),
+                editingContextPersistenceService, executorService, true);
+
+        var writePayload = Mono.defer(() -> editingContextEventProcessor.handle(new WriteInput(UUID.randomUUID()))).subscribeOn(Schedulers.boundedElastic()).toFuture();
+        this.awaitUntil(() -> firstInputStarted.getCount() == 0);
+        var queryPayload = Mono.defer(() -> editingContextEventProcessor.handle(new QueryInput(UUID.randomUUID()))).subscribeOn(Schedulers.boundedElastic()).toFuture();
+        this.awaitUntil(() -> executorService.getQueue().size() == 1);
+        allInputsSubmitted.countDown();
+
+        assertThat(writePayload.join()).isInstanceOf(SuccessPayload.class);
+        assertThat(queryPayload.join()).isInstanceOf(SuccessPayload.class);
+        assertThat(persistCount.get()).isEqualTo(1);
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void givenInputsWaitingToBeHandledWhenTheProcessorIsDisposedThenTheirChangeDescriptionsAreProcessed() {
+        CountDownLatch firstInputStarted = new CountDownLatch(1);
+        CountDownLatch disposalStarted = new CountDownLatch(1);
+        IEditingContextEventHandler eventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return input instanceof WriteInput;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                firstInputStarted.countDown();
+                try {
+                    disposalStarted.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input));
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        AtomicInteger persistCount = new AtomicInteger();
+        IEditingContextPersistenceService editingContextPersistenceService = (cause, editingContext) -> persistCount.incrementAndGet();
+
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(List.of(eventHandler), new SimpleMeterRegistry(), new IInputTraceRegistry.NoOp(),
+                editingContextPersistenceService, executorService, true);
+
+        var firstPayload = Mono.defer(() -> editingContextEventProcessor.handle(new WriteInput(UUID.randomUUID()))).subscribeOn(Schedulers.boundedElastic()).toFuture();
+        this.awaitUntil(() -> firstInputStarted.getCount() == 0);
+        var secondPayload = Mono.defer(() -> editingContextEventProcessor.handle(new WriteInput(UUID.randomUUID()))).subscribeOn(Schedulers.boundedElastic()).toFuture();
+        this.awaitUntil(() -> executorService.getQueue().size() == 1);
+
+        var disposal = Mono.fromRunnable(editingContextEventProcessor::dispose).subscribeOn(Schedulers.boundedElastic()).toFuture();
+        this.awaitUntil(executorService::isShutdown);
+        disposalStarted.countDown();
+        disposal.join();
+
+        assertThat(firstPayload.join()).isInstanceOf(SuccessPayload.class);
+        assertThat(secondPayload.join()).isInstanceOf(SuccessPayload.class);
+        assertThat(persistCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenChangeDescriptionsCoalescedWhenTheEditingContextIsPersistedAfterTheHandlingThenItIsNotRemovedFromTheHandlingTime() {
+        IEditingContextEventHandler eventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return input instanceof WriteInput;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                EditingContextEventProcessorTests.this.sleep(50);
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input));
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        IEditingContextPersistenceService editingContextPersistenceService = (cause, editingContext) -> this.sleep(100);
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(List.of(eventHandler), meterRegistry, new IInputTraceRegistry.NoOp(),
+                editingContextPersistenceService, Executors.newSingleThreadExecutor(), true);
+
+        editingContextEventProcessor.handle(new WriteInput(UUID.randomUUID()));
+
+        var handlingTimer = meterRegistry.find(Monitoring.TIMER_HANDLING_INPUT).timer();
+        assertThat(handlingTimer).isNotNull();
+        assertThat(handlingTimer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50);
+        assertThat(meterRegistry.find(Monitoring.TIMER_PERSIST_EDITING_CONTEXT).timer().totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(100);
+
+        editingContextEventProcessor.dispose();
+    }
+
+    private void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private EditingContextEventProcessor createEditingContextEventProcessor(List<IEditingContextEventHandler> editingContextEventHandlers, MeterRegistry meterRegistry,
+            IInputTraceRegistry inputTraceRegistry) {
+        return this.createEditingContextEventProcessor(editingContextEventHandlers, meterRegistry, inputTraceRegistry, new IEditingContextPersistenceService.NoOp(),
+                Executors.newSingleThreadExecutor(), false);
+    }
+
+    private EditingContextEventProcessor createEditingContextEventProcessor(List<IEditingContextEventHandler> editingContextEventHandlers, MeterRegistry meterRegistry,
+            IInputTraceRegistry inputTraceRegistry, IEditingContextPersistenceService editingContextPersistenceService, ExecutorService executorService, boolean coalesceChangeDescriptions) {
+        var parameters = EditingContextEventProcessorParameters.newEditingContextEventProcessorParameters()
+                .messageService(new ICollaborativeMessageService.NoOp())
+                .editingContext(new IEditingContext.NoOp())
+                .editingContextPersistenceService(editingContextPersistenceService)
+                .applicationEventPublisher(event -> { })
+                .editingContextEventHandlers(editingContextEventHandlers)
+                .representationEventProcessorComposedFactory((editingContext, representationId) -> Optional.empty())
+                .danglingRepresentationDeletionService(new IDanglingRepresentationDeletionService.NoOp())
+                .executorServiceProvider(editingContext -> executorService)
+                .inputPreProcessors(List.of())
+                .inputPostProcessors(List.of())
+                .changedElementsProviders(List.of(new IChangedElementsProvider.NoOp()))
+                .meterRegistry(meterRegistry)
+                .inputTraceRegistry(inputTraceRegistry)
+                .coalesceChangeDescriptions(coalesceChangeDescriptions)
+                .build();
+        return new EditingContextEventProcessor(parameters);
+    }
+
+    /**
+     * An input which modifies the editing context.
+     *
+     * @author agent
+     */
+    public record WriteInput(UUID id) implements IInput {
+    }
+
+    /**
+     * An input which only reads the editing context.
+     *
+     * @author agent
+     */
+    public record QueryInput(UUID id) implements IInput {
+    }
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshedEventPayload;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.SuccessPayload;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Unit tests of the conflation of the payloads.
+ *
+ * @author agent
+ */
+public class PayloadConflationTests {
+
+    @Test
+    public void givenSubscriberWithoutDemandWhenRefreshedPayloadsAreEmittedThenOnlyTheMostRecentOneIsDelivered() throws InterruptedException {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        var payloadConflation = new PayloadConflation(meterRegistry);
+
+        var sink = Sinks.many().unicast().<IPayload>onBackpressureBuffer();
+        var subscriber = new CollectingSubscriber();
+        payloadConflation.apply(sink.asFlux()).subscribe(subscriber);
+
+        var id = UUID.randomUUID();
+        var otherPayload = new SuccessPayload(UUID.randomUUID());
+        sink.tryEmitNext(new TestRefreshedEventPayload(id, 1));
+        sink.tryEmitNext(new TestRefreshedEventPayload(id, 2));
+        sink.tryEmitNext(otherPayload);
+        sink.tryEmitNext(new TestRefreshedEventPayload(id, 3));
+        sink.tryEmitComplete();
+
+        subscriber.requestUnbounded();
+
+        assertThat(subscriber.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.payloads).isEqualTo(List.of(otherPayload, new TestRefreshedEventPayload(id, 3)));
+        assertThat(subscriber.deliveryThreadNames).noneMatch(Thread.currentThread().getName()::equals);
+
+        var counter = meterRegistry.find(Monitoring.COUNTER_CONFLATED_PAYLOADS).tag(Monitoring.PAYLOAD, TestRefreshedEventPayload.class.getSimpleName()).counter();
+        assertThat(counter).isNotNull();
+        assertThat(counter.count()).isEqualTo(2);
+    }
+
+    /**
+     * A refreshed payload used by the tests.
+     *
+     * @author agent
+     */
+    public record TestRefreshedEventPayload(UUID id, int revision) implements IRepresentationRefreshedEventPayload {
+    }
+
+    /**
+     * A subscriber which only requests payloads when asked to.
+     *
+     * @author agent
+     */
+    public static final class CollectingSubscriber extends BaseSubscriber<IPayload> {
+
+        private final List<IPayload> payloads = new CopyOnWriteArrayList<>();
+
+        private final List<String> deliveryThreadNames = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            // Do not request anything
+        }
+
+        @Override
+        protected void hookOnNext(IPayload payload) {
+            this.payloads.add(payload);
+            this.deliveryThreadNames.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            this.completed.countDown();
+        }
+    }
+}
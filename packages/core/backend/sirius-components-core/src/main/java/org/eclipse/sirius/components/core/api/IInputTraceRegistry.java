@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.core.api;
+
+import java.util.List;
+
+/**
+ * Keeps the traces of the inputs recently executed in order to find the slowest ones.
+ *
+ * @author agent
+ */
+public interface IInputTraceRegistry {
+
+    /**
+     * Indicates if the execution of the next input should be traced.
+     *
+     * @return <code>true</code> if the input should be traced, <code>false</code> otherwise
+     */
+    boolean shouldTrace();
+
+    void add(InputTrace inputTrace);
+
+    /**
+     * Returns the slowest inputs among the inputs recently traced.
+     *
+     * @param limit
+     *         The maximum number of traces to return
+     * @return The traces of the slowest inputs, starting with the slowest one
+     */
+    List<InputTrace> getSlowestInputTraces(int limit);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author agent
+     */
+    class NoOp implements IInputTraceRegistry {
+
+        @Override
+        public boolean shouldTrace() {
+            return false;
+        }
+
+        @Override
+        public void add(InputTrace inputTrace) {
+            // Do nothing
+        }
+
+        @Override
+        public List<InputTrace> getSlowestInputTraces(int limit) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.core.api;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * The time spent in each phase of the execution of an input.
+ *
+ * @author agent
+ *
+ * @param editingContextId
+ *         The id of the editing context
+ * @param input
+ *         The type of the input
+ * @param handler
+ *         The event handler or the kind of representation which has handled the input
+ * @param startDate
+ *         The date at which the input has been received
+ * @param queueWait
+ *         The time spent waiting for the editing context
+ * @param handling
+ *         The time spent in the event handler, without the refresh of the representations and the persistence
+ * @param refresh
+ *         The time spent refreshing the representations
+ * @param persist
+ *         The time spent persisting the editing context
+ */
+public record InputTrace(String editingContextId, String input, String handler, Instant startDate, Duration queueWait, Duration handling, Duration refresh, Duration persist) {
+
+    public InputTrace {
+        Objects.requireNonNull(editingContextId);
+        Objects.requireNonNull(input);
+        Objects.requireNonNull(handler);
+        Objects.requireNonNull(startDate);
+        Objects.requireNonNull(queueWait);
+        Objects.requireNonNull(handling);
+        Objects.requireNonNull(refresh);
+        Objects.requireNonNull(persist);
+    }
+
+    public Duration total() {
+        return this.queueWait.plus(this.handling).plus(this.refresh).plus(this.persist);
+    }
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.core.services;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.eclipse.sirius.components.core.api.IInputTraceRegistry;
+import org.eclipse.sirius.components.core.api.InputTrace;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the traces of a sample of the most recent inputs.
+ *
+ * <p>
+ * The number of traces kept is bounded by the capacity of the registry, the oldest traces are forgotten first. The
+ * sampling rate, between 0 and 1, can be used to trace only a fraction of the inputs. Tracing is opt-in, the default
+ * sampling rate is 0 and no input is traced unless <code>sirius.components.monitoring.inputTraces.samplingRate</code>
+ * is set.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class InputTraceRegistry implements IInputTraceRegistry {
+
+    private final double samplingRate;
+
+    private final int capacity;
+
+    private final Deque<InputTrace> inputTraces;
+
+    public InputTraceRegistry(@Value("${sirius.components.monitoring.inputTraces.samplingRate:0}") double samplingRate, @Value("${sirius.components.monitoring.inputTraces.capacity:1000}") int capacity) {
+        this.samplingRate = samplingRate;
+        this.capacity = Math.max(capacity, 0);
+        this.inputTraces = new ArrayDeque<>(this.capacity);
+    }
+
+    @Override
+    public boolean shouldTrace() {
+        return this.capacity > 0 && this.samplingRate > 0 && (this.samplingRate >= 1 || ThreadLocalRandom.current().nextDouble() < this.samplingRate);
+    }
+
+    @Override
+    public void add(InputTrace inputTrace) {
+        if (this.capacity > 0) {
+            synchronized (this.inputTraces) {
+                if (this.inputTraces.size() == this.capacity) {
+                    this.inputTraces.removeFirst();
+                }
+                this.inputTraces.addLast(inputTrace);
+            }
+        }
+    }
+
+    @Override
+    public List<InputTrace> getSlowestInputTraces(int limit) {
+        List<InputTrace> traces;
+        synchronized (this.inputTraces) {
+            traces = new ArrayList<>(this.inputTraces);
+        }
+        return traces.stream()
+                .sorted(Comparator.comparing(InputTrace::total).reversed())
+                .limit(Math.max(limit, 0))
+                .toList();
+    }
+}
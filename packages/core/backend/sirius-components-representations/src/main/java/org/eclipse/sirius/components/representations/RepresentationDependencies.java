@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.representations;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * The objects used during the rendering of a representation.
+ *
+ * <p>
+ * Once attached to a {@link VariableManager}, the values of the variables of this variable manager and of all the
+ * variable managers created from it are recorded. It gives, for example, the semantic elements used as self by the
+ * pages, groups and widgets of a form or the candidates of its selects and lists. The other objects read by the
+ * expressions are reached from those values, they are thus considered as impacted by the providers of
+ * {@code ChangeDescription#CHANGED_ELEMENTS} through the objects containing or referencing them.
+ * </p>
+ *
+ * @author agent
+ */
+public class RepresentationDependencies {
+
+    private final Set<Object> dependencies = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public void record(Object value) {
+        if (value instanceof Collection<?> collection) {
+            collection.stream().filter(this::isDependency).forEach(this.dependencies::add);
+        } else if (this.isDependency(value)) {
+            this.dependencies.add(value);
+        }
+    }
+
+    public boolean contains(Object object) {
+        return this.dependencies.contains(object);
+    }
+
+    /**
+     * Indicates if at least one of the given objects has been used during the rendering.
+     *
+     * @param objects
+     *         Some objects
+     * @return <code>true</code> if one of the objects is a dependency, <code>false</code> otherwise
+     */
+    public boolean containsAny(Collection<?> objects) {
+        return objects.stream().anyMatch(this.dependencies::contains);
+    }
+
+    public int size() {
+        return this.dependencies.size();
+    }
+
+    private boolean isDependency(Object value) {
+        return value != null && !(value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Enum<?>);
+    }
+}
@@ -35,6 +35,11 @@ public class VariableManager {
      */
     private Map<String, Object> variables = new HashMap<>();
 
+    /**
+     * The dependencies in which the values of the variables are recorded, if any.
+     */
+    private RepresentationDependencies dependencies;
+
     /**
      * The constructor.
      */
@@ -50,13 +55,33 @@ public class VariableManager {
      */
     public VariableManager(VariableManager parent) {
         this.parent = parent;
+        if (parent != null) {
+            this.dependencies = parent.dependencies;
+        }
     }
 
     public Object put(String name, Object value) {
         Object previous = this.variables.put(name, value);
+        if (this.dependencies != null) {
+            this.dependencies.record(value);
+        }
         return previous;
     }
 
+    /**
+     * Records the values of the variables currently visible from this variable manager and of all the variables which
+     * will be defined in it or in the variable managers created from now on from it.
+     *
+     * @param representationDependencies
+     *            The dependencies in which the values will be recorded
+     */
+    public void recordDependencies(RepresentationDependencies representationDependencies) {
+        this.dependencies = representationDependencies;
+        if (representationDependencies != null) {
+            this.getVariables().values().forEach(representationDependencies::record);
+        }
+    }
+
     public Map<String, Object> getVariables() {
         if (this.parent != null) {
             Map<String, Object> parentVariables = this.parent.getVariables();
@@ -12,7 +12,10 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.deck;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -20,6 +23,7 @@ import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationViewStatePersistenceService;
 import org.eclipse.sirius.components.collaborative.api.ISubscriptionManager;
 import org.eclipse.sirius.components.collaborative.deck.api.IDeckContext;
 import org.eclipse.sirius.components.collaborative.deck.api.IDeckEventHandler;
@@ -33,6 +37,9 @@ import org.eclipse.sirius.components.core.api.IInput;
 import org.eclipse.sirius.components.core.api.IPayload;
 import org.eclipse.sirius.components.core.api.IRepresentationInput;
 import org.eclipse.sirius.components.deck.Deck;
+import org.eclipse.sirius.components.deck.renderer.DeckRenderingCache;
+import org.eclipse.sirius.components.deck.renderer.events.ChangeCardsVisibilityDeckEvent;
+import org.eclipse.sirius.components.deck.renderer.events.ChangeLaneCollapseStateDeckEvent;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,6 +66,8 @@ public class DeckEventProcessor implements IDeckEventProcessor {
 
     private final IRepresentationSearchService representationSearchService;
 
+    private final IRepresentationViewStatePersistenceService representationViewStatePersistenceService;
+
     private final DeckCreationService deckCreationService;
 
     private final DeckEventFlux deckEventFlux;
@@ -67,9 +76,11 @@ public class DeckEventProcessor implements IDeckEventProcessor {
 
     private final IDeckContext deckContext;
 
+    private final DeckRenderingCache deckRenderingCache = new DeckRenderingCache();
+
     public DeckEventProcessor(IEditingContext editingContext, ISubscriptionManager subscriptionManager, DeckCreationService deckCreationService,
             List<IDeckEventHandler> deckEventHandlers, IDeckContext deckContext, IRepresentationPersistenceService representationPersistenceService,
-            IRepresentationSearchService representationSearchService) {
+            IRepresentationSearchService representationSearchService, IRepresentationViewStatePersistenceService representationViewStatePersistenceService) {
 
         this.editingContext = Objects.requireNonNull(editingContext);
         this.subscriptionManager = Objects.requireNonNull(subscriptionManager);
@@ -78,13 +89,14 @@ public class DeckEventProcessor implements IDeckEventProcessor {
         this.deckContext = Objects.requireNonNull(deckContext);
         this.representationPersistenceService = Objects.requireNonNull(representationPersistenceService);
         this.representationSearchService = Objects.requireNonNull(representationSearchService);
+        this.representationViewStatePersistenceService = Objects.requireNonNull(representationViewStatePersistenceService);
 
         String id = this.deckContext.getDeck().getId();
         this.logger.trace("Creating the deck event processor {}", id);
 
         // We automatically refresh the representation before using it since things may have changed since the moment it
         // has been saved in the database.
-        Deck deck = this.deckCreationService.refresh(this.editingContext, deckContext).orElse(null);
+        Deck deck = this.deckCreationService.refresh(this.editingContext, deckContext, this.deckRenderingCache).orElse(null);
         this.deckContext.update(deck);
 
         this.deckEventFlux = new DeckEventFlux(deck);
@@ -122,24 +134,79 @@ public class DeckEventProcessor implements IDeckEventProcessor {
 
     @Override
     public void refresh(ChangeDescription changeDescription) {
+        this.invalidateRenderingCache(changeDescription);
+
         if (this.shouldRefresh(changeDescription)) {
-            Deck refreshedDeckRepresentation = this.deckCreationService.refresh(this.editingContext, this.deckContext).orElse(null);
+            Optional<Map<String, Object>> optionalChangedViewStates = this.getChangedViewStates(changeDescription);
+
+            Deck previousDeck = this.deckContext.getDeck();
+            Deck refreshedDeckRepresentation = this.deckCreationService.refresh(this.editingContext, this.deckContext, this.deckRenderingCache).orElse(null);
             this.deckContext.reset();
             this.deckContext.update(refreshedDeckRepresentation);
-            if (refreshedDeckRepresentation != null) {
+
+            // Nothing is saved or sent if the change has not modified anything in the deck
+            boolean hasChanged = !Objects.equals(previousDeck, refreshedDeckRepresentation);
+            if (refreshedDeckRepresentation != null && hasChanged && optionalChangedViewStates.isPresent()) {
+                // Only the view state of the lanes or cards modified is persisted, the content of the deck has not changed
+                this.representationViewStatePersistenceService.save(changeDescription.getInput(), this.editingContext, refreshedDeckRepresentation, optionalChangedViewStates.get());
+                this.logger.trace("Deck view state updated: {}", refreshedDeckRepresentation.getId());
+            } else if (refreshedDeckRepresentation != null && hasChanged) {
                 this.representationPersistenceService.save(changeDescription.getInput(), this.editingContext, refreshedDeckRepresentation);
                 this.logger.trace("Deck refreshed: {}", refreshedDeckRepresentation.getId());
             }
-            this.deckEventFlux.deckRefreshed(changeDescription.getInput(), this.deckContext.getDeck());
+            if (hasChanged) {
+                this.deckEventFlux.deckRefreshed(changeDescription.getInput(), this.deckContext.getDeck());
+            }
         } else if (changeDescription.getKind().equals(ChangeKind.RELOAD_REPRESENTATION) && changeDescription.getSourceId().equals(this.deckContext.getDeck().getId())) {
             Optional<Deck> reloadedDeck = this.representationSearchService.findById(this.editingContext, this.deckContext.getDeck().getId(), Deck.class);
             if (reloadedDeck.isPresent()) {
+                this.deckRenderingCache.clear();
                 this.deckContext.update(reloadedDeck.get());
                 this.deckEventFlux.deckRefreshed(changeDescription.getInput(), this.deckContext.getDeck());
             }
         }
     }
 
+    /**
+     * Removes from the rendering cache the lanes and cards impacted by the given change. Without the details of the
+     * semantic elements modified, or if some of them are not rendered as lanes or cards, the whole deck will be
+     * rendered again.
+     *
+     * @param changeDescription
+     *         The description of the change
+     */
+    private void invalidateRenderingCache(ChangeDescription changeDescription) {
+        Object changedElements = changeDescription.getParameters().get(ChangeDescription.CHANGED_ELEMENTS);
+        if (ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind()) && changedElements instanceof Collection<?> collection) {
+            this.deckRenderingCache.invalidate(collection);
+        } else if (ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind())) {
+            this.deckRenderingCache.clear();
+        }
+    }
+
+    /**
+     * Returns the view state of the lanes or cards changed by the event of the deck, if the change only modifies the
+     * view state of the deck. The path of a lane or card is the name of the property containing it and its id.
+     *
+     * @param changeDescription
+     *         The description of the change
+     * @return The view state of the lanes or cards changed, by path of element
+     */
+    private Optional<Map<String, Object>> getChangedViewStates(ChangeDescription changeDescription) {
+        Optional<Map<String, Object>> optionalChangedViewStates = Optional.empty();
+        if (DeckChangeKind.DECK_REPRESENTATION_UPDATE.equals(changeDescription.getKind())) {
+            var deckEvent = this.deckContext.getDeckEvent();
+            if (deckEvent instanceof ChangeLaneCollapseStateDeckEvent changeLaneCollapseStateDeckEvent) {
+                optionalChangedViewStates = Optional.of(Map.of("lanes/" + changeLaneCollapseStateDeckEvent.laneId(), Map.of("collapsed", changeLaneCollapseStateDeckEvent.collapsed())));
+            } else if (deckEvent instanceof ChangeCardsVisibilityDeckEvent changeCardsVisibilityDeckEvent) {
+                Map<String, Object> changedViewStates = new HashMap<>();
+                changeCardsVisibilityDeckEvent.cardsVisibility().forEach((cardId, visible) -> changedViewStates.put("cards/" + cardId, Map.of("visible", visible)));
+                optionalChangedViewStates = Optional.of(changedViewStates);
+            }
+        }
+        return optionalChangedViewStates;
+    }
+
     /**
      * A deck representation is refreshed if there is a semantic change.
      */
@@ -20,6 +20,7 @@ import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProce
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessorFactory;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationViewStatePersistenceService;
 import org.eclipse.sirius.components.collaborative.api.ISubscriptionManagerFactory;
 import org.eclipse.sirius.components.collaborative.deck.api.IDeckEventHandler;
 import org.eclipse.sirius.components.collaborative.deck.service.DeckCreationService;
@@ -45,13 +46,17 @@ public class DeckEventProcessorFactory implements IRepresentationEventProcessorF
 
     private final IRepresentationPersistenceService representationPersistenceService;
 
+    private final IRepresentationViewStatePersistenceService representationViewStatePersistenceService;
+
     public DeckEventProcessorFactory(IRepresentationSearchService representationSearchService, DeckCreationService deckCreationService, ISubscriptionManagerFactory subscriptionManagerFactory,
-            List<IDeckEventHandler> deckEventHandlers, IRepresentationPersistenceService representationPersistenceService) {
+            List<IDeckEventHandler> deckEventHandlers, IRepresentationPersistenceService representationPersistenceService,
+            IRepresentationViewStatePersistenceService representationViewStatePersistenceService) {
         this.representationSearchService = Objects.requireNonNull(representationSearchService);
         this.deckCreationService = Objects.requireNonNull(deckCreationService);
         this.subscriptionManagerFactory = Objects.requireNonNull(subscriptionManagerFactory);
         this.deckEventHandlers = Objects.requireNonNull(deckEventHandlers);
         this.representationPersistenceService = Objects.requireNonNull(representationPersistenceService);
+        this.representationViewStatePersistenceService = Objects.requireNonNull(representationViewStatePersistenceService);
     }
 
     @Override
@@ -67,7 +72,7 @@ public class DeckEventProcessorFactory implements IRepresentationEventProcessorF
             DeckContext deckContext = new DeckContext(deck);
 
             IRepresentationEventProcessor deckEventProcessor = new DeckEventProcessor(editingContext, this.subscriptionManagerFactory.create(), this.deckCreationService, this.deckEventHandlers,
-                    deckContext, this.representationPersistenceService, this.representationSearchService);
+                    deckContext, this.representationPersistenceService, this.representationSearchService, this.representationViewStatePersistenceService);
 
             return Optional.of(deckEventProcessor);
         }
@@ -17,6 +17,7 @@ import java.util.Optional;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.deck.Deck;
 import org.eclipse.sirius.components.deck.description.DeckDescription;
+import org.eclipse.sirius.components.deck.renderer.DeckRenderingCache;
 
 /**
  * Service used to create deck representations from scratch.
@@ -53,9 +54,11 @@ public interface IDeckCreationService {
      *            The editing context
      * @param deckContext
      *            The deck representation context
+     * @param deckRenderingCache
+     *            The lanes and cards rendered previously for the same deck
      * @return An updated deck if we have been able to refresh it.
      */
-    Optional<Deck> refresh(IEditingContext editingContext, IDeckContext deckContext);
+    Optional<Deck> refresh(IEditingContext editingContext, IDeckContext deckContext, DeckRenderingCache deckRenderingCache);
 
     /**
      * Implementation which does nothing, used for mocks in unit tests.
@@ -70,7 +73,7 @@ public interface IDeckCreationService {
         }
 
         @Override
-        public Optional<Deck> refresh(IEditingContext editingContext, IDeckContext deckContext) {
+        public Optional<Deck> refresh(IEditingContext editingContext, IDeckContext deckContext, DeckRenderingCache deckRenderingCache) {
             return Optional.empty();
         }
     }
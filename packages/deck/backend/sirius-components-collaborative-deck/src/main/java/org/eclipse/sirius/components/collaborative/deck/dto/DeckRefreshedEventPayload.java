@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,7 +15,7 @@ package org.eclipse.sirius.components.collaborative.deck.dto;
 import java.util.Objects;
 import java.util.UUID;
 
-import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshedEventPayload;
 import org.eclipse.sirius.components.deck.Deck;
 
 /**
@@ -23,7 +23,7 @@ import org.eclipse.sirius.components.deck.Deck;
  *
  * @author fbarbin
  */
-public record DeckRefreshedEventPayload(UUID id, Deck deck) implements IPayload {
+public record DeckRefreshedEventPayload(UUID id, Deck deck) implements IRepresentationRefreshedEventPayload {
     public DeckRefreshedEventPayload {
         Objects.requireNonNull(id);
         Objects.requireNonNull(deck);
@@ -25,6 +25,7 @@ import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchSe
 import org.eclipse.sirius.components.deck.Deck;
 import org.eclipse.sirius.components.deck.description.DeckDescription;
 import org.eclipse.sirius.components.deck.renderer.DeckRenderer;
+import org.eclipse.sirius.components.deck.renderer.DeckRenderingCache;
 import org.eclipse.sirius.components.deck.renderer.component.DeckComponent;
 import org.eclipse.sirius.components.deck.renderer.component.DeckComponentProps;
 import org.eclipse.sirius.components.deck.renderer.events.IDeckEvent;
@@ -59,11 +60,11 @@ public class DeckCreationService implements IDeckCreationService {
 
     @Override
     public Deck create(String label, Object targetObject, DeckDescription deckDescription, IEditingContext editingContext) {
-        return this.doRender(label, targetObject, editingContext, deckDescription, Optional.empty());
+        return this.doRender(label, targetObject, editingContext, deckDescription, Optional.empty(), new DeckRenderingCache());
     }
 
     @Override
-    public Optional<Deck> refresh(IEditingContext editingContext, IDeckContext deckContext) {
+    public Optional<Deck> refresh(IEditingContext editingContext, IDeckContext deckContext, DeckRenderingCache deckRenderingCache) {
         Deck previousDeck = deckContext.getDeck();
         var optionalObject = this.objectService.getObject(editingContext, previousDeck.targetObjectId());
         var optionalDeckDescription = this.representationDescriptionSearchService.findById(editingContext, previousDeck.getDescriptionId())
@@ -73,13 +74,14 @@ public class DeckCreationService implements IDeckCreationService {
         if (optionalObject.isPresent() && optionalDeckDescription.isPresent()) {
             Object object = optionalObject.get();
             DeckDescription deckDescription = optionalDeckDescription.get();
-            Deck deck = this.doRender(previousDeck.getLabel(), object, editingContext, deckDescription, Optional.of(deckContext));
+            Deck deck = this.doRender(previousDeck.getLabel(), object, editingContext, deckDescription, Optional.of(deckContext), deckRenderingCache);
             return Optional.of(deck);
         }
         return Optional.empty();
     }
 
-    private Deck doRender(String label, Object targetObject, IEditingContext editingContext, DeckDescription deckDescription, Optional<IDeckContext> optionalDeckContext) {
+    private Deck doRender(String label, Object targetObject, IEditingContext editingContext, DeckDescription deckDescription, Optional<IDeckContext> optionalDeckContext,
+            DeckRenderingCache deckRenderingCache) {
         long start = System.currentTimeMillis();
 
         VariableManager variableManager = new VariableManager();
@@ -90,10 +92,12 @@ public class DeckCreationService implements IDeckCreationService {
         Optional<Deck> optionalPreviousDeck = optionalDeckContext.map(IDeckContext::getDeck);
         Optional<IDeckEvent> optionalDeckEvent = optionalDeckContext.map(IDeckContext::getDeckEvent);
 
-        DeckComponentProps deckComponentProps = new DeckComponentProps(variableManager, deckDescription, optionalPreviousDeck, optionalDeckEvent);
+        DeckComponentProps deckComponentProps = new DeckComponentProps(variableManager, deckDescription, optionalPreviousDeck, optionalDeckEvent, deckRenderingCache);
 
+        deckRenderingCache.startRendering();
         Element element = new Element(DeckComponent.class, deckComponentProps);
         Deck newDeck = new DeckRenderer().render(element);
+        deckRenderingCache.finishRendering();
 
         long end = System.currentTimeMillis();
         this.timer.record(end - start, TimeUnit.MILLISECONDS);
@@ -0,0 +1,260 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.deck;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationViewStatePersistenceService;
+import org.eclipse.sirius.components.collaborative.deck.service.DeckCreationService;
+import org.eclipse.sirius.components.collaborative.representations.SubscriptionManager;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
+import org.eclipse.sirius.components.deck.Card;
+import org.eclipse.sirius.components.deck.Deck;
+import org.eclipse.sirius.components.deck.DeckElementStyle;
+import org.eclipse.sirius.components.deck.DeckStyle;
+import org.eclipse.sirius.components.deck.Lane;
+import org.eclipse.sirius.components.deck.description.CardDescription;
+import org.eclipse.sirius.components.deck.description.DeckDescription;
+import org.eclipse.sirius.components.deck.description.LaneDescription;
+import org.eclipse.sirius.components.deck.renderer.events.ChangeCardsVisibilityDeckEvent;
+import org.eclipse.sirius.components.deck.renderer.events.ChangeLaneCollapseStateDeckEvent;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.components.representations.IRepresentation;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the deck event processor and of the reuse of the lanes and cards of the previous rendering.
+ *
+ * @author agent
+ */
+public class DeckEventProcessorTests {
+
+    private static final String DECK_DESCRIPTION_ID = "deckDescription";
+
+    private static final String TARGET_OBJECT_ID = "project";
+
+    private final AtomicInteger cardTitleComputationsCount = new AtomicInteger();
+
+    private final List<IRepresentation> savedRepresentations = new ArrayList<>();
+
+    private final List<Map<String, Object>> savedViewStates = new ArrayList<>();
+
+    private DeckContext deckContext;
+
+    private final TestElement project = new TestElement("Project");
+
+    private final TestElement lane = new TestElement("To do");
+
+    private final TestElement firstTask = new TestElement("First task");
+
+    private final TestElement secondTask = new TestElement("Second task");
+
+    @Test
+    public void testReuseTheCardsWhoseSemanticElementHasNotBeenModified() {
+        DeckEventProcessor deckEventProcessor = this.createDeckEventProcessor();
+        assertThat(this.cardTitleComputationsCount.get()).isEqualTo(2);
+
+        this.firstTask.setName("First task renamed");
+        deckEventProcessor.refresh(this.createSemanticChange(Set.of(this.firstTask)));
+
+        assertThat(this.cardTitleComputationsCount.get()).isEqualTo(3);
+        assertThat(this.getCards(deckEventProcessor)).extracting(Card::title).containsExactly("First task renamed", "Second task");
+        assertThat(this.savedRepresentations).hasSize(1);
+    }
+
+    @Test
+    public void testRenderTheLaneContainingTheModifiedCardsAgain() {
+        DeckEventProcessor deckEventProcessor = this.createDeckEventProcessor();
+
+        // The label of the lane is computed from the semantic elements of its cards
+        this.secondTask.setName("Second task renamed");
+        deckEventProcessor.refresh(this.createSemanticChange(Set.of(this.secondTask)));
+
+        assertThat(this.cardTitleComputationsCount.get()).isEqualTo(3);
+        assertThat(((Deck) deckEventProcessor.getRepresentation()).lanes()).extracting(Lane::label).containsExactly("First task, Second task renamed");
+    }
+
+    @Test
+    public void testRenderAllTheCardsAgainWhenTheChangeCannotBeAttributed() {
+        DeckEventProcessor deckEventProcessor = this.createDeckEventProcessor();
+        assertThat(this.cardTitleComputationsCount.get()).isEqualTo(2);
+
+        // The label of the cards is computed from the project which is not rendered as a lane or a card
+        this.project.setName("Project renamed");
+        deckEventProcessor.refresh(this.createSemanticChange(Set.of(this.project)));
+
+        assertThat(this.cardTitleComputationsCount.get()).isEqualTo(4);
+        assertThat(this.getCards(deckEventProcessor)).extracting(Card::label).containsOnly("Project renamed");
+    }
+
+    @Test
+    public void testRenderAllTheCardsAgainWithoutTheModifiedElements() {
+        DeckEventProcessor deckEventProcessor = this.createDeckEventProcessor();
+
+        this.project.setName("Project renamed");
+        deckEventProcessor.refresh(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, TARGET_OBJECT_ID, this.createInput()));
+
+        assertThat(this.cardTitleComputationsCount.get()).isEqualTo(4);
+        assertThat(this.getCards(deckEventProcessor)).extracting(Card::label).containsOnly("Project renamed");
+    }
+
+    @Test
+    public void testDoNotSaveTheDeckWhenNothingHasChanged() {
+        DeckEventProcessor deckEventProcessor = this.createDeckEventProcessor();
+        Deck deck = (Deck) deckEventProcessor.getRepresentation();
+
+        deckEventProcessor.refresh(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, TARGET_OBJECT_ID, this.createInput()));
+
+        assertThat(this.savedRepresentations).isEmpty();
+        assertThat(deckEventProcessor.getRepresentation()).isEqualTo(deck);
+    }
+
+    @Test
+    public void testSaveOnlyTheViewStateOfTheCollapsedLane() {
+        DeckEventProcessor deckEventProcessor = this.createDeckEventProcessor();
+        String laneId = ((Deck) deckEventProcessor.getRepresentation()).lanes().get(0).id();
+
+        this.deckContext.setDeckEvent(new ChangeLaneCollapseStateDeckEvent(laneId, true));
+        deckEventProcessor.refresh(new ChangeDescription(DeckChangeKind.DECK_REPRESENTATION_UPDATE, TARGET_OBJECT_ID, this.createInput()));
+
+        assertThat(((Deck) deckEventProcessor.getRepresentation()).lanes()).extracting(Lane::collapsed).containsExactly(true);
+        assertThat(this.savedRepresentations).isEmpty();
+        assertThat(this.savedViewStates).containsExactly(Map.of("lanes/" + laneId, Map.of("collapsed", true)));
+    }
+
+    @Test
+    public void testSaveOnlyTheViewStateOfTheCardsWhoseVisibilityHasChanged() {
+        DeckEventProcessor deckEventProcessor = this.createDeckEventProcessor();
+        String cardId = this.getCards(deckEventProcessor).get(0).id();
+
+        this.deckContext.setDeckEvent(new ChangeCardsVisibilityDeckEvent(Map.of(cardId, false)));
+        deckEventProcessor.refresh(new ChangeDescription(DeckChangeKind.DECK_REPRESENTATION_UPDATE, TARGET_OBJECT_ID, this.createInput()));
+
+        assertThat(this.getCards(deckEventProcessor)).extracting(Card::visible).containsExactly(false, true);
+        assertThat(this.savedRepresentations).isEmpty();
+        assertThat(this.savedViewStates).containsExactly(Map.of("cards/" + cardId, Map.of("visible", false)));
+    }
+
+    private ChangeDescription createSemanticChange(Set<Object> changedElements) {
+        return new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, TARGET_OBJECT_ID, this.createInput(), Map.of(ChangeDescription.CHANGED_ELEMENTS, changedElements));
+    }
+
+    private IInput createInput() {
+        return UUID::randomUUID;
+    }
+
+    private List<Card> getCards(DeckEventProcessor deckEventProcessor) {
+        return ((Deck) deckEventProcessor.getRepresentation()).lanes().stream()
+                .map(Lane::cards)
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    private DeckEventProcessor createDeckEventProcessor() {
+        DeckDescription deckDescription = this.createDeckDescription();
+        IRepresentationDescriptionSearchService representationDescriptionSearchService = new IRepresentationDescriptionSearchService.NoOp() {
+            @Override
+            public Optional<IRepresentationDescription> findById(IEditingContext editingContext, String representationDescriptionId) {
+                return Optional.of(deckDescription);
+            }
+        };
+        IObjectService objectService = new IObjectService.NoOp() {
+            @Override
+            public Optional<Object> getObject(IEditingContext editingContext, String objectId) {
+                return Optional.of(DeckEventProcessorTests.this.project);
+            }
+        };
+        DeckCreationService deckCreationService = new DeckCreationService(representationDescriptionSearchService, objectService, new SimpleMeterRegistry());
+
+        Deck initialDeck = new Deck(UUID.randomUUID().toString(), DECK_DESCRIPTION_ID, TARGET_OBJECT_ID, "Deck", new DeckStyle("white"), List.of());
+        IRepresentationPersistenceService representationPersistenceService = (cause, editingContext, representation) -> this.savedRepresentations.add(representation);
+
+        IRepresentationViewStatePersistenceService representationViewStatePersistenceService = new IRepresentationViewStatePersistenceService.NoOp() {
+            @Override
+            public void save(ICause cause, IEditingContext editingContext, IRepresentation representation, Map<String, Object> changedViewStates) {
+                DeckEventProcessorTests.this.savedViewStates.add(changedViewStates);
+            }
+        };
+        this.deckContext = new DeckContext(initialDeck);
+
+        return new DeckEventProcessor(new IEditingContext.NoOp(), new SubscriptionManager(), deckCreationService, List.of(), this.deckContext, representationPersistenceService,
+                new IRepresentationSearchService.NoOp(), representationViewStatePersistenceService);
+    }
+
+    private DeckDescription createDeckDescription() {
+        DeckElementStyle style = new DeckElementStyle("white", "black", 12, false, false, false, false);
+
+        CardDescription cardDescription = new CardDescription("cardDescription", variableManager -> "Task", variableManager -> this.getName(variableManager),
+                variableManager -> this.getName(variableManager), variableManager -> List.of(this.firstTask, this.secondTask),
+                variableManager -> {
+                    this.cardTitleComputationsCount.incrementAndGet();
+                    return this.getName(variableManager);
+                },
+                variableManager -> this.project.getName(), variableManager -> "", variableManager -> { }, variableManager -> { }, variableManager -> style);
+
+        LaneDescription laneDescription = new LaneDescription("laneDescription", variableManager -> "Lane", variableManager -> this.getName(variableManager),
+                variableManager -> this.getName(variableManager), variableManager -> List.of(this.lane), variableManager -> this.getName(variableManager),
+                variableManager -> this.firstTask.getName() + ", " + this.secondTask.getName(),
+                List.of(cardDescription), variableManager -> { }, variableManager -> { }, variableManager -> { }, variableManager -> true, variableManager -> style);
+
+        return new DeckDescription(DECK_DESCRIPTION_ID, "Deck", variableManager -> DECK_DESCRIPTION_ID, variableManager -> "Deck", variableManager -> TARGET_OBJECT_ID,
+                variableManager -> true, List.of(laneDescription), variableManager -> { }, variableManager -> new DeckStyle("white"));
+    }
+
+    private String getName(VariableManager variableManager) {
+        return variableManager.get(VariableManager.SELF, TestElement.class)
+                .map(TestElement::getName)
+                .orElse("");
+    }
+
+    /**
+     * A semantic element whose name can be modified.
+     *
+     * @author agent
+     */
+    public static final class TestElement {
+
+        private String name;
+
+        public TestElement(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
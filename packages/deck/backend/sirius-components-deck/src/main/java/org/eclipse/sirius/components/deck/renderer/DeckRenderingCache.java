@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.deck.renderer;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.sirius.components.deck.renderer.elements.CardElementProps;
+import org.eclipse.sirius.components.deck.renderer.elements.LaneElementProps;
+import org.eclipse.sirius.components.representations.IProps;
+
+/**
+ * Keeps the lanes and the cards rendered during the previous rendering of a deck in order to reuse those whose
+ * semantic element has not been modified when all the modifications can be attributed to some lanes and cards.
+ *
+ * <p>
+ * A lane or a card is identified by its description, its parent and its semantic element. The semantic elements are
+ * still retrieved during each rendering, in order to find the lanes and cards added or removed, but the other
+ * properties of the lanes and cards are only computed again once their semantic element has been invalidated. Since the
+ * title and the label of a lane may be computed from its cards, invalidating a card also invalidates the lane containing
+ * it. The collapsed state of the lanes and the visibility of the cards are not cached since they are computed from the events
+ * of the deck.
+ * </p>
+ *
+ * @author agent
+ */
+public class DeckRenderingCache {
+
+    private final Map<DeckElementKey, IProps> entries = new HashMap<>();
+
+    private Set<DeckElementKey> renderedKeys = new HashSet<>();
+
+    /**
+     * Prepares the cache for a new rendering of the deck.
+     */
+    public void startRendering() {
+        this.renderedKeys = new HashSet<>();
+    }
+
+    /**
+     * Forgets the lanes and cards which have not been part of the rendering which has just been completed.
+     */
+    public void finishRendering() {
+        this.entries.keySet().retainAll(this.renderedKeys);
+        this.renderedKeys = new HashSet<>();
+    }
+
+    public Optional<LaneElementProps> getLane(DeckElementKey key) {
+        return this.get(key, LaneElementProps.class);
+    }
+
+    public Optional<CardElementProps> getCard(DeckElementKey key) {
+        return this.get(key, CardElementProps.class);
+    }
+
+    public void put(DeckElementKey key, IProps props) {
+        this.entries.put(key, props);
+        this.renderedKeys.add(key);
+    }
+
+    /**
+     * Removes from the cache the lanes and cards rendered for the given semantic elements and the lanes containing those
+     * cards.
+     *
+     * <p>
+     * The properties of a lane or a card may be computed from other semantic elements than its own, for example a title
+     * computed from the container of its semantic element. A modification can thus only be attributed to some lanes and
+     * cards if all the semantic elements modified are rendered as lanes or cards. Otherwise, the whole cache is cleared
+     * since there is no way to know which lanes and cards depend on the semantic elements modified.
+     * </p>
+     *
+     * @param semanticElements
+     *         The semantic elements which have been modified
+     */
+    public void invalidate(Collection<?> semanticElements) {
+        Set<Object> modifiedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        modifiedElements.addAll(semanticElements);
+
+        Set<Object> renderedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.entries.keySet().forEach(key -> renderedElements.add(key.semanticElement()));
+
+        if (renderedElements.containsAll(modifiedElements)) {
+            Set<String> invalidatedParentElementIds = new HashSet<>();
+            this.entries.keySet().removeIf(key -> {
+                boolean isModified = modifiedElements.contains(key.semanticElement());
+                if (isModified) {
+                    invalidatedParentElementIds.add(key.parentElementId());
+                }
+                return isModified;
+            });
+            this.entries.values().removeIf(props -> props instanceof LaneElementProps laneElementProps && invalidatedParentElementIds.contains(laneElementProps.id()));
+        } else {
+            this.entries.clear();
+        }
+    }
+
+    public void clear() {
+        this.entries.clear();
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    private <T extends IProps> Optional<T> get(DeckElementKey key, Class<T> propsClass) {
+        var optionalProps = Optional.ofNullable(this.entries.get(key))
+                .filter(propsClass::isInstance)
+                .map(propsClass::cast);
+        optionalProps.ifPresent(props -> this.renderedKeys.add(key));
+        return optionalProps;
+    }
+
+    /**
+     * Identifies a lane or a card rendered for a semantic element.
+     *
+     * @author agent
+     *
+     * @param descriptionId
+     *         The id of the description of the lane or card
+     * @param parentElementId
+     *         The id of the deck or lane containing the element
+     * @param semanticElement
+     *         The semantic element
+     */
+    public record DeckElementKey(String descriptionId, String parentElementId, Object semanticElement) {
+
+        public DeckElementKey {
+            Objects.requireNonNull(descriptionId);
+            Objects.requireNonNull(parentElementId);
+            Objects.requireNonNull(semanticElement);
+        }
+    }
+}
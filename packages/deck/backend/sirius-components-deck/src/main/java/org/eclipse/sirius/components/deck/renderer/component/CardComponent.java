@@ -21,6 +21,7 @@ import java.util.UUID;
 import org.eclipse.sirius.components.deck.Card;
 import org.eclipse.sirius.components.deck.DeckElementStyle;
 import org.eclipse.sirius.components.deck.description.CardDescription;
+import org.eclipse.sirius.components.deck.renderer.DeckRenderingCache;
 import org.eclipse.sirius.components.deck.renderer.elements.CardElementProps;
 import org.eclipse.sirius.components.deck.renderer.events.ChangeCardsVisibilityDeckEvent;
 import org.eclipse.sirius.components.representations.Element;
@@ -53,39 +54,54 @@ public class CardComponent implements IComponent {
         for (Object semanticElement : semanticElements) {
             VariableManager childVariableManager = variableManager.createChild();
             childVariableManager.put(VariableManager.SELF, semanticElement);
-            Element nodeElement = this.doRender(childVariableManager);
+            Element nodeElement = this.doRender(childVariableManager, semanticElement);
             children.add(nodeElement);
         }
         FragmentProps fragmentProps = new FragmentProps(children);
         return new Fragment(fragmentProps);
     }
 
-    private Element doRender(VariableManager childVariableManager) {
+    private Element doRender(VariableManager childVariableManager, Object semanticElement) {
         CardDescription cardDescription = this.props.cardDescription();
-        String targetObjectId = cardDescription.targetObjectIdProvider().apply(childVariableManager);
-        String targetObjectKind = cardDescription.targetObjectKindProvider().apply(childVariableManager);
-        String targetObjectLabel = cardDescription.targetObjectLabelProvider().apply(childVariableManager);
-        String title = cardDescription.titleProvider().apply(childVariableManager);
-        String label = cardDescription.labelProvider().apply(childVariableManager);
-        String description = cardDescription.descriptionProvider().apply(childVariableManager);
-        DeckElementStyle style = cardDescription.styleProvider().apply(childVariableManager);
+        DeckRenderingCache deckRenderingCache = this.props.deckRenderingCache();
+        var key = new DeckRenderingCache.DeckElementKey(cardDescription.id(), this.props.parentElementId(), semanticElement);
 
-        Optional<Card> optionalPreviousCard = this.props.previousCards().stream()
-                .filter(card -> card.descriptionId().equals(cardDescription.id()) && card.targetObjectId().equals(targetObjectId))
-                .findFirst();
-        String cardId = optionalPreviousCard.map(Card::id).orElse(UUID.randomUUID().toString());
-        boolean visible = optionalPreviousCard.map(this::computeVisibility).orElse(true);
+        var optionalCachedCardElementProps = deckRenderingCache.getCard(key);
+        CardElementProps cardElementProps;
+        if (optionalCachedCardElementProps.isPresent()) {
+            CardElementProps cachedCardElementProps = optionalCachedCardElementProps.get();
+            boolean visible = this.computeVisibility(cachedCardElementProps.id(), cachedCardElementProps.visible());
 
-        CardElementProps cardElementProps = new CardElementProps(cardId, cardDescription.id(), targetObjectId, targetObjectKind, targetObjectLabel, title, label, description, visible, style);
+            cardElementProps = new CardElementProps(cachedCardElementProps.id(), cardDescription.id(), cachedCardElementProps.targetObjectId(), cachedCardElementProps.targetObjectKind(),
+                    cachedCardElementProps.targetObjectLabel(), cachedCardElementProps.title(), cachedCardElementProps.label(), cachedCardElementProps.description(), visible,
+                    cachedCardElementProps.style());
+        } else {
+            String targetObjectId = cardDescription.targetObjectIdProvider().apply(childVariableManager);
+            String targetObjectKind = cardDescription.targetObjectKindProvider().apply(childVariableManager);
+            String targetObjectLabel = cardDescription.targetObjectLabelProvider().apply(childVariableManager);
+            String title = cardDescription.titleProvider().apply(childVariableManager);
+            String label = cardDescription.labelProvider().apply(childVariableManager);
+            String description = cardDescription.descriptionProvider().apply(childVariableManager);
+            DeckElementStyle style = cardDescription.styleProvider().apply(childVariableManager);
+
+            Optional<Card> optionalPreviousCard = this.props.previousCards().stream()
+                    .filter(card -> card.descriptionId().equals(cardDescription.id()) && card.targetObjectId().equals(targetObjectId))
+                    .findFirst();
+            String cardId = optionalPreviousCard.map(Card::id).orElse(UUID.randomUUID().toString());
+            boolean visible = optionalPreviousCard.map(previousCard -> this.computeVisibility(previousCard.id(), previousCard.visible())).orElse(true);
+
+            cardElementProps = new CardElementProps(cardId, cardDescription.id(), targetObjectId, targetObjectKind, targetObjectLabel, title, label, description, visible, style);
+        }
+        deckRenderingCache.put(key, cardElementProps);
         return new Element(CardElementProps.TYPE, cardElementProps);
     }
 
-    private boolean computeVisibility(Card previousCard) {
+    private boolean computeVisibility(String cardId, Boolean previousVisible) {
         return this.props.optionalDeckEvent()
                 .filter(ChangeCardsVisibilityDeckEvent.class::isInstance)
                 .map(ChangeCardsVisibilityDeckEvent.class::cast)
                 .map(ChangeCardsVisibilityDeckEvent::cardsVisibility)
-                .map(cardsVisibility -> cardsVisibility.get(previousCard.id()))
-                .orElse(previousCard.visible());
+                .map(cardsVisibility -> cardsVisibility.get(cardId))
+                .orElse(previousVisible);
     }
 }
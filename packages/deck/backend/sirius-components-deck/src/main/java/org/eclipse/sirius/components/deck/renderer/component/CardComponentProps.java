@@ -18,6 +18,7 @@ import java.util.Optional;
 
 import org.eclipse.sirius.components.deck.Card;
 import org.eclipse.sirius.components.deck.description.CardDescription;
+import org.eclipse.sirius.components.deck.renderer.DeckRenderingCache;
 import org.eclipse.sirius.components.deck.renderer.events.IDeckEvent;
 import org.eclipse.sirius.components.representations.IProps;
 import org.eclipse.sirius.components.representations.VariableManager;
@@ -27,12 +28,13 @@ import org.eclipse.sirius.components.representations.VariableManager;
  *
  * @author fbarbin
  */
-public record CardComponentProps(VariableManager variableManager, CardDescription cardDescription, String parentElementId, List<Card> previousCards, Optional<IDeckEvent> optionalDeckEvent)
-        implements IProps {
+public record CardComponentProps(VariableManager variableManager, CardDescription cardDescription, String parentElementId, List<Card> previousCards, Optional<IDeckEvent> optionalDeckEvent,
+        DeckRenderingCache deckRenderingCache) implements IProps {
 
     public CardComponentProps {
         Objects.requireNonNull(variableManager);
         Objects.requireNonNull(cardDescription);
         Objects.requireNonNull(parentElementId);
+        Objects.requireNonNull(deckRenderingCache);
     }
 }
@@ -21,6 +21,7 @@ import org.eclipse.sirius.components.deck.Deck;
 import org.eclipse.sirius.components.deck.DeckStyle;
 import org.eclipse.sirius.components.deck.Lane;
 import org.eclipse.sirius.components.deck.description.DeckDescription;
+import org.eclipse.sirius.components.deck.renderer.DeckRenderingCache;
 import org.eclipse.sirius.components.deck.renderer.elements.DeckElementProps;
 import org.eclipse.sirius.components.deck.renderer.events.IDeckEvent;
 import org.eclipse.sirius.components.representations.Element;
@@ -51,11 +52,12 @@ public class DeckComponent implements IComponent {
         String targetObjectId = deckDescription.targetObjectIdProvider().apply(variableManager);
         String label = optionalPreviousDeck.map(Deck::getLabel).orElseGet(() -> deckDescription.labelProvider().apply(variableManager));
         DeckStyle deckStyle = deckDescription.deckStyleProvider().apply(variableManager);
+        DeckRenderingCache deckRenderingCache = this.props.deckRenderingCache();
 
         List<Element> children = deckDescription.laneDescriptions()//
                 .stream()//
                 .map(laneDescription -> {
-                    LaneComponentProps laneComponentProps = new LaneComponentProps(variableManager, laneDescription, deckId, previousLanes, optionalDeckEvent);
+                    LaneComponentProps laneComponentProps = new LaneComponentProps(variableManager, laneDescription, deckId, previousLanes, optionalDeckEvent, deckRenderingCache);
                     return new Element(LaneComponent.class, laneComponentProps);
                 })//
                 .toList();
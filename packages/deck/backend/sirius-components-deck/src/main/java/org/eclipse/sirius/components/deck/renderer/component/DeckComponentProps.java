@@ -17,6 +17,7 @@ import java.util.Optional;
 
 import org.eclipse.sirius.components.deck.Deck;
 import org.eclipse.sirius.components.deck.description.DeckDescription;
+import org.eclipse.sirius.components.deck.renderer.DeckRenderingCache;
 import org.eclipse.sirius.components.deck.renderer.events.IDeckEvent;
 import org.eclipse.sirius.components.representations.IProps;
 import org.eclipse.sirius.components.representations.VariableManager;
@@ -26,12 +27,18 @@ import org.eclipse.sirius.components.representations.VariableManager;
  *
  * @author fbarbin
  */
-public record DeckComponentProps(VariableManager variableManager, DeckDescription deckDescription, Optional<Deck> optionalPreviousDeck, Optional<IDeckEvent> optionalDeckEvent) implements IProps {
+public record DeckComponentProps(VariableManager variableManager, DeckDescription deckDescription, Optional<Deck> optionalPreviousDeck, Optional<IDeckEvent> optionalDeckEvent,
+        DeckRenderingCache deckRenderingCache) implements IProps {
 
     public DeckComponentProps {
         Objects.requireNonNull(variableManager);
         Objects.requireNonNull(deckDescription);
         Objects.requireNonNull(optionalPreviousDeck);
         Objects.requireNonNull(optionalDeckEvent);
+        Objects.requireNonNull(deckRenderingCache);
+    }
+
+    public DeckComponentProps(VariableManager variableManager, DeckDescription deckDescription, Optional<Deck> optionalPreviousDeck, Optional<IDeckEvent> optionalDeckEvent) {
+        this(variableManager, deckDescription, optionalPreviousDeck, optionalDeckEvent, new DeckRenderingCache());
     }
 }
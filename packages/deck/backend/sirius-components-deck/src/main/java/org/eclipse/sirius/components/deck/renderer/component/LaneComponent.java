@@ -22,6 +22,7 @@ import org.eclipse.sirius.components.deck.Card;
 import org.eclipse.sirius.components.deck.DeckElementStyle;
 import org.eclipse.sirius.components.deck.Lane;
 import org.eclipse.sirius.components.deck.description.LaneDescription;
+import org.eclipse.sirius.components.deck.renderer.DeckRenderingCache;
 import org.eclipse.sirius.components.deck.renderer.elements.LaneElementProps;
 import org.eclipse.sirius.components.deck.renderer.events.ChangeLaneCollapseStateDeckEvent;
 import org.eclipse.sirius.components.deck.renderer.events.IDeckEvent;
@@ -55,54 +56,72 @@ public class LaneComponent implements IComponent {
         for (Object semanticElement : semanticElements) {
             VariableManager childVariableManager = variableManager.createChild();
             childVariableManager.put(VariableManager.SELF, semanticElement);
-            Element nodeElement = this.doRender(childVariableManager);
+            Element nodeElement = this.doRender(childVariableManager, semanticElement);
             children.add(nodeElement);
         }
         FragmentProps fragmentProps = new FragmentProps(children);
         return new Fragment(fragmentProps);
     }
 
-    private Element doRender(VariableManager childVariableManager) {
-
+    private Element doRender(VariableManager childVariableManager, Object semanticElement) {
         LaneDescription laneDescription = this.props.laneDescription();
-        String targetObjectId = laneDescription.targetObjectIdProvider().apply(childVariableManager);
-        String targetObjectKind = laneDescription.targetObjectKindProvider().apply(childVariableManager);
-        String targetObjectLabel = laneDescription.targetObjectLabelProvider().apply(childVariableManager);
-        String title = laneDescription.titleProvider().apply(childVariableManager);
-        String label = laneDescription.labelProvider().apply(childVariableManager);
+        DeckRenderingCache deckRenderingCache = this.props.deckRenderingCache();
+        var key = new DeckRenderingCache.DeckElementKey(laneDescription.id(), this.props.parentElementId(), semanticElement);
+
+        var optionalCachedLaneElementProps = deckRenderingCache.getLane(key);
+        LaneElementProps laneElementProps;
+        if (optionalCachedLaneElementProps.isPresent()) {
+            LaneElementProps cachedLaneElementProps = optionalCachedLaneElementProps.get();
+            String laneId = cachedLaneElementProps.id();
+            List<Card> previousCards = this.props.previousLanes().stream()
+                    .filter(lane -> lane.id().equals(laneId))
+                    .findFirst()
+                    .map(Lane::cards)
+                    .orElse(List.of());
+            List<Element> childrenElements = this.getChildren(childVariableManager, laneDescription, laneId, previousCards);
+            boolean collapsed = this.computeCollapsed(laneId, cachedLaneElementProps.collapsed());
+
+            laneElementProps = new LaneElementProps(laneId, laneDescription.id(), cachedLaneElementProps.targetObjectId(), cachedLaneElementProps.targetObjectKind(),
+                    cachedLaneElementProps.targetObjectLabel(), cachedLaneElementProps.title(), cachedLaneElementProps.label(), cachedLaneElementProps.collapsible(), collapsed,
+                    childrenElements, cachedLaneElementProps.style());
+        } else {
+            String targetObjectId = laneDescription.targetObjectIdProvider().apply(childVariableManager);
+            String targetObjectKind = laneDescription.targetObjectKindProvider().apply(childVariableManager);
+            String targetObjectLabel = laneDescription.targetObjectLabelProvider().apply(childVariableManager);
+            String title = laneDescription.titleProvider().apply(childVariableManager);
+            String label = laneDescription.labelProvider().apply(childVariableManager);
 
-        Optional<Lane> optionalPreviousLane = this.props.previousLanes().stream()
-            .filter(lane -> lane.descriptionId().equals(laneDescription.id()) && lane.targetObjectId().equals(targetObjectId))
-            .findFirst();
-        String laneId = optionalPreviousLane.map(Lane::id).orElse(UUID.randomUUID().toString());
-        List<Card> previousCards = optionalPreviousLane.map(Lane::cards).orElse(List.of());
-        List<Element> childrenElements = this.getChildren(childVariableManager, laneDescription, laneId, previousCards);
-        boolean collapsible = laneDescription.collapsibleProvider().apply(childVariableManager);
-        boolean collapsed = this.computeCollapsed(optionalPreviousLane);
-        DeckElementStyle style = laneDescription.styleProvider().apply(childVariableManager);
+            Optional<Lane> optionalPreviousLane = this.props.previousLanes().stream()
+                .filter(lane -> lane.descriptionId().equals(laneDescription.id()) && lane.targetObjectId().equals(targetObjectId))
+                .findFirst();
+            String laneId = optionalPreviousLane.map(Lane::id).orElse(UUID.randomUUID().toString());
+            List<Card> previousCards = optionalPreviousLane.map(Lane::cards).orElse(List.of());
+            List<Element> childrenElements = this.getChildren(childVariableManager, laneDescription, laneId, previousCards);
+            boolean collapsible = laneDescription.collapsibleProvider().apply(childVariableManager);
+            boolean collapsed = optionalPreviousLane.map(previousLane -> this.computeCollapsed(previousLane.id(), previousLane.collapsed())).orElse(false);
+            DeckElementStyle style = laneDescription.styleProvider().apply(childVariableManager);
 
-        LaneElementProps laneElementProps = new LaneElementProps(laneId, laneDescription.id(), targetObjectId, targetObjectKind, targetObjectLabel, title, label, collapsible, collapsed,
-                childrenElements, style);
+            laneElementProps = new LaneElementProps(laneId, laneDescription.id(), targetObjectId, targetObjectKind, targetObjectLabel, title, label, collapsible, collapsed,
+                    childrenElements, style);
+        }
+        deckRenderingCache.put(key, laneElementProps);
         return new Element(LaneElementProps.TYPE, laneElementProps);
     }
 
-    private boolean computeCollapsed(Optional<Lane> optionalPreviousLane) {
-        if (optionalPreviousLane.isPresent()) {
-            return this.props.optionalDeckEvent()
-                    .filter(ChangeLaneCollapseStateDeckEvent.class::isInstance)
-                    .map(ChangeLaneCollapseStateDeckEvent.class::cast)
-                    .filter(event -> event.laneId().equals(optionalPreviousLane.get().id()))
-                    .map(ChangeLaneCollapseStateDeckEvent::collapsed)
-                    .orElse(optionalPreviousLane.get().collapsed());
-        }
-        return false;
+    private boolean computeCollapsed(String laneId, boolean previousCollapsed) {
+        return this.props.optionalDeckEvent()
+                .filter(ChangeLaneCollapseStateDeckEvent.class::isInstance)
+                .map(ChangeLaneCollapseStateDeckEvent.class::cast)
+                .filter(event -> event.laneId().equals(laneId))
+                .map(ChangeLaneCollapseStateDeckEvent::collapsed)
+                .orElse(previousCollapsed);
     }
 
     private List<Element> getChildren(VariableManager variableManager, LaneDescription laneDescription, String laneId, List<Card> previousCards) {
         Optional<IDeckEvent> optionalDeckEvent = this.props.optionalDeckEvent();
         return laneDescription.cardDescriptions().stream()
                 .map(cardDescription -> {
-                    CardComponentProps cardComponentProps = new CardComponentProps(variableManager, cardDescription, laneId, previousCards, optionalDeckEvent);
+                    CardComponentProps cardComponentProps = new CardComponentProps(variableManager, cardDescription, laneId, previousCards, optionalDeckEvent, this.props.deckRenderingCache());
                     return new Element(CardComponent.class, cardComponentProps);
                 })
                 .toList();
@@ -18,6 +18,7 @@ import java.util.Optional;
 
 import org.eclipse.sirius.components.deck.Lane;
 import org.eclipse.sirius.components.deck.description.LaneDescription;
+import org.eclipse.sirius.components.deck.renderer.DeckRenderingCache;
 import org.eclipse.sirius.components.deck.renderer.events.IDeckEvent;
 import org.eclipse.sirius.components.representations.IProps;
 import org.eclipse.sirius.components.representations.VariableManager;
@@ -27,7 +28,8 @@ import org.eclipse.sirius.components.representations.VariableManager;
  *
  * @author fbarbin
  */
-public record LaneComponentProps(VariableManager variableManager, LaneDescription laneDescription, String parentElementId, List<Lane> previousLanes, Optional<IDeckEvent> optionalDeckEvent) implements IProps {
+public record LaneComponentProps(VariableManager variableManager, LaneDescription laneDescription, String parentElementId, List<Lane> previousLanes, Optional<IDeckEvent> optionalDeckEvent,
+        DeckRenderingCache deckRenderingCache) implements IProps {
 
     public LaneComponentProps {
         Objects.requireNonNull(variableManager);
@@ -35,5 +37,6 @@ public record LaneComponentProps(VariableManager variableManager, LaneDescriptio
         Objects.requireNonNull(parentElementId);
         Objects.requireNonNull(previousLanes);
         Objects.requireNonNull(optionalDeckEvent);
+        Objects.requireNonNull(deckRenderingCache);
     }
 }
@@ -12,8 +12,10 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.diagrams;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -31,11 +33,14 @@ import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventHan
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventProcessor;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInput;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInputReferencePositionProvider;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramLayoutDataPersistenceService;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramServerLayoutService;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.LayoutDiagramInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.NodeLayoutDataInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.ReferencePosition;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.RenameDiagramInput;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.ServerLayoutDiagramInput;
 import org.eclipse.sirius.components.collaborative.dto.RenameRepresentationInput;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IInput;
@@ -84,10 +89,14 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
     private final IRepresentationSearchService representationSearchService;
 
+    private final IDiagramLayoutDataPersistenceService diagramLayoutDataPersistenceService;
+
     private final DiagramEventFlux diagramEventFlux;
 
     private final List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders;
 
+    private final IDiagramServerLayoutService diagramServerLayoutService;
+
     private UUID currentRevisionId = UUID.randomUUID();
 
     private String currentRevisionCause = DiagramRefreshedEventPayload.CAUSE_REFRESH;
@@ -104,8 +113,10 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
         this.representationRefreshPolicyRegistry = parameters.representationRefreshPolicyRegistry();
         this.representationPersistenceService = parameters.representationPersistenceService();
         this.representationSearchService = parameters.representationSearchService();
+        this.diagramLayoutDataPersistenceService = parameters.diagramLayoutDataPersistenceService();
         this.diagramCreationService = parameters.diagramCreationService();
         this.diagramInputReferencePositionProviders = parameters.diagramInputReferencePositionProviders();
+        this.diagramServerLayoutService = parameters.diagramServerLayoutService();
 
         // We automatically refresh the representation before using it since things may have changed since the moment it
         // has been saved in the database. This is quite similar to the auto-refresh on loading in Sirius.
@@ -116,6 +127,7 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
         if (diagram != null) {
             this.logger.trace("Diagram refreshed: {})", diagram.getId());
+            this.diagramServerLayoutService.layout(this.editingContext, diagram, this.currentRevisionId);
         }
     }
 
@@ -133,31 +145,18 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
     public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IRepresentationInput representationInput) {
         if (representationInput instanceof LayoutDiagramInput layoutDiagramInput) {
             if (layoutDiagramInput.id().equals(this.currentRevisionId)) {
-                var diagram = this.diagramContext.getDiagram();
-                var nodeLayoutData = layoutDiagramInput.diagramLayoutData().nodeLayoutData().stream()
-                        .collect(Collectors.toMap(
-                                NodeLayoutDataInput::id,
-                                nodeLayoutDataInput -> new NodeLayoutData(nodeLayoutDataInput.id(), nodeLayoutDataInput.position(), nodeLayoutDataInput.size(), nodeLayoutDataInput.resizedByUser()),
-                                (oldValue, newValue) -> newValue
-                        ));
-
-                var layoutData = new DiagramLayoutData(nodeLayoutData, Map.of(), Map.of());
-                var laidOutDiagram = Diagram.newDiagram(diagram)
-                        .layoutData(layoutData)
-                        .build();
-
-                this.representationPersistenceService.save(layoutDiagramInput, this.editingContext, laidOutDiagram);
-                this.diagramContext.reset();
-                this.diagramContext.update(laidOutDiagram);
-                this.diagramEventFlux.diagramRefreshed(layoutDiagramInput.id(), laidOutDiagram, DiagramRefreshedEventPayload.CAUSE_LAYOUT, null);
-
-                this.currentRevisionCause = DiagramRefreshedEventPayload.CAUSE_LAYOUT;
-
-                payloadSink.tryEmitValue(new SuccessPayload(layoutDiagramInput.id()));
-            } else {
-                payloadSink.tryEmitValue(new SuccessPayload(layoutDiagramInput.id()));
+                var nodeLayoutData = this.toNodeLayoutData(layoutDiagramInput.diagramLayoutData().nodeLayoutData());
+                this.applyLayoutData(layoutDiagramInput, new DiagramLayoutData(nodeLayoutData, Map.of(), Map.of()));
             }
+            payloadSink.tryEmitValue(new SuccessPayload(layoutDiagramInput.id()));
+            return;
+        }
 
+        if (representationInput instanceof ServerLayoutDiagramInput serverLayoutDiagramInput) {
+            if (serverLayoutDiagramInput.revisionId().equals(this.currentRevisionId)) {
+                this.applyServerLayoutData(serverLayoutDiagramInput);
+            }
+            payloadSink.tryEmitValue(new SuccessPayload(serverLayoutDiagramInput.id()));
             return;
         }
 
@@ -196,6 +195,10 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
             ReferencePosition referencePosition = this.getReferencePosition(changeDescription.getInput());
             this.diagramEventFlux.diagramRefreshed(changeDescription.getInput().id(), refreshedDiagram, DiagramRefreshedEventPayload.CAUSE_REFRESH, referencePosition);
+
+            if (refreshedDiagram != null) {
+                this.diagramServerLayoutService.layout(this.editingContext, refreshedDiagram, this.currentRevisionId);
+            }
         } else if (changeDescription.getKind().equals(ChangeKind.RELOAD_REPRESENTATION) && changeDescription.getSourceId().equals(this.diagramContext.getDiagram().getId())) {
             Optional<Diagram> reloadedDiagram = this.representationSearchService.findById(this.editingContext, this.diagramContext.getDiagram().getId(), Diagram.class);
             if (reloadedDiagram.isPresent()) {
@@ -208,6 +211,67 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
         }
     }
 
+    private Map<String, NodeLayoutData> toNodeLayoutData(List<NodeLayoutDataInput> nodeLayoutDataInputs) {
+        return nodeLayoutDataInputs.stream()
+                .collect(Collectors.toMap(
+                        NodeLayoutDataInput::id,
+                        nodeLayoutDataInput -> new NodeLayoutData(nodeLayoutDataInput.id(), nodeLayoutDataInput.position(), nodeLayoutDataInput.size(), nodeLayoutDataInput.resizedByUser()),
+                        (oldValue, newValue) -> newValue
+                ));
+    }
+
+    /**
+     * Merges the layout computed on the server in the current layout of the diagram.
+     *
+     * <p>
+     * The layout of the clients may have been received while the layout was computed on the server, for example after
+     * a drag or an arrange all. The layout of the server is thus only used for the nodes which still do not have any
+     * layout data, and the layout data of the edges and of the labels are kept.
+     * </p>
+     *
+     * @param serverLayoutDiagramInput
+     *         The layout computed on the server
+     */
+    private void applyServerLayoutData(ServerLayoutDiagramInput serverLayoutDiagramInput) {
+        var currentLayoutData = this.diagramContext.getDiagram().getLayoutData();
+
+        Map<String, NodeLayoutData> nodeLayoutData = new LinkedHashMap<>(currentLayoutData.nodeLayoutData());
+        this.toNodeLayoutData(serverLayoutDiagramInput.diagramLayoutData().nodeLayoutData()).forEach(nodeLayoutData::putIfAbsent);
+
+        if (nodeLayoutData.size() > currentLayoutData.nodeLayoutData().size()) {
+            this.applyLayoutData(serverLayoutDiagramInput, new DiagramLayoutData(nodeLayoutData, currentLayoutData.edgeLayoutData(), currentLayoutData.labelLayoutData()));
+        }
+    }
+
+    private void applyLayoutData(IDiagramInput diagramInput, DiagramLayoutData layoutData) {
+        var diagram = this.diagramContext.getDiagram();
+        var laidOutDiagram = Diagram.newDiagram(diagram)
+                .layoutData(layoutData)
+                .build();
+
+        var changedLayoutData = this.getChangedLayoutData(diagram.getLayoutData(), layoutData);
+        this.diagramLayoutDataPersistenceService.save(diagramInput, this.editingContext, laidOutDiagram, changedLayoutData, diagram.getLayoutData());
+        this.diagramContext.reset();
+        this.diagramContext.update(laidOutDiagram);
+        this.diagramEventFlux.diagramRefreshed(diagramInput.id(), laidOutDiagram, DiagramRefreshedEventPayload.CAUSE_LAYOUT, null);
+
+        this.currentRevisionCause = DiagramRefreshedEventPayload.CAUSE_LAYOUT;
+    }
+
+    private DiagramLayoutData getChangedLayoutData(DiagramLayoutData previousLayoutData, DiagramLayoutData layoutData) {
+        return new DiagramLayoutData(
+                this.getChangedEntries(previousLayoutData.nodeLayoutData(), layoutData.nodeLayoutData()),
+                this.getChangedEntries(previousLayoutData.edgeLayoutData(), layoutData.edgeLayoutData()),
+                this.getChangedEntries(previousLayoutData.labelLayoutData(), layoutData.labelLayoutData())
+        );
+    }
+
+    private <T> Map<String, T> getChangedEntries(Map<String, T> previousEntries, Map<String, T> entries) {
+        return entries.entrySet().stream()
+                .filter(entry -> !Objects.equals(previousEntries.get(entry.getKey()), entry.getValue()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
     private ReferencePosition getReferencePosition(IInput diagramInput) {
         return this.diagramInputReferencePositionProviders.stream()
                 .filter(handler -> handler.canHandle(diagramInput))
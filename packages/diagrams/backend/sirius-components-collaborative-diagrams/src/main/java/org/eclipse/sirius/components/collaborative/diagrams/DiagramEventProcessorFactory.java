@@ -26,6 +26,8 @@ import org.eclipse.sirius.components.collaborative.api.RepresentationEventProces
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramCreationService;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventHandler;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInputReferencePositionProvider;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramLayoutDataPersistenceService;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramServerLayoutService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
 import org.eclipse.sirius.components.diagrams.Diagram;
@@ -55,8 +57,13 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
 
     private final List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders;
 
+    private final IDiagramLayoutDataPersistenceService diagramLayoutDataPersistenceService;
+
+    private final IDiagramServerLayoutService diagramServerLayoutService;
+
     public DiagramEventProcessorFactory(RepresentationEventProcessorFactoryConfiguration configuration, IDiagramCreationService diagramCreationService,
-            List<IDiagramEventHandler> diagramEventHandlers, IRepresentationPersistenceService representationPersistenceService, List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders) {
+            List<IDiagramEventHandler> diagramEventHandlers, IRepresentationPersistenceService representationPersistenceService, List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders,
+            IDiagramLayoutDataPersistenceService diagramLayoutDataPersistenceService, IDiagramServerLayoutService diagramServerLayoutService) {
         this.representationSearchService = Objects.requireNonNull(configuration.getRepresentationSearchService());
         this.diagramCreationService = Objects.requireNonNull(diagramCreationService);
         this.diagramEventHandlers = Objects.requireNonNull(diagramEventHandlers);
@@ -65,6 +72,8 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
         this.representationDescriptionSearchService = Objects.requireNonNull(configuration.getRepresentationDescriptionSearchService());
         this.representationRefreshPolicyRegistry = Objects.requireNonNull(configuration.getRepresentationRefreshPolicyRegistry());
         this.diagramInputReferencePositionProviders = Objects.requireNonNull(diagramInputReferencePositionProviders);
+        this.diagramLayoutDataPersistenceService = Objects.requireNonNull(diagramLayoutDataPersistenceService);
+        this.diagramServerLayoutService = Objects.requireNonNull(diagramServerLayoutService);
     }
 
     @Override
@@ -89,7 +98,9 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
                     .representationRefreshPolicyRegistry(this.representationRefreshPolicyRegistry)
                     .representationPersistenceService(this.representationPersistenceService)
                     .representationSearchService(this.representationSearchService)
+                    .diagramLayoutDataPersistenceService(this.diagramLayoutDataPersistenceService)
                     .diagramInputReferencePositionProviders(this.diagramInputReferencePositionProviders)
+                    .diagramServerLayoutService(this.diagramServerLayoutService)
                     .build();
 
             IRepresentationEventProcessor diagramEventProcessor = new DiagramEventProcessor(parameters);
@@ -23,6 +23,8 @@ import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramCreationService;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventHandler;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInputReferencePositionProvider;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramLayoutDataPersistenceService;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramServerLayoutService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
 
@@ -41,7 +43,9 @@ public record DiagramEventProcessorParameters(
         IRepresentationRefreshPolicyRegistry representationRefreshPolicyRegistry,
         IRepresentationPersistenceService representationPersistenceService,
         IRepresentationSearchService representationSearchService,
-        List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders
+        IDiagramLayoutDataPersistenceService diagramLayoutDataPersistenceService,
+        List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders,
+        IDiagramServerLayoutService diagramServerLayoutService
 ) {
 
     public DiagramEventProcessorParameters {
@@ -54,7 +58,9 @@ public record DiagramEventProcessorParameters(
         Objects.requireNonNull(representationRefreshPolicyRegistry);
         Objects.requireNonNull(representationPersistenceService);
         Objects.requireNonNull(representationSearchService);
+        Objects.requireNonNull(diagramLayoutDataPersistenceService);
         Objects.requireNonNull(diagramInputReferencePositionProviders);
+        Objects.requireNonNull(diagramServerLayoutService);
     }
 
     public static Builder newDiagramEventProcessorParameters() {
@@ -88,8 +94,12 @@ public record DiagramEventProcessorParameters(
 
         private IRepresentationSearchService representationSearchService;
 
+        private IDiagramLayoutDataPersistenceService diagramLayoutDataPersistenceService;
+
         private List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders;
 
+        private IDiagramServerLayoutService diagramServerLayoutService;
+
         private Builder() {
             // Prevent instantiation
         }
@@ -139,11 +149,21 @@ public record DiagramEventProcessorParameters(
             return this;
         }
 
+        public Builder diagramLayoutDataPersistenceService(IDiagramLayoutDataPersistenceService diagramLayoutDataPersistenceService) {
+            this.diagramLayoutDataPersistenceService = Objects.requireNonNull(diagramLayoutDataPersistenceService);
+            return this;
+        }
+
         public Builder diagramInputReferencePositionProviders(List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders) {
             this.diagramInputReferencePositionProviders = Objects.requireNonNull(diagramInputReferencePositionProviders);
             return this;
         }
 
+        public Builder diagramServerLayoutService(IDiagramServerLayoutService diagramServerLayoutService) {
+            this.diagramServerLayoutService = Objects.requireNonNull(diagramServerLayoutService);
+            return this;
+        }
+
         public DiagramEventProcessorParameters build() {
             return new DiagramEventProcessorParameters(
                     this.editingContext,
@@ -155,7 +175,9 @@ public record DiagramEventProcessorParameters(
                     this.representationRefreshPolicyRegistry,
                     this.representationPersistenceService,
                     this.representationSearchService,
-                    this.diagramInputReferencePositionProviders
+                    this.diagramLayoutDataPersistenceService,
+                    this.diagramInputReferencePositionProviders,
+                    this.diagramServerLayoutService
             );
         }
     }
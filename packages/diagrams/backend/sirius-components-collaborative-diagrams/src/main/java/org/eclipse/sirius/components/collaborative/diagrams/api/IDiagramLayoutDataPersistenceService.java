@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.api;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.eclipse.sirius.components.events.ICause;
+
+/**
+ * Used to persist the layout data of the diagrams.
+ *
+ * <p>
+ * The layout data are received every time an end user moves or resizes an element of a diagram. Implementations can
+ * thus persist them separately from the rest of the diagram and only for the elements whose layout has changed. In
+ * this case, they have to be merged back in the diagram when it is loaded.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IDiagramLayoutDataPersistenceService {
+
+    /**
+     * Persists the layout data of the given diagram.
+     *
+     * @param cause
+     *         The cause of the new layout
+     * @param editingContext
+     *         The editing context
+     * @param diagram
+     *         The diagram with its new layout data
+     * @param changedLayoutData
+     *         The layout data of the elements whose layout is new or has changed since the previous layout
+     * @param previousLayoutData
+     *         The previous layout data of the diagram, used to find the elements removed from its layout
+     */
+    void save(ICause cause, IEditingContext editingContext, Diagram diagram, DiagramLayoutData changedLayoutData, DiagramLayoutData previousLayoutData);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author agent
+     */
+    class NoOp implements IDiagramLayoutDataPersistenceService {
+
+        @Override
+        public void save(ICause cause, IEditingContext editingContext, Diagram diagram, DiagramLayoutData changedLayoutData, DiagramLayoutData previousLayoutData) {
+            // Do nothing
+        }
+    }
+}
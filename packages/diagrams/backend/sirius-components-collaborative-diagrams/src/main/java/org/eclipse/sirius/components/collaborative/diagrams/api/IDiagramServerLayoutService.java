@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.api;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.diagrams.Diagram;
+
+/**
+ * Used to compute the layout of the diagrams on the server.
+ *
+ * <p>
+ * The layout is computed outside of the thread of the editing context and it is then merged in the layout of the given
+ * revision of the diagram, only for the nodes which still do not have any layout data. It is thus ignored if the
+ * diagram has been refreshed in the meantime and it never overrides the layout received from the clients.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IDiagramServerLayoutService {
+
+    /**
+     * Requests the layout of the nodes of the given revision of a diagram which do not have any layout data yet.
+     *
+     * @param editingContext
+     *         The editing context
+     * @param diagram
+     *         The diagram
+     * @param revisionId
+     *         The identifier of the revision of the diagram
+     */
+    void layout(IEditingContext editingContext, Diagram diagram, UUID revisionId);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author agent
+     */
+    class NoOp implements IDiagramServerLayoutService {
+
+        @Override
+        public void layout(IEditingContext editingContext, Diagram diagram, UUID revisionId) {
+            // Do nothing
+        }
+    }
+}
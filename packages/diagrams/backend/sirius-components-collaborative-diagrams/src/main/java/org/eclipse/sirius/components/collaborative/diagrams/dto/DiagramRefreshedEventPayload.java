@@ -15,7 +15,7 @@ package org.eclipse.sirius.components.collaborative.diagrams.dto;
 import java.util.Objects;
 import java.util.UUID;
 
-import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshedEventPayload;
 import org.eclipse.sirius.components.diagrams.Diagram;
 
 /**
@@ -23,7 +23,7 @@ import org.eclipse.sirius.components.diagrams.Diagram;
  *
  * @author sbegaudeau
  */
-public record DiagramRefreshedEventPayload(UUID id, Diagram diagram, String cause, ReferencePosition referencePosition) implements IPayload {
+public record DiagramRefreshedEventPayload(UUID id, Diagram diagram, String cause, ReferencePosition referencePosition) implements IRepresentationRefreshedEventPayload {
 
     public static final String CAUSE_REFRESH = "refresh";
 
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInput;
+
+/**
+ * Input used to apply the layout computed on the server for a revision of a diagram.
+ *
+ * <p>
+ * Contrary to the layout of the clients, it only provides the layout data of the nodes which did not have any when the
+ * layout has been requested. It is thus only merged for the nodes which still do not have any layout data.
+ * </p>
+ *
+ * @author agent
+ */
+public record ServerLayoutDiagramInput(UUID id, String editingContextId, String representationId, UUID revisionId, DiagramLayoutDataInput diagramLayoutData) implements IDiagramInput {
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.layout;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramServerLayoutService;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramLayoutDataInput;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.NodeLayoutDataInput;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.ServerLayoutDiagramInput;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Computes the layout of the diagrams on the server with a bounded pool of workers.
+ *
+ * <p>
+ * The layout of a revision of a diagram is computed off the thread of the editing context and it is then sent back to
+ * the diagram event processor as a {@link ServerLayoutDiagramInput}. Only the nodes which do not have any layout data
+ * are laid out, the layout of the other nodes such as the one computed by the arrange all of the clients is never
+ * modified. Only the most recent revision of each diagram is laid out, the layouts requested for the previous
+ * revisions are skipped. When all the workers are busy and the queue is full, the layout is not computed and the
+ * diagram keeps the layout computed by the clients.
+ * </p>
+ *
+ * <p>
+ * The server-side layout is disabled by default, it can be enabled with the property
+ * {@code sirius.components.diagrams.serverLayout.enabled}.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class DiagramServerLayoutService implements IDiagramServerLayoutService {
+
+    private final LayeredDiagramLayoutEngine layoutEngine;
+
+    private final IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry;
+
+    private final boolean enabled;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, UUID> representationId2latestRevisionId = new ConcurrentHashMap<>();
+
+    private final Timer timer;
+
+    private final Counter rejectedLayoutsCounter;
+
+    private final Logger logger = LoggerFactory.getLogger(DiagramServerLayoutService.class);
+
+    public DiagramServerLayoutService(LayeredDiagramLayoutEngine layoutEngine, @Lazy IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry, MeterRegistry meterRegistry,
+            @Value("${sirius.components.diagrams.serverLayout.enabled:false}") boolean enabled, @Value("${sirius.components.diagrams.serverLayout.workers:2}") int workerCount,
+            @Value("${sirius.components.diagrams.serverLayout.queueCapacity:100}") int queueCapacity) {
+        this.layoutEngine = Objects.requireNonNull(layoutEngine);
+        this.editingContextEventProcessorRegistry = Objects.requireNonNull(editingContextEventProcessorRegistry);
+        this.enabled = enabled;
+
+        var workerIndex = new AtomicInteger();
+        int poolSize = Math.max(1, workerCount);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("Diagram layout worker " + workerIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.timer = Timer.builder(Monitoring.TIMER_SERVER_LAYOUT).register(meterRegistry);
+        this.rejectedLayoutsCounter = Counter.builder(Monitoring.COUNTER_REJECTED_SERVER_LAYOUTS).register(meterRegistry);
+    }
+
+    @Override
+    public void layout(IEditingContext editingContext, Diagram diagram, UUID revisionId) {
+        if (this.enabled && this.layoutEngine.hasNodesToLayout(diagram)) {
+            String editingContextId = editingContext.getId();
+            this.representationId2latestRevisionId.put(diagram.getId(), revisionId);
+            try {
+                this.executor.execute(() -> this.doLayout(editingContextId, diagram, revisionId));
+            } catch (RejectedExecutionException exception) {
+                this.representationId2latestRevisionId.remove(diagram.getId(), revisionId);
+                this.rejectedLayoutsCounter.increment();
+                this.logger.warn("The layout of the diagram {} has been rejected since too many layouts are pending", diagram.getId());
+            }
+        } else if (this.enabled) {
+            // The layouts which may still be pending for the previous revisions are now useless
+            this.representationId2latestRevisionId.remove(diagram.getId());
+        }
+    }
+
+    private void doLayout(String editingContextId, Diagram diagram, UUID revisionId) {
+        if (this.isLatestRevision(diagram, revisionId)) {
+            DiagramLayoutData layoutData = this.timer.record(() -> this.layoutEngine.layout(diagram));
+
+            boolean isStillLatestRevision = this.representationId2latestRevisionId.remove(diagram.getId(), revisionId);
+            boolean hasEditingContextEventProcessor = this.editingContextEventProcessorRegistry.getEditingContextEventProcessors().stream()
+                    .anyMatch(editingContextEventProcessor -> editingContextEventProcessor.getEditingContextId().equals(editingContextId));
+            if (isStillLatestRevision && hasEditingContextEventProcessor) {
+                var previousNodeLayoutData = diagram.getLayoutData().nodeLayoutData();
+                var nodeLayoutData = layoutData.nodeLayoutData().values().stream()
+                        .filter(data -> !previousNodeLayoutData.containsKey(data.id()))
+                        .map(data -> new NodeLayoutDataInput(data.id(), data.position(), data.size(), data.resizedByUser()))
+                        .toList();
+                var input = new ServerLayoutDiagramInput(UUID.randomUUID(), editingContextId, diagram.getId(), revisionId, new DiagramLayoutDataInput(nodeLayoutData));
+                this.editingContextEventProcessorRegistry.dispatchEvent(editingContextId, input).subscribe();
+            }
+        }
+    }
+
+    private boolean isLatestRevision(Diagram diagram, UUID revisionId) {
+        return revisionId.equals(this.representationId2latestRevisionId.get(diagram.getId()));
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.executor.shutdownNow();
+    }
+}
@@ -0,0 +1,429 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.layout;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.ViewModifier;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.Position;
+import org.eclipse.sirius.components.diagrams.layoutdata.Size;
+import org.springframework.stereotype.Service;
+
+/**
+ * Computes the layout of the nodes of a diagram with a simple layered algorithm.
+ *
+ * <p>
+ * The children of each container, and the nodes at the root of the diagram, are laid out independently from left to
+ * right. The edges between their descendants are lifted once to the children of the closest container of both of their
+ * ends in order to assign the children to layers with a longest path layering, the cycles being broken by ignoring the
+ * edges which go back to a node already visited. The nodes of each layer are then ordered by the barycenter of their predecessors and stacked
+ * vertically. The positions of the child nodes are relative to their parent.
+ * </p>
+ *
+ * <p>
+ * The nodes which already have some layout data keep them and the other nodes are laid out below their siblings.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class LayeredDiagramLayoutEngine {
+
+    private static final double DEFAULT_WIDTH = 150;
+
+    private static final double DEFAULT_HEIGHT = 70;
+
+    private static final double DEFAULT_BORDER_NODE_SIZE = 10;
+
+    private static final double LAYER_SPACING = 80;
+
+    private static final double NODE_SPACING = 40;
+
+    private static final double PADDING = 20;
+
+    private static final double HEADER_HEIGHT = 30;
+
+    /**
+     * Indicates if some visible nodes of the given diagram do not have any layout data yet.
+     *
+     * @param diagram
+     *         The diagram
+     * @return <code>true</code> if some nodes should be laid out
+     */
+    public boolean hasNodesToLayout(Diagram diagram) {
+        var nodeLayoutData = diagram.getLayoutData().nodeLayoutData();
+        return this.hasNodesToLayout(diagram.getNodes(), nodeLayoutData);
+    }
+
+    private boolean hasNodesToLayout(List<Node> nodes, Map<String, NodeLayoutData> nodeLayoutData) {
+        return nodes.stream()
+                .filter(this::isVisible)
+                .anyMatch(node -> !nodeLayoutData.containsKey(node.getId())
+                        || this.hasNodesToLayout(node.getChildNodes(), nodeLayoutData)
+                        || this.hasNodesToLayout(node.getBorderNodes(), nodeLayoutData));
+    }
+
+    /**
+     * Computes the layout data of the nodes of the given diagram.
+     *
+     * @param diagram
+     *         The diagram
+     * @return The layout data of the visible nodes of the diagram
+     */
+    public DiagramLayoutData layout(Diagram diagram) {
+        var previousNodeLayoutData = diagram.getLayoutData().nodeLayoutData();
+
+        Map<String, String> parentIds = new HashMap<>();
+        this.collectParentIds(null, diagram.getNodes(), parentIds);
+        Map<String, List<LiftedEdge>> containerId2liftedEdges = this.liftEdges(diagram.getEdges(), parentIds);
+
+        var layoutContext = new LayoutContext(previousNodeLayoutData, containerId2liftedEdges, new LinkedHashMap<>());
+        this.layoutChildren(layoutContext, null, diagram.getNodes(), 0);
+
+        return new DiagramLayoutData(layoutContext.nodeLayoutData(), diagram.getLayoutData().edgeLayoutData(), diagram.getLayoutData().labelLayoutData());
+    }
+
+    private void collectParentIds(String parentId, List<Node> nodes, Map<String, String> parentIds) {
+        for (Node node : nodes) {
+            parentIds.put(node.getId(), parentId);
+            this.collectParentIds(node.getId(), node.getChildNodes(), parentIds);
+            this.collectParentIds(node.getId(), node.getBorderNodes(), parentIds);
+        }
+    }
+
+    /**
+     * Groups the edges by the closest container of both of their ends, the diagram being represented by
+     * <code>null</code>, once lifted to the children of this container which contain their ends. The edges between a
+     * node and one of its descendants are ignored.
+     */
+    private Map<String, List<LiftedEdge>> liftEdges(List<Edge> edges, Map<String, String> parentIds) {
+        Map<String, List<LiftedEdge>> containerId2liftedEdges = new HashMap<>();
+        for (Edge edge : edges) {
+            if (parentIds.containsKey(edge.getSourceId()) && parentIds.containsKey(edge.getTargetId())) {
+                List<String> sourceAncestorIds = this.getAncestorIds(edge.getSourceId(), parentIds);
+                List<String> targetAncestorIds = this.getAncestorIds(edge.getTargetId(), parentIds);
+
+                // Both lists end with the nodes at the root of the diagram, their common suffix is made of the common containers
+                int sourceIndex = sourceAncestorIds.size() - 1;
+                int targetIndex = targetAncestorIds.size() - 1;
+                while (sourceIndex >= 0 && targetIndex >= 0 && sourceAncestorIds.get(sourceIndex).equals(targetAncestorIds.get(targetIndex))) {
+                    sourceIndex--;
+                    targetIndex--;
+                }
+                if (sourceIndex >= 0 && targetIndex >= 0) {
+                    String containerId = parentIds.get(sourceAncestorIds.get(sourceIndex));
+                    var liftedEdge = new LiftedEdge(sourceAncestorIds.get(sourceIndex), targetAncestorIds.get(targetIndex));
+                    containerId2liftedEdges.computeIfAbsent(containerId, key -> new ArrayList<>()).add(liftedEdge);
+                }
+            }
+        }
+        return containerId2liftedEdges;
+    }
+
+    /**
+     * Returns the given node followed by its containers, from the closest one to the one at the root of the diagram.
+     */
+    private List<String> getAncestorIds(String nodeId, Map<String, String> parentIds) {
+        List<String> ancestorIds = new ArrayList<>();
+        Set<String> visitedIds = new HashSet<>();
+        String currentId = nodeId;
+        while (currentId != null && visitedIds.add(currentId)) {
+            ancestorIds.add(currentId);
+            currentId = parentIds.get(currentId);
+        }
+        return ancestorIds;
+    }
+
+    /**
+     * Lays out the given children and returns the size of the area they occupy.
+     */
+    private Size layoutChildren(LayoutContext layoutContext, String containerId, List<Node> nodes, double topOffset) {
+        List<Node> children = nodes.stream()
+                .filter(this::isVisible)
+                .toList();
+
+        Map<String, Size> sizes = new HashMap<>();
+        for (Node child : children) {
+            sizes.put(child.getId(), this.layoutNode(layoutContext, child));
+        }
+
+        // The nodes without layout data are laid out together and placed below the siblings which keep theirs
+        List<Node> nodesToPlace = children.stream()
+                .filter(child -> this.getPreviousLayoutData(layoutContext, child).isEmpty())
+                .toList();
+        Map<String, Position> computedPositions = this.computeLayeredPositions(layoutContext, containerId, nodesToPlace, sizes);
+
+        double bottomOfExistingNodes = 0;
+        boolean hasExistingNodes = false;
+        for (Node child : children) {
+            var optionalPreviousLayoutData = this.getPreviousLayoutData(layoutContext, child);
+            if (optionalPreviousLayoutData.isPresent()) {
+                var previousPosition = optionalPreviousLayoutData.get().position();
+                bottomOfExistingNodes = Math.max(bottomOfExistingNodes, previousPosition.y() + sizes.get(child.getId()).height());
+                hasExistingNodes = true;
+            }
+        }
+        double offsetY;
+        if (hasExistingNodes) {
+            offsetY = bottomOfExistingNodes + NODE_SPACING - PADDING;
+        } else {
+            offsetY = topOffset;
+        }
+
+        double width = 0;
+        double height = 0;
+        for (Node child : children) {
+            var size = sizes.get(child.getId());
+            var optionalPreviousLayoutData = this.getPreviousLayoutData(layoutContext, child);
+            Position position = optionalPreviousLayoutData.map(NodeLayoutData::position)
+                    .orElseGet(() -> computedPositions.get(child.getId()).translate(0, offsetY));
+            boolean resizedByUser = Optional.ofNullable(layoutContext.previousNodeLayoutData().get(child.getId()))
+                    .map(NodeLayoutData::resizedByUser)
+                    .orElse(false);
+            layoutContext.nodeLayoutData().put(child.getId(), new NodeLayoutData(child.getId(), position, size, resizedByUser));
+
+            width = Math.max(width, position.x() + size.width());
+            height = Math.max(height, position.y() + size.height());
+        }
+        return new Size(width, height);
+    }
+
+    /**
+     * Lays out the content of the given node and returns its size.
+     */
+    private Size layoutNode(LayoutContext layoutContext, Node node) {
+        var optionalPreviousLayoutData = Optional.ofNullable(layoutContext.previousNodeLayoutData().get(node.getId()));
+        boolean resizedByUser = optionalPreviousLayoutData.map(NodeLayoutData::resizedByUser).orElse(false);
+
+        double defaultWidth = Optional.ofNullable(node.getDefaultWidth()).map(Integer::doubleValue).orElse(DEFAULT_WIDTH);
+        double defaultHeight = Optional.ofNullable(node.getDefaultHeight()).map(Integer::doubleValue).orElse(DEFAULT_HEIGHT);
+        Size size = new Size(defaultWidth, defaultHeight);
+        if (optionalPreviousLayoutData.isPresent()) {
+            size = optionalPreviousLayoutData.get().size();
+        }
+
+        double headerHeight = 0;
+        if (node.getInsideLabel() != null) {
+            headerHeight = HEADER_HEIGHT;
+        }
+        Size contentSize = this.layoutChildren(layoutContext, node.getId(), node.getChildNodes(), headerHeight);
+        if (!resizedByUser) {
+            size = new Size(Math.max(size.width(), contentSize.width() + PADDING), Math.max(size.height(), contentSize.height() + PADDING));
+        }
+
+        this.layoutBorderNodes(layoutContext, node, size);
+        return size;
+    }
+
+    private void layoutBorderNodes(LayoutContext layoutContext, Node node, Size parentSize) {
+        double y = PADDING;
+        for (Node borderNode : node.getBorderNodes()) {
+            if (this.isVisible(borderNode)) {
+                var optionalPreviousLayoutData = this.getPreviousLayoutData(layoutContext, borderNode);
+                double width = Optional.ofNullable(borderNode.getDefaultWidth()).map(Integer::doubleValue).orElse(DEFAULT_BORDER_NODE_SIZE);
+                double height = Optional.ofNullable(borderNode.getDefaultHeight()).map(Integer::doubleValue).orElse(DEFAULT_BORDER_NODE_SIZE);
+
+                // The border nodes without layout data are stacked on the right side of their parent
+                Position position = new Position(parentSize.width() - width / 2, y);
+                Size size = new Size(width, height);
+                boolean resizedByUser = false;
+                if (optionalPreviousLayoutData.isPresent()) {
+                    position = optionalPreviousLayoutData.get().position();
+                    size = optionalPreviousLayoutData.get().size();
+                    resizedByUser = optionalPreviousLayoutData.get().resizedByUser();
+                } else {
+                    y += height + NODE_SPACING / 2;
+                }
+                layoutContext.nodeLayoutData().put(borderNode.getId(), new NodeLayoutData(borderNode.getId(), position, size, resizedByUser));
+            }
+        }
+    }
+
+    private Optional<NodeLayoutData> getPreviousLayoutData(LayoutContext layoutContext, Node node) {
+        return Optional.ofNullable(layoutContext.previousNodeLayoutData().get(node.getId()));
+    }
+
+    private Map<String, Position> computeLayeredPositions(LayoutContext layoutContext, String containerId, List<Node> children, Map<String, Size> sizes) {
+        Set<String> childIds = new LinkedHashSet<>();
+        children.forEach(child -> childIds.add(child.getId()));
+
+        Map<String, Set<String>> successors = new LinkedHashMap<>();
+        Map<String, Set<String>> predecessors = new HashMap<>();
+        childIds.forEach(childId -> {
+            successors.put(childId, new LinkedHashSet<>());
+            predecessors.put(childId, new LinkedHashSet<>());
+        });
+        for (LiftedEdge liftedEdge : layoutContext.containerId2liftedEdges().getOrDefault(containerId, List.of())) {
+            if (childIds.contains(liftedEdge.sourceId()) && childIds.contains(liftedEdge.targetId())) {
+                successors.get(liftedEdge.sourceId()).add(liftedEdge.targetId());
+                predecessors.get(liftedEdge.targetId()).add(liftedEdge.sourceId());
+            }
+        }
+
+        Map<String, Integer> layers = this.computeLayers(childIds, successors);
+        List<List<String>> orderedLayers = this.orderLayers(childIds, layers, predecessors);
+
+        Map<String, Position> positions = new HashMap<>();
+        double x = PADDING;
+        for (List<String> layer : orderedLayers) {
+            double y = PADDING;
+            double layerWidth = 0;
+            for (String childId : layer) {
+                Size size = sizes.get(childId);
+                positions.put(childId, new Position(x, y));
+                y += size.height() + NODE_SPACING;
+                layerWidth = Math.max(layerWidth, size.width());
+            }
+            x += layerWidth + LAYER_SPACING;
+        }
+        return positions;
+    }
+
+    private Map<String, Integer> computeLayers(Set<String> childIds, Map<String, Set<String>> successors) {
+        List<String> topologicalOrder = new ArrayList<>();
+        Set<String> visitedIds = new HashSet<>();
+        Set<String> visitingIds = new HashSet<>();
+        Map<String, Set<String>> acyclicSuccessors = new HashMap<>();
+        for (String childId : childIds) {
+            this.visit(childId, successors, visitedIds, visitingIds, acyclicSuccessors, topologicalOrder);
+        }
+
+        Map<String, Integer> layers = new HashMap<>();
+        for (int i = topologicalOrder.size() - 1; i >= 0; i--) {
+            String childId = topologicalOrder.get(i);
+            int layer = layers.getOrDefault(childId, 0);
+            layers.put(childId, layer);
+            for (String successorId : acyclicSuccessors.getOrDefault(childId, Set.of())) {
+                layers.put(successorId, Math.max(layers.getOrDefault(successorId, 0), layer + 1));
+            }
+        }
+        return layers;
+    }
+
+    /**
+     * Depth first traversal which ignores the edges going back to a node currently visited in order to break cycles. An
+     * explicit stack is used instead of recursion since the paths between the nodes may be very long.
+     */
+    private void visit(String rootId, Map<String, Set<String>> successors, Set<String> visitedIds, Set<String> visitingIds, Map<String, Set<String>> acyclicSuccessors,
+            List<String> topologicalOrder) {
+        if (!visitedIds.contains(rootId)) {
+            Deque<TraversalStep> stack = new ArrayDeque<>();
+            visitingIds.add(rootId);
+            stack.push(new TraversalStep(rootId, successors.get(rootId).iterator()));
+            while (!stack.isEmpty()) {
+                TraversalStep step = stack.peek();
+                if (step.successorIds().hasNext()) {
+                    String successorId = step.successorIds().next();
+                    if (!visitingIds.contains(successorId)) {
+                        acyclicSuccessors.computeIfAbsent(step.nodeId(), key -> new LinkedHashSet<>()).add(successorId);
+                        if (!visitedIds.contains(successorId)) {
+                            visitingIds.add(successorId);
+                            stack.push(new TraversalStep(successorId, successors.get(successorId).iterator()));
+                        }
+                    }
+                } else {
+                    stack.pop();
+                    visitingIds.remove(step.nodeId());
+                    visitedIds.add(step.nodeId());
+                    topologicalOrder.add(step.nodeId());
+                }
+            }
+        }
+    }
+
+    private List<List<String>> orderLayers(Set<String> childIds, Map<String, Integer> layers, Map<String, Set<String>> predecessors) {
+        int layerCount = layers.values().stream().mapToInt(Integer::intValue).max().orElse(-1) + 1;
+        List<List<String>> orderedLayers = new ArrayList<>();
+        for (int i = 0; i < layerCount; i++) {
+            orderedLayers.add(new ArrayList<>());
+        }
+        childIds.forEach(childId -> orderedLayers.get(layers.get(childId)).add(childId));
+
+        Map<String, Integer> indexes = new HashMap<>();
+        for (List<String> layer : orderedLayers) {
+            Map<String, Double> barycenters = new HashMap<>();
+            for (int i = 0; i < layer.size(); i++) {
+                String childId = layer.get(i);
+                double index = i;
+                barycenters.put(childId, predecessors.get(childId).stream()
+                        .filter(indexes::containsKey)
+                        .mapToInt(indexes::get)
+                        .average()
+                        .orElse(index));
+            }
+            layer.sort(Comparator.comparing(barycenters::get));
+            for (int i = 0; i < layer.size(); i++) {
+                indexes.put(layer.get(i), i);
+            }
+        }
+        return orderedLayers;
+    }
+
+    private boolean isVisible(Node node) {
+        return !ViewModifier.Hidden.equals(node.getState());
+    }
+
+    /**
+     * The state shared while laying out a diagram.
+     *
+     * @author agent
+     */
+    public record LayoutContext(
+            Map<String, NodeLayoutData> previousNodeLayoutData,
+            Map<String, List<LiftedEdge>> containerId2liftedEdges,
+            Map<String, NodeLayoutData> nodeLayoutData) {
+    }
+
+    /**
+     * An edge lifted to the children of the closest container of both of its ends.
+     *
+     * @author agent
+     *
+     * @param sourceId
+     *         The id of the child containing the source of the edge
+     * @param targetId
+     *         The id of the child containing the target of the edge
+     */
+    public record LiftedEdge(String sourceId, String targetId) {
+    }
+
+    /**
+     * A node being visited during the depth first traversal with the successors remaining to visit.
+     *
+     * @author agent
+     *
+     * @param nodeId
+     *         The id of the node
+     * @param successorIds
+     *         The successors of the node which have not been visited yet
+     */
+    public record TraversalStep(String nodeId, Iterator<String> successorIds) {
+    }
+}
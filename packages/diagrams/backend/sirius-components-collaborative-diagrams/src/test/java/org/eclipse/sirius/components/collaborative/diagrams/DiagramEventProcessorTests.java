@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.diagrams;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Predicate;
@@ -23,16 +26,26 @@ import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPol
 import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramCreationService;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramLayoutDataPersistenceService;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramServerLayoutService;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramEventInput;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramLayoutDataInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.LayoutDiagramInput;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.NodeLayoutDataInput;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.ServerLayoutDiagramInput;
 import org.eclipse.sirius.components.collaborative.representations.SubscriptionManager;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IInput;
 import org.eclipse.sirius.components.core.api.IPayload;
 import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
 import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.Position;
+import org.eclipse.sirius.components.diagrams.layoutdata.Size;
 import org.junit.jupiter.api.Test;
 
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 /**
@@ -132,10 +145,90 @@ public class DiagramEventProcessorTests {
                 .verify();
     }
 
+    @Test
+    public void testPersistOnlyTheChangedLayoutData() {
+        List<DiagramLayoutData> persistedLayoutData = new ArrayList<>();
+        IDiagramLayoutDataPersistenceService diagramLayoutDataPersistenceService = (cause, editingContext, diagram, changedLayoutData, previousLayoutData) -> persistedLayoutData.add(changedLayoutData);
+        DiagramEventProcessor diagramEventProcessor = this.createDiagramEventProcessor(new DiagramContext(INITIAL_TEST_DIAGRAM), diagramLayoutDataPersistenceService);
+
+        DiagramEventInput input = new DiagramEventInput(UUID.randomUUID(), UUID.randomUUID().toString(), DIAGRAM_ID);
+        diagramEventProcessor.refresh(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, DIAGRAM_ID, input));
+
+        var firstNodeLayoutData = new NodeLayoutDataInput("first", new Position(0, 0), new Size(100, 50), false);
+        var secondNodeLayoutData = new NodeLayoutDataInput("second", new Position(200, 0), new Size(100, 50), false);
+        var movedFirstNodeLayoutData = new NodeLayoutDataInput("first", new Position(0, 100), new Size(100, 50), false);
+
+        var layoutDiagramInput = new LayoutDiagramInput(input.id(), input.editingContextId(), DIAGRAM_ID, new DiagramLayoutDataInput(List.of(firstNodeLayoutData, secondNodeLayoutData)));
+        diagramEventProcessor.handle(Sinks.one(), Sinks.many().unicast().onBackpressureBuffer(), layoutDiagramInput);
+
+        var secondLayoutDiagramInput = new LayoutDiagramInput(input.id(), input.editingContextId(), DIAGRAM_ID, new DiagramLayoutDataInput(List.of(movedFirstNodeLayoutData, secondNodeLayoutData)));
+        diagramEventProcessor.handle(Sinks.one(), Sinks.many().unicast().onBackpressureBuffer(), secondLayoutDiagramInput);
+
+        assertThat(persistedLayoutData).hasSize(2);
+        assertThat(persistedLayoutData.get(0).nodeLayoutData()).containsOnlyKeys("first", "second");
+        assertThat(persistedLayoutData.get(1).nodeLayoutData()).containsOnlyKeys("first");
+        assertThat(persistedLayoutData.get(1).nodeLayoutData().get("first").position()).isEqualTo(new Position(0, 100));
+        assertThat(diagramEventProcessor.getRepresentation()).isInstanceOf(Diagram.class);
+        assertThat(((Diagram) diagramEventProcessor.getRepresentation()).getLayoutData().nodeLayoutData()).containsOnlyKeys("first", "second");
+    }
+
+    @Test
+    public void testMergeTheServerLayoutOnlyForTheNodesWithoutLayoutData() {
+        List<DiagramLayoutData> persistedLayoutData = new ArrayList<>();
+        IDiagramLayoutDataPersistenceService diagramLayoutDataPersistenceService = (cause, editingContext, diagram, changedLayoutData, previousLayoutData) -> persistedLayoutData.add(changedLayoutData);
+        DiagramEventProcessor diagramEventProcessor = this.createDiagramEventProcessor(new DiagramContext(INITIAL_TEST_DIAGRAM), diagramLayoutDataPersistenceService);
+
+        DiagramEventInput input = new DiagramEventInput(UUID.randomUUID(), UUID.randomUUID().toString(), DIAGRAM_ID);
+        diagramEventProcessor.refresh(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, DIAGRAM_ID, input));
+
+        // The client has moved the first node while the layout of the server was computed
+        var draggedFirstNodeLayoutData = new NodeLayoutDataInput("first", new Position(500, 500), new Size(100, 50), false);
+        var layoutDiagramInput = new LayoutDiagramInput(input.id(), input.editingContextId(), DIAGRAM_ID, new DiagramLayoutDataInput(List.of(draggedFirstNodeLayoutData)));
+        diagramEventProcessor.handle(Sinks.one(), Sinks.many().unicast().onBackpressureBuffer(), layoutDiagramInput);
+
+        var serverFirstNodeLayoutData = new NodeLayoutDataInput("first", new Position(0, 0), new Size(150, 70), false);
+        var serverSecondNodeLayoutData = new NodeLayoutDataInput("second", new Position(200, 0), new Size(150, 70), false);
+        var serverLayoutDiagramInput = new ServerLayoutDiagramInput(UUID.randomUUID(), input.editingContextId(), DIAGRAM_ID, input.id(),
+                new DiagramLayoutDataInput(List.of(serverFirstNodeLayoutData, serverSecondNodeLayoutData)));
+        diagramEventProcessor.handle(Sinks.one(), Sinks.many().unicast().onBackpressureBuffer(), serverLayoutDiagramInput);
+
+        assertThat(persistedLayoutData).hasSize(2);
+        assertThat(persistedLayoutData.get(1).nodeLayoutData()).containsOnlyKeys("second");
+
+        var nodeLayoutData = ((Diagram) diagramEventProcessor.getRepresentation()).getLayoutData().nodeLayoutData();
+        assertThat(nodeLayoutData).containsOnlyKeys("first", "second");
+        assertThat(nodeLayoutData.get("first").position()).isEqualTo(new Position(500, 500));
+        assertThat(nodeLayoutData.get("second").position()).isEqualTo(new Position(200, 0));
+    }
+
+    @Test
+    public void testIgnoreTheServerLayoutOfAnOutdatedRevision() {
+        List<DiagramLayoutData> persistedLayoutData = new ArrayList<>();
+        IDiagramLayoutDataPersistenceService diagramLayoutDataPersistenceService = (cause, editingContext, diagram, changedLayoutData, previousLayoutData) -> persistedLayoutData.add(changedLayoutData);
+        DiagramEventProcessor diagramEventProcessor = this.createDiagramEventProcessor(new DiagramContext(INITIAL_TEST_DIAGRAM), diagramLayoutDataPersistenceService);
+
+        DiagramEventInput firstInput = new DiagramEventInput(UUID.randomUUID(), UUID.randomUUID().toString(), DIAGRAM_ID);
+        diagramEventProcessor.refresh(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, DIAGRAM_ID, firstInput));
+        DiagramEventInput secondInput = new DiagramEventInput(UUID.randomUUID(), firstInput.editingContextId(), DIAGRAM_ID);
+        diagramEventProcessor.refresh(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, DIAGRAM_ID, secondInput));
+
+        var serverNodeLayoutData = new NodeLayoutDataInput("first", new Position(0, 0), new Size(150, 70), false);
+        var serverLayoutDiagramInput = new ServerLayoutDiagramInput(UUID.randomUUID(), firstInput.editingContextId(), DIAGRAM_ID, firstInput.id(),
+                new DiagramLayoutDataInput(List.of(serverNodeLayoutData)));
+        diagramEventProcessor.handle(Sinks.one(), Sinks.many().unicast().onBackpressureBuffer(), serverLayoutDiagramInput);
+
+        assertThat(persistedLayoutData).isEmpty();
+        assertThat(((Diagram) diagramEventProcessor.getRepresentation()).getLayoutData().nodeLayoutData()).isEmpty();
+    }
+
     private DiagramEventProcessor createDiagramEventProcessor() {
+        return this.createDiagramEventProcessor(this.diagramContext, new IDiagramLayoutDataPersistenceService.NoOp());
+    }
+
+    private DiagramEventProcessor createDiagramEventProcessor(IDiagramContext diagramContext, IDiagramLayoutDataPersistenceService diagramLayoutDataPersistenceService) {
         var parameters = DiagramEventProcessorParameters.newDiagramEventProcessorParameters()
                 .editingContext(new IEditingContext.NoOp())
-                .diagramContext(this.diagramContext)
+                .diagramContext(diagramContext)
                 .diagramEventHandlers(List.of())
                 .subscriptionManager(new SubscriptionManager())
                 .diagramCreationService(this.diagramCreationService)
@@ -143,7 +236,9 @@ public class DiagramEventProcessorTests {
                 .representationRefreshPolicyRegistry(new IRepresentationRefreshPolicyRegistry.NoOp())
                 .representationSearchService(new IRepresentationSearchService.NoOp())
                 .representationPersistenceService(new IRepresentationPersistenceService.NoOp())
+                .diagramLayoutDataPersistenceService(diagramLayoutDataPersistenceService)
                 .diagramInputReferencePositionProviders(List.of())
+                .diagramServerLayoutService(new IDiagramServerLayoutService.NoOp())
                 .build();
         return new DiagramEventProcessor(parameters);
     }
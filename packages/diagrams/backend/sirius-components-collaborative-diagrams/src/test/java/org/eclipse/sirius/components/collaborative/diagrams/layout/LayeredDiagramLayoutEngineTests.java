@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.layout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.sirius.components.collaborative.diagrams.handlers.TestDiagramBuilder;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.Position;
+import org.eclipse.sirius.components.diagrams.layoutdata.Size;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the layered diagram layout engine.
+ *
+ * @author agent
+ */
+public class LayeredDiagramLayoutEngineTests {
+
+    private static final String NODE_A = "a";
+
+    private static final String NODE_B = "b";
+
+    private static final String NODE_C = "c";
+
+    @Test
+    public void testLayoutOfChainOfNodes() {
+        var diagram = this.getDiagram(new DiagramLayoutData(Map.of(), Map.of(), Map.of()));
+
+        var layoutEngine = new LayeredDiagramLayoutEngine();
+        assertThat(layoutEngine.hasNodesToLayout(diagram)).isTrue();
+
+        var nodeLayoutData = layoutEngine.layout(diagram).nodeLayoutData();
+        assertThat(nodeLayoutData).containsOnlyKeys(NODE_A, NODE_B, NODE_C);
+        assertThat(nodeLayoutData.get(NODE_A).position().x()).isLessThan(nodeLayoutData.get(NODE_B).position().x());
+        assertThat(nodeLayoutData.get(NODE_B).position().x()).isLessThan(nodeLayoutData.get(NODE_C).position().x());
+    }
+
+    @Test
+    public void testIncrementalLayoutKeepsExistingLayoutData() {
+        var existingNodeLayoutData = new NodeLayoutData(NODE_A, new Position(500, 500), new Size(200, 100), true);
+        var diagram = this.getDiagram(new DiagramLayoutData(Map.of(NODE_A, existingNodeLayoutData), Map.of(), Map.of()));
+
+        var layoutEngine = new LayeredDiagramLayoutEngine();
+        var nodeLayoutData = layoutEngine.layout(diagram).nodeLayoutData();
+        assertThat(nodeLayoutData.get(NODE_A)).isEqualTo(existingNodeLayoutData);
+        assertThat(nodeLayoutData).containsKeys(NODE_B, NODE_C);
+
+        var laidOutDiagram = Diagram.newDiagram(diagram).layoutData(new DiagramLayoutData(nodeLayoutData, Map.of(), Map.of())).build();
+        assertThat(layoutEngine.hasNodesToLayout(laidOutDiagram)).isFalse();
+        assertThat(layoutEngine.layout(laidOutDiagram).nodeLayoutData()).isEqualTo(nodeLayoutData);
+    }
+
+    @Test
+    public void testLayoutOfEdgesBetweenChildNodes() {
+        var testDiagramBuilder = new TestDiagramBuilder();
+        var container = Node.newNode(testDiagramBuilder.getNode("container", true))
+                .childNodes(List.of(testDiagramBuilder.getNode(NODE_A, true), testDiagramBuilder.getNode(NODE_B, true)))
+                .build();
+        var diagram = Diagram.newDiagram(testDiagramBuilder.getDiagram("diagramId"))
+                .nodes(List.of(container, testDiagramBuilder.getNode(NODE_C, true)))
+                .edges(List.of(testDiagramBuilder.getEdge("ba", NODE_B, NODE_A), testDiagramBuilder.getEdge("cb", NODE_C, NODE_B)))
+                .layoutData(new DiagramLayoutData(Map.of(), Map.of(), Map.of()))
+                .build();
+
+        var nodeLayoutData = new LayeredDiagramLayoutEngine().layout(diagram).nodeLayoutData();
+        assertThat(nodeLayoutData.get(NODE_B).position().x()).isLessThan(nodeLayoutData.get(NODE_A).position().x());
+        assertThat(nodeLayoutData.get(NODE_C).position().x()).isLessThan(nodeLayoutData.get("container").position().x());
+    }
+
+    @Test
+    public void testLayoutOfLongChainOfNodes() {
+        var testDiagramBuilder = new TestDiagramBuilder();
+        int nodeCount = 20000;
+        List<Node> nodes = new ArrayList<>();
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(testDiagramBuilder.getNode("node" + i, true));
+            if (i > 0) {
+                edges.add(testDiagramBuilder.getEdge("edge" + i, "node" + (i - 1), "node" + i));
+            }
+        }
+        var diagram = Diagram.newDiagram(testDiagramBuilder.getDiagram("diagramId"))
+                .nodes(nodes)
+                .edges(edges)
+                .layoutData(new DiagramLayoutData(Map.of(), Map.of(), Map.of()))
+                .build();
+
+        var nodeLayoutData = new LayeredDiagramLayoutEngine().layout(diagram).nodeLayoutData();
+        assertThat(nodeLayoutData).hasSize(nodeCount);
+        assertThat(nodeLayoutData.get("node0").position().x()).isLessThan(nodeLayoutData.get("node" + (nodeCount - 1)).position().x());
+    }
+
+    private Diagram getDiagram(DiagramLayoutData layoutData) {
+        var testDiagramBuilder = new TestDiagramBuilder();
+        return Diagram.newDiagram(testDiagramBuilder.getDiagram("diagramId"))
+                .nodes(List.of(testDiagramBuilder.getNode(NODE_A, true), testDiagramBuilder.getNode(NODE_B, true), testDiagramBuilder.getNode(NODE_C, false)))
+                .edges(List.of(testDiagramBuilder.getEdge("ab", NODE_A, NODE_B), testDiagramBuilder.getEdge("bc", NODE_B, NODE_C)))
+                .layoutData(layoutData)
+                .build();
+    }
+}
@@ -22,11 +22,13 @@ import java.util.stream.StreamSupport;
 
 import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.EMFExtentService;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 
 /**
@@ -43,6 +45,10 @@ public final class EditingContextServices {
                .toList();
     }
 
+    public Collection<EObject> allInstances(IEditingContext editingContext, EClass eClass) {
+        return new EMFExtentService().getAllInstances(editingContext, eClass);
+    }
+
     public Collection<EObject> contents(IEditingContext editingContext) {
         return this.getResourceset(editingContext)
                 .stream()
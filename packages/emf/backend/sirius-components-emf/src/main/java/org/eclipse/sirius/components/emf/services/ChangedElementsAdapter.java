@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Records the objects and resources of a resource set which have been the notifier of a change.
+ *
+ * @author agent
+ */
+public class ChangedElementsAdapter extends EContentAdapter {
+
+    private Set<Object> changedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        Object notifier = notification.getNotifier();
+        if (!notification.isTouch() && (notifier instanceof EObject || notifier instanceof Resource)) {
+            this.changedElements.add(notifier);
+        }
+    }
+
+    /**
+     * Returns the elements modified since the previous call and starts recording again.
+     *
+     * @return The elements modified
+     */
+    public Set<Object> consumeChangedElements() {
+        Set<Object> elements = this.changedElements;
+        this.changedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        return Collections.unmodifiableSet(elements);
+    }
+
+    @Override
+    protected boolean resolve() {
+        return false;
+    }
+}
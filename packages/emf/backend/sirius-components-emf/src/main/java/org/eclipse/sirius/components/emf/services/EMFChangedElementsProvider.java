@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.sirius.components.collaborative.api.IChangedElementsProvider;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to find the EMF objects and resources which may have been impacted by the changes of an EMF based editing
+ * context.
+ *
+ * <p>
+ * The changes are recorded by a {@link ChangedElementsAdapter} installed on the resource set once the editing context
+ * has been loaded. The labels and other values derived from a semantic element may be computed from other objects,
+ * the objects modified are thus completed by all the objects contained in them and all the objects referencing them,
+ * transitively. If there are too many of them, an empty optional is returned so that everything is considered as
+ * modified. An empty optional is also returned if the changes of the editing context are not recorded, since the
+ * adapter is only installed while the editing context is loaded and never while its changes are requested.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class EMFChangedElementsProvider implements IChangedElementsProvider, IEditingContextProcessor {
+
+    private static final int MAX_IMPACTED_ELEMENTS = 10_000;
+
+    @Override
+    public void postProcess(IEditingContext editingContext) {
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            ResourceSet resourceSet = emfEditingContext.getDomain().getResourceSet();
+            if (this.getChangedElementsAdapter(resourceSet).isEmpty()) {
+                resourceSet.eAdapters().add(new ChangedElementsAdapter());
+            }
+        }
+    }
+
+    @Override
+    public Optional<Set<Object>> getChangedElements(IEditingContext editingContext) {
+        Optional<Set<Object>> optionalChangedElements = Optional.empty();
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            ResourceSet resourceSet = emfEditingContext.getDomain().getResourceSet();
+            var optionalChangedElementsAdapter = this.getChangedElementsAdapter(resourceSet);
+            if (optionalChangedElementsAdapter.isPresent()) {
+                Set<Object> changedElements = optionalChangedElementsAdapter.get().consumeChangedElements();
+                optionalChangedElements = this.getImpactedElements(resourceSet, changedElements);
+            }
+        }
+        return optionalChangedElements;
+    }
+
+    private Optional<ChangedElementsAdapter> getChangedElementsAdapter(ResourceSet resourceSet) {
+        return resourceSet.eAdapters().stream()
+                .filter(ChangedElementsAdapter.class::isInstance)
+                .map(ChangedElementsAdapter.class::cast)
+                .findFirst();
+    }
+
+    private Optional<Set<Object>> getImpactedElements(ResourceSet resourceSet, Set<Object> changedElements) {
+        ECrossReferenceAdapter crossReferenceAdapter = ECrossReferenceAdapter.getCrossReferenceAdapter(resourceSet);
+
+        Set<Object> impactedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> elementsToVisit = new ArrayDeque<>(changedElements);
+        while (!elementsToVisit.isEmpty() && impactedElements.size() <= MAX_IMPACTED_ELEMENTS) {
+            Object element = elementsToVisit.pop();
+            if (impactedElements.add(element) && element instanceof EObject eObject) {
+                elementsToVisit.addAll(eObject.eContents());
+                if (crossReferenceAdapter != null) {
+                    crossReferenceAdapter.getInverseReferences(eObject, false).stream()
+                            .filter(setting -> setting.getEStructuralFeature() instanceof EReference eReference && !eReference.isContainment())
+                            .map(Setting::getEObject)
+                            .forEach(elementsToVisit::add);
+                }
+            }
+        }
+
+        Optional<Set<Object>> optionalImpactedElements = Optional.empty();
+        if (impactedElements.size() <= MAX_IMPACTED_ELEMENTS) {
+            optionalImpactedElements = Optional.of(Collections.unmodifiableSet(impactedElements));
+        }
+        return optionalImpactedElements;
+    }
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.emf.services.api.IEMFExtentService;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to retrieve the instances of an EClass in an editing context.
+ *
+ * <p>
+ * The instances are retrieved from the {@link EObjectExtentIndex} maintained by the
+ * {@link EditingContextCrossReferenceAdapter} of the resource set. If the resource set does not have such an adapter,
+ * its whole content is browsed instead.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class EMFExtentService implements IEMFExtentService {
+
+    @Override
+    public List<EObject> getAllInstances(IEditingContext editingContext, EClass eClass) {
+        List<EObject> allInstances = List.of();
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            var resourceSet = emfEditingContext.getDomain().getResourceSet();
+            allInstances = this.getExtentIndex(resourceSet)
+                    .map(extentIndex -> extentIndex.getAllInstances(eClass))
+                    .orElseGet(() -> this.collectAllInstances(resourceSet, eClass));
+        }
+        return allInstances;
+    }
+
+    private Optional<EObjectExtentIndex> getExtentIndex(ResourceSet resourceSet) {
+        return resourceSet.eAdapters().stream()
+                .filter(EditingContextCrossReferenceAdapter.class::isInstance)
+                .map(EditingContextCrossReferenceAdapter.class::cast)
+                .map(EditingContextCrossReferenceAdapter::getExtentIndex)
+                .findFirst();
+    }
+
+    private List<EObject> collectAllInstances(ResourceSet resourceSet, EClass eClass) {
+        List<EObject> allInstances = new ArrayList<>();
+        resourceSet.getAllContents().forEachRemaining(notifier -> {
+            if (eClass.isInstance(notifier)) {
+                allInstances.add((EObject) notifier);
+            }
+        });
+        return allInstances;
+    }
+}
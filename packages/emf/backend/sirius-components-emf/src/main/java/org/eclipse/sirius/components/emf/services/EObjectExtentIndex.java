@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EcorePackage;
+
+/**
+ * Keeps the instances of each EClass contained in a resource set.
+ *
+ * <p>
+ * The instances are indexed by their exact EClass. Retrieving the instances of an EClass, including the instances of
+ * its subtypes, thus only requires to go through the EClasses of the model and the instances found. The instances of an
+ * EClass are returned in the order in which they have been added to the index.
+ * </p>
+ *
+ * <p>
+ * The index is updated by the {@link EditingContextCrossReferenceAdapter} of the resource set, on the thread of the
+ * editing context which modifies it. Its methods are synchronized since it may still be read by other threads, for
+ * example by a service which is not executed by the editing context event processor. The instances are always returned
+ * in a copy so that they can be browsed while the resource set is modified.
+ * </p>
+ *
+ * @author agent
+ */
+public class EObjectExtentIndex {
+
+    private final Map<EClass, Set<EObject>> eClass2instances = new HashMap<>();
+
+    public synchronized void add(EObject eObject) {
+        this.eClass2instances.computeIfAbsent(eObject.eClass(), eClass -> new LinkedHashSet<>()).add(eObject);
+    }
+
+    public synchronized void remove(EObject eObject) {
+        var instances = this.eClass2instances.get(eObject.eClass());
+        if (instances != null) {
+            instances.remove(eObject);
+            if (instances.isEmpty()) {
+                this.eClass2instances.remove(eObject.eClass());
+            }
+        }
+    }
+
+    /**
+     * Returns the instances of the given EClass and of its subtypes.
+     *
+     * @param eClass
+     *         The EClass
+     * @return A copy of the instances found
+     */
+    public synchronized List<EObject> getAllInstances(EClass eClass) {
+        boolean isEObject = EcorePackage.Literals.EOBJECT.equals(eClass);
+
+        List<EObject> allInstances = new ArrayList<>();
+        this.eClass2instances.forEach((instanceEClass, instances) -> {
+            if (isEObject || eClass.isSuperTypeOf(instanceEClass)) {
+                allInstances.addAll(instances);
+            }
+        });
+        return allInstances;
+    }
+
+    public synchronized int size() {
+        return this.eClass2instances.values().stream()
+                .mapToInt(Set::size)
+                .sum();
+    }
+}
@@ -14,8 +14,10 @@ package org.eclipse.sirius.components.emf.services;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
@@ -29,10 +31,21 @@ import org.eclipse.emf.ecore.util.EcoreUtil;
  * A {@link ECrossReferenceAdapter}@ that is able to clean dangling references when an object is deleted or when a
  * resource is removed from the ResourceSet.
  *
+ * <p>
+ * Since this adapter is attached to all the objects of the ResourceSet, it also keeps the {@link EObjectExtentIndex}
+ * of the ResourceSet up to date.
+ * </p>
+ *
  * @author lfasani
  */
 public class EditingContextCrossReferenceAdapter extends ECrossReferenceAdapter {
 
+    private final EObjectExtentIndex extentIndex = new EObjectExtentIndex();
+
+    public EObjectExtentIndex getExtentIndex() {
+        return this.extentIndex;
+    }
+
     @Override
     protected void handleContainment(Notification notification) {
         Object oldValue = notification.getOldValue();
@@ -46,7 +59,45 @@ public class EditingContextCrossReferenceAdapter extends ECrossReferenceAdapter
                 this.handleRemoveObject(object);
             }
         } else {
+            List<EObject> movedObjects = this.getMovedObjects(notification);
             super.handleContainment(notification);
+            movedObjects.forEach(this::setTarget);
+        }
+    }
+
+    @Override
+    protected void setTarget(EObject target) {
+        super.setTarget(target);
+        this.extentIndex.add(target);
+    }
+
+    @Override
+    protected void unsetTarget(EObject target) {
+        super.unsetTarget(target);
+        this.extentIndex.remove(target);
+    }
+
+    /**
+     * Returns the objects added by the given notification which still have this adapter. Those objects have been moved
+     * from another container and their removal has already been handled, they must thus be targeted again since
+     * {@link #addAdapter(Notifier)} ignores them.
+     */
+    private List<EObject> getMovedObjects(Notification notification) {
+        List<EObject> movedObjects = new ArrayList<>();
+        int eventType = notification.getEventType();
+        if (eventType == Notification.ADD || eventType == Notification.SET) {
+            this.collectMovedObject(notification.getNewValue(), movedObjects);
+        } else if (eventType == Notification.ADD_MANY) {
+            for (Object object : (Collection<?>) notification.getNewValue()) {
+                this.collectMovedObject(object, movedObjects);
+            }
+        }
+        return movedObjects;
+    }
+
+    private void collectMovedObject(Object object, List<EObject> movedObjects) {
+        if (object instanceof EObject eObject && eObject.eAdapters().contains(this)) {
+            movedObjects.add(eObject);
         }
     }
 
@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services.api;
+
+import java.util.List;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+
+/**
+ * Used to retrieve the instances of an EClass in an editing context.
+ *
+ * @author agent
+ */
+public interface IEMFExtentService {
+
+    /**
+     * Returns the instances of the given EClass, and of its subtypes, contained in the resource set of the given
+     * editing context.
+     *
+     * @param editingContext
+     *         The editing context
+     * @param eClass
+     *         The EClass
+     * @return The instances found
+     */
+    List<EObject> getAllInstances(IEditingContext editingContext, EClass eClass);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author agent
+     */
+    class NoOp implements IEMFExtentService {
+
+        @Override
+        public List<EObject> getAllInstances(IEditingContext editingContext, EClass eClass) {
+            return List.of();
+        }
+
+    }
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the EMF changed elements provider.
+ *
+ * @author agent
+ */
+public class EMFChangedElementsProviderTests {
+
+    @Test
+    public void testChangesRecordedOnceLoaded() {
+        EPackage ePackage = this.createEPackage();
+        IEMFEditingContext editingContext = this.createEditingContext(ePackage);
+
+        var provider = new EMFChangedElementsProvider();
+        provider.postProcess(editingContext);
+
+        EClass secondEClass = (EClass) ePackage.getEClassifiers().get(1);
+        secondEClass.setAbstract(true);
+
+        var optionalChangedElements = provider.getChangedElements(editingContext);
+        assertThat(optionalChangedElements).isPresent();
+        assertThat(optionalChangedElements.get()).contains(secondEClass).doesNotContain(ePackage);
+
+        assertThat(provider.getChangedElements(editingContext)).hasValueSatisfying(changedElements -> assertThat(changedElements).isEmpty());
+    }
+
+    @Test
+    public void testObjectsReferencingAndContainedInChangedObjectsAreImpacted() {
+        EPackage ePackage = this.createEPackage();
+        IEMFEditingContext editingContext = this.createEditingContext(ePackage);
+
+        var provider = new EMFChangedElementsProvider();
+        provider.postProcess(editingContext);
+
+        EClass firstEClass = (EClass) ePackage.getEClassifiers().get(0);
+        EClass secondEClass = (EClass) ePackage.getEClassifiers().get(1);
+        EAttribute eAttribute = secondEClass.getEAttributes().get(0);
+
+        // The label of the first EClass may display the name of its super type
+        secondEClass.setName("Renamed");
+
+        var optionalChangedElements = provider.getChangedElements(editingContext);
+        assertThat(optionalChangedElements).isPresent();
+        assertThat(optionalChangedElements.get()).contains(secondEClass, eAttribute, firstEClass).doesNotContain(ePackage);
+    }
+
+    @Test
+    public void testChangesUnknownWithoutInstallation() {
+        EPackage ePackage = this.createEPackage();
+        IEMFEditingContext editingContext = this.createEditingContext(ePackage);
+
+        var provider = new EMFChangedElementsProvider();
+        assertThat(provider.getChangedElements(editingContext)).isEmpty();
+
+        ePackage.setName("renamed");
+        assertThat(provider.getChangedElements(editingContext)).isEmpty();
+        assertThat(editingContext.getDomain().getResourceSet().eAdapters()).noneMatch(ChangedElementsAdapter.class::isInstance);
+    }
+
+    private EPackage createEPackage() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("sample");
+
+        EClass secondEClass = EcoreFactory.eINSTANCE.createEClass();
+        secondEClass.setName("Second");
+        EAttribute eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+        eAttribute.setName("name");
+        secondEClass.getEStructuralFeatures().add(eAttribute);
+
+        EClass firstEClass = EcoreFactory.eINSTANCE.createEClass();
+        firstEClass.setName("First");
+        firstEClass.getESuperTypes().add(secondEClass);
+
+        ePackage.getEClassifiers().add(firstEClass);
+        ePackage.getEClassifiers().add(secondEClass);
+        return ePackage;
+    }
+
+    private IEMFEditingContext createEditingContext(EPackage ePackage) {
+        Resource resource = new XMIResourceImpl(URI.createURI("inmemory"));
+        resource.getContents().add(ePackage);
+
+        var editingContextId = UUID.randomUUID().toString();
+        AdapterFactoryEditingDomain editingDomain = new EditingDomainFactory().create(resource);
+        return new IEMFEditingContext() {
+            @Override
+            public String getId() {
+                return editingContextId;
+            }
+
+            @Override
+            public AdapterFactoryEditingDomain getDomain() {
+                return editingDomain;
+            }
+        };
+    }
+}
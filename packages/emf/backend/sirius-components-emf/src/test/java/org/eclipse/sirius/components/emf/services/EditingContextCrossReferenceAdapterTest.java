@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Obeo.
+ * Copyright (c) 2022, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -18,12 +18,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
@@ -134,6 +136,60 @@ public class EditingContextCrossReferenceAdapterTest {
         assertEquals(ePackageC, eClassC1.getEPackage());
     }
 
+    @Test
+    public void testExtentIndex() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = this.createModelForMove(resourceSet);
+
+        EditingContextCrossReferenceAdapter editingContextCrossReferenceAdapter = new EditingContextCrossReferenceAdapter();
+        resourceSet.eAdapters().add(editingContextCrossReferenceAdapter);
+        EObjectExtentIndex extentIndex = editingContextCrossReferenceAdapter.getExtentIndex();
+
+        assertThat(extentIndex.getAllInstances(EcorePackage.Literals.EPACKAGE)).hasSize(4);
+        assertThat(extentIndex.getAllInstances(EcorePackage.Literals.ECLASSIFIER)).hasSize(2);
+        assertThat(extentIndex.getAllInstances(EcorePackage.Literals.ENAMED_ELEMENT)).hasSize(6);
+
+        EPackage ePackageRoot = (EPackage) resource.getContents().get(0);
+        EPackage ePackageA = ePackageRoot.getESubpackages().get(0);
+        EPackage ePackageB = ePackageRoot.getESubpackages().get(1);
+        EPackage ePackageC = ePackageA.getESubpackages().get(0);
+        ePackageB.getESubpackages().add(ePackageC);
+
+        assertThat(extentIndex.getAllInstances(EcorePackage.Literals.EPACKAGE)).hasSize(4).contains(ePackageC);
+        assertThat(extentIndex.getAllInstances(EcorePackage.Literals.ECLASSIFIER)).hasSize(2);
+
+        EClass eClassB1 = EcoreFactory.eINSTANCE.createEClass();
+        ePackageB.getEClassifiers().add(eClassB1);
+        assertThat(extentIndex.getAllInstances(EcorePackage.Literals.ECLASS)).hasSize(3).contains(eClassB1);
+
+        ePackageRoot.getESubpackages().remove(ePackageA);
+        assertThat(extentIndex.getAllInstances(EcorePackage.Literals.EPACKAGE)).hasSize(3).doesNotContain(ePackageA);
+        assertThat(extentIndex.getAllInstances(EcorePackage.Literals.ECLASS)).hasSize(2);
+
+        resourceSet.getResources().remove(resource);
+        assertThat(extentIndex.size()).isZero();
+    }
+
+    @Test
+    public void testExtentIndexReadDuringModification() {
+        EObjectExtentIndex extentIndex = new EObjectExtentIndex();
+        int instanceCount = 10_000;
+
+        var modification = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < instanceCount; i++) {
+                extentIndex.add(EcoreFactory.eINSTANCE.createEClass());
+                extentIndex.add(EcoreFactory.eINSTANCE.createEDataType());
+            }
+        });
+        while (!modification.isDone()) {
+            assertThat(extentIndex.getAllInstances(EcorePackage.Literals.ECLASSIFIER).size()).isLessThanOrEqualTo(instanceCount * 2);
+        }
+
+        modification.join();
+        assertThat(extentIndex.getAllInstances(EcorePackage.Literals.ECLASS)).hasSize(instanceCount);
+        assertThat(extentIndex.size()).isEqualTo(instanceCount * 2);
+    }
+
     /**
      * Check that the CrossReferenceAdapter and the proxies are correctly cleaned.
      */
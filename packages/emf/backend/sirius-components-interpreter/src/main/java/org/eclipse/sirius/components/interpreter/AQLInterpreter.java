@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -19,8 +19,10 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import org.eclipse.acceleo.query.parser.AstResult;
 import org.eclipse.acceleo.query.runtime.EvaluationResult;
@@ -63,6 +65,13 @@ public class AQLInterpreter {
      */
     private LoadingCache<String, AstResult> parsedExpressions;
 
+    /**
+     * The expressions parsed in advance, which are kept for the whole lifetime of the interpreter instead of being
+     * evicted from the bounded cache of the expressions. They may be shared with other interpreters created for the
+     * same classes and meta-models.
+     */
+    private final Map<String, AstResult> preparsedExpressions;
+
     /**
      * The query environment.
      */
@@ -93,6 +102,25 @@ public class AQLInterpreter {
      *            to classes, such as {@code <semanticMM>::<AClass>}, can be interpreted.
      */
     public AQLInterpreter(List<Class<?>> classes, List<Object> instances, List<EPackage> ePackages) {
+        this(classes, instances, ePackages, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param classes
+     *            classes for java service that can called by AQLInterpreter
+     * @param instances
+     *            instances for java service that can called by AQLInterpreter
+     * @param ePackages
+     *            Additional meta-models. A typical use case will be to register semantic meta-models so that reference
+     *            to classes, such as {@code <semanticMM>::<AClass>}, can be interpreted.
+     * @param preparsedExpressions
+     *            The thread-safe map of the expressions parsed in advance, which can be shared by the interpreters
+     *            created with the same classes and meta-models in order to parse their expressions only once
+     */
+    public AQLInterpreter(List<Class<?>> classes, List<Object> instances, List<EPackage> ePackages, Map<String, AstResult> preparsedExpressions) {
+        this.preparsedExpressions = Objects.requireNonNull(preparsedExpressions);
         this.queryEnvironment = Query.newEnvironmentWithDefaultServices(new SimpleCrossReferenceProvider());
         this.queryEnvironment.registerEPackage(EcorePackage.eINSTANCE);
         this.queryEnvironment.registerCustomClassMapping(EcorePackage.eINSTANCE.getEStringToStringMapEntry(), EStringToStringMapEntryImpl.class);
@@ -124,14 +152,44 @@ public class AQLInterpreter {
         this.parsedExpressions = CacheBuilder.newBuilder().maximumSize(maxCacheSize).build(CacheLoader.from(builder::build));
     }
 
-    public Result evaluateExpression(Map<String, Object> variables, String expressionBody) {
-        String expression = new ExpressionConverter().convertExpression(expressionBody);
-        if (expression.startsWith(AQL_PREFIX)) {
-            expression = expression.substring(AQL_PREFIX.length());
+    /**
+     * Parses the given expression without evaluating it.
+     *
+     * <p>
+     * The result of the parsing is kept for the whole lifetime of the interpreter, it can thus be used to parse the
+     * expressions of a description once in advance and to find their errors before their first evaluation.
+     * </p>
+     *
+     * @param expressionBody
+     *            The body of the expression
+     * @return The status of the parsing
+     */
+    public Status parseExpression(String expressionBody) {
+        String expression = this.toAQLExpression(expressionBody);
+
+        Status status = Status.ERROR;
+        try {
+            AstResult build = this.preparsedExpressions.get(expression);
+            if (build == null) {
+                build = this.parsedExpressions.get(expression);
+                this.preparsedExpressions.putIfAbsent(expression, build);
+            }
+            this.log(expressionBody, build.getDiagnostic());
+            status = Status.getStatus(build.getDiagnostic().getSeverity());
+        } catch (ExecutionException exception) {
+            this.logger.warn(exception.getMessage(), exception);
         }
+        return status;
+    }
+
+    public Result evaluateExpression(Map<String, Object> variables, String expressionBody) {
+        String expression = this.toAQLExpression(expressionBody);
 
         try {
-            AstResult build = this.parsedExpressions.get(expression);
+            AstResult build = this.preparsedExpressions.get(expression);
+            if (build == null) {
+                build = this.parsedExpressions.get(expression);
+            }
             IQueryEvaluationEngine evaluationEngine = QueryEvaluation.newEngine(this.queryEnvironment);
             EvaluationResult evalResult = evaluationEngine.eval(build, variables);
 
@@ -152,6 +210,14 @@ public class AQLInterpreter {
         return new Result(Optional.empty(), Status.ERROR);
     }
 
+    private String toAQLExpression(String expressionBody) {
+        String expression = new ExpressionConverter().convertExpression(expressionBody);
+        if (expression.startsWith(AQL_PREFIX)) {
+            expression = expression.substring(AQL_PREFIX.length());
+        }
+        return expression;
+    }
+
     private void log(String expression, Diagnostic diagnostic) {
         if (diagnostic.getMessage() != null) {
             if (Diagnostic.INFO == diagnostic.getSeverity()) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,10 +14,18 @@ package org.eclipse.sirius.components.interpreter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.acceleo.query.parser.AstResult;
+import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.EcorePackage;
@@ -124,4 +132,46 @@ public class AQLInterpreterTests {
         assertThat(result.asString()).contains("instance");
     }
 
+    @Test
+    public void testParseExpression() {
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE));
+        assertThat(interpreter.parseExpression("aql:self.name")).isEqualTo(Status.OK);
+        assertThat(interpreter.parseExpression("aql:self.name = ")).isEqualTo(Status.ERROR);
+    }
+
+    @Test
+    public void testExpressionsParsedInAdvanceAreSharedByTheInterpreters() {
+        Map<String, AstResult> preparsedExpressions = new ConcurrentHashMap<>();
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(), List.of(EcorePackage.eINSTANCE), preparsedExpressions);
+        assertThat(interpreter.parseExpression("aql:self.name")).isEqualTo(Status.OK);
+        assertThat(preparsedExpressions).containsOnlyKeys("self.name");
+
+        AQLInterpreter otherInterpreter = new AQLInterpreter(List.of(), List.of(), List.of(EcorePackage.eINSTANCE), preparsedExpressions);
+        Result result = otherInterpreter.evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE.getEModelElement()), "aql:self.name");
+        assertThat(result.asString()).hasValue(EcorePackage.eINSTANCE.getEModelElement().getName());
+    }
+
+    @Test
+    public void testConcurrentEvaluationsWithTheSameInterpreter() throws Exception {
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(TestServices.class), List.of(EcorePackage.eINSTANCE));
+        interpreter.parseExpression("aql:self.name + self.getCreationMessage()");
+
+        List<EClassifier> eClassifiers = EcorePackage.eINSTANCE.getEClassifiers();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> eClassifiers.stream().allMatch(eClassifier -> {
+                    Result result = interpreter.evaluateExpression(Map.of(SELF, eClassifier), "aql:self.name + self.getCreationMessage()");
+                    return result.asString().filter((eClassifier.getName() + "none")::equals).isPresent();
+                })));
+            }
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get(30, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
 }
@@ -47,6 +47,7 @@ import org.eclipse.sirius.components.forms.renderer.IWidgetDescriptor;
 import org.eclipse.sirius.components.representations.Element;
 import org.eclipse.sirius.components.representations.GetOrCreateRandomIdProvider;
 import org.eclipse.sirius.components.representations.IRepresentation;
+import org.eclipse.sirius.components.representations.RepresentationDependencies;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -92,6 +93,8 @@ public class FormEventProcessor implements IFormEventProcessor {
 
     private final VariableManager variableManager;
 
+    private RepresentationDependencies representationDependencies = new RepresentationDependencies();
+
     public FormEventProcessor(FormEventProcessorConfiguration configuration,
             ISubscriptionManager subscriptionManager,
             IRepresentationSearchService representationSearchService,
@@ -187,8 +190,7 @@ public class FormEventProcessor implements IFormEventProcessor {
     }
 
     private boolean shouldRefresh(ChangeDescription changeDescription) {
-        return this.representationRefreshPolicyRegistry.getRepresentationRefreshPolicy(this.formCreationParameters.getFormDescription())
-                .orElseGet(this::getDefaultRefreshPolicy)
+        return this.representationRefreshPolicyRegistry.getChangedElementsRefreshPolicy(this.formCreationParameters.getFormDescription(), this.representationDependencies, this.getDefaultRefreshPolicy())
                 .shouldRefresh(changeDescription);
 
     }
@@ -208,12 +210,18 @@ public class FormEventProcessor implements IFormEventProcessor {
         }
         this.variableManager.put(VariableManager.SELF, self);
 
+        RepresentationDependencies formDependencies = new RepresentationDependencies();
+        this.variableManager.recordDependencies(formDependencies);
+
         FormComponentProps formComponentProps = new FormComponentProps(this.variableManager, this.formCreationParameters.getFormDescription(), this.widgetDescriptors);
         Element element = new Element(FormComponent.class, formComponentProps);
         Form form = new FormRenderer(this.widgetDescriptors).render(element);
 
         form = this.formPostProcessor.postProcess(form, this.variableManager);
 
+        this.variableManager.recordDependencies(null);
+        this.representationDependencies = formDependencies;
+
         this.logger.trace("Form refreshed: {}", form.getId());
 
         return form;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,7 +15,7 @@ package org.eclipse.sirius.components.collaborative.forms.dto;
 import java.util.Objects;
 import java.util.UUID;
 
-import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshedEventPayload;
 import org.eclipse.sirius.components.forms.Form;
 
 /**
@@ -23,7 +23,7 @@ import org.eclipse.sirius.components.forms.Form;
  *
  * @author sbegaudeau
  */
-public record FormRefreshedEventPayload(UUID id, Form form) implements IPayload {
+public record FormRefreshedEventPayload(UUID id, Form form) implements IRepresentationRefreshedEventPayload {
     public FormRefreshedEventPayload {
         Objects.requireNonNull(id);
         Objects.requireNonNull(form);
@@ -12,7 +12,10 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.forms;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
 
@@ -91,6 +94,37 @@ public class FormEventProcessorTests {
                 .verify();
     }
 
+    @Test
+    public void testEmitFormOnRefreshOfDependency() {
+        FormEventInput input = new FormEventInput(UUID.randomUUID(), UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        Object self = new Object();
+        FormEventProcessor formEventProcessor = this.createFormEventProcessor(self);
+
+        Runnable performRefresh = () -> formEventProcessor.refresh(this.createChangeDescription(input, self));
+
+        StepVerifier.create(formEventProcessor.getOutputEvents(input))
+                .expectNextMatches(this.getRefreshFormEventPayloadPredicate())
+                .then(performRefresh)
+                .expectNextMatches(this.getRefreshFormEventPayloadPredicate())
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    public void testNoRefreshWhenDependenciesAreNotModified() {
+        FormEventInput input = new FormEventInput(UUID.randomUUID(), UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        FormEventProcessor formEventProcessor = this.createFormEventProcessor(new Object());
+
+        Runnable performRefresh = () -> formEventProcessor.refresh(this.createChangeDescription(input, new Object()));
+
+        StepVerifier.create(formEventProcessor.getOutputEvents(input))
+                .expectNextMatches(this.getRefreshFormEventPayloadPredicate())
+                .then(performRefresh)
+                .expectNoEvent(Duration.ofMillis(200))
+                .thenCancel()
+                .verify();
+    }
+
     @Test
     public void testCompleteOnDispose() {
         FormEventInput input = new FormEventInput(UUID.randomUUID(), UUID.randomUUID().toString(), UUID.randomUUID().toString());
@@ -105,13 +139,21 @@ public class FormEventProcessorTests {
                 .verify();
     }
 
+    private ChangeDescription createChangeDescription(FormEventInput input, Object changedElement) {
+        return new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, input.formId(), input, Map.of(ChangeDescription.CHANGED_ELEMENTS, Set.of(changedElement)));
+    }
+
     private FormEventProcessor createFormEventProcessor() {
+        return this.createFormEventProcessor(new Object());
+    }
+
+    private FormEventProcessor createFormEventProcessor(Object self) {
         IEditingContext editingContext = new IEditingContext.NoOp();
 
         FormCreationParameters formCreationParameters = FormCreationParameters.newFormCreationParameters(FORM_ID)
                 .formDescription(this.getFormDescription())
                 .editingContext(editingContext)
-                .object(new Object())
+                .object(self)
                 .selection(List.of())
                 .build();
 
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.widget.reference.browser;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EClass;
+
+/**
+ * Caches the EClasses used by the model browsers of an editing context and their compatibility in order to avoid
+ * computing them again for each tree item.
+ *
+ * <p>
+ * The cache is installed as an adapter on the resource set of the editing context, it is thus never shared with other
+ * editing contexts and it is released with the resource set. The EClasses are resolved once per kind. Only the
+ * EClasses found are kept, so that an EPackage registered later on in the package registry of the resource set can
+ * still be found. The ability of the instances of an EClass to contain an instance of the kind of a reference is
+ * computed once per EClass and kind of reference since it depends on the item providers of the editing domain of the
+ * editing context.
+ * </p>
+ *
+ * @author agent
+ */
+public class EClassCompatibilityCache extends AdapterImpl {
+
+    private final Map<String, EClass> kind2eClass = new HashMap<>();
+
+    private final Map<EClass, Map<EClass, Boolean>> referenceKind2containerCompatibility = new HashMap<>();
+
+    /**
+     * Returns the EClass of the given kind.
+     *
+     * @param kind
+     *         The kind of the EClass
+     * @param resolver
+     *         Used to find the EClass when it is not in the cache
+     * @return The EClass found
+     */
+    public synchronized Optional<EClass> getEClass(String kind, Supplier<Optional<EClass>> resolver) {
+        var optionalEClass = Optional.ofNullable(this.kind2eClass.get(kind));
+        if (optionalEClass.isEmpty()) {
+            optionalEClass = resolver.get();
+            optionalEClass.ifPresent(eClass -> this.kind2eClass.put(kind, eClass));
+        }
+        return optionalEClass;
+    }
+
+    /**
+     * Indicates if the instances of the given EClass can contain an instance of the given kind of reference.
+     *
+     * @param containerEClass
+     *         The EClass of the container
+     * @param referenceKind
+     *         The kind of the reference
+     * @param computation
+     *         Used to compute the compatibility when it is not in the cache
+     * @return <code>true</code> if an instance of the given EClass can contain an instance of the kind of reference
+     */
+    public synchronized boolean canContain(EClass containerEClass, EClass referenceKind, Supplier<Boolean> computation) {
+        var containerCompatibility = this.referenceKind2containerCompatibility.computeIfAbsent(referenceKind, key -> new HashMap<>());
+        return containerCompatibility.computeIfAbsent(containerEClass, key -> computation.get());
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == EClassCompatibilityCache.class;
+    }
+}
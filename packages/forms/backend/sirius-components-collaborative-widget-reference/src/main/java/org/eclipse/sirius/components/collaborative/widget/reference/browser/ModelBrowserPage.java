@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.widget.reference.browser;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The elements displayed under a tree item of a model browser after the first page.
+ *
+ * <p>
+ * The page is displayed as the last child of its parent, its elements are only rendered once it is expanded. It
+ * contains the elements of the following pages as another page if needed.
+ * </p>
+ *
+ * @param parentId
+ *         The id of the tree item containing the elements
+ * @param elements
+ *         All the elements of the tree item
+ * @param offset
+ *         The index of the first element of the page
+ * @author agent
+ */
+public record ModelBrowserPage(String parentId, List<?> elements, int offset) {
+
+    public ModelBrowserPage {
+        Objects.requireNonNull(parentId);
+        Objects.requireNonNull(elements);
+    }
+
+    public String getId() {
+        return ModelBrowsersDescriptionProvider.PREFIX + "page?parentId=" + this.parentId + "&offset=" + this.offset;
+    }
+}
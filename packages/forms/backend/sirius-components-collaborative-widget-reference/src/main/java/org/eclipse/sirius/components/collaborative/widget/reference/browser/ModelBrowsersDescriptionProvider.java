@@ -16,10 +16,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 
@@ -28,6 +31,7 @@ import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EPackage.Registry;
+import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.EcoreUtil;
@@ -45,6 +49,7 @@ import org.eclipse.sirius.components.core.api.labels.StyledString;
 import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
 import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.emf.services.api.IEMFExtentService;
 import org.eclipse.sirius.components.emf.services.api.IEMFKindService;
 import org.eclipse.sirius.components.representations.Failure;
 import org.eclipse.sirius.components.representations.GetOrCreateRandomIdProvider;
@@ -77,20 +82,37 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
 
     public static final String MODEL_BROWSER_REFERENCE_PREFIX = "modelBrowser://reference";
 
+    public static final String PAGE_KIND = "siriusWeb://modelBrowser/page";
+
+    /**
+     * The name of the variable containing the candidates of the reference browser and their ancestors. It is computed
+     * with the roots of the tree and used to filter the children of its tree items during the same rendering.
+     */
+    public static final String CANDIDATES_AND_ANCESTORS = "candidatesAndAncestors";
+
+    /**
+     * The maximum number of elements displayed under a tree item before the next ones are moved in a page.
+     */
+    public static final int PAGE_SIZE = 100;
+
     private final IObjectService objectService;
 
     private final IURLParser urlParser;
 
     private final IEMFKindService emfKindService;
 
+    private final IEMFExtentService emfExtentService;
+
     private final List<IReferenceWidgetRootCandidateSearchProvider> candidateProviders;
 
     private final ReferenceWidgetDefaultCandidateSearchProvider defaultCandidateProvider;
 
-    public ModelBrowsersDescriptionProvider(IObjectService objectService, IURLParser urlParser, IEMFKindService emfKindService, List<IReferenceWidgetRootCandidateSearchProvider> candidateProviders) {
+    public ModelBrowsersDescriptionProvider(IObjectService objectService, IURLParser urlParser, IEMFKindService emfKindService, IEMFExtentService emfExtentService,
+            List<IReferenceWidgetRootCandidateSearchProvider> candidateProviders) {
         this.objectService = Objects.requireNonNull(objectService);
         this.urlParser = Objects.requireNonNull(urlParser);
         this.emfKindService = Objects.requireNonNull(emfKindService);
+        this.emfExtentService = Objects.requireNonNull(emfExtentService);
         this.candidateProviders = Objects.requireNonNull(candidateProviders);
         this.defaultCandidateProvider = new ReferenceWidgetDefaultCandidateSearchProvider();
     }
@@ -129,7 +151,7 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
                 .editableProvider(this::isEditable)
                 .deletableProvider(this::isDeletable)
                 .selectableProvider(isSelectableProvider)
-                .elementsProvider(elementsProvider)
+                .elementsProvider(variableManager -> this.paginate(treeId, elementsProvider.apply(variableManager), 0))
                 .hasChildrenProvider(variableManager -> this.hasChildren(variableManager))
                 .childrenProvider(variableManager -> this.getChildren(variableManager))
                 // This predicate will NOT be used while creating the model browser, but we don't want to see the description of the
@@ -153,12 +175,15 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
             var optionalEditingDomain = variableManager.get(IEditingContext.EDITING_CONTEXT, IEMFEditingContext.class)
                     .map(IEMFEditingContext::getDomain);
             if (optionalEditingDomain.isPresent()) {
-                Collection<?> newChildDescriptors = optionalEditingDomain.get().getNewChildDescriptors(selfEObject, null);
-
-                isSelectable = newChildDescriptors.stream()
-                        .filter(CommandParameter.class::isInstance)
-                        .map(CommandParameter.class::cast)
-                        .anyMatch(commandParameter -> referenceKind.isInstance(commandParameter.getValue()));
+                EditingDomain editingDomain = optionalEditingDomain.get();
+                isSelectable = this.getEClassCompatibilityCache(editingDomain.getResourceSet()).canContain(selfEObject.eClass(), referenceKind, () -> {
+                    Collection<?> newChildDescriptors = editingDomain.getNewChildDescriptors(selfEObject, null);
+
+                    return newChildDescriptors.stream()
+                            .filter(CommandParameter.class::isInstance)
+                            .map(CommandParameter.class::cast)
+                            .anyMatch(commandParameter -> referenceKind.isInstance(commandParameter.getValue()));
+                });
             }
         }
         return isSelectable;
@@ -167,8 +192,9 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
     private boolean isTypeSelectable(VariableManager variableManager, EClass targetType, boolean isContainment) {
         var optionalSelf = variableManager.get(VariableManager.SELF, EObject.class);
         if (optionalSelf.isPresent() && targetType != null) {
+            // The owner is only retrieved for the candidates of a containment reference, to prevent cycles
             return targetType.isInstance(optionalSelf.get())
-                    && this.resolveOwnerEObject(variableManager).map(eObject -> !(isContainment && EcoreUtil.isAncestor(optionalSelf.get(), eObject))).orElse(true);
+                    && !(isContainment && this.resolveOwnerEObject(variableManager).map(eObject -> EcoreUtil.isAncestor(optionalSelf.get(), eObject)).orElse(false));
         } else {
             return false;
         }
@@ -193,17 +219,11 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
         var optionalTreeId = variableManager.get(GetOrCreateRandomIdProvider.PREVIOUS_REPRESENTATION_ID, String.class);
         var optionalEditingContext = variableManager.get(IEditingContext.EDITING_CONTEXT, IEMFEditingContext.class);
         if (optionalTreeId.isPresent() && optionalTreeId.get().startsWith(PREFIX) && optionalEditingContext.isPresent()) {
-            Registry ePackageRegistry = optionalEditingContext.get().getDomain().getResourceSet().getPackageRegistry();
+            ResourceSet resourceSet = optionalEditingContext.get().getDomain().getResourceSet();
             Map<String, List<String>> parameters = new URLParser().getParameterValues(optionalTreeId.get());
             String refContainer = parameters.get("ownerKind").get(0);
 
-            String ePackageName = this.emfKindService.getEPackageName(refContainer);
-            String eClassName = this.emfKindService.getEClassName(refContainer);
-
-            return this.findEPackage(ePackageRegistry, ePackageName)
-                    .map(ePackage -> ePackage.getEClassifier(eClassName))
-                    .filter(EClass.class::isInstance)
-                    .map(EClass.class::cast);
+            return this.getEClassCompatibilityCache(resourceSet).getEClass(refContainer, () -> this.findEClass(resourceSet.getPackageRegistry(), refContainer));
         } else {
             return Optional.empty();
         }
@@ -213,22 +233,27 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
         var optionalTreeId = variableManager.get(GetOrCreateRandomIdProvider.PREVIOUS_REPRESENTATION_ID, String.class);
         var optionalEditingContext = variableManager.get(IEditingContext.EDITING_CONTEXT, IEMFEditingContext.class);
         if (optionalTreeId.isPresent() && optionalTreeId.get().startsWith(PREFIX) && optionalEditingContext.isPresent()) {
-            Registry ePackageRegistry = optionalEditingContext.get().getDomain().getResourceSet().getPackageRegistry();
+            ResourceSet resourceSet = optionalEditingContext.get().getDomain().getResourceSet();
             Map<String, List<String>> parameters = new URLParser().getParameterValues(optionalTreeId.get());
             String kind = parameters.get("targetType").get(0);
 
-            String ePackageName = this.emfKindService.getEPackageName(kind);
-            String eClassName = this.emfKindService.getEClassName(kind);
-
-            return this.findEPackage(ePackageRegistry, ePackageName)
-                    .map(ePackage -> ePackage.getEClassifier(eClassName))
-                    .filter(EClass.class::isInstance)
-                    .map(EClass.class::cast);
+            return this.getEClassCompatibilityCache(resourceSet).getEClass(kind, () -> this.findEClass(resourceSet.getPackageRegistry(), kind));
         } else {
             return Optional.empty();
         }
     }
 
+    private EClassCompatibilityCache getEClassCompatibilityCache(ResourceSet resourceSet) {
+        synchronized (resourceSet) {
+            var eClassCompatibilityCache = (EClassCompatibilityCache) EcoreUtil.getExistingAdapter(resourceSet, EClassCompatibilityCache.class);
+            if (eClassCompatibilityCache == null) {
+                eClassCompatibilityCache = new EClassCompatibilityCache();
+                resourceSet.eAdapters().add(eClassCompatibilityCache);
+            }
+            return eClassCompatibilityCache;
+        }
+    }
+
     private boolean resolveIsContainment(VariableManager variableManager) {
         var optionalTreeId = variableManager.get(GetOrCreateRandomIdProvider.PREVIOUS_REPRESENTATION_ID, String.class);
         if (optionalTreeId.isPresent() && optionalTreeId.get().startsWith(PREFIX)) {
@@ -240,6 +265,16 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
         }
     }
 
+    private Optional<EClass> findEClass(Registry ePackageRegistry, String kind) {
+        String ePackageName = this.emfKindService.getEPackageName(kind);
+        String eClassName = this.emfKindService.getEClassName(kind);
+
+        return this.findEPackage(ePackageRegistry, ePackageName)
+                .map(ePackage -> ePackage.getEClassifier(eClassName))
+                .filter(EClass.class::isInstance)
+                .map(EClass.class::cast);
+    }
+
     public Optional<EPackage> findEPackage(Registry ePackageRegistry, String ePackageName) {
         return ePackageRegistry.values().stream().map(object -> {
             if (object instanceof EPackage.Descriptor) {
@@ -256,6 +291,8 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
             id = resource.getURI().path().substring(1);
         } else if (self instanceof EObject) {
             id = this.objectService.getId(self);
+        } else if (self instanceof ModelBrowserPage page) {
+            id = page.getId();
         }
         return id;
     }
@@ -265,6 +302,8 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
         Object self = variableManager.getVariables().get(VariableManager.SELF);
         if (self instanceof Resource) {
             kind = DOCUMENT_KIND;
+        } else if (self instanceof ModelBrowserPage) {
+            kind = PAGE_KIND;
         } else {
             kind = this.objectService.getKind(self);
         }
@@ -285,6 +324,8 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
                 var kind = this.objectService.getKind(self);
                 label = this.urlParser.getParameterValues(kind).get(SemanticKindConstants.ENTITY_ARGUMENT).get(0);
             }
+        } else if (self instanceof ModelBrowserPage page) {
+            label = (page.elements().size() - page.offset()) + " more elements";
         }
 
         return StyledString.of(label);
@@ -328,15 +369,44 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
             String ownerId = parameters.get("ownerId").get(0);
             var semanticOwner = this.objectService.getObject(optionalEditingContext.get(), ownerId).get();
 
-            return this.candidateProviders.stream()
+            IReferenceWidgetRootCandidateSearchProvider candidateProvider = this.candidateProviders.stream()
                     .filter(provider -> provider.canHandle(descriptionId))
                     .findFirst()
-                    .orElse(this.defaultCandidateProvider)
-                    .getRootElementsForReference(semanticOwner, descriptionId, optionalEditingContext.get());
+                    .orElse(this.defaultCandidateProvider);
+            List<? extends Object> rootElements = candidateProvider.getRootElementsForReference(semanticOwner, descriptionId, optionalEditingContext.get());
+
+            // The roots returned by the other providers may not be found among the candidates of the editing context
+            var optionalTargetType = this.resolveTargetType(variableManager).filter(targetType -> !EcorePackage.Literals.EOBJECT.equals(targetType));
+            if (candidateProvider == this.defaultCandidateProvider && optionalTargetType.isPresent()) {
+                Set<Object> candidatesAndAncestors = this.getCandidatesAndAncestors(optionalEditingContext.get(), optionalTargetType.get());
+                variableManager.put(CANDIDATES_AND_ANCESTORS, candidatesAndAncestors);
+                rootElements = rootElements.stream()
+                        .filter(candidatesAndAncestors::contains)
+                        .toList();
+            }
+            return rootElements;
         }
         return Collections.emptyList();
     }
 
+    /**
+     * Returns the instances of the given target type and all their containers, including their resources, in order to
+     * only display the tree items leading to a candidate of the reference.
+     */
+    private Set<Object> getCandidatesAndAncestors(IEditingContext editingContext, EClass targetType) {
+        Set<Object> candidatesAndAncestors = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (EObject candidate : this.emfExtentService.getAllInstances(editingContext, targetType)) {
+            EObject eObject = candidate;
+            while (eObject != null && candidatesAndAncestors.add(eObject)) {
+                if (eObject.eContainer() == null && eObject.eResource() != null) {
+                    candidatesAndAncestors.add(eObject.eResource());
+                }
+                eObject = eObject.eContainer();
+            }
+        }
+        return candidatesAndAncestors;
+    }
+
     private List<? extends Object> getCreationScopeElements(VariableManager variableManager) {
         var optionalResourceSet = variableManager.get(IEditingContext.EDITING_CONTEXT, IEMFEditingContext.class)
                 .map(IEMFEditingContext::getDomain)
@@ -344,9 +414,10 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
 
         if (optionalResourceSet.isPresent()) {
             var resourceSet = optionalResourceSet.get();
+            Map<Resource, String> resource2label = new HashMap<>();
             return resourceSet.getResources().stream()
                     .filter(resource -> resource.getURI() != null && IEMFEditingContext.RESOURCE_SCHEME.equals(resource.getURI().scheme()))
-                    .sorted(Comparator.nullsLast(Comparator.comparing(this::getResourceLabel, String.CASE_INSENSITIVE_ORDER)))
+                    .sorted(Comparator.nullsLast(Comparator.comparing(resource -> resource2label.computeIfAbsent(resource, this::getResourceLabel), String.CASE_INSENSITIVE_ORDER)))
                     .toList();
         }
         return List.of();
@@ -354,15 +425,23 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
 
     private boolean hasChildren(VariableManager variableManager) {
         Object self = variableManager.getVariables().get(VariableManager.SELF);
+        var optionalFilter = this.getCandidatesAndAncestorsFilter(variableManager);
+
         boolean hasChildren = false;
         if (self instanceof Resource resource) {
-            hasChildren = !resource.getContents().isEmpty();
+            hasChildren = resource.getContents().stream().anyMatch(child -> optionalFilter.map(filter -> filter.contains(child)).orElse(true));
         } else if (self instanceof EObject eObject) {
-            hasChildren = !eObject.eContents().isEmpty();
+            hasChildren = eObject.eContents().stream().anyMatch(child -> optionalFilter.map(filter -> filter.contains(child)).orElse(true));
+        } else if (self instanceof ModelBrowserPage) {
+            hasChildren = true;
         }
         return hasChildren;
     }
 
+    private Optional<Set<?>> getCandidatesAndAncestorsFilter(VariableManager variableManager) {
+        return variableManager.get(CANDIDATES_AND_ANCESTORS, Set.class).map(set -> (Set<?>) set);
+    }
+
     private List<Object> getChildren(VariableManager variableManager) {
         List<Object> result = new ArrayList<>();
 
@@ -379,17 +458,42 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
             if (expandedIds.contains(id)) {
                 Object self = variableManager.getVariables().get(VariableManager.SELF);
 
+                List<Object> children = new ArrayList<>();
                 if (self instanceof Resource resource) {
-                    result.addAll(resource.getContents());
+                    children.addAll(resource.getContents());
                 } else if (self instanceof EObject) {
-                    List<Object> contents = this.objectService.getContents(self);
-                    result.addAll(contents);
+                    children.addAll(this.objectService.getContents(self));
+                }
+
+                var optionalFilter = this.getCandidatesAndAncestorsFilter(variableManager);
+                if (optionalFilter.isPresent()) {
+                    children = children.stream()
+                            .filter(optionalFilter.get()::contains)
+                            .toList();
+                }
+
+                if (self instanceof ModelBrowserPage page) {
+                    result.addAll(this.paginate(page.parentId(), page.elements(), page.offset()));
+                } else {
+                    result.addAll(this.paginate(id, children, 0));
                 }
             }
         }
         return result;
     }
 
+    /**
+     * Returns the elements of a page starting at the given offset. If there are more elements after this page, they
+     * are put in a page added at the end, so that they are only rendered once this page is expanded.
+     */
+    private List<Object> paginate(String parentId, List<?> elements, int offset) {
+        List<Object> page = new ArrayList<>(elements.subList(offset, Math.min(offset + PAGE_SIZE, elements.size())));
+        if (offset + PAGE_SIZE < elements.size()) {
+            page.add(new ModelBrowserPage(parentId, elements, offset + PAGE_SIZE));
+        }
+        return page;
+    }
+
     private IStatus getDeleteHandler(VariableManager variableManager) {
         return new Failure("");
     }
@@ -13,7 +13,9 @@
 package org.eclipse.sirius.components.collaborative.widget.reference.browser;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.eclipse.emf.ecore.resource.Resource;
@@ -46,9 +48,11 @@ public class ReferenceWidgetDefaultCandidateSearchProvider implements IReference
 
         if (optionalResourceSet.isPresent()) {
             var resourceSet = optionalResourceSet.get();
+            // The label of each resource is only computed once instead of once per comparison
+            Map<Resource, String> resource2label = new HashMap<>();
             return resourceSet.getResources().stream()
                     .filter(res -> res.getURI() != null && IEMFEditingContext.RESOURCE_SCHEME.equals(res.getURI().scheme()))
-                    .sorted(Comparator.nullsLast(Comparator.comparing(this::getResourceLabel, String.CASE_INSENSITIVE_ORDER)))
+                    .sorted(Comparator.nullsLast(Comparator.comparing(res -> resource2label.computeIfAbsent(res, this::getResourceLabel), String.CASE_INSENSITIVE_ORDER)))
                     .toList();
         }
 
@@ -14,15 +14,43 @@ package org.eclipse.sirius.components.collaborative.widget.reference.provider;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.ENamedElement;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.edit.command.CommandParameter;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.collaborative.widget.reference.api.IReferenceWidgetRootCandidateSearchProvider;
+import org.eclipse.sirius.components.collaborative.widget.reference.browser.EClassCompatibilityCache;
 import org.eclipse.sirius.components.collaborative.widget.reference.browser.ModelBrowsersDescriptionProvider;
 import org.eclipse.sirius.components.core.URLParser;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.core.api.labels.StyledString;
+import org.eclipse.sirius.components.emf.services.EMFExtentService;
 import org.eclipse.sirius.components.emf.services.EMFKindService;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.emf.services.api.IEMFExtentService;
+import org.eclipse.sirius.components.representations.GetOrCreateRandomIdProvider;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.eclipse.sirius.components.trees.Tree;
+import org.eclipse.sirius.components.trees.TreeItem;
 import org.eclipse.sirius.components.trees.description.TreeDescription;
 import org.eclipse.sirius.components.trees.renderer.TreeRenderer;
 import org.junit.jupiter.api.Test;
@@ -39,7 +67,7 @@ public class ModelBrowserTests {
         IEditingContext editingContext = () -> "editingContextId";
 
         var urlParser = new URLParser();
-        var provider = new ModelBrowsersDescriptionProvider(new IObjectService.NoOp(), urlParser, new EMFKindService(urlParser), List.of());
+        var provider = new ModelBrowsersDescriptionProvider(new IObjectService.NoOp(), urlParser, new EMFKindService(urlParser), new IEMFExtentService.NoOp(), List.of());
         var descriptions = provider.getRepresentationDescriptions(editingContext);
         assertThat(descriptions).hasSize(2);
         var treeDescriptions = descriptions.stream().filter(TreeDescription.class::isInstance).map(TreeDescription.class::cast).toList();
@@ -68,4 +96,254 @@ public class ModelBrowserTests {
         assertThat(tree.getKind()).isEqualTo(Tree.KIND);
 
     }
+
+    @Test
+    public void testTreeItemsAreDisplayedByPages() {
+        ResourceSet resourceSet = this.createResourceSet();
+        EPackage ePackage = this.createEPackage(resourceSet, "first", 250);
+
+        var editingContext = new TestEditingContext(new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack(), resourceSet));
+        var treeDescription = this.getTreeDescription(editingContext, ModelBrowsersDescriptionProvider.REFERENCE_DESCRIPTION_ID);
+        var treeId = ModelBrowsersDescriptionProvider.MODEL_BROWSER_REFERENCE_PREFIX + this.getParameters(ePackage.getEClassifiers().get(0));
+
+        var tree = this.render(editingContext, treeDescription, treeId, List.of("first", "first::package"));
+        var ePackageItem = tree.getChildren().get(0).getChildren().get(0);
+        assertThat(ePackageItem.getChildren()).hasSize(ModelBrowsersDescriptionProvider.PAGE_SIZE + 1);
+        assertThat(ePackageItem.getChildren().get(0).getId()).isEqualTo("C0");
+
+        var pageItem = ePackageItem.getChildren().get(ModelBrowsersDescriptionProvider.PAGE_SIZE);
+        assertThat(pageItem.getKind()).isEqualTo(ModelBrowsersDescriptionProvider.PAGE_KIND);
+        assertThat(pageItem.getLabel().toString()).isEqualTo("150 more elements");
+        assertThat(pageItem.isSelectable()).isFalse();
+        assertThat(pageItem.isHasChildren()).isTrue();
+        assertThat(pageItem.getChildren()).isEmpty();
+
+        tree = this.render(editingContext, treeDescription, treeId, List.of("first", "first::package", pageItem.getId()));
+        pageItem = tree.getChildren().get(0).getChildren().get(0).getChildren().get(ModelBrowsersDescriptionProvider.PAGE_SIZE);
+        assertThat(pageItem.getChildren()).hasSize(ModelBrowsersDescriptionProvider.PAGE_SIZE + 1);
+        assertThat(pageItem.getChildren().get(0).getId()).isEqualTo("C100");
+        assertThat(pageItem.getChildren().get(0).isSelectable()).isTrue();
+        assertThat(pageItem.getChildren().get(ModelBrowsersDescriptionProvider.PAGE_SIZE).getLabel().toString()).isEqualTo("50 more elements");
+    }
+
+    @Test
+    public void testReferenceBrowserOnlyDisplaysTheCandidatesAndTheirAncestors() {
+        ResourceSet resourceSet = this.createResourceSet();
+        EPackage ePackage = this.createEPackage(resourceSet, "first", 250);
+        var eDataType = EcoreFactory.eINSTANCE.createEDataType();
+        eDataType.setName("DataType");
+        ePackage.getEClassifiers().add(0, eDataType);
+
+        var otherEPackage = this.createEPackage(resourceSet, "second", 0);
+        var otherEDataType = EcoreFactory.eINSTANCE.createEDataType();
+        otherEDataType.setName("OtherDataType");
+        otherEPackage.getEClassifiers().add(otherEDataType);
+
+        var editingContext = new TestEditingContext(new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack(), resourceSet));
+        var treeDescription = this.getTreeDescription(editingContext, ModelBrowsersDescriptionProvider.REFERENCE_DESCRIPTION_ID);
+        var treeId = ModelBrowsersDescriptionProvider.MODEL_BROWSER_REFERENCE_PREFIX + this.getParameters(otherEDataType);
+
+        var tree = this.render(editingContext, treeDescription, treeId, List.of("first", "first::package"));
+        assertThat(tree.getChildren()).extracting(TreeItem::getId).containsExactly("first");
+
+        var ePackageItem = tree.getChildren().get(0).getChildren().get(0);
+        assertThat(ePackageItem.getChildren().get(0).getId()).isEqualTo("C0");
+        assertThat(ePackageItem.getChildren()).extracting(TreeItem::getId).doesNotContain("DataType");
+    }
+
+    @Test
+    public void testReferenceBrowserDisplaysAllTheRootsOfTheOtherCandidateProviders() {
+        ResourceSet resourceSet = this.createResourceSet();
+        var ePackage = this.createEPackage(resourceSet, "first", 1);
+        var otherEPackage = this.createEPackage(this.createResourceSet(), "second", 1);
+        var editingContext = new TestEditingContext(new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack(), resourceSet));
+
+        IReferenceWidgetRootCandidateSearchProvider candidateProvider = new IReferenceWidgetRootCandidateSearchProvider() {
+            @Override
+            public boolean canHandle(String descriptionId) {
+                return true;
+            }
+
+            @Override
+            public List<? extends Object> getRootElementsForReference(Object targetElement, String descriptionId, IEditingContext editingContext) {
+                return List.of(otherEPackage.eResource());
+            }
+        };
+        var treeDescription = this.getTreeDescription(editingContext, ModelBrowsersDescriptionProvider.REFERENCE_DESCRIPTION_ID, List.of(candidateProvider));
+        var treeId = ModelBrowsersDescriptionProvider.MODEL_BROWSER_REFERENCE_PREFIX + this.getParameters(ePackage.getEClassifiers().get(0));
+
+        var tree = this.render(editingContext, treeDescription, treeId, List.of("second"));
+        assertThat(tree.getChildren()).extracting(TreeItem::getId).containsExactly("second");
+        assertThat(tree.getChildren().get(0).getChildren()).extracting(TreeItem::getId).containsExactly("second::package");
+    }
+
+    @Test
+    public void testContainerCompatibilityIsComputedForEachEditingContext() {
+        ResourceSet resourceSet = this.createResourceSet();
+        var ePackage = this.createEPackage(resourceSet, "first", 1);
+        var editingContext = new TestEditingContext(new TestEditingDomain(resourceSet, true));
+
+        ResourceSet otherResourceSet = this.createResourceSet();
+        this.createEPackage(otherResourceSet, "first", 1);
+        var otherEditingContext = new TestEditingContext(new TestEditingDomain(otherResourceSet, false));
+
+        var treeId = ModelBrowsersDescriptionProvider.MODEL_BROWSER_CONTAINER_PREFIX + this.getParameters(ePackage.getEClassifiers().get(0));
+        var tree = this.render(editingContext, this.getTreeDescription(editingContext, ModelBrowsersDescriptionProvider.CONTAINER_DESCRIPTION_ID), treeId, List.of("first"));
+        var otherTree = this.render(otherEditingContext, this.getTreeDescription(otherEditingContext, ModelBrowsersDescriptionProvider.CONTAINER_DESCRIPTION_ID), treeId, List.of("first"));
+
+        assertThat(tree.getChildren().get(0).getChildren().get(0).isSelectable()).isTrue();
+        assertThat(otherTree.getChildren().get(0).getChildren().get(0).isSelectable()).isFalse();
+
+        var eClassCompatibilityCache = EcoreUtil.getExistingAdapter(resourceSet, EClassCompatibilityCache.class);
+        var otherEClassCompatibilityCache = EcoreUtil.getExistingAdapter(otherResourceSet, EClassCompatibilityCache.class);
+        assertThat(eClassCompatibilityCache).isNotNull();
+        assertThat(otherEClassCompatibilityCache).isNotNull().isNotSameAs(eClassCompatibilityCache);
+    }
+
+    private TreeDescription getTreeDescription(IEditingContext editingContext, String descriptionId) {
+        return this.getTreeDescription(editingContext, descriptionId, List.of());
+    }
+
+    private TreeDescription getTreeDescription(IEditingContext editingContext, String descriptionId, List<IReferenceWidgetRootCandidateSearchProvider> candidateProviders) {
+        var urlParser = new URLParser();
+        var provider = new ModelBrowsersDescriptionProvider(new TestObjectService(), urlParser, new EMFKindService(urlParser), new EMFExtentService(), candidateProviders);
+        return provider.getRepresentationDescriptions(editingContext).stream()
+                .filter(TreeDescription.class::isInstance)
+                .map(TreeDescription.class::cast)
+                .filter(treeDescription -> treeDescription.getId().equals(descriptionId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Tree render(IEditingContext editingContext, TreeDescription treeDescription, String treeId, List<String> expandedIds) {
+        var variableManager = new VariableManager();
+        variableManager.put(IEditingContext.EDITING_CONTEXT, editingContext);
+        variableManager.put(GetOrCreateRandomIdProvider.PREVIOUS_REPRESENTATION_ID, treeId);
+        variableManager.put(TreeRenderer.EXPANDED, expandedIds);
+        return new TreeRenderer(variableManager, treeDescription).render();
+    }
+
+    private String getParameters(EObject owner) {
+        var kind = new EMFKindService(new URLParser()).getKind(EcorePackage.Literals.ECLASS);
+        return "?ownerKind=" + URLEncoder.encode(kind, StandardCharsets.UTF_8)
+                + "&targetType=" + URLEncoder.encode(kind, StandardCharsets.UTF_8)
+                + "&ownerId=" + ((ENamedElement) owner).getName()
+                + "&descriptionId=descriptionId"
+                + "&isContainment=false";
+    }
+
+    private ResourceSet createResourceSet() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getPackageRegistry().put(EcorePackage.eNS_URI, EcorePackage.eINSTANCE);
+        return resourceSet;
+    }
+
+    private EPackage createEPackage(ResourceSet resourceSet, String name, int eClassCount) {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName(name + "::package");
+        for (int i = 0; i < eClassCount; i++) {
+            EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+            eClass.setName("C" + i);
+            ePackage.getEClassifiers().add(eClass);
+        }
+
+        Resource resource = new XMIResourceImpl(URI.createURI(IEMFEditingContext.RESOURCE_SCHEME + ":///" + name));
+        resource.getContents().add(ePackage);
+        resourceSet.getResources().add(resource);
+        return ePackage;
+    }
+
+    /**
+     * Editing context used to render the model browsers.
+     *
+     * @author agent
+     */
+    public static final class TestEditingContext implements IEMFEditingContext {
+
+        private final AdapterFactoryEditingDomain editingDomain;
+
+        public TestEditingContext(AdapterFactoryEditingDomain editingDomain) {
+            this.editingDomain = editingDomain;
+        }
+
+        @Override
+        public String getId() {
+            return "editingContextId";
+        }
+
+        @Override
+        public AdapterFactoryEditingDomain getDomain() {
+            return this.editingDomain;
+        }
+    }
+
+    /**
+     * Editing domain whose elements can either contain any EClass or none.
+     *
+     * @author agent
+     */
+    public static final class TestEditingDomain extends AdapterFactoryEditingDomain {
+
+        private final boolean canContainEClasses;
+
+        public TestEditingDomain(ResourceSet resourceSet, boolean canContainEClasses) {
+            super(new ComposedAdapterFactory(), new BasicCommandStack(), resourceSet);
+            this.canContainEClasses = canContainEClasses;
+        }
+
+        @Override
+        public Collection<?> getNewChildDescriptors(Object object, Object sibling) {
+            Collection<?> newChildDescriptors = List.of();
+            if (this.canContainEClasses) {
+                newChildDescriptors = List.of(new CommandParameter(null, null, EcoreFactory.eINSTANCE.createEClass()));
+            }
+            return newChildDescriptors;
+        }
+    }
+
+    /**
+     * Object service identifying the named elements by their name.
+     *
+     * @author agent
+     */
+    public static final class TestObjectService extends IObjectService.NoOp {
+
+        @Override
+        public StyledString getStyledLabel(Object object) {
+            return StyledString.of(this.getId(object));
+        }
+
+        @Override
+        public List<Object> getContents(Object object) {
+            List<Object> contents = List.of();
+            if (object instanceof EObject eObject) {
+                contents = List.copyOf(eObject.eContents());
+            }
+            return contents;
+        }
+
+        @Override
+        public String getId(Object object) {
+            String id = "";
+            if (object instanceof ENamedElement eNamedElement) {
+                id = eNamedElement.getName();
+            }
+            return id;
+        }
+
+        @Override
+        public Optional<Object> getObject(IEditingContext editingContext, String objectId) {
+            Optional<Object> optionalObject = Optional.empty();
+            if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+                var iterator = emfEditingContext.getDomain().getResourceSet().getAllContents();
+                while (optionalObject.isEmpty() && iterator.hasNext()) {
+                    var notifier = iterator.next();
+                    if (notifier instanceof ENamedElement eNamedElement && objectId.equals(eNamedElement.getName())) {
+                        optionalObject = Optional.of(eNamedElement);
+                    }
+                }
+            }
+            return optionalObject;
+        }
+    }
 }
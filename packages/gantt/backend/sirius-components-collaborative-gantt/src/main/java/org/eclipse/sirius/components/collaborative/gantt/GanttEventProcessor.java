@@ -12,7 +12,10 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.gantt;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -20,6 +23,7 @@ import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationViewStatePersistenceService;
 import org.eclipse.sirius.components.collaborative.api.ISubscriptionManager;
 import org.eclipse.sirius.components.collaborative.dto.RenameRepresentationInput;
 import org.eclipse.sirius.components.collaborative.gantt.api.IGanttEventHandler;
@@ -32,6 +36,13 @@ import org.eclipse.sirius.components.core.api.IInput;
 import org.eclipse.sirius.components.core.api.IPayload;
 import org.eclipse.sirius.components.core.api.IRepresentationInput;
 import org.eclipse.sirius.components.gantt.Gantt;
+import org.eclipse.sirius.components.gantt.GanttColumn;
+import org.eclipse.sirius.components.gantt.Task;
+import org.eclipse.sirius.components.gantt.TaskDetail;
+import org.eclipse.sirius.components.gantt.renderer.GanttRenderingCache;
+import org.eclipse.sirius.components.gantt.renderer.events.ChangeGanttColumnEvent;
+import org.eclipse.sirius.components.gantt.renderer.events.ChangeGanttTaskCollapseStateEvent;
+import org.eclipse.sirius.components.gantt.renderer.events.IGanttEvent;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,9 +77,13 @@ public class GanttEventProcessor implements IGanttEventProcessor {
 
     private final IRepresentationSearchService representationSearchService;
 
+    private final IRepresentationViewStatePersistenceService representationViewStatePersistenceService;
+
+    private final GanttRenderingCache ganttRenderingCache = new GanttRenderingCache();
+
     public GanttEventProcessor(IEditingContext editingContext, ISubscriptionManager subscriptionManager, GanttCreationService ganttCreationService,
             IRepresentationSearchService representationSearchService, List<IGanttEventHandler> ganttEventHandlers, GanttContext ganttContext,
-            IRepresentationPersistenceService representationPersistenceService) {
+            IRepresentationPersistenceService representationPersistenceService, IRepresentationViewStatePersistenceService representationViewStatePersistenceService) {
         this.logger.trace("Creating the gantt event processor {}", ganttContext.getGantt().getId());
 
         this.editingContext = Objects.requireNonNull(editingContext);
@@ -78,10 +93,11 @@ public class GanttEventProcessor implements IGanttEventProcessor {
         this.ganttContext = Objects.requireNonNull(ganttContext);
         this.representationPersistenceService = Objects.requireNonNull(representationPersistenceService);
         this.representationSearchService = Objects.requireNonNull(representationSearchService);
+        this.representationViewStatePersistenceService = Objects.requireNonNull(representationViewStatePersistenceService);
 
         // We automatically refresh the representation before using it since things may have changed since the moment it
         // has been saved in the database.
-        Gantt gantt = this.ganttCreationService.refresh(this.editingContext, ganttContext).orElse(null);
+        Gantt gantt = this.ganttCreationService.refresh(this.editingContext, ganttContext, this.ganttRenderingCache).orElse(null);
         this.ganttContext.update(gantt);
 
         this.ganttEventFlux = new GanttEventFlux(gantt);
@@ -119,30 +135,122 @@ public class GanttEventProcessor implements IGanttEventProcessor {
 
     @Override
     public void refresh(ChangeDescription changeDescription) {
-        if (this.shouldRefresh(changeDescription)) {
+        this.invalidateRenderingCache(changeDescription);
+
+        Optional<IGanttEvent> optionalViewStateEvent = Optional.ofNullable(this.ganttContext.getGanttEvent())
+                .filter(ganttEvent -> ganttEvent instanceof ChangeGanttColumnEvent || ganttEvent instanceof ChangeGanttTaskCollapseStateEvent);
+
+        if (GanttChangeKind.GANTT_REPRESENTATION_UPDATE.equals(changeDescription.getKind()) && optionalViewStateEvent.isPresent()) {
+            // The columns and the collapsed state of the tasks do not depend on the semantic elements, the gantt is thus updated without being rendered again
+            Gantt updatedGantt = this.applyViewState(this.ganttContext.getGantt(), optionalViewStateEvent.get());
+
+            this.ganttContext.reset();
+            this.ganttContext.update(updatedGantt);
+
+            // Only the view state of the column or task modified is persisted, the content of the gantt has not changed
+            this.representationViewStatePersistenceService.save(changeDescription.getInput(), this.editingContext, updatedGantt, this.getChangedViewStates(updatedGantt, optionalViewStateEvent.get()));
+            this.logger.trace("Gantt view state updated: {}", updatedGantt.getId());
+
+            this.ganttEventFlux.ganttRefreshed(changeDescription.getInput(), updatedGantt);
+        } else if (this.shouldRefresh(changeDescription)) {
             String ganttId = this.ganttContext.getGantt().getId();
-            Gantt refreshedGanttRepresentation = this.ganttCreationService.refresh(this.editingContext, this.ganttContext).orElse(null);
+            Gantt previousGantt = this.ganttContext.getGantt();
+            Gantt refreshedGanttRepresentation = this.ganttCreationService.refresh(this.editingContext, this.ganttContext, this.ganttRenderingCache).orElse(null);
 
             this.ganttContext.reset();
             this.ganttContext.update(refreshedGanttRepresentation);
 
-            if (refreshedGanttRepresentation != null) {
+            // Nothing is saved or sent if the change has not modified anything in the gantt
+            boolean hasChanged = !Objects.equals(previousGantt, refreshedGanttRepresentation);
+            if (refreshedGanttRepresentation != null && hasChanged) {
                 this.representationPersistenceService.save(changeDescription.getInput(), this.editingContext, refreshedGanttRepresentation);
                 this.logger.trace("Gantt refreshed: {}", ganttId);
-            } else {
+            } else if (refreshedGanttRepresentation == null) {
                 this.logger.warn("Gantt refresh failed: {}", ganttId);
             }
 
-            this.ganttEventFlux.ganttRefreshed(changeDescription.getInput(), this.ganttContext.getGantt());
+            if (hasChanged) {
+                this.ganttEventFlux.ganttRefreshed(changeDescription.getInput(), this.ganttContext.getGantt());
+            }
         } else if (changeDescription.getKind().equals(ChangeKind.RELOAD_REPRESENTATION) && changeDescription.getSourceId().equals(this.ganttContext.getGantt().getId())) {
             Optional<Gantt> reloadedGantt = this.representationSearchService.findById(this.editingContext, this.ganttContext.getGantt().getId(), Gantt.class);
             if (reloadedGantt.isPresent()) {
+                this.ganttRenderingCache.clear();
                 this.ganttContext.update(reloadedGantt.get());
                 this.ganttEventFlux.ganttRefreshed(changeDescription.getInput(), this.ganttContext.getGantt());
             }
         }
     }
 
+    /**
+     * Removes from the rendering cache the tasks impacted by the given change. Without the details of the semantic
+     * elements modified, or if some of them are not rendered as tasks, the whole gantt will be rendered again.
+     *
+     * @param changeDescription
+     *         The description of the change
+     */
+    private void invalidateRenderingCache(ChangeDescription changeDescription) {
+        Object changedElements = changeDescription.getParameters().get(ChangeDescription.CHANGED_ELEMENTS);
+        if (ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind()) && changedElements instanceof Collection<?> collection) {
+            this.ganttRenderingCache.invalidate(collection);
+        } else if (ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind())) {
+            this.ganttRenderingCache.clear();
+        }
+    }
+
+    private Gantt applyViewState(Gantt gantt, IGanttEvent ganttEvent) {
+        List<GanttColumn> columns = gantt.columns();
+        List<Task> tasks = gantt.tasks();
+        if (ganttEvent instanceof ChangeGanttColumnEvent changeGanttColumnEvent) {
+            columns = new ArrayList<>(gantt.columns());
+            columns.removeIf(column -> column.id().equals(changeGanttColumnEvent.columnId()));
+            columns.add(new GanttColumn(changeGanttColumnEvent.columnId(), changeGanttColumnEvent.displayed(), changeGanttColumnEvent.width()));
+        } else if (ganttEvent instanceof ChangeGanttTaskCollapseStateEvent changeGanttTaskCollapseStateEvent) {
+            tasks = this.applyCollapseState(gantt.tasks(), changeGanttTaskCollapseStateEvent);
+        }
+        return new Gantt(gantt.id(), gantt.descriptionId(), gantt.targetObjectId(), gantt.label(), tasks, columns, gantt.dateRounding());
+    }
+
+    /**
+     * Returns the view state of the column or task changed by the given event, by path of element.
+     *
+     * <p>
+     * The path of an element is the name of the property of the gantt or task containing it and its id, since the
+     * ids of the columns are not unique in the gantt.
+     * </p>
+     *
+     * @param gantt
+     *         The gantt
+     * @param ganttEvent
+     *         The event of the gantt
+     * @return The view state of the column or task changed, by path of element
+     */
+    private Map<String, Object> getChangedViewStates(Gantt gantt, IGanttEvent ganttEvent) {
+        Map<String, Object> changedViewStates = Map.of();
+        if (ganttEvent instanceof ChangeGanttColumnEvent changeGanttColumnEvent) {
+            String path = "columns/" + changeGanttColumnEvent.columnId();
+            changedViewStates = Map.of(path, new GanttColumn(changeGanttColumnEvent.columnId(), changeGanttColumnEvent.displayed(), changeGanttColumnEvent.width()));
+        } else if (ganttEvent instanceof ChangeGanttTaskCollapseStateEvent changeGanttTaskCollapseStateEvent) {
+            String taskId = changeGanttTaskCollapseStateEvent.taskId();
+            boolean isRootTask = gantt.tasks().stream().anyMatch(task -> task.id().equals(taskId));
+            String path = (isRootTask ? "tasks/" : "subTasks/") + taskId;
+            changedViewStates = Map.of(path, Map.of("detail", Map.of("collapsed", changeGanttTaskCollapseStateEvent.collapsed())));
+        }
+        return changedViewStates;
+    }
+
+    private List<Task> applyCollapseState(List<Task> tasks, ChangeGanttTaskCollapseStateEvent changeGanttTaskCollapseStateEvent) {
+        return tasks.stream().map(task -> {
+            TaskDetail detail = task.detail();
+            if (task.id().equals(changeGanttTaskCollapseStateEvent.taskId())) {
+                detail = new TaskDetail(detail.name(), detail.description(), detail.startTime(), detail.endTime(), detail.temporalType(), detail.progress(),
+                        detail.computeStartEndDynamically(), changeGanttTaskCollapseStateEvent.collapsed());
+            }
+            List<Task> subTasks = this.applyCollapseState(task.subTasks(), changeGanttTaskCollapseStateEvent);
+            return new Task(task.id(), task.descriptionId(), task.targetObjectId(), task.targetObjectKind(), task.targetObjectLabel(), detail, task.taskDependencyIds(), subTasks);
+        }).toList();
+    }
+
     /**
      * A gantt representation is refreshed if there is a semantic change.
      */
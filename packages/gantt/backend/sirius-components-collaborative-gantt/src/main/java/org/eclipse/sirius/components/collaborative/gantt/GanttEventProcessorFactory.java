@@ -20,6 +20,7 @@ import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProce
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessorFactory;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationViewStatePersistenceService;
 import org.eclipse.sirius.components.collaborative.api.ISubscriptionManagerFactory;
 import org.eclipse.sirius.components.collaborative.gantt.api.IGanttEventHandler;
 import org.eclipse.sirius.components.collaborative.gantt.service.GanttCreationService;
@@ -45,13 +46,17 @@ public class GanttEventProcessorFactory implements IRepresentationEventProcessor
 
     private final IRepresentationPersistenceService representationPersistenceService;
 
+    private final IRepresentationViewStatePersistenceService representationViewStatePersistenceService;
+
     public GanttEventProcessorFactory(IRepresentationSearchService representationSearchService, GanttCreationService ganttCreationService, ISubscriptionManagerFactory subscriptionManagerFactory,
-            List<IGanttEventHandler> ganttEventHandlers, IRepresentationPersistenceService representationPersistenceService) {
+            List<IGanttEventHandler> ganttEventHandlers, IRepresentationPersistenceService representationPersistenceService,
+            IRepresentationViewStatePersistenceService representationViewStatePersistenceService) {
         this.representationSearchService = Objects.requireNonNull(representationSearchService);
         this.ganttCreationService = Objects.requireNonNull(ganttCreationService);
         this.subscriptionManagerFactory = Objects.requireNonNull(subscriptionManagerFactory);
         this.ganttEventHandlers = Objects.requireNonNull(ganttEventHandlers);
         this.representationPersistenceService = Objects.requireNonNull(representationPersistenceService);
+        this.representationViewStatePersistenceService = Objects.requireNonNull(representationViewStatePersistenceService);
     }
 
     @Override
@@ -66,7 +71,8 @@ public class GanttEventProcessorFactory implements IRepresentationEventProcessor
             GanttContext ganttContext = new GanttContext(optionalGantt.get());
 
             IRepresentationEventProcessor ganttEventProcessor = new GanttEventProcessor(editingContext, this.subscriptionManagerFactory.create(), this.ganttCreationService,
-                    this.representationSearchService, this.ganttEventHandlers, ganttContext, this.representationPersistenceService);
+                    this.representationSearchService, this.ganttEventHandlers, ganttContext, this.representationPersistenceService,
+                    this.representationViewStatePersistenceService);
 
             return Optional.of(ganttEventProcessor);
         }
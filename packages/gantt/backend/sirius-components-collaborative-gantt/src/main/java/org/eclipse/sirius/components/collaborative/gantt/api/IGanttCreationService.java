@@ -18,6 +18,7 @@ import org.eclipse.sirius.components.collaborative.gantt.GanttContext;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.gantt.Gantt;
 import org.eclipse.sirius.components.gantt.description.GanttDescription;
+import org.eclipse.sirius.components.gantt.renderer.GanttRenderingCache;
 
 /**
  * Service used to create gantt diagrams from scratch.
@@ -54,9 +55,11 @@ public interface IGanttCreationService {
      *            The editing context
      * @param ganttContext
      *            The gantt context
+     * @param ganttRenderingCache
+     *            The tasks rendered previously which can be reused
      * @return An updated gantt if we have been able to refresh it.
      */
-    Optional<Gantt> refresh(IEditingContext editingContext, GanttContext ganttContext);
+    Optional<Gantt> refresh(IEditingContext editingContext, GanttContext ganttContext, GanttRenderingCache ganttRenderingCache);
 
     /**
      * Implementation which does nothing, used for mocks in unit tests.
@@ -71,7 +74,7 @@ public interface IGanttCreationService {
         }
 
         @Override
-        public Optional<Gantt> refresh(IEditingContext editingContext, GanttContext ganttContext) {
+        public Optional<Gantt> refresh(IEditingContext editingContext, GanttContext ganttContext, GanttRenderingCache ganttRenderingCache) {
             return Optional.empty();
         }
     }
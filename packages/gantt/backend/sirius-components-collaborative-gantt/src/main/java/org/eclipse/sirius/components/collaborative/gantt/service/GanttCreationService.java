@@ -27,6 +27,7 @@ import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchSe
 import org.eclipse.sirius.components.gantt.Gantt;
 import org.eclipse.sirius.components.gantt.description.GanttDescription;
 import org.eclipse.sirius.components.gantt.renderer.GanttRenderer;
+import org.eclipse.sirius.components.gantt.renderer.GanttRenderingCache;
 import org.eclipse.sirius.components.gantt.renderer.component.GanttComponent;
 import org.eclipse.sirius.components.gantt.renderer.component.GanttComponentProps;
 import org.eclipse.sirius.components.gantt.renderer.events.IGanttEvent;
@@ -62,12 +63,12 @@ public class GanttCreationService implements IGanttCreationService {
 
     @Override
     public Gantt create(String label, Object targetObject, GanttDescription ganttDescription, IEditingContext editingContext) {
-        Gantt newGanttDiagram = this.doRender(label, targetObject, editingContext, ganttDescription, Optional.empty());
+        Gantt newGanttDiagram = this.doRender(label, targetObject, editingContext, ganttDescription, Optional.empty(), new GanttRenderingCache());
         return newGanttDiagram;
     }
 
     @Override
-    public Optional<Gantt> refresh(IEditingContext editingContext, GanttContext ganttContext) {
+    public Optional<Gantt> refresh(IEditingContext editingContext, GanttContext ganttContext, GanttRenderingCache ganttRenderingCache) {
         var optionalObject = this.objectService.getObject(editingContext, ganttContext.getGantt().targetObjectId());
         var optionalGanttDescription = this.representationDescriptionSearchService.findById(editingContext, ganttContext.getGantt().getDescriptionId())
                 .filter(GanttDescription.class::isInstance)
@@ -76,13 +77,14 @@ public class GanttCreationService implements IGanttCreationService {
         if (optionalObject.isPresent() && optionalGanttDescription.isPresent()) {
             Object object = optionalObject.get();
             GanttDescription ganttDescription = optionalGanttDescription.get();
-            Gantt gantt = this.doRender(ganttContext.getGantt().getLabel(), object, editingContext, ganttDescription, Optional.of(ganttContext));
+            Gantt gantt = this.doRender(ganttContext.getGantt().getLabel(), object, editingContext, ganttDescription, Optional.of(ganttContext), ganttRenderingCache);
             return Optional.of(gantt);
         }
         return Optional.empty();
     }
 
-    private Gantt doRender(String label, Object targetObject, IEditingContext editingContext, GanttDescription ganttDescription, Optional<GanttContext> optionalGanttContext) {
+    private Gantt doRender(String label, Object targetObject, IEditingContext editingContext, GanttDescription ganttDescription, Optional<GanttContext> optionalGanttContext,
+            GanttRenderingCache ganttRenderingCache) {
         long start = System.currentTimeMillis();
 
         VariableManager variableManager = new VariableManager();
@@ -93,10 +95,12 @@ public class GanttCreationService implements IGanttCreationService {
         Optional<Gantt> optionalPreviousGantt = optionalGanttContext.map(IGanttContext::getGantt);
         Optional<IGanttEvent> optionalGanttEvent = optionalGanttContext.map(IGanttContext::getGanttEvent);
 
-        GanttComponentProps ganttComponentProps = new GanttComponentProps(variableManager, ganttDescription, optionalPreviousGantt, optionalGanttEvent);
+        GanttComponentProps ganttComponentProps = new GanttComponentProps(variableManager, ganttDescription, optionalPreviousGantt, optionalGanttEvent, ganttRenderingCache);
 
         Element element = new Element(GanttComponent.class, ganttComponentProps);
+        ganttRenderingCache.startRendering();
         Gantt newGantt = new GanttRenderer().render(element);
+        ganttRenderingCache.finishRendering();
 
         long end = System.currentTimeMillis();
         this.timer.record(end - start, TimeUnit.MILLISECONDS);
@@ -0,0 +1,277 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.gantt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationViewStatePersistenceService;
+import org.eclipse.sirius.components.collaborative.gantt.service.GanttCreationService;
+import org.eclipse.sirius.components.collaborative.representations.SubscriptionManager;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.components.gantt.Gantt;
+import org.eclipse.sirius.components.gantt.GanttColumn;
+import org.eclipse.sirius.components.gantt.Task;
+import org.eclipse.sirius.components.gantt.description.GanttDescription;
+import org.eclipse.sirius.components.gantt.description.TaskDescription;
+import org.eclipse.sirius.components.gantt.renderer.events.ChangeGanttColumnEvent;
+import org.eclipse.sirius.components.gantt.renderer.events.ChangeGanttTaskCollapseStateEvent;
+import org.eclipse.sirius.components.representations.IRepresentation;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the gantt event processor and of the reuse of the tasks of the previous rendering.
+ *
+ * @author agent
+ */
+public class GanttEventProcessorTests {
+
+    private static final String GANTT_DESCRIPTION_ID = "ganttDescription";
+
+    private static final String TARGET_OBJECT_ID = "project";
+
+    private final List<String> computedTaskNames = new ArrayList<>();
+
+    private final List<IRepresentation> savedRepresentations = new ArrayList<>();
+
+    private final List<Map<String, Object>> savedViewStates = new ArrayList<>();
+
+    private final TestElement project = new TestElement("Project", List.of());
+
+    private final TestElement subTask = new TestElement("Sub task", List.of());
+
+    private final TestElement firstTask = new TestElement("First task", List.of(this.subTask));
+
+    private final TestElement secondTask = new TestElement("Second task", List.of());
+
+    private final TestElement thirdTask = new TestElement("Third task", List.of());
+
+    private final GanttContext ganttContext = new GanttContext(new Gantt(UUID.randomUUID().toString(), GANTT_DESCRIPTION_ID, TARGET_OBJECT_ID, "Gantt", List.of(), List.of(), null));
+
+    @Test
+    public void testReuseTheTasksWhoseSemanticElementHasNotBeenModified() {
+        GanttEventProcessor ganttEventProcessor = this.createGanttEventProcessor();
+        assertThat(this.computedTaskNames).containsExactlyInAnyOrder("First task", "Sub task", "Second task", "Third task");
+        this.computedTaskNames.clear();
+
+        this.thirdTask.setName("Third task renamed");
+        ganttEventProcessor.refresh(this.createSemanticChange(Set.of(this.thirdTask)));
+
+        assertThat(this.computedTaskNames).containsExactly("Third task renamed");
+        assertThat(this.getTasks(ganttEventProcessor)).extracting(task -> task.detail().name()).containsExactly("First task", "Second task", "Third task renamed");
+        assertThat(this.savedRepresentations).hasSize(1);
+    }
+
+    @Test
+    public void testRenderAgainTheParentAndTheDependentTasksOfTheModifiedTask() {
+        GanttEventProcessor ganttEventProcessor = this.createGanttEventProcessor();
+        this.computedTaskNames.clear();
+
+        // The second task depends on the first task which contains the sub task
+        this.subTask.setName("Sub task renamed");
+        ganttEventProcessor.refresh(this.createSemanticChange(Set.of(this.subTask)));
+
+        assertThat(this.computedTaskNames).containsExactlyInAnyOrder("First task", "Sub task renamed", "Second task");
+    }
+
+    @Test
+    public void testRenderAllTheTasksAgainWhenTheChangeCannotBeAttributed() {
+        GanttEventProcessor ganttEventProcessor = this.createGanttEventProcessor();
+        this.computedTaskNames.clear();
+
+        // The description of the tasks is computed from the project which is not rendered as a task
+        this.project.setName("Project renamed");
+        ganttEventProcessor.refresh(this.createSemanticChange(Set.of(this.project)));
+
+        assertThat(this.computedTaskNames).containsExactlyInAnyOrder("First task", "Sub task", "Second task", "Third task");
+        assertThat(this.getTasks(ganttEventProcessor)).extracting(task -> task.detail().description()).containsOnly("Project renamed");
+    }
+
+    @Test
+    public void testDoNotSaveTheGanttWhenNothingHasChanged() {
+        GanttEventProcessor ganttEventProcessor = this.createGanttEventProcessor();
+        Gantt gantt = (Gantt) ganttEventProcessor.getRepresentation();
+
+        ganttEventProcessor.refresh(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, TARGET_OBJECT_ID, this.createInput()));
+
+        assertThat(this.savedRepresentations).isEmpty();
+        assertThat(ganttEventProcessor.getRepresentation()).isEqualTo(gantt);
+    }
+
+    @Test
+    public void testCollapseATaskWithoutRenderingTheGanttAgain() {
+        GanttEventProcessor ganttEventProcessor = this.createGanttEventProcessor();
+        this.computedTaskNames.clear();
+
+        String firstTaskId = this.getTasks(ganttEventProcessor).get(0).id();
+        this.ganttContext.setGanttEvent(new ChangeGanttTaskCollapseStateEvent(firstTaskId, true));
+        ganttEventProcessor.refresh(new ChangeDescription(GanttChangeKind.GANTT_REPRESENTATION_UPDATE, TARGET_OBJECT_ID, this.createInput()));
+
+        assertThat(this.computedTaskNames).isEmpty();
+        assertThat(this.getTasks(ganttEventProcessor)).extracting(task -> task.detail().collapsed()).containsExactly(true, false, false);
+        assertThat(this.getTasks(ganttEventProcessor).get(0).subTasks()).hasSize(1);
+        assertThat(this.savedRepresentations).isEmpty();
+        assertThat(this.savedViewStates).containsExactly(Map.of("tasks/" + firstTaskId, Map.of("detail", Map.of("collapsed", true))));
+    }
+
+    @Test
+    public void testCollapseASubTaskWithoutRenderingTheGanttAgain() {
+        GanttEventProcessor ganttEventProcessor = this.createGanttEventProcessor();
+
+        String subTaskId = this.getTasks(ganttEventProcessor).get(0).subTasks().get(0).id();
+        this.ganttContext.setGanttEvent(new ChangeGanttTaskCollapseStateEvent(subTaskId, true));
+        ganttEventProcessor.refresh(new ChangeDescription(GanttChangeKind.GANTT_REPRESENTATION_UPDATE, TARGET_OBJECT_ID, this.createInput()));
+
+        assertThat(this.getTasks(ganttEventProcessor).get(0).subTasks().get(0).detail().collapsed()).isTrue();
+        assertThat(this.savedViewStates).containsExactly(Map.of("subTasks/" + subTaskId, Map.of("detail", Map.of("collapsed", true))));
+    }
+
+    @Test
+    public void testChangeAColumnWithoutRenderingTheGanttAgain() {
+        GanttEventProcessor ganttEventProcessor = this.createGanttEventProcessor();
+        this.computedTaskNames.clear();
+
+        this.ganttContext.setGanttEvent(new ChangeGanttColumnEvent("START_DATE", false, 100));
+        ganttEventProcessor.refresh(new ChangeDescription(GanttChangeKind.GANTT_REPRESENTATION_UPDATE, TARGET_OBJECT_ID, this.createInput()));
+
+        assertThat(this.computedTaskNames).isEmpty();
+        var columns = ((Gantt) ganttEventProcessor.getRepresentation()).columns();
+        assertThat(columns).filteredOn(column -> column.id().equals("START_DATE")).containsExactly(new GanttColumn("START_DATE", false, 100));
+        assertThat(this.savedRepresentations).isEmpty();
+        assertThat(this.savedViewStates).containsExactly(Map.of("columns/START_DATE", new GanttColumn("START_DATE", false, 100)));
+    }
+
+    private ChangeDescription createSemanticChange(Set<Object> changedElements) {
+        return new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, TARGET_OBJECT_ID, this.createInput(), Map.of(ChangeDescription.CHANGED_ELEMENTS, changedElements));
+    }
+
+    private IInput createInput() {
+        return UUID::randomUUID;
+    }
+
+    private List<Task> getTasks(GanttEventProcessor ganttEventProcessor) {
+        return ((Gantt) ganttEventProcessor.getRepresentation()).tasks();
+    }
+
+    private GanttEventProcessor createGanttEventProcessor() {
+        GanttDescription ganttDescription = this.createGanttDescription();
+        IRepresentationDescriptionSearchService representationDescriptionSearchService = new IRepresentationDescriptionSearchService.NoOp() {
+            @Override
+            public Optional<IRepresentationDescription> findById(IEditingContext editingContext, String representationDescriptionId) {
+                return Optional.of(ganttDescription);
+            }
+        };
+        IObjectService objectService = new IObjectService.NoOp() {
+            @Override
+            public Optional<Object> getObject(IEditingContext editingContext, String objectId) {
+                return Optional.of(GanttEventProcessorTests.this.project);
+            }
+        };
+        IRepresentationPersistenceService representationPersistenceService = (cause, editingContext, representation) -> this.savedRepresentations.add(representation);
+        GanttCreationService ganttCreationService = new GanttCreationService(representationDescriptionSearchService, representationPersistenceService, objectService, new SimpleMeterRegistry());
+
+        IRepresentationViewStatePersistenceService representationViewStatePersistenceService = new IRepresentationViewStatePersistenceService.NoOp() {
+            @Override
+            public void save(ICause cause, IEditingContext editingContext, IRepresentation representation, Map<String, Object> changedViewStates) {
+                GanttEventProcessorTests.this.savedViewStates.add(changedViewStates);
+            }
+        };
+
+        return new GanttEventProcessor(new IEditingContext.NoOp(), new SubscriptionManager(), ganttCreationService, new IRepresentationSearchService.NoOp(), List.of(), this.ganttContext,
+                representationPersistenceService, representationViewStatePersistenceService);
+    }
+
+    private GanttDescription createGanttDescription() {
+        TaskDescription subTaskDescription = this.createTaskDescription("subTaskDescription", variableManager -> this.getSelf(variableManager).map(TestElement::getChildren).orElse(List.of()))
+                .build();
+
+        TaskDescription taskDescription = this.createTaskDescription("taskDescription", variableManager -> List.of(this.firstTask, this.secondTask, this.thirdTask))
+                .subTaskDescriptions(List.of(subTaskDescription))
+                .build();
+
+        return new GanttDescription(GANTT_DESCRIPTION_ID, "Gantt", variableManager -> GANTT_DESCRIPTION_ID, variableManager -> "Gantt", variableManager -> TARGET_OBJECT_ID,
+                variableManager -> true, List.of(taskDescription), variableManager -> { }, variableManager -> { }, variableManager -> { }, variableManager -> { }, variableManager -> { },
+                variableManager -> { }, variableManager -> "1D");
+    }
+
+    private TaskDescription.Builder createTaskDescription(String id, Function<VariableManager, List<?>> semanticElementsProvider) {
+        return TaskDescription.newTaskDescription(id)
+                .targetObjectIdProvider(variableManager -> this.getSelf(variableManager).map(element -> String.valueOf(System.identityHashCode(element))).orElse(""))
+                .targetObjectKindProvider(variableManager -> "Task")
+                .targetObjectLabelProvider(variableManager -> "")
+                .semanticElementsProvider(semanticElementsProvider)
+                .nameProvider(variableManager -> {
+                    String name = this.getSelf(variableManager).map(TestElement::getName).orElse("");
+                    this.computedTaskNames.add(name);
+                    return name;
+                })
+                .descriptionProvider(variableManager -> this.project.getName())
+                .startTimeProvider(variableManager -> null)
+                .endTimeProvider(variableManager -> null)
+                .progressProvider(variableManager -> 0)
+                .computeStartEndDynamicallyProvider(variableManager -> false)
+                .taskDependenciesProvider(variableManager -> this.getSelf(variableManager).filter(this.secondTask::equals).map(element -> List.<Object>of(this.firstTask)).orElse(List.of()));
+    }
+
+    private Optional<TestElement> getSelf(VariableManager variableManager) {
+        return variableManager.get(VariableManager.SELF, TestElement.class);
+    }
+
+    /**
+     * A semantic element whose name can be modified.
+     *
+     * @author agent
+     */
+    public static final class TestElement {
+
+        private final List<TestElement> children;
+
+        private String name;
+
+        public TestElement(String name, List<TestElement> children) {
+            this.name = name;
+            this.children = children;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<TestElement> getChildren() {
+            return this.children;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.gantt.renderer;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.eclipse.sirius.components.gantt.renderer.elements.TaskElementProps;
+
+/**
+ * Keeps the tasks rendered during the previous rendering of a gantt in order to reuse those whose semantic element has
+ * not been modified.
+ *
+ * <p>
+ * A task is identified by its description, its parent and its semantic element. The semantic elements and the sub
+ * tasks are still retrieved during each rendering, in order to find the tasks added or removed, but the name, the
+ * dates, the progress and the dependencies of a task are only computed again once it has been invalidated. Since the
+ * dates of a task may be computed from the tasks it depends on and from its sub tasks, invalidating a task also
+ * invalidates all the tasks depending on it and all the tasks containing it, directly or not. When a modification cannot
+ * be attributed to the tasks rendered, the whole cache is cleared. The collapsed state of the tasks is not cached since
+ * it is computed from the events of the gantt.
+ * </p>
+ *
+ * @author agent
+ */
+public class GanttRenderingCache {
+
+    private final Map<GanttElementKey, TaskElementProps> entries = new HashMap<>();
+
+    private Set<GanttElementKey> renderedKeys = new HashSet<>();
+
+    /**
+     * Prepares the cache for a new rendering of the gantt.
+     */
+    public void startRendering() {
+        this.renderedKeys = new HashSet<>();
+    }
+
+    /**
+     * Forgets the tasks which have not been part of the rendering which has just been completed.
+     */
+    public void finishRendering() {
+        this.entries.keySet().retainAll(this.renderedKeys);
+        this.renderedKeys = new HashSet<>();
+    }
+
+    public Optional<TaskElementProps> getTask(GanttElementKey key) {
+        var optionalTaskElementProps = Optional.ofNullable(this.entries.get(key));
+        optionalTaskElementProps.ifPresent(taskElementProps -> this.renderedKeys.add(key));
+        return optionalTaskElementProps;
+    }
+
+    /**
+     * Stores the given task, without its children which are rendered again each time.
+     *
+     * @param key
+     *         The key of the task
+     * @param taskElementProps
+     *         The properties of the task
+     */
+    public void put(GanttElementKey key, TaskElementProps taskElementProps) {
+        var props = new TaskElementProps(taskElementProps.id(), taskElementProps.descriptionId(), taskElementProps.targetObjectId(), taskElementProps.targetObjectKind(),
+                taskElementProps.targetObjectLabel(), taskElementProps.detail(), taskElementProps.dependencyObjectIds(), List.of());
+        this.entries.put(key, props);
+        this.renderedKeys.add(key);
+    }
+
+    /**
+     * Removes from the cache the tasks rendered for the given semantic elements, the tasks depending on them and the
+     * tasks containing them.
+     *
+     * <p>
+     * The properties of a task may be computed from other semantic elements than its own, for example a progress
+     * computed from its sub tasks or a name computed from the container of its semantic element. A modification can
+     * thus only be attributed to some tasks if all the semantic elements modified are rendered as tasks. Otherwise, the
+     * whole cache is cleared since there is no way to know which tasks depend on the semantic elements modified.
+     * </p>
+     *
+     * @param semanticElements
+     *         The semantic elements which have been modified
+     */
+    public void invalidate(Collection<?> semanticElements) {
+        Set<Object> modifiedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        modifiedElements.addAll(semanticElements);
+
+        Set<Object> renderedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.entries.keySet().forEach(key -> renderedElements.add(key.semanticElement()));
+
+        if (renderedElements.containsAll(modifiedElements)) {
+            Set<String> invalidatedTaskIds = new HashSet<>();
+            Set<String> invalidatedParentElementIds = new HashSet<>();
+            boolean hasRemovedTasks = this.removeIf(key -> modifiedElements.contains(key.semanticElement()), invalidatedTaskIds, invalidatedParentElementIds);
+            while (hasRemovedTasks) {
+                Set<String> taskIds = Set.copyOf(invalidatedTaskIds);
+                Set<String> parentElementIds = Set.copyOf(invalidatedParentElementIds);
+                hasRemovedTasks = this.removeIf(key -> {
+                    TaskElementProps taskElementProps = this.entries.get(key);
+                    return parentElementIds.contains(taskElementProps.id()) || taskElementProps.dependencyObjectIds().stream().anyMatch(taskIds::contains);
+                }, invalidatedTaskIds, invalidatedParentElementIds);
+            }
+        } else {
+            this.entries.clear();
+        }
+    }
+
+    public void clear() {
+        this.entries.clear();
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    private boolean removeIf(Predicate<GanttElementKey> predicate, Set<String> removedTaskIds, Set<String> removedParentElementIds) {
+        var keysToRemove = this.entries.keySet().stream()
+                .filter(predicate)
+                .toList();
+        keysToRemove.forEach(key -> {
+            removedTaskIds.add(this.entries.remove(key).id());
+            removedParentElementIds.add(key.parentElementId());
+        });
+        return !keysToRemove.isEmpty();
+    }
+
+    /**
+     * Identifies a task rendered for a semantic element.
+     *
+     * @author agent
+     *
+     * @param descriptionId
+     *         The id of the description of the task
+     * @param parentElementId
+     *         The id of the gantt or task containing the task
+     * @param semanticElement
+     *         The semantic element
+     */
+    public record GanttElementKey(String descriptionId, String parentElementId, Object semanticElement) {
+
+        public GanttElementKey {
+            Objects.requireNonNull(descriptionId);
+            Objects.requireNonNull(parentElementId);
+            Objects.requireNonNull(semanticElement);
+        }
+    }
+}
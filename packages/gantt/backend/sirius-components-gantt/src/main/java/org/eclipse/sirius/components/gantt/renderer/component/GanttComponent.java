@@ -68,7 +68,8 @@ public class GanttComponent implements IComponent {
 
         List<Element> children = ganttDescription.taskDescriptions().stream()
                 .map(taskDescription -> {
-                    TaskDescriptionComponentProps taskComponentProps = new TaskDescriptionComponentProps(variableManager, taskDescription, previousTasks, ganttId, id2TaskDescription, this.props.ganttEventOptional());
+                    TaskDescriptionComponentProps taskComponentProps = new TaskDescriptionComponentProps(variableManager, taskDescription, previousTasks, ganttId, id2TaskDescription, this.props.ganttEventOptional(),
+                            this.props.ganttRenderingCache());
                     return new Element(TaskDescriptionComponent.class, taskComponentProps);
                 }).toList();
 
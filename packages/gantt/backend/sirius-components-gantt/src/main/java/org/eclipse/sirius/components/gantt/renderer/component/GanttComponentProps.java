@@ -12,10 +12,12 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.gantt.renderer.component;
 
+import java.util.Objects;
 import java.util.Optional;
 
 import org.eclipse.sirius.components.gantt.Gantt;
 import org.eclipse.sirius.components.gantt.description.GanttDescription;
+import org.eclipse.sirius.components.gantt.renderer.GanttRenderingCache;
 import org.eclipse.sirius.components.gantt.renderer.events.IGanttEvent;
 import org.eclipse.sirius.components.representations.IProps;
 import org.eclipse.sirius.components.representations.VariableManager;
@@ -25,5 +27,14 @@ import org.eclipse.sirius.components.representations.VariableManager;
  *
  * @author lfasani
  */
-public record GanttComponentProps(VariableManager variableManager, GanttDescription ganttDescription, Optional<Gantt> previousGantt, Optional<IGanttEvent> ganttEventOptional) implements IProps {
+public record GanttComponentProps(VariableManager variableManager, GanttDescription ganttDescription, Optional<Gantt> previousGantt, Optional<IGanttEvent> ganttEventOptional,
+        GanttRenderingCache ganttRenderingCache) implements IProps {
+
+    public GanttComponentProps {
+        Objects.requireNonNull(ganttRenderingCache);
+    }
+
+    public GanttComponentProps(VariableManager variableManager, GanttDescription ganttDescription, Optional<Gantt> previousGantt, Optional<IGanttEvent> ganttEventOptional) {
+        this(variableManager, ganttDescription, previousGantt, ganttEventOptional, new GanttRenderingCache());
+    }
 }
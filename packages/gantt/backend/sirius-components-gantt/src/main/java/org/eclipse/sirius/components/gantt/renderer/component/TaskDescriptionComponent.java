@@ -27,6 +27,7 @@ import org.eclipse.sirius.components.gantt.Task;
 import org.eclipse.sirius.components.gantt.TaskDetail;
 import org.eclipse.sirius.components.gantt.TemporalType;
 import org.eclipse.sirius.components.gantt.description.TaskDescription;
+import org.eclipse.sirius.components.gantt.renderer.GanttRenderingCache;
 import org.eclipse.sirius.components.gantt.renderer.elements.TaskElementProps;
 import org.eclipse.sirius.components.gantt.renderer.events.ChangeGanttTaskCollapseStateEvent;
 import org.eclipse.sirius.components.representations.Element;
@@ -63,7 +64,7 @@ public class TaskDescriptionComponent implements IComponent {
             String targetObjectId = taskDescription.targetObjectIdProvider().apply(childVariableManager);
 
             if (this.shouldRender(targetObjectId, childVariableManager)) {
-                Element taskElement = this.doRender(childVariableManager, targetObjectId);
+                Element taskElement = this.doRender(childVariableManager, semanticElement, targetObjectId);
                 children.add(taskElement);
             }
         }
@@ -71,37 +72,53 @@ public class TaskDescriptionComponent implements IComponent {
         return new Fragment(fragmentProps);
     }
 
-    private Element doRender(VariableManager childVariableManager, String targetObjectId) {
+    private Element doRender(VariableManager childVariableManager, Object semanticElement, String targetObjectId) {
         TaskDescription taskDescription = this.props.taskDescription();
-        String name = taskDescription.nameProvider().apply(childVariableManager);
-        String description = taskDescription.descriptionProvider().apply(childVariableManager);
-        Temporal startTime = taskDescription.startTimeProvider().apply(childVariableManager);
-        Temporal endTime = taskDescription.endTimeProvider().apply(childVariableManager);
-        Integer progress = taskDescription.progressProvider().apply(childVariableManager);
-        Boolean computeDatesDynamicallyProvider = taskDescription.computeDatesDynamicallyProvider().apply(childVariableManager);
-        List<Object> dependencyObjects = taskDescription.taskDependenciesProvider().apply(childVariableManager);
-        List<String> dependencyObjectIds = dependencyObjects.stream()
-            .map(semanticElement -> {
-                VariableManager dependencyVariableManager = childVariableManager.createChild();
-                dependencyVariableManager.put(VariableManager.SELF, semanticElement);
-                String objectId = taskDescription.targetObjectIdProvider().apply(dependencyVariableManager);
-                return UUID.nameUUIDFromBytes(objectId.getBytes()).toString();
-            })
-            .toList();
+        GanttRenderingCache ganttRenderingCache = this.props.ganttRenderingCache();
+        var key = new GanttRenderingCache.GanttElementKey(taskDescription.id(), this.props.parentElementId(), semanticElement);
 
         Optional<Task> previousTaskOptional = this.props.previousTasks().stream()
                 .filter(task -> task.descriptionId().equals(taskDescription.id()) && task.targetObjectId().equals(targetObjectId))
                 .findFirst();
 
-        List<Element> childrenElements = this.getChildren(childVariableManager, taskDescription, previousTaskOptional);
-
-        String targetObjectKind = taskDescription.targetObjectKindProvider().apply(childVariableManager);
-        String targetObjectLabel = taskDescription.targetObjectLabelProvider().apply(childVariableManager);
-
+        String taskId = UUID.nameUUIDFromBytes(targetObjectId.getBytes()).toString();
+        List<Element> childrenElements = this.getChildren(childVariableManager, taskDescription, taskId, previousTaskOptional);
         boolean collapsed = this.computeCollapsed(previousTaskOptional);
 
-        TaskDetail detail = new TaskDetail(name, description, getTemporalString(startTime), getTemporalString(endTime), getTemporalType(startTime, endTime), progress, computeDatesDynamicallyProvider, collapsed);
-        TaskElementProps taskElementProps = new TaskElementProps(UUID.nameUUIDFromBytes(targetObjectId.getBytes()).toString(), taskDescription.id(), targetObjectId, targetObjectKind, targetObjectLabel, detail, dependencyObjectIds, childrenElements);
+        var optionalCachedTaskElementProps = ganttRenderingCache.getTask(key);
+        TaskElementProps taskElementProps;
+        if (optionalCachedTaskElementProps.isPresent()) {
+            TaskElementProps cachedTaskElementProps = optionalCachedTaskElementProps.get();
+            TaskDetail cachedDetail = cachedTaskElementProps.detail();
+            TaskDetail detail = new TaskDetail(cachedDetail.name(), cachedDetail.description(), cachedDetail.startTime(), cachedDetail.endTime(), cachedDetail.temporalType(),
+                    cachedDetail.progress(), cachedDetail.computeStartEndDynamically(), collapsed);
+
+            taskElementProps = new TaskElementProps(taskId, taskDescription.id(), targetObjectId, cachedTaskElementProps.targetObjectKind(), cachedTaskElementProps.targetObjectLabel(), detail,
+                    cachedTaskElementProps.dependencyObjectIds(), childrenElements);
+        } else {
+            String name = taskDescription.nameProvider().apply(childVariableManager);
+            String description = taskDescription.descriptionProvider().apply(childVariableManager);
+            Temporal startTime = taskDescription.startTimeProvider().apply(childVariableManager);
+            Temporal endTime = taskDescription.endTimeProvider().apply(childVariableManager);
+            Integer progress = taskDescription.progressProvider().apply(childVariableManager);
+            Boolean computeDatesDynamicallyProvider = taskDescription.computeDatesDynamicallyProvider().apply(childVariableManager);
+            List<Object> dependencyObjects = taskDescription.taskDependenciesProvider().apply(childVariableManager);
+            List<String> dependencyObjectIds = dependencyObjects.stream()
+                .map(dependencySemanticElement -> {
+                    VariableManager dependencyVariableManager = childVariableManager.createChild();
+                    dependencyVariableManager.put(VariableManager.SELF, dependencySemanticElement);
+                    String objectId = taskDescription.targetObjectIdProvider().apply(dependencyVariableManager);
+                    return UUID.nameUUIDFromBytes(objectId.getBytes()).toString();
+                })
+                .toList();
+
+            String targetObjectKind = taskDescription.targetObjectKindProvider().apply(childVariableManager);
+            String targetObjectLabel = taskDescription.targetObjectLabelProvider().apply(childVariableManager);
+
+            TaskDetail detail = new TaskDetail(name, description, getTemporalString(startTime), getTemporalString(endTime), getTemporalType(startTime, endTime), progress, computeDatesDynamicallyProvider, collapsed);
+            taskElementProps = new TaskElementProps(taskId, taskDescription.id(), targetObjectId, targetObjectKind, targetObjectLabel, detail, dependencyObjectIds, childrenElements);
+        }
+        ganttRenderingCache.put(key, taskElementProps);
         return new Element(TaskElementProps.TYPE, taskElementProps);
     }
 
@@ -125,7 +142,7 @@ public class TaskDescriptionComponent implements IComponent {
         return temporalString;
     }
 
-    private List<Element> getChildren(VariableManager variableManager, TaskDescription taskDescription, Optional<Task> previousTaskOptional) {
+    private List<Element> getChildren(VariableManager variableManager, TaskDescription taskDescription, String taskId, Optional<Task> previousTaskOptional) {
         List<Task> previousSubTasks = previousTaskOptional.map(Task::subTasks).orElseGet(ArrayList::new);
         Stream<TaskDescription> childrenTaskDescription = Optional.ofNullable(taskDescription.subTaskDescriptions()).orElse(List.of()).stream();
 
@@ -134,7 +151,8 @@ public class TaskDescriptionComponent implements IComponent {
 
         List<Element> childrenElements = Stream.concat(childrenTaskDescription, reusedTaskDescriptions)
                 .map(childTaskDescription -> {
-                    TaskDescriptionComponentProps taskComponentProps = new TaskDescriptionComponentProps(variableManager, childTaskDescription, previousSubTasks, this.props.parentElementId(), this.props.id2tasksDescription(), this.props.ganttEvent());
+                    TaskDescriptionComponentProps taskComponentProps = new TaskDescriptionComponentProps(variableManager, childTaskDescription, previousSubTasks, taskId, this.props.id2tasksDescription(), this.props.ganttEvent(),
+                            this.props.ganttRenderingCache());
                     return new Element(TaskDescriptionComponent.class, taskComponentProps);
                 }).toList();
 
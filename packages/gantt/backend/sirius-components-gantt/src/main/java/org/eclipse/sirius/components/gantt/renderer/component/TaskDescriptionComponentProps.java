@@ -18,6 +18,7 @@ import java.util.Optional;
 
 import org.eclipse.sirius.components.gantt.Task;
 import org.eclipse.sirius.components.gantt.description.TaskDescription;
+import org.eclipse.sirius.components.gantt.renderer.GanttRenderingCache;
 import org.eclipse.sirius.components.gantt.renderer.events.IGanttEvent;
 import org.eclipse.sirius.components.representations.IProps;
 import org.eclipse.sirius.components.representations.VariableManager;
@@ -28,5 +29,5 @@ import org.eclipse.sirius.components.representations.VariableManager;
  * @author lfasani
  */
 public record TaskDescriptionComponentProps(VariableManager variableManager, TaskDescription taskDescription, List<Task> previousTasks, String parentElementId,
-        Map<String, TaskDescription> id2tasksDescription, Optional<IGanttEvent> ganttEvent) implements IProps {
+        Map<String, TaskDescription> id2tasksDescription, Optional<IGanttEvent> ganttEvent, GanttRenderingCache ganttRenderingCache) implements IProps {
 }
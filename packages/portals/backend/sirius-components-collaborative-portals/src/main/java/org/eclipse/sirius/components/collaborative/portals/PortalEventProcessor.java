@@ -28,6 +28,7 @@ import org.eclipse.sirius.components.collaborative.portals.api.IPortalInput;
 import org.eclipse.sirius.components.collaborative.portals.api.PortalContext;
 import org.eclipse.sirius.components.collaborative.portals.dto.PortalRefreshedEventPayload;
 import org.eclipse.sirius.components.collaborative.portals.dto.RenamePortalInput;
+import org.eclipse.sirius.components.collaborative.portals.services.PortalReferenceGraph;
 import org.eclipse.sirius.components.collaborative.portals.services.PortalServices;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IInput;
@@ -64,17 +65,20 @@ public class PortalEventProcessor implements IPortalEventProcessor {
 
     private final ISubscriptionManager subscriptionManager;
 
+    private final PortalReferenceGraph portalReferenceGraph;
+
     private Portal currentPortal;
 
     private final Many<IPayload> sink = Sinks.many().multicast().directBestEffort();
 
     public PortalEventProcessor(IEditingContext editingContext, IRepresentationSearchService representationSearchService, IRepresentationPersistenceService representationPersistenceService,
-            List<IPortalEventHandler> portalEventHandlers, ISubscriptionManager subscriptionManager, Portal portal) {
+            List<IPortalEventHandler> portalEventHandlers, ISubscriptionManager subscriptionManager, PortalReferenceGraph portalReferenceGraph, Portal portal) {
         this.editingContext = Objects.requireNonNull(editingContext);
         this.representationSearchService = Objects.requireNonNull(representationSearchService);
         this.representationPersistenceService = Objects.requireNonNull(representationPersistenceService);
         this.portalEventHandlers = Objects.requireNonNull(portalEventHandlers);
         this.subscriptionManager = Objects.requireNonNull(subscriptionManager);
+        this.portalReferenceGraph = Objects.requireNonNull(portalReferenceGraph);
         this.currentPortal = Objects.requireNonNull(portal);
     }
 
@@ -102,7 +106,7 @@ public class PortalEventProcessor implements IPortalEventProcessor {
             Optional<IPortalEventHandler> optionalPortalEventHandler = this.portalEventHandlers.stream().filter(handler -> handler.canHandle(portalInput)).findFirst();
             if (optionalPortalEventHandler.isPresent()) {
                 IPortalEventHandler portalEventHandler = optionalPortalEventHandler.get();
-                PortalContext context = new PortalContext(this.representationSearchService, this.editingContext, this.currentPortal, portalInput);
+                PortalContext context = new PortalContext(this.representationSearchService, this.editingContext, this.portalReferenceGraph, this.currentPortal, portalInput);
                 portalEventHandler.handle(payloadSink, changeDescriptionSink, context);
             } else {
                 this.logger.warn("No handler found for event: {}", portalInput);
@@ -113,12 +117,13 @@ public class PortalEventProcessor implements IPortalEventProcessor {
     private void updatePortal(IInput input, Portal newPortal) {
         this.currentPortal = newPortal;
         this.representationPersistenceService.save(input, this.editingContext, this.currentPortal);
+        this.portalReferenceGraph.update(this.currentPortal);
         this.emitNewPortal(input);
     }
 
     @Override
     public void refresh(ChangeDescription changeDescription) {
-        PortalServices portalServices = new PortalServices(this.representationSearchService, this.editingContext);
+        PortalServices portalServices = new PortalServices(this.representationSearchService, this.editingContext, this.portalReferenceGraph);
         if (changeDescription.getKind().equals(ChangeKind.REPRESENTATION_DELETION) && changeDescription.getInput() instanceof DeleteRepresentationInput deleteRepresentationInput) {
             var deletedRepresentationId = deleteRepresentationInput.representationId();
             if (portalServices.referencesRepresentation(this.currentPortal, deletedRepresentationId)) {
@@ -22,6 +22,7 @@ import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenc
 import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
 import org.eclipse.sirius.components.collaborative.api.ISubscriptionManagerFactory;
 import org.eclipse.sirius.components.collaborative.portals.api.IPortalEventHandler;
+import org.eclipse.sirius.components.collaborative.portals.services.PortalReferenceGraphRegistry;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.portals.Portal;
 import org.springframework.stereotype.Service;
@@ -41,12 +42,15 @@ public class PortalEventProcessorFactory implements IRepresentationEventProcesso
 
     private final List<IPortalEventHandler> portalEventHandlers;
 
+    private final PortalReferenceGraphRegistry portalReferenceGraphRegistry;
+
     public PortalEventProcessorFactory(IRepresentationSearchService representationSearchService, IRepresentationPersistenceService representationPersistenceService,
-            ISubscriptionManagerFactory subscriptionManagerFactory, List<IPortalEventHandler> portalEventHandlers) {
+            ISubscriptionManagerFactory subscriptionManagerFactory, List<IPortalEventHandler> portalEventHandlers, PortalReferenceGraphRegistry portalReferenceGraphRegistry) {
         this.representationSearchService = Objects.requireNonNull(representationSearchService);
         this.representationPersistenceService = Objects.requireNonNull(representationPersistenceService);
         this.subscriptionManagerFactory = Objects.requireNonNull(subscriptionManagerFactory);
         this.portalEventHandlers = Objects.requireNonNull(portalEventHandlers);
+        this.portalReferenceGraphRegistry = Objects.requireNonNull(portalReferenceGraphRegistry);
     }
 
     @Override
@@ -59,7 +63,9 @@ public class PortalEventProcessorFactory implements IRepresentationEventProcesso
         var optionalPortal = this.representationSearchService.findById(editingContext, representationId, Portal.class);
         if (optionalPortal.isPresent()) {
             Portal portal = optionalPortal.get();
-            var portalEventProcessor = new PortalEventProcessor(editingContext, this.representationSearchService, this.representationPersistenceService, this.portalEventHandlers, this.subscriptionManagerFactory.create(), portal);
+            var portalReferenceGraph = this.portalReferenceGraphRegistry.getPortalReferenceGraph(editingContext);
+            var portalEventProcessor = new PortalEventProcessor(editingContext, this.representationSearchService, this.representationPersistenceService, this.portalEventHandlers, this.subscriptionManagerFactory.create(),
+                    portalReferenceGraph, portal);
             return Optional.of(portalEventProcessor);
         }
 
@@ -16,6 +16,7 @@ import java.util.Objects;
 import java.util.Optional;
 
 import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
+import org.eclipse.sirius.components.collaborative.portals.services.PortalReferenceGraph;
 import org.eclipse.sirius.components.collaborative.portals.services.PortalServices;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.portals.Portal;
@@ -30,21 +31,24 @@ public class PortalContext {
 
     private final IEditingContext editingContext;
 
+    private final PortalReferenceGraph portalReferenceGraph;
+
     private final Portal currentPortal;
 
     private final IPortalInput input;
 
     private Optional<Portal> nextPortal = Optional.empty();
 
-    public PortalContext(IRepresentationSearchService representationSearchService, IEditingContext editingContext, Portal currentPortal, IPortalInput input) {
+    public PortalContext(IRepresentationSearchService representationSearchService, IEditingContext editingContext, PortalReferenceGraph portalReferenceGraph, Portal currentPortal, IPortalInput input) {
         this.representationSearchService = Objects.requireNonNull(representationSearchService);
         this.editingContext = Objects.requireNonNull(editingContext);
+        this.portalReferenceGraph = Objects.requireNonNull(portalReferenceGraph);
         this.currentPortal = Objects.requireNonNull(currentPortal);
         this.input = Objects.requireNonNull(input);
     }
 
     public PortalServices getServices() {
-        return new PortalServices(this.representationSearchService, this.editingContext);
+        return new PortalServices(this.representationSearchService, this.editingContext, this.portalReferenceGraph);
     }
 
     public IEditingContext getEditingContext() {
@@ -15,7 +15,7 @@ package org.eclipse.sirius.components.collaborative.portals.dto;
 import java.util.Objects;
 import java.util.UUID;
 
-import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshedEventPayload;
 import org.eclipse.sirius.components.portals.Portal;
 
 /**
@@ -23,7 +23,7 @@ import org.eclipse.sirius.components.portals.Portal;
  *
  * @author pcdavid
  */
-public record PortalRefreshedEventPayload(UUID id, Portal portal) implements IPayload {
+public record PortalRefreshedEventPayload(UUID id, Portal portal) implements IRepresentationRefreshedEventPayload {
     public PortalRefreshedEventPayload {
         Objects.requireNonNull(id);
         Objects.requireNonNull(portal);
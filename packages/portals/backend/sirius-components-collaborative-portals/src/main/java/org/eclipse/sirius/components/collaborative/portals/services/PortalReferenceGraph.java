@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.portals.services;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.components.portals.Portal;
+import org.eclipse.sirius.components.portals.PortalView;
+
+/**
+ * The graph of the representations referenced by the views of the portals of an editing context.
+ *
+ * <p>
+ * The representations referenced by a portal are loaded the first time they are needed and they are then kept up to
+ * date when the portal is saved. The representations which are not portals are kept without any references so that
+ * they are not loaded again.
+ * </p>
+ *
+ * @author agent
+ */
+public class PortalReferenceGraph {
+
+    private final Map<String, Set<String>> representationId2referencedRepresentationIds = new ConcurrentHashMap<>();
+
+    /**
+     * Updates the representations referenced by the given portal.
+     *
+     * @param portal
+     *         The portal which has been saved
+     */
+    public void update(Portal portal) {
+        this.representationId2referencedRepresentationIds.put(portal.getId(), this.getReferencedRepresentationIds(portal));
+    }
+
+    /**
+     * Removes a representation which has been deleted, or which may have been modified, from the graph.
+     *
+     * @param representationId
+     *         The identifier of the representation
+     */
+    public void remove(String representationId) {
+        if (representationId != null) {
+            this.representationId2referencedRepresentationIds.remove(representationId);
+        }
+    }
+
+    /**
+     * Indicates if the given representation can be reached from the views of the given portal, directly or through its
+     * sub-portals.
+     *
+     * @param portal
+     *         The portal
+     * @param representationId
+     *         The identifier of the representation
+     * @param portalProvider
+     *         Used to load the portals which are not in the graph yet
+     * @return <code>true</code> if the representation is referenced by the portal
+     */
+    public boolean isReachable(Portal portal, String representationId, Function<String, Optional<Portal>> portalProvider) {
+        Set<String> visitedRepresentationIds = new HashSet<>();
+        Deque<String> representationIdsToVisit = new ArrayDeque<>(this.getReferencedRepresentationIds(portal));
+
+        boolean isReachable = false;
+        while (!isReachable && !representationIdsToVisit.isEmpty()) {
+            String currentRepresentationId = representationIdsToVisit.pop();
+            if (Objects.equals(currentRepresentationId, representationId)) {
+                isReachable = true;
+            } else if (visitedRepresentationIds.add(currentRepresentationId)) {
+                representationIdsToVisit.addAll(this.getReferencedRepresentationIds(currentRepresentationId, portalProvider));
+            }
+        }
+        return isReachable;
+    }
+
+    private Set<String> getReferencedRepresentationIds(String representationId, Function<String, Optional<Portal>> portalProvider) {
+        Set<String> referencedRepresentationIds = Set.of();
+        if (representationId != null) {
+            referencedRepresentationIds = this.representationId2referencedRepresentationIds.computeIfAbsent(representationId, id -> portalProvider.apply(id)
+                    .map(this::getReferencedRepresentationIds)
+                    .orElse(Set.of()));
+        }
+        return referencedRepresentationIds;
+    }
+
+    private Set<String> getReferencedRepresentationIds(Portal portal) {
+        return portal.getViews().stream()
+                .map(PortalView::getRepresentationId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.portals.services;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.IInputPostProcessor;
+import org.eclipse.sirius.components.collaborative.dto.DeleteRepresentationInput;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Sinks.Many;
+
+/**
+ * Removes the deleted representations from the graph of the references of the portals.
+ *
+ * @author agent
+ */
+@Service
+public class PortalReferenceGraphInputPostProcessor implements IInputPostProcessor {
+
+    private final PortalReferenceGraphRegistry portalReferenceGraphRegistry;
+
+    public PortalReferenceGraphInputPostProcessor(PortalReferenceGraphRegistry portalReferenceGraphRegistry) {
+        this.portalReferenceGraphRegistry = Objects.requireNonNull(portalReferenceGraphRegistry);
+    }
+
+    @Override
+    public void postProcess(IEditingContext editingContext, IInput input, Many<ChangeDescription> changeDescriptionSink) {
+        if (input instanceof DeleteRepresentationInput deleteRepresentationInput) {
+            this.portalReferenceGraphRegistry.getPortalReferenceGraph(editingContext).remove(deleteRepresentationInput.representationId());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.portals.services;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the graph of the references of the portals of each editing context.
+ *
+ * <p>
+ * The graphs are kept as long as their editing context is used, a reloaded editing context thus starts with a new graph.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class PortalReferenceGraphRegistry {
+
+    private final Map<IEditingContext, PortalReferenceGraph> editingContext2portalReferenceGraph = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public PortalReferenceGraph getPortalReferenceGraph(IEditingContext editingContext) {
+        return this.editingContext2portalReferenceGraph.computeIfAbsent(editingContext, key -> new PortalReferenceGraph());
+    }
+}
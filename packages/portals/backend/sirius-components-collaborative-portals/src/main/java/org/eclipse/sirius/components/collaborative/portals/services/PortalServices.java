@@ -37,18 +37,26 @@ public class PortalServices {
 
     private final IEditingContext editingContext;
 
-    public PortalServices(IRepresentationSearchService representationSearchService, IEditingContext editingContext) {
+    private final PortalReferenceGraph portalReferenceGraph;
+
+    public PortalServices(IRepresentationSearchService representationSearchService, IEditingContext editingContext, PortalReferenceGraph portalReferenceGraph) {
         this.editingContext = Objects.requireNonNull(editingContext);
         this.representationSearchService = Objects.requireNonNull(representationSearchService);
+        this.portalReferenceGraph = Objects.requireNonNull(portalReferenceGraph);
     }
 
+    /**
+     * Indicates if a representation is referenced by a portal, directly or through its sub-portals. The sub-portals are
+     * only loaded if they are not already known by the graph of the references of the portals.
+     *
+     * @param portal
+     *            the portal.
+     * @param representationId
+     *            the identifier of the representation.
+     * @return <code>true</code> if the representation is referenced by the portal.
+     */
     public boolean referencesRepresentation(Portal portal, String representationId) {
-        if (portal.getViews().stream().anyMatch(portalView -> Objects.equals(portalView.getRepresentationId(), representationId))) {
-            return true;
-        } else {
-            return portal.getViews().stream().flatMap(view -> this.representationSearchService.findById(this.editingContext, view.getRepresentationId(), Portal.class).stream())
-                    .anyMatch(subPortal -> subPortal.getId().equals(representationId) || this.referencesRepresentation(subPortal, representationId));
-        }
+        return this.portalReferenceGraph.isReachable(portal, representationId, id -> this.representationSearchService.findById(this.editingContext, id, Portal.class));
     }
 
     /**
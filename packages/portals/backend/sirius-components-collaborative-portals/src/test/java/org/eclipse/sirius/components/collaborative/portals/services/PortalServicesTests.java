@@ -19,6 +19,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
@@ -59,7 +60,7 @@ public class PortalServicesTests {
 
     @BeforeEach
     public void setup() {
-        this.services = new PortalServices(NOOP_SEARCH_SERVICE, NOOP_EDITING_CONTEXT);
+        this.services = new PortalServices(NOOP_SEARCH_SERVICE, NOOP_EDITING_CONTEXT, new PortalReferenceGraph());
     }
 
     @Test
@@ -141,7 +142,7 @@ public class PortalServicesTests {
                 return true;
             }
         };
-        Optional<Portal> newPortal = new PortalServices(mockSearchService, NOOP_EDITING_CONTEXT).addView(portal, PORTAL_ID, 0, 0, 0, 0);
+        Optional<Portal> newPortal = new PortalServices(mockSearchService, NOOP_EDITING_CONTEXT, new PortalReferenceGraph()).addView(portal, PORTAL_ID, 0, 0, 0, 0);
         assertThat(newPortal).isEmpty();
     }
 
@@ -166,20 +167,55 @@ public class PortalServicesTests {
             }
         };
 
+        PortalReferenceGraph portalReferenceGraph = new PortalReferenceGraph();
+
         // Add P2 inside P1: should work
-        Optional<Portal> portal1WithPortal2 = new PortalServices(mockSearchService, NOOP_EDITING_CONTEXT).addView(portal1, portal2.getId(), 0, 0, 0, 0);
+        Optional<Portal> portal1WithPortal2 = new PortalServices(mockSearchService, NOOP_EDITING_CONTEXT, portalReferenceGraph).addView(portal1, portal2.getId(), 0, 0, 0, 0);
         assertThat(portal1WithPortal2).isNotEmpty();
         assertThat(portal1WithPortal2.get().getViews()).hasSize(1);
 
         // Update the mock repo with the updated P1
         portalsRepository.remove(portal1);
         portalsRepository.add(portal1WithPortal2.get());
+        portalReferenceGraph.update(portal1WithPortal2.get());
 
         // Try to add (the new) P1 inside P2: should be forbidden
-        Optional<Portal> portal2WithPortal1 = new PortalServices(mockSearchService, NOOP_EDITING_CONTEXT).addView(portal2, portal1WithPortal2.get().getId(), 0, 0, 0, 0);
+        Optional<Portal> portal2WithPortal1 = new PortalServices(mockSearchService, NOOP_EDITING_CONTEXT, portalReferenceGraph).addView(portal2, portal1WithPortal2.get().getId(), 0, 0, 0, 0);
         assertThat(portal2WithPortal1).isEmpty();
     }
 
+    @Test
+    public void testSubPortalsAreOnlyLoadedOnce() {
+        Portal subPortal = Portal.newPortal(PORTAL_ID + "_sub").descriptionId(PORTAL_DESCRIPTION_ID).label(PORTAL_ID + "_sub").targetObjectId(TARGET_OBJECT_ID)
+                .views(List.of(PortalView.newPortalView("subView").representationId("representation").build()))
+                .build();
+        Portal portal = Portal.newPortal(PORTAL_ID).descriptionId(PORTAL_DESCRIPTION_ID).label(PORTAL_ID).targetObjectId(TARGET_OBJECT_ID)
+                .views(List.of(PortalView.newPortalView("view").representationId(subPortal.getId()).build()))
+                .build();
+
+        AtomicInteger loadedRepresentationsCount = new AtomicInteger();
+        IRepresentationSearchService mockSearchService = new IRepresentationSearchService() {
+            @Override
+            public <T extends IRepresentation> Optional<T> findById(IEditingContext editingContext, String representationId, Class<T> representationClass) {
+                loadedRepresentationsCount.incrementAndGet();
+                return Optional.of(subPortal).filter(portalFound -> portalFound.getId().equals(representationId)).map(representationClass::cast);
+            }
+
+            @Override
+            public boolean existByIdAndKind(String representationId, List<String> kinds) {
+                return true;
+            }
+        };
+
+        var portalServices = new PortalServices(mockSearchService, NOOP_EDITING_CONTEXT, new PortalReferenceGraph());
+        assertThat(portalServices.referencesRepresentation(portal, "representation")).isTrue();
+        assertThat(portalServices.referencesRepresentation(portal, "otherRepresentation")).isFalse();
+        assertThat(portalServices.referencesRepresentation(portal, "otherRepresentation")).isFalse();
+
+        // The sub-portal and the representation it references have been loaded once
+        assertThat(loadedRepresentationsCount.get()).isEqualTo(2);
+    }
+
     private Portal createSamplePortal(int nbViews) {
         var views = IntStream.range(0, nbViews).mapToObj(index -> PortalView.newPortalView("view-" + index).representationId("representation-" + index).build()).toList();
         var layoutData = IntStream.range(0, nbViews).mapToObj(index -> PortalViewLayoutData.newPortalViewLayoutData("view-" + index).x(index).build()).toList();
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.diagram.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramLayoutDataPersistenceService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationLayoutData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataUpdateService;
+import org.eclipse.sirius.web.domain.services.Failure;
+import org.eclipse.sirius.web.domain.services.Success;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Used to persist the layout data of the diagrams separately from their content.
+ *
+ * <p>
+ * Only the layout data of the elements whose layout has changed are inserted or updated, all at once. The layout data
+ * of the elements which were part of the previous layout of the diagram but not of the new one, since they have been
+ * removed, are deleted. The whole diagram is only persisted if it does not exist yet.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class DiagramLayoutDataPersistenceService implements IDiagramLayoutDataPersistenceService {
+
+    private static final String NODE_LAYOUT_DATA = "nodeLayoutData";
+
+    private static final String EDGE_LAYOUT_DATA = "edgeLayoutData";
+
+    private static final String LABEL_LAYOUT_DATA = "labelLayoutData";
+
+    private final IRepresentationDataUpdateService representationDataUpdateService;
+
+    private final IRepresentationPersistenceService representationPersistenceService;
+
+    private final ObjectMapper objectMapper;
+
+    private final Logger logger = LoggerFactory.getLogger(DiagramLayoutDataPersistenceService.class);
+
+    public DiagramLayoutDataPersistenceService(IRepresentationDataUpdateService representationDataUpdateService, IRepresentationPersistenceService representationPersistenceService, ObjectMapper objectMapper) {
+        this.representationDataUpdateService = Objects.requireNonNull(representationDataUpdateService);
+        this.representationPersistenceService = Objects.requireNonNull(representationPersistenceService);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    @Override
+    @Transactional
+    public void save(ICause cause, IEditingContext editingContext, Diagram diagram, DiagramLayoutData changedLayoutData, DiagramLayoutData previousLayoutData) {
+        var optionalRepresentationId = new UUIDParser().parse(diagram.getId());
+        if (optionalRepresentationId.isPresent()) {
+            List<RepresentationLayoutData> layoutData = new ArrayList<>();
+            this.addLayoutData(layoutData, NODE_LAYOUT_DATA, changedLayoutData.nodeLayoutData());
+            this.addLayoutData(layoutData, EDGE_LAYOUT_DATA, changedLayoutData.edgeLayoutData());
+            this.addLayoutData(layoutData, LABEL_LAYOUT_DATA, changedLayoutData.labelLayoutData());
+
+            var representationId = optionalRepresentationId.get();
+            var newLayoutData = diagram.getLayoutData();
+            var result = this.representationDataUpdateService.deleteLayoutData(cause, representationId, NODE_LAYOUT_DATA,
+                    this.getRemovedElementIds(previousLayoutData.nodeLayoutData(), newLayoutData.nodeLayoutData()));
+            if (result instanceof Success<Void>) {
+                this.representationDataUpdateService.deleteLayoutData(cause, representationId, EDGE_LAYOUT_DATA,
+                        this.getRemovedElementIds(previousLayoutData.edgeLayoutData(), newLayoutData.edgeLayoutData()));
+                this.representationDataUpdateService.deleteLayoutData(cause, representationId, LABEL_LAYOUT_DATA,
+                        this.getRemovedElementIds(previousLayoutData.labelLayoutData(), newLayoutData.labelLayoutData()));
+                if (!layoutData.isEmpty()) {
+                    result = this.representationDataUpdateService.updateLayoutData(cause, representationId, layoutData);
+                }
+            }
+            if (result instanceof Failure<Void>) {
+                this.representationPersistenceService.save(cause, editingContext, diagram);
+            }
+        }
+    }
+
+    private Set<String> getRemovedElementIds(Map<String, ?> previousElementsLayoutData, Map<String, ?> elementsLayoutData) {
+        return previousElementsLayoutData.keySet().stream()
+                .filter(elementId -> !elementsLayoutData.containsKey(elementId))
+                .collect(Collectors.toSet());
+    }
+
+    private void addLayoutData(List<RepresentationLayoutData> layoutData, String kind, Map<String, ?> elementsLayoutData) {
+        for (var entry : elementsLayoutData.entrySet()) {
+            try {
+                var content = this.objectMapper.writeValueAsString(entry.getValue());
+                layoutData.add(new RepresentationLayoutData(kind, entry.getKey(), content));
+            } catch (JsonProcessingException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+            }
+        }
+    }
+}
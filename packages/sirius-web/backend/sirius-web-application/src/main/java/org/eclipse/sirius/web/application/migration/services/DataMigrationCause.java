@@ -0,0 +1,25 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.migration.services;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.events.ICause;
+
+/**
+ * The cause of the modifications performed by the data migration job.
+ *
+ * @author agent
+ */
+public record DataMigrationCause(UUID id) implements ICause {
+}
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.migration.services;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.eclipse.sirius.web.application.migration.services.api.IDataMigrationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Background job used to migrate all the persisted representations and documents to the most recent version.
+ *
+ * <p>
+ * Once the server is started, the job iterates over the representations and then over the projects with documents to
+ * migrate by batches. The elements of a batch are migrated by a bounded pool of workers and the job waits between two
+ * batches to limit the load of the database. Since the data already migrated are not returned anymore by the
+ * queries, the job can be stopped at any time and it will resume with the remaining data the next time the server
+ * starts.
+ * </p>
+ *
+ * <p>
+ * The job is disabled by default, it can be enabled with the property {@code sirius.web.migration.job.enabled}.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class DataMigrationJob {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final IDataMigrationService dataMigrationService;
+
+    private final boolean enabled;
+
+    private final int workerCount;
+
+    private final int batchSize;
+
+    private final Duration batchDelay;
+
+    private final ExecutorService jobExecutorService;
+
+    private final ExecutorService workerExecutorService;
+
+    private final Logger logger = LoggerFactory.getLogger(DataMigrationJob.class);
+
+    public DataMigrationJob(IDataMigrationService dataMigrationService, @Value("${sirius.web.migration.job.enabled:false}") boolean enabled,
+            @Value("${sirius.web.migration.job.workers:2}") int workerCount, @Value("${sirius.web.migration.job.batchSize:50}") int batchSize,
+            @Value("${sirius.web.migration.job.batchDelay:1s}") Duration batchDelay) {
+        this.dataMigrationService = Objects.requireNonNull(dataMigrationService);
+        this.enabled = enabled;
+        this.workerCount = Math.max(1, workerCount);
+        this.batchSize = Math.max(1, batchSize);
+        this.batchDelay = Objects.requireNonNull(batchDelay);
+        this.jobExecutorService = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("Data migration job");
+            thread.setDaemon(true);
+            return thread;
+        });
+        var workerIndex = new AtomicInteger();
+        this.workerExecutorService = Executors.newFixedThreadPool(this.workerCount, runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("Data migration worker " + workerIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (this.enabled) {
+            this.jobExecutorService.execute(this::run);
+        }
+    }
+
+    public void run() {
+        this.logger.info("Starting the migration of the persisted data with {} workers and batches of {} elements", this.workerCount, this.batchSize);
+        long start = System.currentTimeMillis();
+
+        var cause = new DataMigrationCause(UUID.randomUUID());
+
+        int migratedRepresentationCount = 0;
+        for (String kind : this.dataMigrationService.getRepresentationKinds()) {
+            migratedRepresentationCount += this.migrateAll(afterId -> this.dataMigrationService.findRepresentationsToMigrate(kind, afterId, this.batchSize),
+                    representationId -> this.dataMigrationService.migrateRepresentation(cause, representationId));
+        }
+
+        int migratedProjectCount = this.migrateAll(afterId -> this.dataMigrationService.findProjectsToMigrate(afterId, this.batchSize),
+                projectId -> this.dataMigrationService.migrateProject(cause, projectId));
+
+        long end = System.currentTimeMillis();
+        this.logger.info("{} representations and the documents of {} projects have been migrated in {} ms", migratedRepresentationCount, migratedProjectCount, end - start);
+    }
+
+    private int migrateAll(Function<UUID, List<UUID>> batchProvider, Predicate<UUID> migration) {
+        int migratedCount = 0;
+
+        var batch = batchProvider.apply(FIRST_ID);
+        while (!batch.isEmpty() && !Thread.currentThread().isInterrupted()) {
+            migratedCount += this.migrateBatch(batch, migration);
+
+            // The elements which could not be migrated are skipped by the next batch
+            var lastId = batch.get(batch.size() - 1);
+            this.waitBeforeNextBatch();
+            if (!Thread.currentThread().isInterrupted()) {
+                batch = batchProvider.apply(lastId);
+            }
+        }
+
+        return migratedCount;
+    }
+
+    private int migrateBatch(List<UUID> ids, Predicate<UUID> migration) {
+        int migratedCount = 0;
+
+        List<Callable<Boolean>> tasks = ids.stream()
+                .<Callable<Boolean>>map(id -> () -> migration.test(id))
+                .toList();
+        try {
+            List<Future<Boolean>> futures = this.workerExecutorService.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                if (this.isMigrated(ids.get(i), futures.get(i))) {
+                    migratedCount++;
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+
+        return migratedCount;
+    }
+
+    private boolean isMigrated(UUID id, Future<Boolean> future) throws InterruptedException {
+        boolean isMigrated = false;
+        try {
+            isMigrated = Boolean.TRUE.equals(future.get());
+        } catch (ExecutionException exception) {
+            this.logger.warn("An error occurred while migrating {}: {}", id, exception.getCause().getMessage());
+        }
+        return isMigrated;
+    }
+
+    private void waitBeforeNextBatch() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(this.batchDelay.toMillis());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.jobExecutorService.shutdownNow();
+        this.workerExecutorService.shutdownNow();
+    }
+}
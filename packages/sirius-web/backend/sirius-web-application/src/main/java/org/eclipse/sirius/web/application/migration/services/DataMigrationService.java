@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.migration.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.components.collaborative.representations.migration.IRepresentationMigrationParticipant;
+import org.eclipse.sirius.components.collaborative.representations.migration.RepresentationMigrationData;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.components.emf.migration.MigrationService;
+import org.eclipse.sirius.components.emf.migration.api.IMigrationParticipant;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextMigrationParticipantPredicate;
+import org.eclipse.sirius.web.application.migration.services.api.IDataMigrationService;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentService;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataMetadataOnly;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataUpdateService;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
+import org.eclipse.sirius.web.domain.services.Success;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Used to migrate the persisted representations and documents to the most recent version.
+ *
+ * <p>
+ * The representation data and the semantic data are locked while they are migrated so that a concurrent save cannot
+ * be overwritten by the migrated content.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class DataMigrationService implements IDataMigrationService {
+
+    private final IRepresentationDataSearchService representationDataSearchService;
+
+    private final IRepresentationDataUpdateService representationDataUpdateService;
+
+    private final IRepresentationContentService representationContentService;
+
+    private final ISemanticDataSearchService semanticDataSearchService;
+
+    private final IEditingContextSearchService editingContextSearchService;
+
+    private final IEditingContextPersistenceService editingContextPersistenceService;
+
+    private final List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates;
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, RepresentationMigrationData> representationMigrationData;
+
+    private final String documentMigrationVersion;
+
+    private final Logger logger = LoggerFactory.getLogger(DataMigrationService.class);
+
+    public DataMigrationService(IRepresentationDataSearchService representationDataSearchService, IRepresentationDataUpdateService representationDataUpdateService,
+            IRepresentationContentService representationContentService, ISemanticDataSearchService semanticDataSearchService, IEditingContextSearchService editingContextSearchService,
+            IEditingContextPersistenceService editingContextPersistenceService, List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates, ObjectMapper objectMapper,
+            List<IRepresentationMigrationParticipant> representationMigrationParticipants, List<IMigrationParticipant> migrationParticipants) {
+        this.representationDataSearchService = Objects.requireNonNull(representationDataSearchService);
+        this.representationDataUpdateService = Objects.requireNonNull(representationDataUpdateService);
+        this.representationContentService = Objects.requireNonNull(representationContentService);
+        this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
+        this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
+        this.editingContextPersistenceService = Objects.requireNonNull(editingContextPersistenceService);
+        this.migrationParticipantPredicates = Objects.requireNonNull(migrationParticipantPredicates);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.representationMigrationData = representationMigrationParticipants.stream()
+                .collect(Collectors.toMap(IRepresentationMigrationParticipant::getKind,
+                        migrationParticipant -> new RepresentationMigrationData(migrationParticipant.getClass().getSimpleName(), migrationParticipant.getVersion()),
+                        BinaryOperator.maxBy(Comparator.comparing(RepresentationMigrationData::migrationVersion))));
+        this.documentMigrationVersion = new MigrationService(migrationParticipants).getMostRecentParticipantMigrationData().migrationVersion();
+    }
+
+    @Override
+    public Set<String> getRepresentationKinds() {
+        return this.representationMigrationData.keySet();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> findRepresentationsToMigrate(String kind, UUID afterRepresentationId, int limit) {
+        return Optional.ofNullable(this.representationMigrationData.get(kind))
+                .map(migrationData -> this.representationDataSearchService.findAllIdsToMigrate(kind, migrationData.migrationVersion(), afterRepresentationId, limit))
+                .orElse(List.of());
+    }
+
+    @Override
+    @Transactional
+    public boolean migrateRepresentation(ICause cause, UUID representationId) {
+        boolean migrated = false;
+        if (this.representationDataSearchService.lockById(representationId)) {
+            var optionalMigrationData = this.representationDataSearchService.findMetadataById(representationId)
+                    .map(RepresentationDataMetadataOnly::kind)
+                    .map(this.representationMigrationData::get);
+            var optionalContent = this.representationContentService.findContentById(representationId);
+            if (optionalMigrationData.isPresent() && optionalContent.isPresent()) {
+                var migrationData = optionalMigrationData.get();
+                try {
+                    var content = this.objectMapper.writeValueAsString(optionalContent.get());
+                    var result = this.representationDataUpdateService.updateContentWithMigrationData(cause, representationId, content, migrationData.lastMigrationPerformed(), migrationData.migrationVersion());
+                    migrated = result instanceof Success<Void>;
+                } catch (JsonProcessingException exception) {
+                    this.logger.warn(exception.getMessage(), exception);
+                }
+            }
+        }
+        return migrated;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> findProjectsToMigrate(UUID afterProjectId, int limit) {
+        return this.semanticDataSearchService.findAllProjectsToMigrate(this.documentMigrationVersion, AggregateReference.to(afterProjectId), limit).stream()
+                .map(AggregateReference::getId)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public boolean migrateProject(ICause cause, UUID projectId) {
+        boolean migrated = false;
+
+        // The predicates only need the id of the editing context, it avoids loading the projects which are not migrated
+        IEditingContext editingContextToMigrate = projectId::toString;
+        var shouldMigrate = this.migrationParticipantPredicates.stream().anyMatch(predicate -> predicate.test(editingContextToMigrate));
+        if (shouldMigrate && this.semanticDataSearchService.lockByProject(AggregateReference.<Project, UUID>to(projectId))) {
+            var optionalEditingContext = this.editingContextSearchService.findById(projectId.toString());
+            if (optionalEditingContext.isPresent()) {
+                var editingContext = optionalEditingContext.get();
+                this.editingContextPersistenceService.persist(cause, editingContext);
+                editingContext.dispose();
+                migrated = true;
+            }
+        }
+        return migrated;
+    }
+}
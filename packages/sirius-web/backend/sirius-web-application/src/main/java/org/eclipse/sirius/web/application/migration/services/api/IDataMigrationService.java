@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.migration.services.api;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.events.ICause;
+
+/**
+ * Used to migrate the persisted representations and documents to the most recent version.
+ *
+ * <p>
+ * The representations and documents are migrated when they are loaded but the result of the migration is only
+ * persisted by a later save. This service writes the migrated content back without waiting for a modification.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IDataMigrationService {
+
+    /**
+     * Returns the kinds of representations with migration participants.
+     *
+     * @return The kinds of representations which may have to be migrated
+     */
+    Set<String> getRepresentationKinds();
+
+    /**
+     * Returns the ids of the representations of the given kind which have not been migrated to the most recent version.
+     *
+     * @param kind
+     *         The kind of representations
+     * @param afterRepresentationId
+     *         Only the ids greater than this one are returned
+     * @param limit
+     *         The maximum number of ids returned
+     * @return The ids of the representations to migrate in ascending order
+     */
+    List<UUID> findRepresentationsToMigrate(String kind, UUID afterRepresentationId, int limit);
+
+    /**
+     * Migrates the given representation and persists its migrated content.
+     *
+     * @param cause
+     *         The cause of the migration
+     * @param representationId
+     *         The id of the representation
+     * @return <code>true</code> if the representation has been migrated, <code>false</code> otherwise
+     */
+    boolean migrateRepresentation(ICause cause, UUID representationId);
+
+    /**
+     * Returns the ids of the projects with documents which have not been migrated to the most recent version.
+     *
+     * @param afterProjectId
+     *         Only the ids greater than this one are returned
+     * @param limit
+     *         The maximum number of ids returned
+     * @return The ids of the projects to migrate in ascending order
+     */
+    List<UUID> findProjectsToMigrate(UUID afterProjectId, int limit);
+
+    /**
+     * Loads the documents of the given project with the migration participants and persists them.
+     *
+     * @param cause
+     *         The cause of the migration
+     * @param projectId
+     *         The id of the project
+     * @return <code>true</code> if the documents of the project have been migrated, <code>false</code> otherwise
+     */
+    boolean migrateProject(ICause cause, UUID projectId);
+}
@@ -12,14 +12,18 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.project.controllers;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.eclipse.sirius.components.annotations.spring.graphql.QueryDataFetcher;
 import org.eclipse.sirius.components.graphql.api.IDataFetcherWithFieldCoordinates;
+import org.eclipse.sirius.web.application.UUIDParser;
 import org.eclipse.sirius.web.application.dto.PageInfoWithCount;
 import org.eclipse.sirius.web.application.project.dto.ProjectDTO;
 import org.eclipse.sirius.web.application.project.services.api.IProjectApplicationService;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.projections.ProjectCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
@@ -35,6 +39,14 @@ import graphql.schema.DataFetchingEnvironment;
 /**
  * Data fetcher for the field Viewer#projects.
  *
+ * <p>
+ * The projects are paginated with the cursor of the last project of the previous page when the argument
+ * <code>after</code> is used or when no page is given. Retrieving a page then costs the same no matter its position in
+ * the list of projects, unlike the retrieval of a page from its number. The cursor of a project contains both its
+ * identifier and its name, so that the following projects can still be found if this project is deleted or renamed in
+ * the meantime. The total number of projects is only counted when it is requested.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @QueryDataFetcher(type = "Viewer", field = "projects")
@@ -44,6 +56,16 @@ public class ViewerProjectsDataFetcher implements IDataFetcherWithFieldCoordinat
 
     private static final String LIMIT_ARGUMENT = "limit";
 
+    private static final String AFTER_ARGUMENT = "after";
+
+    private static final String COUNT_FIELD = "pageInfo/count";
+
+    private static final String PROJECT_TYPE = "Project";
+
+    private static final String PROJECT_CURSOR_TYPE = "ProjectCursor";
+
+    private static final String PROJECT_CURSOR_SEPARATOR = ":";
+
     private final IProjectApplicationService projectApplicationService;
 
     public ViewerProjectsDataFetcher(IProjectApplicationService projectApplicationService) {
@@ -52,22 +74,70 @@ public class ViewerProjectsDataFetcher implements IDataFetcherWithFieldCoordinat
 
     @Override
     public Connection<ProjectDTO> get(DataFetchingEnvironment environment) throws Exception {
-        int page = Optional.<Integer> ofNullable(environment.getArgument(PAGE_ARGUMENT))
-                .filter(pageArgument -> pageArgument > 0)
-                .orElse(0);
+        Optional<Integer> optionalPage = Optional.ofNullable(environment.getArgument(PAGE_ARGUMENT));
+        Optional<String> optionalAfter = Optional.ofNullable(environment.getArgument(AFTER_ARGUMENT));
         int limit = Optional.<Integer> ofNullable(environment.getArgument(LIMIT_ARGUMENT))
                 .filter(limitArgument -> limitArgument > 0)
                 .orElse(20);
 
-        var pageable = PageRequest.of(page, limit);
-        var projectPage = this.projectApplicationService.findAll(pageable);
-        return this.toConnection(projectPage);
+        Connection<ProjectDTO> connection;
+        if (optionalAfter.isPresent() || optionalPage.isEmpty()) {
+            connection = this.getProjectsAfter(optionalAfter, limit, environment.getSelectionSet().contains(COUNT_FIELD));
+        } else {
+            int page = optionalPage.filter(pageArgument -> pageArgument > 0).orElse(0);
+            var pageable = PageRequest.of(page, limit);
+            var projectPage = this.projectApplicationService.findAll(pageable);
+            connection = this.toConnection(projectPage);
+        }
+        return connection;
+    }
+
+    private Connection<ProjectDTO> getProjectsAfter(Optional<String> optionalAfter, int limit, boolean isCountRequested) {
+        var optionalCursor = optionalAfter.flatMap(this::parseCursor);
+
+        List<ProjectDTO> projects = List.of();
+        boolean hasNextPage = false;
+        if (optionalAfter.isEmpty() || optionalCursor.isPresent()) {
+            var projectsWithNext = this.projectApplicationService.findAll(optionalCursor, limit + 1);
+            hasNextPage = projectsWithNext.size() > limit;
+            projects = projectsWithNext.subList(0, Math.min(limit, projectsWithNext.size()));
+        }
+
+        long count = 0;
+        if (isCountRequested) {
+            count = this.projectApplicationService.count();
+        }
+        return this.toConnection(projects, optionalAfter.isPresent(), hasNextPage, count, this::toCursor);
+    }
+
+    private String toCursor(ProjectDTO projectDTO) {
+        return new Relay().toGlobalId(PROJECT_CURSOR_TYPE, projectDTO.id() + PROJECT_CURSOR_SEPARATOR + projectDTO.name());
+    }
+
+    private Optional<ProjectCursor> parseCursor(String cursor) {
+        Optional<ProjectCursor> optionalCursor = Optional.empty();
+        try {
+            var resolvedGlobalId = new Relay().fromGlobalId(cursor);
+            var separatorIndex = resolvedGlobalId.getId().indexOf(PROJECT_CURSOR_SEPARATOR);
+            if (PROJECT_CURSOR_TYPE.equals(resolvedGlobalId.getType()) && separatorIndex > 0) {
+                var name = resolvedGlobalId.getId().substring(separatorIndex + 1);
+                optionalCursor = new UUIDParser().parse(resolvedGlobalId.getId().substring(0, separatorIndex))
+                        .map(projectId -> new ProjectCursor(projectId, name));
+            }
+        } catch (IllegalArgumentException exception) {
+            // Ignore, the information that the cursor is invalid is returned as an empty Optional.
+        }
+        return optionalCursor;
     }
 
     private Connection<ProjectDTO> toConnection(Page<ProjectDTO> projectPage) {
-        var edges = projectPage.stream().map(projectDTO -> {
-            var globalId = new Relay().toGlobalId("Project", projectDTO.id().toString());
-            var cursor = new DefaultConnectionCursor(globalId);
+        Function<ProjectDTO, String> cursorProvider = projectDTO -> new Relay().toGlobalId(PROJECT_TYPE, projectDTO.id().toString());
+        return this.toConnection(projectPage.getContent(), projectPage.hasPrevious(), projectPage.hasNext(), projectPage.getTotalElements(), cursorProvider);
+    }
+
+    private Connection<ProjectDTO> toConnection(List<ProjectDTO> projects, boolean hasPreviousPage, boolean hasNextPage, long count, Function<ProjectDTO, String> cursorProvider) {
+        var edges = projects.stream().map(projectDTO -> {
+            var cursor = new DefaultConnectionCursor(cursorProvider.apply(projectDTO));
             return (Edge<ProjectDTO>) new DefaultEdge<>(projectDTO, cursor);
         }).toList();
 
@@ -78,7 +148,7 @@ public class ViewerProjectsDataFetcher implements IDataFetcherWithFieldCoordinat
         if (!edges.isEmpty()) {
             endCursor = edges.get(edges.size() - 1).getCursor();
         }
-        var pageInfo = new PageInfoWithCount(startCursor, endCursor, projectPage.hasPrevious(), projectPage.hasNext(), projectPage.getTotalElements());
+        var pageInfo = new PageInfoWithCount(startCursor, endCursor, hasPreviousPage, hasNextPage, count);
         return new DefaultConnection<>(edges, pageInfo);
     }
 }
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.project.services;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,6 +29,7 @@ import org.eclipse.sirius.web.application.project.dto.RenameProjectSuccessPayloa
 import org.eclipse.sirius.web.application.project.services.api.IProjectApplicationService;
 import org.eclipse.sirius.web.application.project.services.api.IProjectMapper;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.projections.ProjectCursor;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.services.api.IProjectCreationService;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.services.api.IProjectDeletionService;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.services.api.IProjectSearchService;
@@ -76,6 +78,20 @@ public class ProjectApplicationService implements IProjectApplicationService {
         return this.projectSearchService.findAll(pageable).map(this.projectMapper::toDTO);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectDTO> findAll(Optional<ProjectCursor> cursor, int limit) {
+        return this.projectSearchService.findAllSummaries(cursor, limit).stream()
+                .map(this.projectMapper::toDTO)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long count() {
+        return this.projectSearchService.count();
+    }
+
     @Override
     @Transactional
     public IPayload createProject(CreateProjectInput input) {
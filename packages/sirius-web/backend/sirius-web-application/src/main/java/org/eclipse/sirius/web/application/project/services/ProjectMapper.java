@@ -16,6 +16,7 @@ import org.eclipse.sirius.web.application.project.dto.NatureDTO;
 import org.eclipse.sirius.web.application.project.services.api.IProjectMapper;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.application.project.dto.ProjectDTO;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.projections.ProjectSummary;
 import org.springframework.stereotype.Component;
 
 /**
@@ -32,4 +33,12 @@ public class ProjectMapper implements IProjectMapper {
                 .toList();
         return new ProjectDTO(project.getId(), project.getName(), natures);
     }
+
+    @Override
+    public ProjectDTO toDTO(ProjectSummary projectSummary) {
+        var natures = projectSummary.natures().stream()
+                .map(nature -> new NatureDTO(nature.name()))
+                .toList();
+        return new ProjectDTO(projectSummary.id(), projectSummary.name(), natures);
+    }
 }
@@ -29,7 +29,7 @@ import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.emfjson.resource.JsonResourceFactoryImpl;
 import org.eclipse.sirius.web.application.project.services.api.IProjectExportParticipant;
 import org.eclipse.sirius.web.application.representation.services.RepresentationSearchService;
-import org.eclipse.sirius.web.application.representation.services.api.IRepresentationDataMigrationService;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentService;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
 import org.slf4j.Logger;
@@ -51,17 +51,17 @@ public class ProjectRepresentationDataExportParticipant implements IProjectExpor
 
     private final ObjectMapper objectMapper;
 
-    private final IRepresentationDataMigrationService representationDataMigrationService;
+    private final IRepresentationContentService representationContentService;
 
     private final RepresentationSearchService representationSearchService;
 
     private final Logger logger = LoggerFactory.getLogger(ProjectRepresentationDataExportParticipant.class);
 
-    public ProjectRepresentationDataExportParticipant(IEditingContextSearchService editingContextSearchService, IRepresentationDataSearchService representationDataSearchService, ObjectMapper objectMapper, IRepresentationDataMigrationService representationDataMigrationService, RepresentationSearchService representationSearchService) {
+    public ProjectRepresentationDataExportParticipant(IEditingContextSearchService editingContextSearchService, IRepresentationDataSearchService representationDataSearchService, ObjectMapper objectMapper, IRepresentationContentService representationContentService, RepresentationSearchService representationSearchService) {
         this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
         this.representationDataSearchService = Objects.requireNonNull(representationDataSearchService);
         this.objectMapper = Objects.requireNonNull(objectMapper);
-        this.representationDataMigrationService = Objects.requireNonNull(representationDataMigrationService);
+        this.representationContentService = Objects.requireNonNull(representationContentService);
         this.representationSearchService = Objects.requireNonNull(representationSearchService);
     }
 
@@ -71,8 +71,7 @@ public class ProjectRepresentationDataExportParticipant implements IProjectExpor
 
         var allRepresentationMetadata = this.representationDataSearchService.findAllMetadataByProject(AggregateReference.to(project.getId()));
         for (var representationMetadata: allRepresentationMetadata) {
-            var optionalRepresentationContentNode = this.representationDataSearchService.findContentById(representationMetadata.id())
-                    .flatMap(this.representationDataMigrationService::getMigratedContent);
+            var optionalRepresentationContentNode = this.representationContentService.findContentById(representationMetadata.id());
             if (optionalRepresentationContentNode.isPresent()) {
                 var representationContentNode = optionalRepresentationContentNode.get();
 
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.project.services.api;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,6 +21,7 @@ import org.eclipse.sirius.web.application.project.dto.CreateProjectInput;
 import org.eclipse.sirius.web.application.project.dto.DeleteProjectInput;
 import org.eclipse.sirius.web.application.project.dto.ProjectDTO;
 import org.eclipse.sirius.web.application.project.dto.RenameProjectInput;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.projections.ProjectCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -33,6 +35,20 @@ public interface IProjectApplicationService {
 
     Page<ProjectDTO> findAll(Pageable pageable);
 
+    /**
+     * Returns the projects sorted by name following the given project.
+     *
+     * @param cursor
+     *         The name and the identifier of the last project of the previous page or an empty optional for the first
+     *         page
+     * @param limit
+     *         The maximum number of projects to return
+     * @return The projects found
+     */
+    List<ProjectDTO> findAll(Optional<ProjectCursor> cursor, int limit);
+
+    long count();
+
     IPayload createProject(CreateProjectInput input);
 
     IPayload renameProject(RenameProjectInput input);
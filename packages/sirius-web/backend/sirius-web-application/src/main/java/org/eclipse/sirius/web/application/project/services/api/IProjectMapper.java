@@ -14,6 +14,7 @@ package org.eclipse.sirius.web.application.project.services.api;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.application.project.dto.ProjectDTO;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.projections.ProjectSummary;
 
 /**
  * Used to convert a project to a DTO.
@@ -22,4 +23,6 @@ import org.eclipse.sirius.web.application.project.dto.ProjectDTO;
  */
 public interface IProjectMapper {
     ProjectDTO toDTO(Project project);
+
+    ProjectDTO toDTO(ProjectSummary projectSummary);
 }
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.representations.IRepresentation;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.IRepresentationDataEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataContentUpdatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataDeletedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the most recently loaded representations.
+ *
+ * <p>
+ * The representations are kept with the version of the content they have been deserialized from and they are only
+ * returned for this version. As a result, a representation whose content has been updated without any event, for
+ * example by another server, is never returned. The representations are evicted once their content has been updated or
+ * once they have been deleted, and the least recently used ones are evicted once the capacity is reached.
+ * </p>
+ *
+ * <p>
+ * The representations returned are shared by all their callers, they must thus never be modified.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class RepresentationCache {
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Map<UUID, CachedRepresentation> cachedRepresentations;
+
+    public RepresentationCache(@Value("${sirius.web.representations.cache.capacity:100}") int capacity) {
+        this.cachedRepresentations = new LinkedHashMap<>(capacity, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CachedRepresentation> eldest) {
+                return this.size() > capacity;
+            }
+        };
+    }
+
+    public synchronized Optional<IRepresentation> get(UUID representationId, Instant contentVersion) {
+        return Optional.ofNullable(this.cachedRepresentations.get(representationId))
+                .filter(cachedRepresentation -> cachedRepresentation.contentVersion().equals(contentVersion))
+                .map(CachedRepresentation::representation);
+    }
+
+    public synchronized void put(UUID representationId, Instant contentVersion, IRepresentation representation) {
+        this.cachedRepresentations.put(representationId, new CachedRepresentation(contentVersion, representation));
+    }
+
+    public synchronized void evict(UUID representationId) {
+        this.cachedRepresentations.remove(representationId);
+    }
+
+    @TransactionalEventListener
+    public void onRepresentationDataEvent(IRepresentationDataEvent event) {
+        if (event instanceof RepresentationDataContentUpdatedEvent contentUpdatedEvent) {
+            this.evict(contentUpdatedEvent.representationData().getId());
+        } else if (event instanceof RepresentationDataDeletedEvent deletedEvent) {
+            this.evict(deletedEvent.representationData().getId());
+        }
+    }
+
+    /**
+     * A representation with the version of the content it has been deserialized from.
+     *
+     * @author agent
+     */
+    public record CachedRepresentation(Instant contentVersion, IRepresentation representation) {
+        public CachedRepresentation {
+            Objects.requireNonNull(contentVersion);
+            Objects.requireNonNull(representation);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentService;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationDataMigrationService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationLayoutData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to retrieve the content of the representations.
+ *
+ * <p>
+ * The layout data persisted separately are merged in the property <code>layoutData</code> of the content, in the
+ * property matching their kind and using the id of their element as key. They override the layout data of the same
+ * elements found in the content since they have been persisted after it.
+ * </p>
+ *
+ * <p>
+ * The view states persisted separately are merged in the objects of the content matching the path of their element.
+ * This path is made of the name of the property containing the object, directly or in an array, and of its property
+ * <code>id</code>, for example <code>columns/START_DATE</code>. The properties of the view states override those of
+ * the object, recursively for the nested objects.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class RepresentationContentService implements IRepresentationContentService {
+
+    private static final String LAYOUT_DATA = "layoutData";
+
+    private static final String VIEW_STATE = "viewState";
+
+    private static final String ID = "id";
+
+    private final IRepresentationDataSearchService representationDataSearchService;
+
+    private final IRepresentationDataMigrationService representationDataMigrationService;
+
+    private final ObjectMapper objectMapper;
+
+    private final Logger logger = LoggerFactory.getLogger(RepresentationContentService.class);
+
+    public RepresentationContentService(IRepresentationDataSearchService representationDataSearchService, IRepresentationDataMigrationService representationDataMigrationService, ObjectMapper objectMapper) {
+        this.representationDataSearchService = Objects.requireNonNull(representationDataSearchService);
+        this.representationDataMigrationService = Objects.requireNonNull(representationDataMigrationService);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    @Override
+    public Optional<ObjectNode> findContentById(UUID representationId) {
+        var optionalContent = this.representationDataSearchService.findContentById(representationId)
+                .flatMap(this.representationDataMigrationService::getMigratedContent);
+
+        if (optionalContent.isPresent()) {
+            var layoutData = this.representationDataSearchService.findLayoutDataById(representationId);
+            if (!layoutData.isEmpty()) {
+                this.mergeLayoutData(optionalContent.get(), layoutData);
+            }
+        }
+        return optionalContent;
+    }
+
+    private void mergeLayoutData(ObjectNode content, List<RepresentationLayoutData> layoutData) {
+        Map<String, ObjectNode> path2elementNode = new HashMap<>();
+        if (layoutData.stream().anyMatch(elementLayoutData -> VIEW_STATE.equals(elementLayoutData.kind()))) {
+            this.indexElements(null, content, path2elementNode);
+        }
+
+        for (var elementLayoutData : layoutData) {
+            try {
+                var elementLayoutDataNode = this.objectMapper.readTree(elementLayoutData.content());
+                if (VIEW_STATE.equals(elementLayoutData.kind())) {
+                    var elementNode = path2elementNode.get(elementLayoutData.elementId());
+                    if (elementNode != null && elementLayoutDataNode instanceof ObjectNode viewStateNode) {
+                        this.mergeViewState(elementNode, viewStateNode);
+                    }
+                } else {
+                    content.withObjectProperty(LAYOUT_DATA).withObjectProperty(elementLayoutData.kind()).set(elementLayoutData.elementId(), elementLayoutDataNode);
+                }
+            } catch (JsonProcessingException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+            }
+        }
+    }
+
+    private void indexElements(String propertyName, JsonNode node, Map<String, ObjectNode> path2elementNode) {
+        if (node instanceof ObjectNode objectNode) {
+            if (propertyName != null && objectNode.path(ID).isTextual()) {
+                path2elementNode.putIfAbsent(propertyName + "/" + objectNode.get(ID).asText(), objectNode);
+            }
+            objectNode.fields().forEachRemaining(field -> this.indexElements(field.getKey(), field.getValue(), path2elementNode));
+        } else if (node.isArray()) {
+            node.forEach(childNode -> this.indexElements(propertyName, childNode, path2elementNode));
+        }
+    }
+
+    private void mergeViewState(ObjectNode elementNode, ObjectNode viewStateNode) {
+        viewStateNode.fields().forEachRemaining(field -> {
+            var elementPropertyNode = elementNode.get(field.getKey());
+            if (elementPropertyNode instanceof ObjectNode elementPropertyObjectNode && field.getValue() instanceof ObjectNode viewStatePropertyNode) {
+                this.mergeViewState(elementPropertyObjectNode, viewStatePropertyNode);
+            } else {
+                elementNode.set(field.getKey(), field.getValue());
+            }
+        });
+    }
+}
@@ -14,6 +14,7 @@ package org.eclipse.sirius.web.application.representation.services;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.util.List;
 import java.util.Objects;
@@ -24,8 +25,7 @@ import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchServ
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.eclipse.sirius.web.application.UUIDParser;
-import org.eclipse.sirius.web.application.representation.services.api.IRepresentationDataMigrationService;
-import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataContentOnly;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +34,11 @@ import org.springframework.stereotype.Service;
 /**
  * Used to find representations.
  *
+ * <p>
+ * The content of the representations is converted to representations without being serialized again and the
+ * representations found are kept in a cache as long as their content is not updated.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -41,50 +46,61 @@ public class RepresentationSearchService implements IRepresentationSearchService
 
     private final IRepresentationDataSearchService representationDataSearchService;
 
-    private final IRepresentationDataMigrationService representationDataMigrationService;
+    private final IRepresentationContentService representationContentService;
+
+    private final RepresentationCache representationCache;
 
     private final ObjectMapper objectMapper;
 
     private final Logger logger = LoggerFactory.getLogger(RepresentationSearchService.class);
 
-    public RepresentationSearchService(IRepresentationDataSearchService representationDataSearchService, IRepresentationDataMigrationService representationDataMigrationService, ObjectMapper objectMapper) {
+    public RepresentationSearchService(IRepresentationDataSearchService representationDataSearchService, IRepresentationContentService representationContentService, RepresentationCache representationCache, ObjectMapper objectMapper) {
         this.representationDataSearchService = Objects.requireNonNull(representationDataSearchService);
-        this.representationDataMigrationService = Objects.requireNonNull(representationDataMigrationService);
+        this.representationContentService = Objects.requireNonNull(representationContentService);
+        this.representationCache = Objects.requireNonNull(representationCache);
         this.objectMapper = Objects.requireNonNull(objectMapper);
     }
 
     @Override
     public <T extends IRepresentation> Optional<T> findById(IEditingContext editingContext, String representationId, Class<T> representationClass) {
         return new UUIDParser().parse(representationId)
-                .flatMap(this.representationDataSearchService::findContentById)
-                .map(this::migratedContent)
-                .flatMap(this::toRepresentation)
+                .flatMap(this::findRepresentation)
                 .filter(representationClass::isInstance)
                 .map(representationClass::cast);
     }
 
+    private Optional<IRepresentation> findRepresentation(UUID representationId) {
+        Optional<IRepresentation> optionalRepresentation = Optional.empty();
+
+        var optionalContentVersion = this.representationDataSearchService.findContentVersionById(representationId);
+        if (optionalContentVersion.isPresent()) {
+            var contentVersion = optionalContentVersion.get();
+
+            optionalRepresentation = this.representationCache.get(representationId, contentVersion);
+            if (optionalRepresentation.isEmpty()) {
+                optionalRepresentation = this.representationContentService.findContentById(representationId)
+                        .flatMap(this::toRepresentation);
+                optionalRepresentation.ifPresent(representation -> this.representationCache.put(representationId, contentVersion, representation));
+            }
+        }
+        return optionalRepresentation;
+    }
+
     @Override
     public boolean existByIdAndKind(String representationId, List<String> kinds) {
         Optional<UUID> uuid =  new UUIDParser().parse(representationId);
         return uuid.filter(value -> this.representationDataSearchService.existsByIdAndKind(value, kinds)).isPresent();
     }
 
-    private Optional<IRepresentation> toRepresentation(String content) {
+    private Optional<IRepresentation> toRepresentation(ObjectNode content) {
         Optional<IRepresentation> optionalRepresentation = Optional.empty();
 
         try {
-            IRepresentation representation = this.objectMapper.readValue(content, IRepresentation.class);
+            IRepresentation representation = this.objectMapper.treeToValue(content, IRepresentation.class);
             optionalRepresentation = Optional.of(representation);
         } catch (JsonProcessingException exception) {
             this.logger.warn(exception.getMessage(), exception);
         }
         return optionalRepresentation;
     }
-
-    private String migratedContent(RepresentationDataContentOnly representationData) {
-        return this.representationDataMigrationService.getMigratedContent(representationData)
-                .map(Object::toString)
-                .orElse("");
-    }
-
-}
\ No newline at end of file
+}
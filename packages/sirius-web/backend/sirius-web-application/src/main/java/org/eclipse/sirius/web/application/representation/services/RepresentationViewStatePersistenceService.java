@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationViewStatePersistenceService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.components.representations.IRepresentation;
+import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationLayoutData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataUpdateService;
+import org.eclipse.sirius.web.domain.services.Failure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Used to persist the view state of the elements of the representations separately from their content.
+ *
+ * <p>
+ * The view state of each element modified is inserted or updated with the layout data of the representation, using
+ * the kind <code>viewState</code> and the path of the element as element id. The whole representation is only
+ * persisted if it does not exist yet.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class RepresentationViewStatePersistenceService implements IRepresentationViewStatePersistenceService {
+
+    private static final String VIEW_STATE = "viewState";
+
+    private final IRepresentationDataUpdateService representationDataUpdateService;
+
+    private final IRepresentationPersistenceService representationPersistenceService;
+
+    private final ObjectMapper objectMapper;
+
+    private final Logger logger = LoggerFactory.getLogger(RepresentationViewStatePersistenceService.class);
+
+    public RepresentationViewStatePersistenceService(IRepresentationDataUpdateService representationDataUpdateService, IRepresentationPersistenceService representationPersistenceService, ObjectMapper objectMapper) {
+        this.representationDataUpdateService = Objects.requireNonNull(representationDataUpdateService);
+        this.representationPersistenceService = Objects.requireNonNull(representationPersistenceService);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    @Override
+    @Transactional
+    public void save(ICause cause, IEditingContext editingContext, IRepresentation representation, Map<String, Object> changedViewStates) {
+        var optionalRepresentationId = new UUIDParser().parse(representation.getId());
+        if (optionalRepresentationId.isPresent()) {
+            List<RepresentationLayoutData> viewStates = new ArrayList<>();
+            for (var entry : changedViewStates.entrySet()) {
+                try {
+                    var content = this.objectMapper.writeValueAsString(entry.getValue());
+                    viewStates.add(new RepresentationLayoutData(VIEW_STATE, entry.getKey(), content));
+                } catch (JsonProcessingException exception) {
+                    this.logger.warn(exception.getMessage(), exception);
+                }
+            }
+
+            if (!viewStates.isEmpty()) {
+                var result = this.representationDataUpdateService.updateLayoutData(cause, optionalRepresentationId.get(), viewStates);
+                if (result instanceof Failure<Void>) {
+                    this.representationPersistenceService.save(cause, editingContext, representation);
+                }
+            }
+        }
+    }
+}
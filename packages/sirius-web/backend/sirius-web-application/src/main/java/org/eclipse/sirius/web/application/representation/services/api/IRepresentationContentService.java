@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services.api;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Used to retrieve the content of the representations.
+ *
+ * <p>
+ * The content returned has been migrated and contains the layout data persisted separately from the content of the
+ * representation.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IRepresentationContentService {
+
+    Optional<ObjectNode> findContentById(UUID representationId);
+}
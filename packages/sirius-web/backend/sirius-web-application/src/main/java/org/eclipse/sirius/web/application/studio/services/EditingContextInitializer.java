@@ -16,9 +16,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
 import org.eclipse.sirius.components.domain.Domain;
@@ -37,6 +39,7 @@ import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingCo
 import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceLoader;
 import org.eclipse.sirius.web.application.studio.services.api.IDomainProvider;
 import org.eclipse.sirius.web.application.studio.services.api.IStudioColorPalettesLoader;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -59,12 +62,15 @@ public class EditingContextInitializer implements IEditingContextProcessor {
 
     private final List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates;
 
-    public EditingContextInitializer(ISemanticDataSearchService semanticDataSearchService, IResourceLoader resourceLoader, List<IDomainProvider> domainProviders, IStudioColorPalettesLoader studioColorPalettesLoader, List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates) {
+    private final StudioSnapshotCache studioSnapshotCache;
+
+    public EditingContextInitializer(ISemanticDataSearchService semanticDataSearchService, IResourceLoader resourceLoader, List<IDomainProvider> domainProviders, IStudioColorPalettesLoader studioColorPalettesLoader, List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates, StudioSnapshotCache studioSnapshotCache) {
         this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
         this.resourceLoader = Objects.requireNonNull(resourceLoader);
         this.domainProviders = Objects.requireNonNull(domainProviders);
         this.studioColorPalettesLoader = Objects.requireNonNull(studioColorPalettesLoader);
         this.migrationParticipantPredicates = Objects.requireNonNull(migrationParticipantPredicates);
+        this.studioSnapshotCache = Objects.requireNonNull(studioSnapshotCache);
     }
 
     @Override
@@ -80,40 +86,55 @@ public class EditingContextInitializer implements IEditingContextProcessor {
 
             List<View> views = new ArrayList<>();
 
+            boolean applyMigrationParticipants = this.migrationParticipantPredicates.stream().anyMatch(predicate -> predicate.test(editingContext));
             var allSemanticData = this.semanticDataSearchService.findAllByDomains(List.of(DomainPackage.eNS_URI, ViewPackage.eNS_URI));
             for (var semanticData : allSemanticData) {
-                ResourceSet resourceSet = new ResourceSetImpl();
-
-                resourceSet.getPackageRegistry().put(DomainPackage.eNS_URI, DomainPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(ViewPackage.eNS_URI, ViewPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(DeckPackage.eNS_URI, DeckPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(DiagramPackage.eNS_URI, DiagramPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(FormPackage.eNS_URI, FormPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(GanttPackage.eNS_URI, GanttPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(TreePackage.eNS_URI, TreePackage.eINSTANCE);
-                this.studioColorPalettesLoader.loadStudioColorPalettes(resourceSet);
-
-                semanticData.getDocuments().forEach(document -> this.resourceLoader.toResource(resourceSet, document.getId().toString(), document.getName(), document.getContent(),
-                        this.migrationParticipantPredicates.stream().anyMatch(predicate -> predicate.test(editingContext))));
-                resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
-
-                var treeIterator = resourceSet.getAllContents();
-                while (treeIterator.hasNext()) {
-                    var next = treeIterator.next();
-                    if (next instanceof View view) {
-                        views.add(view);
-                        treeIterator.prune();
-                    } else if (next instanceof Domain domain) {
-                        domains.add(domain);
-                        treeIterator.prune();
-                    }
-                }
+                var studioSnapshot = this.studioSnapshotCache.getSnapshot(semanticData, applyMigrationParticipants, () -> this.loadStudioSnapshot(semanticData, applyMigrationParticipants));
+                views.addAll(studioSnapshot.views());
+                domains.addAll(studioSnapshot.domains());
             }
+            this.studioSnapshotCache.retainAll(allSemanticData.stream().map(SemanticData::getId).collect(Collectors.toSet()));
 
             siriusWebEditingContext.getViews().addAll(views);
 
             var resourceSet = siriusWebEditingContext.getDomain().getResourceSet();
-            new DomainConverter().convert(domains).forEach(ePackage -> resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage));
+            this.studioSnapshotCache.getEPackages(domains, () -> new DomainConverter().convert(domains).toList())
+                    .forEach(ePackage -> resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage));
+        }
+    }
+
+    private StudioSnapshot loadStudioSnapshot(SemanticData semanticData, boolean applyMigrationParticipants) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+
+        resourceSet.getPackageRegistry().put(DomainPackage.eNS_URI, DomainPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(ViewPackage.eNS_URI, ViewPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(DeckPackage.eNS_URI, DeckPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(DiagramPackage.eNS_URI, DiagramPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(FormPackage.eNS_URI, FormPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(GanttPackage.eNS_URI, GanttPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(TreePackage.eNS_URI, TreePackage.eINSTANCE);
+        this.studioColorPalettesLoader.loadStudioColorPalettes(resourceSet);
+
+        semanticData.getDocuments().forEach(document -> this.resourceLoader.toResource(resourceSet, document.getId().toString(), document.getName(), document.getContent(), applyMigrationParticipants));
+        resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
+
+        // The snapshot is shared between editing contexts, its proxies are thus resolved once and for all
+        EcoreUtil.resolveAll(resourceSet);
+
+        List<View> views = new ArrayList<>();
+        List<Domain> domains = new ArrayList<>();
+
+        var treeIterator = resourceSet.getAllContents();
+        while (treeIterator.hasNext()) {
+            var next = treeIterator.next();
+            if (next instanceof View view) {
+                views.add(view);
+                treeIterator.prune();
+            } else if (next instanceof Domain domain) {
+                domains.add(domain);
+                treeIterator.prune();
+            }
         }
+        return new StudioSnapshot(views, domains);
     }
 }
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.domain.Domain;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the studios loaded by the editing contexts in order to share them between editing contexts.
+ *
+ * <p>
+ * A studio is loaded again only once the content of one of its documents has changed, the other studios are kept as
+ * is. The EPackages converted from the domains are also kept for each list of domains, as long as all these domains
+ * belong to studios which are still kept. The views, the domains and the EPackages are thus shared by the editing
+ * contexts and must never be modified once loaded. The representation descriptions converted from the views are not
+ * shared on the other hand, since they contain the interpreter and the instances of the Java services of each editing
+ * context.
+ * </p>
+ *
+ * <p>
+ * The studios and the EPackages are loaded outside of the locks of the maps of the cache, so that an editing context
+ * loading a studio never blocks the other ones. Two editing contexts may thus load the same studio at the same time, in
+ * which case the first snapshot stored is kept.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class StudioSnapshotCache {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Map<StudioSnapshotKey, StudioSnapshotEntry> snapshots = new ConcurrentHashMap<>();
+
+    private final Map<List<Domain>, List<EPackage>> domains2ePackages = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the snapshot of the given studio, it is loaded again only if its documents have changed.
+     *
+     * @param semanticData
+     *         The semantic data of the studio
+     * @param applyMigrationParticipants
+     *         Indicates if the migration participants are applied while loading the documents
+     * @param loader
+     *         Used to load the snapshot
+     * @return The snapshot of the studio
+     */
+    public StudioSnapshot getSnapshot(SemanticData semanticData, boolean applyMigrationParticipants, Supplier<StudioSnapshot> loader) {
+        var key = new StudioSnapshotKey(semanticData.getId(), applyMigrationParticipants);
+        var contentHash = this.getContentHash(semanticData.getDocuments());
+
+        var entry = this.snapshots.get(key);
+        if (entry == null || !entry.contentHash().equals(contentHash)) {
+            var loadedEntry = new StudioSnapshotEntry(contentHash, loader.get());
+            entry = this.snapshots.merge(key, loadedEntry, (currentEntry, newEntry) -> {
+                StudioSnapshotEntry mergedEntry = newEntry;
+                if (currentEntry.contentHash().equals(newEntry.contentHash())) {
+                    mergedEntry = currentEntry;
+                }
+                return mergedEntry;
+            });
+        }
+        return entry.snapshot();
+    }
+
+    /**
+     * Forgets the snapshots of the studios which do not exist anymore and the EPackages converted from domains which
+     * are not in the remaining snapshots.
+     *
+     * @param semanticDataIds
+     *         The identifiers of the semantic data of the existing studios
+     */
+    public void retainAll(Set<UUID> semanticDataIds) {
+        this.snapshots.keySet().removeIf(key -> !semanticDataIds.contains(key.semanticDataId()));
+
+        Set<Domain> retainedDomains = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.snapshots.values().forEach(entry -> retainedDomains.addAll(entry.snapshot().domains()));
+        this.domains2ePackages.keySet().removeIf(domains -> !retainedDomains.containsAll(domains));
+    }
+
+    /**
+     * Returns the EPackages converted from the given domains, they are only converted once for the same list of
+     * domains.
+     *
+     * @param domains
+     *         The domains
+     * @param converter
+     *         Used to convert the domains
+     * @return The EPackages
+     */
+    public List<EPackage> getEPackages(List<Domain> domains, Supplier<List<EPackage>> converter) {
+        var key = List.copyOf(domains);
+        var ePackages = this.domains2ePackages.get(key);
+        if (ePackages == null) {
+            var convertedEPackages = converter.get();
+            ePackages = this.domains2ePackages.computeIfAbsent(key, domainsKey -> convertedEPackages);
+        }
+        return ePackages;
+    }
+
+    private String getContentHash(Set<Document> documents) {
+        try {
+            var messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            documents.stream()
+                    .sorted(Comparator.comparing(Document::getId))
+                    .forEach(document -> {
+                        messageDigest.update(document.getId().toString().getBytes(StandardCharsets.UTF_8));
+                        messageDigest.update(document.getName().getBytes(StandardCharsets.UTF_8));
+                        messageDigest.update(document.getContent().getBytes(StandardCharsets.UTF_8));
+                    });
+            return HexFormat.of().formatHex(messageDigest.digest());
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Identifies the snapshot of a studio.
+     *
+     * @author agent
+     *
+     * @param semanticDataId
+     *         The identifier of the semantic data of the studio
+     * @param applyMigrationParticipants
+     *         Indicates if the migration participants have been applied while loading the documents
+     */
+    public record StudioSnapshotKey(UUID semanticDataId, boolean applyMigrationParticipants) {
+    }
+
+    /**
+     * The snapshot of a studio and the hash of the content of the documents it has been loaded from.
+     *
+     * @author agent
+     *
+     * @param contentHash
+     *         The hash of the content of the documents
+     * @param snapshot
+     *         The snapshot
+     */
+    public record StudioSnapshotEntry(String contentHash, StudioSnapshot snapshot) {
+    }
+}
@@ -12,19 +12,22 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.validation.services;
 
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EValidator;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.Diagnostician;
-import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import org.eclipse.emf.edit.provider.IItemLabelProvider;
 import org.eclipse.sirius.components.core.api.IEditingContext;
@@ -37,6 +40,12 @@ import org.springframework.stereotype.Service;
 /**
  * Used to validate EMF elements.
  *
+ * <p>
+ * The diagnostics are cached per object in a {@link ValidationCacheAdapter} installed on the resource set of the
+ * editing context during its first validation. They are only computed again for the objects modified since the
+ * previous validation and for their containers.
+ * </p>
+ *
  * @author gcoutable
  */
 @Service
@@ -63,16 +72,16 @@ public class EMFValidationService implements IValidationService {
 
     @Override
     public List<Object> validate(Object object, Object feature) {
-        if (object instanceof EObject) {
-            Diagnostician diagnostician = this.getNewDiagnostician();
-            Diagnostic diagnostic = diagnostician.validate((EObject) object);
-            if (Diagnostic.OK != diagnostic.getSeverity()) {
-                return diagnostic.getChildren().stream()
-                        .filter(diag -> this.filterDiagnosticByObject(diag, object))
-                        .filter(diag -> this.filterDiagnosticByFeature(diag, feature))
-                        .map(Object.class::cast)
-                        .toList();
-            }
+        if (object instanceof EObject eObject) {
+            List<Diagnostic> diagnostics = this.getValidationCacheAdapter(eObject)
+                    .map(validationCacheAdapter -> validationCacheAdapter.getDiagnostics(eObject, this::validateObject))
+                    .orElseGet(() -> this.validateSubtree(eObject));
+
+            return diagnostics.stream()
+                    .filter(diag -> this.filterDiagnosticByObject(diag, object))
+                    .filter(diag -> this.filterDiagnosticByFeature(diag, feature))
+                    .map(Object.class::cast)
+                    .toList();
         }
 
         return List.of();
@@ -95,20 +104,60 @@ public class EMFValidationService implements IValidationService {
     }
 
     private List<Object> validate(IEMFEditingContext editingContext) {
-        AdapterFactoryEditingDomain domain = editingContext.getDomain();
+        ResourceSet resourceSet = editingContext.getDomain().getResourceSet();
+
+        var optionalValidationCacheAdapter = this.getValidationCacheAdapter(resourceSet);
+        if (optionalValidationCacheAdapter.isEmpty()) {
+            // The first validation of the editing context installs the cache, the following ones will reuse the
+            // diagnostics of the objects which have not been modified
+            ValidationCacheAdapter validationCacheAdapter = new ValidationCacheAdapter();
+            resourceSet.eAdapters().add(validationCacheAdapter);
+            optionalValidationCacheAdapter = Optional.of(validationCacheAdapter);
+        }
+        ValidationCacheAdapter validationCacheAdapter = optionalValidationCacheAdapter.get();
+
+        List<Object> diagnostics = new ArrayList<>();
+        TreeIterator<Notifier> iterator = EcoreUtil.getAllProperContents(resourceSet, false);
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof EObject eObject) {
+                diagnostics.addAll(validationCacheAdapter.getDiagnostics(eObject, this::validateObject));
+            }
+        }
+        return diagnostics;
+    }
+
+    private Optional<ValidationCacheAdapter> getValidationCacheAdapter(EObject eObject) {
+        return Optional.ofNullable(eObject.eResource())
+                .map(Resource::getResourceSet)
+                .flatMap(this::getValidationCacheAdapter);
+    }
 
+    private Optional<ValidationCacheAdapter> getValidationCacheAdapter(ResourceSet resourceSet) {
+        return resourceSet.eAdapters().stream()
+                .filter(ValidationCacheAdapter.class::isInstance)
+                .map(ValidationCacheAdapter.class::cast)
+                .findFirst();
+    }
+
+    /**
+     * Validates the given object alone, the constraints of its content are not evaluated.
+     */
+    private List<Diagnostic> validateObject(EObject eObject) {
         Map<Object, Object> options = new HashMap<>();
-        options.put(Diagnostician.VALIDATE_RECURSIVELY, true);
-        Diagnostician diagnostician = this.getNewDiagnostician();
-
-        return domain.getResourceSet().getResources().stream()
-                .map(Resource::getContents)
-                .flatMap(Collection::stream)
-                .map(eObject -> diagnostician.validate(eObject, options))
-                .map(Diagnostic::getChildren)
-                .flatMap(Collection::stream)
-                .map(Object.class::cast)
-                .toList();
+        options.put(Diagnostician.VALIDATE_RECURSIVELY, false);
+        Diagnostic diagnostic = this.getNewDiagnostician().validate(eObject, options);
+        if (Diagnostic.OK != diagnostic.getSeverity()) {
+            return List.copyOf(diagnostic.getChildren());
+        }
+        return List.of();
+    }
+
+    private List<Diagnostic> validateSubtree(EObject eObject) {
+        Diagnostic diagnostic = this.getNewDiagnostician().validate(eObject);
+        if (Diagnostic.OK != diagnostic.getSeverity()) {
+            return diagnostic.getChildren();
+        }
+        return List.of();
     }
 
     private Diagnostician getNewDiagnostician() {
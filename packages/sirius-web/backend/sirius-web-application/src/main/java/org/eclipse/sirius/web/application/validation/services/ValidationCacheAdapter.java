@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.validation.services;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Keeps the diagnostics computed for each object of a resource set until the object is modified.
+ *
+ * <p>
+ * When an object is modified, its diagnostics are dropped along with those of its containers, since the constraints
+ * of a container often check its content, for example the uniqueness of the names of its children. The diagnostics of
+ * the objects removed from the resource set are dropped with them. The diagnostics of all the other objects are reused
+ * by the following validations.
+ * </p>
+ *
+ * @author agent
+ */
+public class ValidationCacheAdapter extends EContentAdapter {
+
+    private final Map<EObject, List<Diagnostic>> diagnostics = new HashMap<>();
+
+    /**
+     * Returns the diagnostics of the given object, validating it only if it or its content has been modified since its
+     * last validation.
+     *
+     * @param eObject
+     *         The object
+     * @param validator
+     *         The function used to compute the diagnostics of a single object, without its content
+     * @return The diagnostics of the object
+     */
+    public List<Diagnostic> getDiagnostics(EObject eObject, Function<EObject, List<Diagnostic>> validator) {
+        return this.diagnostics.computeIfAbsent(eObject, validator);
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        if (!notification.isTouch() && notification.getNotifier() instanceof EObject eObject) {
+            EObject invalidatedObject = eObject;
+            while (invalidatedObject != null) {
+                this.diagnostics.remove(invalidatedObject);
+                invalidatedObject = invalidatedObject.eContainer();
+            }
+        }
+    }
+
+    @Override
+    protected void unsetTarget(EObject target) {
+        super.unsetTarget(target);
+        this.diagnostics.remove(target);
+    }
+
+    @Override
+    protected boolean resolve() {
+        return false;
+    }
+}
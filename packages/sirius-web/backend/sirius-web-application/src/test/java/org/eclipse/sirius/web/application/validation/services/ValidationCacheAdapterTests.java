@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.validation.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the cache of the diagnostics of the validation.
+ *
+ * @author agent
+ */
+public class ValidationCacheAdapterTests {
+
+    @Test
+    @DisplayName("Given a resource set which has not been modified, when its objects are validated again, then the diagnostics are reused")
+    public void givenResourceSetNotModifiedWhenObjectsAreValidatedAgainThenDiagnosticsAreReused() {
+        EPackage ePackage = this.createEPackage();
+        ValidationCacheAdapter validationCacheAdapter = this.installAdapter(ePackage);
+
+        List<EObject> validatedObjects = new ArrayList<>();
+        EObject firstEClass = ePackage.getEClassifiers().get(0);
+        validationCacheAdapter.getDiagnostics(firstEClass, eObject -> this.validate(eObject, validatedObjects));
+        validationCacheAdapter.getDiagnostics(firstEClass, eObject -> this.validate(eObject, validatedObjects));
+
+        assertThat(validatedObjects).containsExactly(firstEClass);
+    }
+
+    @Test
+    @DisplayName("Given a resource set, when an object is modified, then only the diagnostics of the object and its containers are computed again")
+    public void givenResourceSetWhenObjectIsModifiedThenOnlyDiagnosticsOfObjectAndItsContainersAreComputedAgain() {
+        EPackage ePackage = this.createEPackage();
+        ValidationCacheAdapter validationCacheAdapter = this.installAdapter(ePackage);
+
+        EClass firstEClass = (EClass) ePackage.getEClassifiers().get(0);
+        EClass secondEClass = (EClass) ePackage.getEClassifiers().get(1);
+        List<EObject> validatedObjects = new ArrayList<>();
+        this.validateAll(validationCacheAdapter, ePackage, validatedObjects);
+        assertThat(validatedObjects).containsExactly(ePackage, firstEClass, secondEClass);
+
+        validatedObjects.clear();
+        secondEClass.setName("Renamed");
+        this.validateAll(validationCacheAdapter, ePackage, validatedObjects);
+
+        assertThat(validatedObjects).containsExactly(ePackage, secondEClass);
+    }
+
+    @Test
+    @DisplayName("Given a resource set, when an object is removed, then its diagnostics are dropped")
+    public void givenResourceSetWhenObjectIsRemovedThenItsDiagnosticsAreDropped() {
+        EPackage ePackage = this.createEPackage();
+        ValidationCacheAdapter validationCacheAdapter = this.installAdapter(ePackage);
+
+        EClass secondEClass = (EClass) ePackage.getEClassifiers().get(1);
+        List<EObject> validatedObjects = new ArrayList<>();
+        validationCacheAdapter.getDiagnostics(secondEClass, eObject -> this.validate(eObject, validatedObjects));
+
+        // Once removed, the object could be modified without notifying the adapter
+        ePackage.getEClassifiers().remove(secondEClass);
+        secondEClass.setAbstract(true);
+        ePackage.getEClassifiers().add(secondEClass);
+        validationCacheAdapter.getDiagnostics(secondEClass, eObject -> this.validate(eObject, validatedObjects));
+
+        assertThat(validatedObjects).containsExactly(secondEClass, secondEClass);
+    }
+
+    private void validateAll(ValidationCacheAdapter validationCacheAdapter, EPackage ePackage, List<EObject> validatedObjects) {
+        validationCacheAdapter.getDiagnostics(ePackage, eObject -> this.validate(eObject, validatedObjects));
+        ePackage.getEClassifiers().forEach(eClassifier -> validationCacheAdapter.getDiagnostics(eClassifier, eObject -> this.validate(eObject, validatedObjects)));
+    }
+
+    private List<Diagnostic> validate(EObject eObject, List<EObject> validatedObjects) {
+        validatedObjects.add(eObject);
+        return List.of();
+    }
+
+    private EPackage createEPackage() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("sample");
+
+        EClass firstEClass = EcoreFactory.eINSTANCE.createEClass();
+        firstEClass.setName("First");
+        ePackage.getEClassifiers().add(firstEClass);
+
+        EClass secondEClass = EcoreFactory.eINSTANCE.createEClass();
+        secondEClass.setName("Second");
+        ePackage.getEClassifiers().add(secondEClass);
+
+        return ePackage;
+    }
+
+    private ValidationCacheAdapter installAdapter(EPackage ePackage) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new XMIResourceImpl(URI.createURI("inmemory"));
+        resource.getContents().add(ePackage);
+        resourceSet.getResources().add(resource);
+
+        ValidationCacheAdapter validationCacheAdapter = new ValidationCacheAdapter();
+        resourceSet.eAdapters().add(validationCacheAdapter);
+        return validationCacheAdapter;
+    }
+}
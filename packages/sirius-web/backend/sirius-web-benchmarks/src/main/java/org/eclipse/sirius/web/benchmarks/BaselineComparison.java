@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Used to compare the JSON results of the benchmarks with the ones of a baseline.
+ *
+ * <p>
+ * Usage: <code>java -cp target/benchmarks.jar org.eclipse.sirius.web.benchmarks.BaselineComparison baseline.json target/jmh-result.json [threshold]</code>
+ * </p>
+ *
+ * <p>
+ * The score and the normalized allocation rate of each benchmark are compared for each set of parameters. The process
+ * exits with an error if the performance of a benchmark has decreased, that is to say if its throughput has decreased
+ * or if its average time has increased, or if its allocation rate has increased by more than the threshold, expressed
+ * in percents (10 by default).
+ * </p>
+ *
+ * @author agent
+ */
+public class BaselineComparison {
+
+    private static final String ALLOCATION_RATE = "gc.alloc.rate.norm";
+
+    private static final double DEFAULT_THRESHOLD = 10;
+
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private final Logger logger = LoggerFactory.getLogger(BaselineComparison.class);
+
+    private final double threshold;
+
+    public BaselineComparison(double threshold) {
+        this.threshold = threshold;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: BaselineComparison <baseline.json> <result.json> [threshold]");
+        }
+        double threshold = DEFAULT_THRESHOLD;
+        if (args.length > 2) {
+            threshold = Double.parseDouble(args[2]);
+        }
+
+        boolean hasRegressions = new BaselineComparison(threshold).compare(new File(args[0]), new File(args[1]));
+        if (hasRegressions) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Compares the given results with the baseline.
+     *
+     * @param baselineFile
+     *         The JSON results of the baseline
+     * @param resultFile
+     *         The JSON results to compare
+     * @return <code>true</code> if at least one benchmark has regressed more than the threshold
+     * @throws IOException
+     *         If one of the files cannot be read
+     */
+    public boolean compare(File baselineFile, File resultFile) throws IOException {
+        var objectMapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = this.index(objectMapper.readTree(baselineFile));
+        Map<String, JsonNode> results = this.index(objectMapper.readTree(resultFile));
+
+        boolean hasRegressions = false;
+        for (var entry : new TreeMap<>(results).entrySet()) {
+            JsonNode baselineResult = baseline.get(entry.getKey());
+            if (baselineResult == null) {
+                this.logger.info("{}: no baseline", entry.getKey());
+            } else {
+                double performanceChange = this.getChange(baselineResult.path("primaryMetric"), entry.getValue().path("primaryMetric"));
+                if (!THROUGHPUT_MODE.equals(entry.getValue().path("mode").asText())) {
+                    // A lower time per operation is a better performance
+                    performanceChange = -performanceChange;
+                }
+                double allocationChange = this.getChange(baselineResult.path("secondaryMetrics").path(ALLOCATION_RATE), entry.getValue().path("secondaryMetrics").path(ALLOCATION_RATE));
+
+                boolean hasRegressed = performanceChange < -this.threshold || allocationChange > this.threshold;
+                hasRegressions = hasRegressions || hasRegressed;
+
+                String message = String.format("%s: performance %+.1f%%, allocation per operation %+.1f%%", entry.getKey(), performanceChange, allocationChange);
+                if (hasRegressed) {
+                    this.logger.warn("{} (regression)", message);
+                } else {
+                    this.logger.info(message);
+                }
+            }
+        }
+        return hasRegressions;
+    }
+
+    private Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> benchmarks = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            String key = result.path("benchmark").asText() + result.path("params").toString();
+            benchmarks.put(key, result);
+        }
+        return benchmarks;
+    }
+
+    private double getChange(JsonNode baselineMetric, JsonNode metric) {
+        double change = 0;
+        double baselineScore = baselineMetric.path("score").asDouble();
+        if (Objects.nonNull(metric.get("score")) && baselineScore != 0) {
+            change = (metric.path("score").asDouble() - baselineScore) * 100 / baselineScore;
+        }
+        return change;
+    }
+}
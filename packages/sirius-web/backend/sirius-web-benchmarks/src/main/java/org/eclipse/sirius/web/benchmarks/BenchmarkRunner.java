@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks.
+ *
+ * <p>
+ * It accepts the regular JMH command line options. Unless stated otherwise, the GC profiler is used to report the
+ * allocation rate of the benchmarks next to their throughput and the results are written as JSON in
+ * <code>target/jmh-result.json</code> to be compared with a baseline using {@link BaselineComparison}.
+ * </p>
+ *
+ * @author agent
+ */
+public class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT = "target/jmh-result.json";
+
+    private static final String GC_PROFILER = "gc";
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+        } else if (commandLineOptions.shouldList()) {
+            new Runner(commandLineOptions).list();
+        } else {
+            ChainedOptionsBuilder optionsBuilder = new OptionsBuilder()
+                    .parent(commandLineOptions)
+                    .resultFormat(commandLineOptions.getResultFormat().orElse(ResultFormatType.JSON))
+                    .result(commandLineOptions.getResult().orElse(DEFAULT_RESULT));
+
+            boolean hasGCProfiler = commandLineOptions.getProfilers().stream()
+                    .anyMatch(profilerConfig -> GC_PROFILER.equals(profilerConfig.getKlass()) || GCProfiler.class.getName().equals(profilerConfig.getKlass()));
+            if (!hasGCProfiler) {
+                optionsBuilder.addProfiler(GCProfiler.class);
+            }
+
+            new Runner(optionsBuilder.build()).run();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.deck;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.deck.Deck;
+import org.eclipse.sirius.components.deck.DeckElementStyle;
+import org.eclipse.sirius.components.deck.DeckStyle;
+import org.eclipse.sirius.components.deck.description.CardDescription;
+import org.eclipse.sirius.components.deck.description.DeckDescription;
+import org.eclipse.sirius.components.deck.description.LaneDescription;
+import org.eclipse.sirius.components.deck.renderer.DeckRenderer;
+import org.eclipse.sirius.components.deck.renderer.component.DeckComponent;
+import org.eclipse.sirius.components.deck.renderer.component.DeckComponentProps;
+import org.eclipse.sirius.components.papaya.Iteration;
+import org.eclipse.sirius.components.papaya.Task;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.web.benchmarks.model.PapayaBenchmarkModel;
+import org.eclipse.sirius.web.benchmarks.model.PapayaBenchmarkModelFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the {@link DeckRenderer}.
+ *
+ * <p>
+ * The deck displays a lane for each iteration of the model with a card for each of its tasks.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DeckRendererBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    private int elementCount;
+
+    private PapayaBenchmarkModel model;
+
+    private DeckDescription deckDescription;
+
+    private Deck previousDeck;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.model = new PapayaBenchmarkModelFactory().create(this.elementCount);
+        this.deckDescription = this.createDeckDescription();
+        this.previousDeck = this.render(Optional.empty());
+    }
+
+    @Benchmark
+    public Deck render() {
+        return this.render(Optional.empty());
+    }
+
+    @Benchmark
+    public Deck refresh() {
+        return this.render(Optional.of(this.previousDeck));
+    }
+
+    private Deck render(Optional<Deck> optionalPreviousDeck) {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(DeckDescription.LABEL, "Iterations");
+        variableManager.put(VariableManager.SELF, this.model.project());
+        variableManager.put(DeckDescription.DECK_TARGET, this.model.project());
+        variableManager.put(IEditingContext.EDITING_CONTEXT, this.model.editingContext());
+
+        DeckComponentProps props = new DeckComponentProps(variableManager, this.deckDescription, optionalPreviousDeck, Optional.empty());
+        return new DeckRenderer().render(new Element(DeckComponent.class, props));
+    }
+
+    private DeckDescription createDeckDescription() {
+        DeckElementStyle style = new DeckElementStyle("white", "black", 12, false, false, false, false);
+
+        CardDescription cardDescription = new CardDescription("taskCard", variableManager -> "papaya::Task", this.labelProvider(), this.targetObjectIdProvider(),
+                variableManager -> variableManager.get(VariableManager.SELF, Iteration.class).<List<?>>map(Iteration::getTasks).orElse(List.of()),
+                this.labelProvider(), variableManager -> "",
+                variableManager -> variableManager.get(VariableManager.SELF, Task.class).map(Task::getDescription).orElse(""),
+                variableManager -> { }, variableManager -> { }, variableManager -> style);
+
+        LaneDescription laneDescription = new LaneDescription("iterationLane", variableManager -> "papaya::Iteration", this.labelProvider(), this.targetObjectIdProvider(),
+                variableManager -> this.model.iterations(), this.labelProvider(), variableManager -> "", List.of(cardDescription),
+                variableManager -> { }, variableManager -> { }, variableManager -> { }, variableManager -> true, variableManager -> style);
+
+        return new DeckDescription("iterationDeck", "Iterations", variableManager -> "iterationDeck", variableManager -> "Iterations", this.targetObjectIdProvider(),
+                variableManager -> true, List.of(laneDescription), variableManager -> { }, variableManager -> new DeckStyle("white"));
+    }
+
+    private Function<VariableManager, String> targetObjectIdProvider() {
+        return variableManager -> variableManager.get(VariableManager.SELF, Object.class).map(this.model::getId).orElse(null);
+    }
+
+    private Function<VariableManager, String> labelProvider() {
+        return variableManager -> variableManager.get(VariableManager.SELF, Object.class).map(this.model::getLabel).orElse("");
+    }
+}
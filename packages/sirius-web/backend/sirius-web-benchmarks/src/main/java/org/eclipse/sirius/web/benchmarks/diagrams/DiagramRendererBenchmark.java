@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.diagrams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.eclipse.sirius.components.diagrams.ArrowStyle;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.EdgeStyle;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.HeaderSeparatorDisplayMode;
+import org.eclipse.sirius.components.diagrams.InsideLabelLocation;
+import org.eclipse.sirius.components.diagrams.LabelOverflowStrategy;
+import org.eclipse.sirius.components.diagrams.LabelTextAlign;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.ListLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.description.EdgeDescription;
+import org.eclipse.sirius.components.diagrams.description.InsideLabelDescription;
+import org.eclipse.sirius.components.diagrams.description.LabelStyleDescription;
+import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderer;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.components.papaya.Class;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.Failure;
+import org.eclipse.sirius.components.representations.IOperationValidator;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.web.benchmarks.model.PapayaBenchmarkModel;
+import org.eclipse.sirius.web.benchmarks.model.PapayaBenchmarkModelFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the {@link DiagramRenderer}.
+ *
+ * <p>
+ * The diagram displays a node for each class of the model, with a child node for each of its attributes and
+ * operations, and an edge between each class and the class that it extends.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DiagramRendererBenchmark {
+
+    private static final String CLASS_NODE_DESCRIPTION_ID = "classNode";
+
+    @Param({ "1000", "10000", "100000" })
+    private int elementCount;
+
+    private PapayaBenchmarkModel model;
+
+    private DiagramDescription diagramDescription;
+
+    private Diagram previousDiagram;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.model = new PapayaBenchmarkModelFactory().create(this.elementCount);
+        this.diagramDescription = this.createDiagramDescription();
+        this.previousDiagram = this.render(Optional.empty());
+    }
+
+    @Benchmark
+    public Diagram render() {
+        return this.render(Optional.empty());
+    }
+
+    @Benchmark
+    public Diagram refresh() {
+        return this.render(Optional.of(this.previousDiagram));
+    }
+
+    private Diagram render(Optional<Diagram> optionalPreviousDiagram) {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, this.model.project());
+
+        DiagramComponentProps props = DiagramComponentProps.newDiagramComponentProps()
+                .variableManager(variableManager)
+                .diagramDescription(this.diagramDescription)
+                .allDiagramDescriptions(List.of(this.diagramDescription))
+                .viewCreationRequests(List.of())
+                .viewDeletionRequests(List.of())
+                .previousDiagram(optionalPreviousDiagram)
+                .operationValidator(new IOperationValidator.NoOp())
+                .diagramEvents(List.of())
+                .build();
+        return new DiagramRenderer().render(new Element(DiagramComponent.class, props));
+    }
+
+    private DiagramDescription createDiagramDescription() {
+        NodeDescription featureNodeDescription = this.createNodeDescription("featureNode", variableManager -> variableManager.get(VariableManager.SELF, Class.class)
+                .map(aClass -> {
+                    List<Object> features = new ArrayList<>(aClass.getAttributes());
+                    features.addAll(aClass.getOperations());
+                    return features;
+                })
+                .orElse(List.of()), List.of());
+
+        NodeDescription classNodeDescription = NodeDescription.newNodeDescription(CLASS_NODE_DESCRIPTION_ID)
+                .typeProvider(variableManager -> "node:rectangle")
+                .semanticElementsProvider(variableManager -> this.model.classes())
+                .targetObjectIdProvider(this.targetObjectIdProvider())
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(this.labelProvider())
+                .insideLabelDescription(this.createInsideLabelDescription("classLabel", true))
+                .styleProvider(variableManager -> this.createNodeStyle())
+                .childrenLayoutStrategyProvider(variableManager -> ListLayoutStrategy.newListLayoutStrategy().build())
+                .borderNodeDescriptions(List.of())
+                .childNodeDescriptions(List.of(featureNodeDescription))
+                .labelEditHandler((variableManager, newLabel) -> new Success())
+                .deleteHandler(variableManager -> new Success())
+                .build();
+
+        EdgeDescription extendsEdgeDescription = EdgeDescription.newEdgeDescription("extendsEdge")
+                .semanticElementsProvider(variableManager -> this.model.classes().stream().filter(aClass -> aClass.getExtends() != null).toList())
+                .sourceNodesProvider(variableManager -> variableManager.get(VariableManager.SELF, Class.class)
+                        .map(aClass -> this.getNodes(variableManager, aClass))
+                        .orElse(List.of()))
+                .targetNodesProvider(variableManager -> variableManager.get(VariableManager.SELF, Class.class)
+                        .map(aClass -> this.getNodes(variableManager, aClass.getExtends()))
+                        .orElse(List.of()))
+                .sourceNodeDescriptions(List.of(classNodeDescription))
+                .targetNodeDescriptions(List.of(classNodeDescription))
+                .targetObjectIdProvider(this.targetObjectIdProvider())
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(this.labelProvider())
+                .styleProvider(variableManager -> EdgeStyle.newEdgeStyle()
+                        .size(1)
+                        .lineStyle(LineStyle.Solid)
+                        .sourceArrow(ArrowStyle.None)
+                        .targetArrow(ArrowStyle.InputClosedArrow)
+                        .color("#261E58")
+                        .build())
+                .deleteHandler(variableManager -> new Failure(""))
+                .labelEditHandler((variableManager, edgeLabelKind, newLabel) -> new Failure(""))
+                .build();
+
+        return DiagramDescription.newDiagramDescription("classDiagram")
+                .label("Class Diagram")
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(this.targetObjectIdProvider())
+                .labelProvider(variableManager -> "Class Diagram")
+                .nodeDescriptions(List.of(classNodeDescription))
+                .edgeDescriptions(List.of(extendsEdgeDescription))
+                .palettes(List.of())
+                .dropHandler(variableManager -> new Failure(""))
+                .build();
+    }
+
+    private NodeDescription createNodeDescription(String id, Function<VariableManager, List<?>> semanticElementsProvider, List<NodeDescription> childNodeDescriptions) {
+        return NodeDescription.newNodeDescription(id)
+                .typeProvider(variableManager -> "node:rectangle")
+                .semanticElementsProvider(semanticElementsProvider)
+                .targetObjectIdProvider(this.targetObjectIdProvider())
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(this.labelProvider())
+                .insideLabelDescription(this.createInsideLabelDescription(id + "Label", false))
+                .styleProvider(variableManager -> this.createNodeStyle())
+                .childrenLayoutStrategyProvider(variableManager -> new FreeFormLayoutStrategy())
+                .borderNodeDescriptions(List.of())
+                .childNodeDescriptions(childNodeDescriptions)
+                .labelEditHandler((variableManager, newLabel) -> new Success())
+                .deleteHandler(variableManager -> new Success())
+                .build();
+    }
+
+    private InsideLabelDescription createInsideLabelDescription(String id, boolean isHeader) {
+        LabelStyleDescription labelStyleDescription = LabelStyleDescription.newLabelStyleDescription()
+                .italicProvider(variableManager -> false)
+                .boldProvider(variableManager -> isHeader)
+                .underlineProvider(variableManager -> false)
+                .strikeThroughProvider(variableManager -> false)
+                .colorProvider(variableManager -> "#261E58")
+                .fontSizeProvider(variableManager -> 14)
+                .iconURLProvider(variableManager -> List.of())
+                .backgroundProvider(variableManager -> "transparent")
+                .borderColorProvider(variableManager -> "black")
+                .borderRadiusProvider(variableManager -> 0)
+                .borderSizeProvider(variableManager -> 0)
+                .borderStyleProvider(variableManager -> LineStyle.Solid)
+                .maxWidthProvider(variableManager -> null)
+                .build();
+
+        return InsideLabelDescription.newInsideLabelDescription(id)
+                .idProvider(variableManager -> this.targetObjectIdProvider().apply(variableManager) + "_" + id)
+                .textProvider(this.labelProvider())
+                .styleDescriptionProvider(variableManager -> labelStyleDescription)
+                .isHeaderProvider(variableManager -> isHeader)
+                .headerSeparatorDisplayModeProvider(variableManager -> HeaderSeparatorDisplayMode.IF_CHILDREN)
+                .insideLabelLocation(InsideLabelLocation.TOP_CENTER)
+                .overflowStrategy(LabelOverflowStrategy.NONE)
+                .textAlign(LabelTextAlign.CENTER)
+                .build();
+    }
+
+    private RectangularNodeStyle createNodeStyle() {
+        return RectangularNodeStyle.newRectangularNodeStyle()
+                .background("#FFFFFF")
+                .borderColor("#261E58")
+                .borderSize(1)
+                .borderRadius(3)
+                .borderStyle(LineStyle.Solid)
+                .build();
+    }
+
+    private List<Element> getNodes(VariableManager variableManager, Object semanticElement) {
+        Map<Object, List<Element>> objectToNodes = variableManager.get(DiagramDescription.CACHE, DiagramRenderingCache.class)
+                .map(DiagramRenderingCache::getObjectToNodes)
+                .orElse(Map.of());
+        return objectToNodes.getOrDefault(semanticElement, List.of()).stream()
+                .filter(node -> node.getProps() instanceof NodeElementProps nodeElementProps && CLASS_NODE_DESCRIPTION_ID.equals(nodeElementProps.getDescriptionId()))
+                .toList();
+    }
+
+    private Function<VariableManager, String> targetObjectIdProvider() {
+        return variableManager -> variableManager.get(VariableManager.SELF, Object.class).map(this.model::getId).orElse(null);
+    }
+
+    private Function<VariableManager, String> labelProvider() {
+        return variableManager -> variableManager.get(VariableManager.SELF, Object.class).map(this.model::getLabel).orElse("");
+    }
+}
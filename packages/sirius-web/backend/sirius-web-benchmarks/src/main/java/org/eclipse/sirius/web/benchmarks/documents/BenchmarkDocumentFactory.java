@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.documents;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.BasicExtendedMetaData;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.sirius.components.emf.migration.api.IMigrationParticipant;
+import org.eclipse.sirius.components.papaya.PapayaPackage;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.editingcontext.migration.participants.DiagramLabelStyleBorderSizeMigrationParticipant;
+import org.eclipse.sirius.web.application.editingcontext.migration.participants.InsideLabelStyleHeaderSeparatorDisplayMigrationParticipant;
+import org.eclipse.sirius.web.application.editingcontext.migration.participants.NodeDescriptionLabelExpressionMigrationParticipant;
+import org.eclipse.sirius.web.application.editingcontext.migration.participants.NodeDescriptionUserResizableMigrationParticipant;
+import org.eclipse.sirius.web.application.editingcontext.migration.participants.NodeLabelStyleShowIconMigrationParticipant;
+import org.eclipse.sirius.web.application.editingcontext.migration.participants.NodeStyleDescriptionColorMigrationParticipant;
+import org.eclipse.sirius.web.application.editingcontext.migration.participants.SelectionDialogDescriptionSelectionCandidatesExpressionMigrationParticipant;
+import org.eclipse.sirius.web.application.editingcontext.services.ResourceLoader;
+import org.eclipse.sirius.web.application.editingcontext.services.ResourceToDocumentService;
+import org.eclipse.sirius.web.benchmarks.model.PapayaBenchmarkModel;
+import org.eclipse.sirius.web.benchmarks.model.PapayaBenchmarkModelFactory;
+
+/**
+ * Used to create the serialized documents of the load and save benchmarks.
+ *
+ * <p>
+ * The documents contain the synthetic project of a {@link PapayaBenchmarkModel} scaled to reach a given size in
+ * kilobytes. The number of elements required is computed from the size of a small calibration document. With
+ * cross-document proxies, the attributes of the document reference the Java standard library which is serialized in
+ * a separate library document.
+ * </p>
+ *
+ * @author agent
+ */
+public class BenchmarkDocumentFactory {
+
+    private static final int CALIBRATION_ELEMENT_COUNT = 1000;
+
+    private static final int KILOBYTE = 1024;
+
+    private final PapayaBenchmarkModelFactory modelFactory = new PapayaBenchmarkModelFactory();
+
+    private final ResourceToDocumentService resourceToDocumentService = new ResourceToDocumentService(List.of());
+
+    public BenchmarkDocuments create(int documentSize, boolean crossDocumentProxies) {
+        var calibrationModel = this.modelFactory.create(CALIBRATION_ELEMENT_COUNT, crossDocumentProxies);
+        long calibrationSize = this.toDocument(calibrationModel.project().eResource()).content().length();
+        int elementCount = (int) Math.max(1, (long) documentSize * KILOBYTE * CALIBRATION_ELEMENT_COUNT / calibrationSize);
+
+        var model = this.modelFactory.create(elementCount, crossDocumentProxies);
+        var resource = model.project().eResource();
+
+        List<BenchmarkDocument> libraries = new ArrayList<>();
+        if (crossDocumentProxies) {
+            model.editingContext().getDomain().getResourceSet().getResources().stream()
+                    .filter(library -> library != resource)
+                    .map(this::toDocument)
+                    .forEach(libraries::add);
+        }
+        return new BenchmarkDocuments(libraries, this.toDocument(resource), elementCount);
+    }
+
+    /**
+     * Creates an editing context configured like the ones of Sirius Web and containing the given documents.
+     *
+     * @param documents
+     *         The documents to load without migration
+     * @return An editing context
+     */
+    public EditingContext createEditingContext(List<BenchmarkDocument> documents) {
+        PapayaPackage.eINSTANCE.eClass();
+
+        var editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(ComposedAdapterFactory.Descriptor.Registry.INSTANCE), new BasicCommandStack());
+        var resourceSet = editingDomain.getResourceSet();
+        resourceSet.getLoadOptions().put(JsonResource.OPTION_EXTENDED_META_DATA, new BasicExtendedMetaData(resourceSet.getPackageRegistry()));
+        resourceSet.getLoadOptions().put(JsonResource.OPTION_SCHEMA_LOCATION, true);
+
+        EPackageRegistryImpl ePackageRegistry = new EPackageRegistryImpl();
+        EPackage.Registry.INSTANCE.values().stream()
+                .filter(EPackage.class::isInstance)
+                .map(EPackage.class::cast)
+                .forEach(ePackage -> ePackageRegistry.put(ePackage.getNsURI(), ePackage));
+        resourceSet.setPackageRegistry(ePackageRegistry);
+
+        var resourceLoader = new ResourceLoader(List.of());
+        documents.forEach(document -> resourceLoader.toResource(resourceSet, document.id(), document.name(), document.content(), false));
+
+        return new EditingContext(UUID.randomUUID().toString(), editingDomain, Map.of(), List.of());
+    }
+
+    /**
+     * Serializes the given documents as an XMI file like the ones uploaded in Sirius Web.
+     *
+     * @param documents
+     *         The documents
+     * @return The content of the XMI file
+     */
+    public byte[] toXMI(BenchmarkDocuments documents) {
+        var resourceSet = this.createEditingContext(documents.libraries()).getDomain().getResourceSet();
+        var document = documents.document();
+        var jsonResource = new ResourceLoader(List.of()).toResource(resourceSet, document.id(), document.name(), document.content(), false).orElseThrow();
+
+        var xmiResource = new XMIResourceImpl(URI.createURI(document.name() + ".xmi"));
+        resourceSet.getResources().add(xmiResource);
+        xmiResource.getContents().addAll(jsonResource.getContents());
+
+        try (var outputStream = new ByteArrayOutputStream()) {
+            xmiResource.save(outputStream, Map.of(XMLResource.OPTION_ENCODING, "UTF-8", XMLResource.OPTION_SCHEMA_LOCATION, true));
+            return outputStream.toByteArray();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Returns the migration participants of Sirius Web.
+     *
+     * <p>
+     * None of them modifies a Papaya document but they are all consulted by the {@code MigrationService} for each
+     * serialized element, which is the overhead measured by the benchmarks.
+     * </p>
+     *
+     * @return The migration participants
+     */
+    public List<IMigrationParticipant> getMigrationParticipants() {
+        return List.of(
+                new DiagramLabelStyleBorderSizeMigrationParticipant(),
+                new NodeLabelStyleShowIconMigrationParticipant(),
+                new NodeDescriptionLabelExpressionMigrationParticipant(),
+                new NodeStyleDescriptionColorMigrationParticipant(),
+                new InsideLabelStyleHeaderSeparatorDisplayMigrationParticipant(),
+                new SelectionDialogDescriptionSelectionCandidatesExpressionMigrationParticipant(),
+                new NodeDescriptionUserResizableMigrationParticipant()
+        );
+    }
+
+    private BenchmarkDocument toDocument(Resource resource) {
+        var name = resource.eAdapters().stream()
+                .filter(ResourceMetadataAdapter.class::isInstance)
+                .map(ResourceMetadataAdapter.class::cast)
+                .findFirst()
+                .map(ResourceMetadataAdapter::getName)
+                .orElse("");
+        var content = this.resourceToDocumentService.toDocument(resource, false)
+                .map(documentData -> documentData.document().getContent())
+                .orElseThrow();
+        return new BenchmarkDocument(resource.getURI().path().substring(1), name, content);
+    }
+}
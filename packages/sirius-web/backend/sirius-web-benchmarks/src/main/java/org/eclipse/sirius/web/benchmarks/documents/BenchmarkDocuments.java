@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.documents;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A document of a given size and the libraries that it references.
+ *
+ * <p>
+ * The libraries are empty if the document does not contain any cross-document reference.
+ * </p>
+ *
+ * @author agent
+ */
+public record BenchmarkDocuments(List<BenchmarkDocument> libraries, BenchmarkDocument document, int elementCount) {
+
+    public BenchmarkDocuments {
+        Objects.requireNonNull(libraries);
+        Objects.requireNonNull(document);
+    }
+}
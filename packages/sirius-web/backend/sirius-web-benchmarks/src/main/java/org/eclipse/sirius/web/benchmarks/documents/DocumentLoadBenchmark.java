@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.documents;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
+import org.eclipse.sirius.web.application.editingcontext.services.ResourceLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the loading of a document in an editing context with the {@link ResourceLoader}.
+ *
+ * <p>
+ * With cross-document proxies, the library referenced by the document is loaded in the editing context before each
+ * invocation. Once the document is loaded, the {@link EditingContextCrossReferenceAdapter} can be attached to the
+ * resource set, as done when an editing context is opened, which resolves all the proxies.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DocumentLoadBenchmark {
+
+    @Param({ "100", "1000", "10000", "50000" })
+    private int documentSize;
+
+    @Param({ "false", "true" })
+    private boolean migration;
+
+    @Param({ "false", "true" })
+    private boolean crossReferenceAdapter;
+
+    @Param({ "false", "true" })
+    private boolean crossDocumentProxies;
+
+    private BenchmarkDocumentFactory documentFactory;
+
+    private BenchmarkDocuments documents;
+
+    private ResourceLoader resourceLoader;
+
+    private ResourceSet resourceSet;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.documentFactory = new BenchmarkDocumentFactory();
+        this.documents = this.documentFactory.create(this.documentSize, this.crossDocumentProxies);
+        this.resourceLoader = new ResourceLoader(this.documentFactory.getMigrationParticipants());
+    }
+
+    @Setup(Level.Invocation)
+    public void createEditingContext() {
+        this.resourceSet = this.documentFactory.createEditingContext(this.documents.libraries()).getDomain().getResourceSet();
+    }
+
+    @Benchmark
+    public Resource load() {
+        var document = this.documents.document();
+        var resource = this.resourceLoader.toResource(this.resourceSet, document.id(), document.name(), document.content(), this.migration).orElseThrow();
+        if (this.crossReferenceAdapter) {
+            this.resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
+        }
+        return resource;
+    }
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.documents;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
+import org.eclipse.sirius.web.application.editingcontext.services.DocumentData;
+import org.eclipse.sirius.web.application.editingcontext.services.ResourceLoader;
+import org.eclipse.sirius.web.application.editingcontext.services.ResourceToDocumentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the serialization of a document by the {@link ResourceToDocumentService}, as done when an editing
+ * context is persisted.
+ *
+ * <p>
+ * The document is loaded in an editing context with the {@link EditingContextCrossReferenceAdapter}, and with the
+ * library that it references when cross-document proxies are used.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DocumentSaveBenchmark {
+
+    @Param({ "100", "1000", "10000", "50000" })
+    private int documentSize;
+
+    @Param({ "false", "true" })
+    private boolean migration;
+
+    @Param({ "false", "true" })
+    private boolean crossDocumentProxies;
+
+    private ResourceToDocumentService resourceToDocumentService;
+
+    private Resource resource;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var documentFactory = new BenchmarkDocumentFactory();
+        this.resourceToDocumentService = new ResourceToDocumentService(documentFactory.getMigrationParticipants());
+
+        var documents = documentFactory.create(this.documentSize, this.crossDocumentProxies);
+        var document = documents.document();
+        var resourceSet = documentFactory.createEditingContext(documents.libraries()).getDomain().getResourceSet();
+        this.resource = new ResourceLoader(List.of()).toResource(resourceSet, document.id(), document.name(), document.content(), false).orElseThrow();
+        resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
+    }
+
+    @Benchmark
+    public DocumentData toDocument() {
+        return this.resourceToDocumentService.toDocument(this.resource, this.migration).orElseThrow();
+    }
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.documents;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.sirius.components.graphql.api.UploadFile;
+import org.eclipse.sirius.web.application.document.services.DocumentSanitizedJsonContentProvider;
+import org.eclipse.sirius.web.application.document.services.JSONExternalResourceLoaderService;
+import org.eclipse.sirius.web.application.document.services.ProxyValidator;
+import org.eclipse.sirius.web.application.document.services.UploadFileLoader;
+import org.eclipse.sirius.web.application.document.services.XMIExternalResourceLoaderService;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.editingcontext.services.ResourceLoader;
+import org.eclipse.sirius.web.domain.services.IResult;
+import org.eclipse.sirius.web.domain.services.Success;
+import org.eclipse.sirius.web.domain.services.api.IMessageService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the upload of a JSON or XMI file in an editing context with the {@link UploadFileLoader}.
+ *
+ * <p>
+ * The uploaded file is loaded by the {@link JSONExternalResourceLoaderService} or the
+ * {@link XMIExternalResourceLoaderService}, serialized again as a JSON document, checked for unresolvable proxies and
+ * finally loaded in the editing context.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DocumentUploadBenchmark {
+
+    private static final String JSON = "json";
+
+    @Param({ "100", "1000", "10000", "50000" })
+    private int documentSize;
+
+    @Param({ JSON, "xmi" })
+    private String format;
+
+    @Param({ "false", "true" })
+    private boolean migration;
+
+    @Param({ "false", "true" })
+    private boolean crossDocumentProxies;
+
+    private BenchmarkDocumentFactory documentFactory;
+
+    private BenchmarkDocuments documents;
+
+    private byte[] content;
+
+    private UploadFileLoader uploadFileLoader;
+
+    private EditingContext editingContext;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.documentFactory = new BenchmarkDocumentFactory();
+        this.documents = this.documentFactory.create(this.documentSize, this.crossDocumentProxies);
+        if (JSON.equals(this.format)) {
+            this.content = this.documents.document().content().getBytes(StandardCharsets.UTF_8);
+        } else {
+            this.content = this.documentFactory.toXMI(this.documents);
+        }
+
+        var migrationParticipants = this.documentFactory.getMigrationParticipants();
+        var externalResourceLoaderServices = List.of(new JSONExternalResourceLoaderService(migrationParticipants), new XMIExternalResourceLoaderService());
+        var documentSanitizedJsonContentProvider = new DocumentSanitizedJsonContentProvider(externalResourceLoaderServices, migrationParticipants);
+        this.uploadFileLoader = new UploadFileLoader(new IMessageService.NoOp(), new ProxyValidator(), new ResourceLoader(migrationParticipants), documentSanitizedJsonContentProvider,
+                List.of(editingContext -> this.migration));
+    }
+
+    @Setup(Level.Invocation)
+    public void createEditingContext() {
+        this.editingContext = this.documentFactory.createEditingContext(this.documents.libraries());
+    }
+
+    @Benchmark
+    public Resource upload() {
+        var file = new UploadFile(this.documents.document().name() + "." + this.format, new ByteArrayInputStream(this.content));
+        IResult<Resource> result = this.uploadFileLoader.load(this.editingContext.getDomain().getResourceSet(), this.editingContext, file);
+        if (result instanceof Success<Resource> success) {
+            return success.data();
+        }
+        throw new IllegalStateException("The upload of the document has failed");
+    }
+}
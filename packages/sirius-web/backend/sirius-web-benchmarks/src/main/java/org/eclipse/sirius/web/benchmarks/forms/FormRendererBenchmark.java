@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.forms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.eclipse.sirius.components.forms.Form;
+import org.eclipse.sirius.components.forms.GroupDisplayMode;
+import org.eclipse.sirius.components.forms.TextfieldStyle;
+import org.eclipse.sirius.components.forms.components.FormComponent;
+import org.eclipse.sirius.components.forms.components.FormComponentProps;
+import org.eclipse.sirius.components.forms.description.FormDescription;
+import org.eclipse.sirius.components.forms.description.GroupDescription;
+import org.eclipse.sirius.components.forms.description.PageDescription;
+import org.eclipse.sirius.components.forms.description.TextfieldDescription;
+import org.eclipse.sirius.components.forms.renderer.FormRenderer;
+import org.eclipse.sirius.components.papaya.Class;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.web.benchmarks.model.PapayaBenchmarkModel;
+import org.eclipse.sirius.web.benchmarks.model.PapayaBenchmarkModelFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the {@link FormRenderer}.
+ *
+ * <p>
+ * The form displays a page for each class of the model, with a group for each of its attributes and operations
+ * containing a text field for its name.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FormRendererBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    private int elementCount;
+
+    private PapayaBenchmarkModel model;
+
+    private FormDescription formDescription;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.model = new PapayaBenchmarkModelFactory().create(this.elementCount);
+        this.formDescription = this.createFormDescription();
+    }
+
+    @Benchmark
+    public Form render() {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, this.model.project());
+
+        FormComponentProps props = new FormComponentProps(variableManager, this.formDescription, List.of());
+        return new FormRenderer(List.of()).render(new Element(FormComponent.class, props));
+    }
+
+    private FormDescription createFormDescription() {
+        TextfieldStyle style = TextfieldStyle.newTextfieldStyle()
+                .foregroundColor("black")
+                .backgroundColor("white")
+                .fontSize(12)
+                .italic(false)
+                .bold(false)
+                .underline(false)
+                .strikeThrough(false)
+                .build();
+
+        TextfieldDescription textfieldDescription = TextfieldDescription.newTextfieldDescription("nameTextfield")
+                .idProvider(variableManager -> this.targetObjectIdProvider().apply(variableManager) + "_name")
+                .targetObjectIdProvider(this.targetObjectIdProvider())
+                .labelProvider(variableManager -> "Name")
+                .valueProvider(this.labelProvider())
+                .newValueHandler((variableManager, newValue) -> new Success())
+                .diagnosticsProvider(variableManager -> List.of())
+                .kindProvider(diagnostic -> "")
+                .messageProvider(diagnostic -> "")
+                .styleProvider(variableManager -> style)
+                .build();
+
+        GroupDescription groupDescription = GroupDescription.newGroupDescription("featureGroup")
+                .idProvider(this.targetObjectIdProvider())
+                .labelProvider(this.labelProvider())
+                .displayModeProvider(variableManager -> GroupDisplayMode.LIST)
+                .toolbarActionDescriptions(List.of())
+                .controlDescriptions(List.of(textfieldDescription))
+                .semanticElementsProvider(variableManager -> variableManager.get(VariableManager.SELF, Class.class)
+                        .map(aClass -> {
+                            List<Object> features = new ArrayList<>(aClass.getAttributes());
+                            features.addAll(aClass.getOperations());
+                            return features;
+                        })
+                        .orElse(List.of()))
+                .build();
+
+        PageDescription pageDescription = PageDescription.newPageDescription("classPage")
+                .idProvider(this.targetObjectIdProvider())
+                .labelProvider(this.labelProvider())
+                .canCreatePredicate(variableManager -> true)
+                .groupDescriptions(List.of(groupDescription))
+                .semanticElementsProvider(variableManager -> this.model.classes())
+                .build();
+
+        return FormDescription.newFormDescription("classForm")
+                .label("Classes")
+                .idProvider(variableManager -> "classForm")
+                .labelProvider(variableManager -> "Classes")
+                .targetObjectIdProvider(this.targetObjectIdProvider())
+                .canCreatePredicate(variableManager -> true)
+                .pageDescriptions(List.of(pageDescription))
+                .build();
+    }
+
+    private Function<VariableManager, String> targetObjectIdProvider() {
+        return variableManager -> variableManager.get(VariableManager.SELF, Object.class).map(this.model::getId).orElse(null);
+    }
+
+    private Function<VariableManager, String> labelProvider() {
+        return variableManager -> variableManager.get(VariableManager.SELF, Object.class).map(this.model::getLabel).orElse("");
+    }
+}
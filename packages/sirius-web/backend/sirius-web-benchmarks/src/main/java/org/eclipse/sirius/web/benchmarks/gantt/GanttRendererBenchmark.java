@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.gantt;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.gantt.Gantt;
+import org.eclipse.sirius.components.gantt.description.GanttDescription;
+import org.eclipse.sirius.components.gantt.description.TaskDescription;
+import org.eclipse.sirius.components.gantt.renderer.GanttRenderer;
+import org.eclipse.sirius.components.gantt.renderer.component.GanttComponent;
+import org.eclipse.sirius.components.gantt.renderer.component.GanttComponentProps;
+import org.eclipse.sirius.components.papaya.Task;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.web.benchmarks.model.PapayaBenchmarkModel;
+import org.eclipse.sirius.web.benchmarks.model.PapayaBenchmarkModelFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the {@link GanttRenderer}.
+ *
+ * <p>
+ * The gantt displays all the tasks of the model with their dependencies.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GanttRendererBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    private int elementCount;
+
+    private PapayaBenchmarkModel model;
+
+    private GanttDescription ganttDescription;
+
+    private Gantt previousGantt;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.model = new PapayaBenchmarkModelFactory().create(this.elementCount);
+        this.ganttDescription = this.createGanttDescription();
+        this.previousGantt = this.render(Optional.empty());
+    }
+
+    @Benchmark
+    public Gantt render() {
+        return this.render(Optional.empty());
+    }
+
+    @Benchmark
+    public Gantt refresh() {
+        return this.render(Optional.of(this.previousGantt));
+    }
+
+    private Gantt render(Optional<Gantt> optionalPreviousGantt) {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(GanttDescription.LABEL, "Tasks");
+        variableManager.put(VariableManager.SELF, this.model.project());
+        variableManager.put(IEditingContext.EDITING_CONTEXT, this.model.editingContext());
+
+        GanttComponentProps props = new GanttComponentProps(variableManager, this.ganttDescription, optionalPreviousGantt, Optional.empty());
+        return new GanttRenderer().render(new Element(GanttComponent.class, props));
+    }
+
+    private GanttDescription createGanttDescription() {
+        TaskDescription taskDescription = new TaskDescription("task", this.targetObjectIdProvider(), variableManager -> "papaya::Task", this.labelProvider(),
+                variableManager -> this.model.tasks(), this.labelProvider(),
+                variableManager -> this.getTask(variableManager).map(Task::getDescription).orElse(""),
+                variableManager -> this.getTask(variableManager).map(Task::getStartDate).orElse(null),
+                variableManager -> this.getTask(variableManager).map(Task::getEndDate).orElse(null),
+                variableManager -> this.getTask(variableManager).map(task -> task.isDone() ? 100 : 0).orElse(0),
+                variableManager -> false,
+                variableManager -> this.getTask(variableManager).<List<Object>>map(task -> List.copyOf(task.getDependencies())).orElse(List.of()),
+                List.of(), List.of());
+
+        return new GanttDescription("taskGantt", "Tasks", variableManager -> "taskGantt", variableManager -> "Tasks", this.targetObjectIdProvider(), variableManager -> true,
+                List.of(taskDescription), variableManager -> { }, variableManager -> { }, variableManager -> { }, variableManager -> { }, variableManager -> { }, variableManager -> { },
+                variableManager -> "1H");
+    }
+
+    private Optional<Task> getTask(VariableManager variableManager) {
+        return variableManager.get(VariableManager.SELF, Task.class);
+    }
+
+    private Function<VariableManager, String> targetObjectIdProvider() {
+        return variableManager -> variableManager.get(VariableManager.SELF, Object.class).map(this.model::getId).orElse(null);
+    }
+
+    private Function<VariableManager, String> labelProvider() {
+        return variableManager -> variableManager.get(VariableManager.SELF, Object.class).map(this.model::getLabel).orElse("");
+    }
+}
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.model;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.core.api.IDefaultIdentityService;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.papaya.Class;
+import org.eclipse.sirius.components.papaya.Iteration;
+import org.eclipse.sirius.components.papaya.NamedElement;
+import org.eclipse.sirius.components.papaya.Project;
+import org.eclipse.sirius.components.papaya.Task;
+
+/**
+ * A synthetic Papaya model used by the benchmarks.
+ *
+ * <p>
+ * The classes and the tasks of the project are exposed directly so that the representation descriptions of the
+ * benchmarks can find their semantic elements without navigating the whole model.
+ * </p>
+ *
+ * @author agent
+ */
+public record PapayaBenchmarkModel(IEMFEditingContext editingContext, Project project, List<Class> classes, List<Iteration> iterations, List<Task> tasks, IDefaultIdentityService identityService) {
+
+    public PapayaBenchmarkModel {
+        Objects.requireNonNull(editingContext);
+        Objects.requireNonNull(project);
+        Objects.requireNonNull(classes);
+        Objects.requireNonNull(iterations);
+        Objects.requireNonNull(tasks);
+        Objects.requireNonNull(identityService);
+    }
+
+    public String getId(Object object) {
+        return this.identityService.getId(object);
+    }
+
+    public String getLabel(Object object) {
+        String label = "";
+        if (object instanceof NamedElement namedElement) {
+            label = namedElement.getName();
+        }
+        return label;
+    }
+}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.core.URLParser;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.sirius.components.emf.services.DefaultIdentityService;
+import org.eclipse.sirius.components.emf.services.EMFKindService;
+import org.eclipse.sirius.components.emf.services.IDAdapter;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.papaya.Class;
+import org.eclipse.sirius.components.papaya.Component;
+import org.eclipse.sirius.components.papaya.DataType;
+import org.eclipse.sirius.components.papaya.Iteration;
+import org.eclipse.sirius.components.papaya.Package;
+import org.eclipse.sirius.components.papaya.PapayaFactory;
+import org.eclipse.sirius.components.papaya.Project;
+import org.eclipse.sirius.components.papaya.Task;
+import org.eclipse.sirius.components.papaya.Type;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.papaya.factories.JavaProjectFactory;
+import org.eclipse.sirius.web.papaya.factories.SpringFrameworkProjectFactory;
+import org.eclipse.sirius.web.papaya.factories.services.EObjectIndexer;
+
+/**
+ * Used to create Papaya models scaled to a given number of semantic elements.
+ *
+ * <p>
+ * The Java standard library and the Spring Framework projects of the Papaya factories are used as a realistic base
+ * referenced by a synthetic project. This project contains classes, with their attributes and operations, and tasks
+ * planned in iterations. Both the classes with their features and the tasks amount to the requested number of
+ * elements.
+ * </p>
+ *
+ * <p>
+ * By default, the attributes of the synthetic classes are typed with <code>java.lang.String</code>, which is defined in
+ * another document of the editing context. Those cross-document references can be disabled in order to create a
+ * self-contained synthetic project.
+ * </p>
+ *
+ * @author agent
+ */
+public class PapayaBenchmarkModelFactory {
+
+    public static final int ATTRIBUTE_COUNT = 4;
+
+    public static final int OPERATION_COUNT = 5;
+
+    private static final int CLASSES_PER_PACKAGE = 100;
+
+    private static final int TASKS_PER_ITERATION = 100;
+
+    private static final Instant START_DATE = Instant.parse("2024-01-01T08:00:00Z");
+
+    private static final Duration TASK_DURATION = Duration.ofHours(8);
+
+    public PapayaBenchmarkModel create(int elementCount) {
+        return this.create(elementCount, true);
+    }
+
+    public PapayaBenchmarkModel create(int elementCount, boolean crossDocumentReferences) {
+        var editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(ComposedAdapterFactory.Descriptor.Registry.INSTANCE), new BasicCommandStack(), new ResourceSetImpl());
+        IEMFEditingContext editingContext = new EditingContext(UUID.randomUUID().toString(), editingDomain, Map.of(), List.of());
+
+        new JavaProjectFactory().create(editingContext);
+        this.createResource(editingContext, "Spring Framework").getContents().add(new SpringFrameworkProjectFactory().create());
+
+        var eObjectIndexer = new EObjectIndexer();
+        eObjectIndexer.index(editingDomain.getResourceSet());
+        new JavaProjectFactory().link(eObjectIndexer);
+        new SpringFrameworkProjectFactory().link(eObjectIndexer);
+
+        var project = PapayaFactory.eINSTANCE.createProject();
+        project.setName("Benchmark");
+
+        Type attributeType = null;
+        if (crossDocumentReferences) {
+            attributeType = eObjectIndexer.getType("java.lang.String");
+        }
+
+        List<Class> classes = this.createClasses(project, elementCount / (1 + ATTRIBUTE_COUNT + OPERATION_COUNT), attributeType);
+        List<Iteration> iterations = new ArrayList<>();
+        List<Task> tasks = this.createTasks(project, elementCount, iterations);
+        this.createResource(editingContext, "Benchmark").getContents().add(project);
+
+        EcoreUtil.getAllContents(editingDomain.getResourceSet(), true).forEachRemaining(notifier -> {
+            if (notifier instanceof EObject eObject) {
+                eObject.eAdapters().add(new IDAdapter(UUID.randomUUID()));
+            }
+        });
+
+        var identityService = new DefaultIdentityService(new EMFKindService(new URLParser()));
+        return new PapayaBenchmarkModel(editingContext, project, classes, iterations, tasks, identityService);
+    }
+
+    private Resource createResource(IEMFEditingContext editingContext, String name) {
+        var resource = new JSONResourceFactory().createResourceFromPath(UUID.randomUUID().toString());
+        resource.eAdapters().add(new ResourceMetadataAdapter(name));
+        editingContext.getDomain().getResourceSet().getResources().add(resource);
+        return resource;
+    }
+
+    private List<Class> createClasses(Project project, int classCount, Type attributeType) {
+        Component component = PapayaFactory.eINSTANCE.createComponent();
+        component.setName("benchmark");
+        project.getComponents().add(component);
+
+        Type classAttributeType = attributeType;
+        if (classAttributeType == null) {
+            Package typesPackage = PapayaFactory.eINSTANCE.createPackage();
+            typesPackage.setName("org.eclipse.sirius.benchmark.types");
+            component.getPackages().add(typesPackage);
+
+            DataType dataType = PapayaFactory.eINSTANCE.createDataType();
+            dataType.setName("String");
+            typesPackage.getTypes().add(dataType);
+            classAttributeType = dataType;
+        }
+
+        List<Class> classes = new ArrayList<>(classCount);
+        Package currentPackage = null;
+        for (int i = 0; i < classCount; i++) {
+            if (i % CLASSES_PER_PACKAGE == 0) {
+                currentPackage = PapayaFactory.eINSTANCE.createPackage();
+                currentPackage.setName("org.eclipse.sirius.benchmark.package" + i / CLASSES_PER_PACKAGE);
+                component.getPackages().add(currentPackage);
+            }
+
+            Class aClass = PapayaFactory.eINSTANCE.createClass();
+            aClass.setName("Class" + i);
+            if (i % CLASSES_PER_PACKAGE != 0) {
+                aClass.setExtends(classes.get(i - 1));
+            }
+
+            for (int j = 0; j < ATTRIBUTE_COUNT; j++) {
+                var genericType = PapayaFactory.eINSTANCE.createGenericType();
+                genericType.setRawType(classAttributeType);
+
+                var attribute = PapayaFactory.eINSTANCE.createAttribute();
+                attribute.setName("attribute" + j);
+                attribute.setType(genericType);
+                aClass.getAttributes().add(attribute);
+            }
+            for (int j = 0; j < OPERATION_COUNT; j++) {
+                var operation = PapayaFactory.eINSTANCE.createOperation();
+                operation.setName("operation" + j);
+                aClass.getOperations().add(operation);
+            }
+
+            currentPackage.getTypes().add(aClass);
+            classes.add(aClass);
+        }
+        return classes;
+    }
+
+    private List<Task> createTasks(Project project, int taskCount, List<Iteration> iterations) {
+        List<Task> tasks = new ArrayList<>(taskCount);
+        Iteration currentIteration = null;
+        for (int i = 0; i < taskCount; i++) {
+            Instant startDate = START_DATE.plus(TASK_DURATION.multipliedBy(i));
+            if (i % TASKS_PER_ITERATION == 0) {
+                currentIteration = PapayaFactory.eINSTANCE.createIteration();
+                currentIteration.setName("Iteration " + i / TASKS_PER_ITERATION);
+                currentIteration.setStartDate(startDate);
+                project.getIterations().add(currentIteration);
+                iterations.add(currentIteration);
+            }
+            currentIteration.setEndDate(startDate.plus(TASK_DURATION));
+
+            Task task = PapayaFactory.eINSTANCE.createTask();
+            task.setName("Task " + i);
+            task.setDescription("Description of the task " + i);
+            task.setStartDate(startDate);
+            task.setEndDate(startDate.plus(TASK_DURATION));
+            if (i % TASKS_PER_ITERATION != 0) {
+                task.getDependencies().add(tasks.get(i - 1));
+            }
+
+            project.getTasks().add(task);
+            currentIteration.getTasks().add(task);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
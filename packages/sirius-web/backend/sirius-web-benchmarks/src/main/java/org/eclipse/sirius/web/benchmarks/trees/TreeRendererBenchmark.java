@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.trees;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.core.api.labels.StyledString;
+import org.eclipse.sirius.components.papaya.Class;
+import org.eclipse.sirius.components.papaya.Component;
+import org.eclipse.sirius.components.papaya.Package;
+import org.eclipse.sirius.components.papaya.Project;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.components.trees.Tree;
+import org.eclipse.sirius.components.trees.description.TreeDescription;
+import org.eclipse.sirius.components.trees.renderer.TreeRenderer;
+import org.eclipse.sirius.components.trees.renderer.TreeRenderingCache;
+import org.eclipse.sirius.web.benchmarks.model.PapayaBenchmarkModel;
+import org.eclipse.sirius.web.benchmarks.model.PapayaBenchmarkModelFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the {@link TreeRenderer}.
+ *
+ * <p>
+ * The tree is an explorer of the synthetic project in which the project, its components, its packages and its classes
+ * are expanded. The refresh benchmark reuses the {@link TreeRenderingCache} of the previous rendering after the
+ * modification of one class.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TreeRendererBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    private int elementCount;
+
+    private PapayaBenchmarkModel model;
+
+    private TreeDescription treeDescription;
+
+    private List<String> expandedIds;
+
+    private TreeRenderingCache treeRenderingCache;
+
+    private int modifiedClassIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.model = new PapayaBenchmarkModelFactory().create(this.elementCount);
+        this.treeDescription = this.createTreeDescription();
+
+        this.expandedIds = this.getExpandedIds(this.model.project());
+
+        this.treeRenderingCache = new TreeRenderingCache();
+        this.render(this.treeRenderingCache);
+    }
+
+    @Benchmark
+    public Tree render() {
+        return this.render(new TreeRenderingCache());
+    }
+
+    @Benchmark
+    public Tree refresh() {
+        List<Class> classes = this.model.classes();
+        if (!classes.isEmpty()) {
+            this.modifiedClassIndex = (this.modifiedClassIndex + 1) % classes.size();
+            this.treeRenderingCache.invalidate(List.of(classes.get(this.modifiedClassIndex)));
+        }
+        return this.render(this.treeRenderingCache);
+    }
+
+    private Tree render(TreeRenderingCache cache) {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(TreeRenderer.EXPANDED, this.expandedIds);
+        variableManager.put(TreeRenderer.ACTIVE_FILTER_IDS, List.of());
+        return new TreeRenderer(variableManager, this.treeDescription, cache).render();
+    }
+
+    private List<String> getExpandedIds(Project project) {
+        List<Object> expandedObjects = new ArrayList<>();
+        expandedObjects.add(project);
+        project.eAllContents().forEachRemaining(eObject -> {
+            if (eObject instanceof Component || eObject instanceof Package || eObject instanceof Class) {
+                expandedObjects.add(eObject);
+            }
+        });
+        return expandedObjects.stream().map(this.model::getId).toList();
+    }
+
+    private TreeDescription createTreeDescription() {
+        return TreeDescription.newTreeDescription("explorer")
+                .label("Explorer")
+                .idProvider(variableManager -> "explorer")
+                .labelProvider(variableManager -> StyledString.of("Explorer"))
+                .targetObjectIdProvider(variableManager -> "explorer")
+                .canCreatePredicate(variableManager -> true)
+                .elementsProvider(variableManager -> List.of(this.model.project()))
+                .childrenProvider(variableManager -> variableManager.get(VariableManager.SELF, EObject.class)
+                        .<List<?>>map(EObject::eContents)
+                        .orElse(List.of()))
+                .hasChildrenProvider(variableManager -> variableManager.get(VariableManager.SELF, EObject.class)
+                        .map(eObject -> !eObject.eContents().isEmpty())
+                        .orElse(false))
+                .parentObjectProvider(variableManager -> variableManager.get(VariableManager.SELF, EObject.class)
+                        .map(EObject::eContainer)
+                        .orElse(null))
+                .treeItemIdProvider(variableManager -> variableManager.get(VariableManager.SELF, Object.class).map(this.model::getId).orElse(null))
+                .treeItemObjectProvider(variableManager -> null)
+                .treeItemLabelProvider(variableManager -> StyledString.of(variableManager.get(VariableManager.SELF, Object.class).map(this.model::getLabel).orElse("")))
+                .kindProvider(variableManager -> "papaya")
+                .iconURLProvider(variableManager -> List.of())
+                .editableProvider(variableManager -> true)
+                .deletableProvider(variableManager -> true)
+                .selectableProvider(variableManager -> true)
+                .deleteHandler(variableManager -> new Success())
+                .renameHandler((variableManager, newName) -> new Success())
+                .contextMenuEntries(List.of())
+                .build();
+    }
+}
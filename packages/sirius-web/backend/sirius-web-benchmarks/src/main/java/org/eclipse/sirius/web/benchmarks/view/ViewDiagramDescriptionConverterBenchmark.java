@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.view;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.core.api.IEditService;
+import org.eclipse.sirius.components.core.api.IFeedbackMessageService;
+import org.eclipse.sirius.components.core.api.IObjectSearchService;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.papaya.PapayaPackage;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.eclipse.sirius.components.view.RepresentationDescription;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.emf.ViewConverter;
+import org.eclipse.sirius.components.view.emf.diagram.IDiagramIdProvider;
+import org.eclipse.sirius.components.view.emf.diagram.ViewDiagramDescriptionConverter;
+import org.eclipse.sirius.components.view.emf.diagram.providers.api.IViewToolImageProvider;
+import org.eclipse.sirius.web.papaya.representations.services.PapayaJavaServiceProvider;
+import org.eclipse.sirius.web.papaya.services.PapayaViewProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.StaticApplicationContext;
+
+/**
+ * Benchmarks of the conversion of the Papaya view with the {@link ViewDiagramDescriptionConverter}.
+ *
+ * <p>
+ * The conversion of the whole view also creates the AQL interpreter of the view, as it is done each time the
+ * representation descriptions of an editing context are computed, while the conversion of the diagram descriptions
+ * reuses the same interpreter.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ViewDiagramDescriptionConverterBenchmark {
+
+    private View view;
+
+    private List<EPackage> visibleEPackages;
+
+    private ViewDiagramDescriptionConverter diagramDescriptionConverter;
+
+    private ViewConverter viewConverter;
+
+    private AQLInterpreter interpreter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.view = new PapayaViewProvider().create();
+        this.visibleEPackages = List.of(PapayaPackage.eINSTANCE);
+
+        this.diagramDescriptionConverter = new ViewDiagramDescriptionConverter(new IObjectService.NoOp(), new IEditService.NoOp(), List.of(), new IDiagramIdProvider.NoOp(),
+                new IViewToolImageProvider.NoOp(), new IFeedbackMessageService.NoOp());
+
+        var applicationContext = new StaticApplicationContext();
+        applicationContext.getBeanFactory().registerSingleton("objectSearchService", new IObjectSearchService.NoOp());
+        this.viewConverter = new ViewConverter(List.of(new PapayaJavaServiceProvider()), List.of(this.diagramDescriptionConverter), applicationContext, List.of());
+
+        this.interpreter = new AQLInterpreter(List.of(), this.visibleEPackages);
+    }
+
+    @Benchmark
+    public List<IRepresentationDescription> convertView() {
+        return this.viewConverter.convert(List.of(this.view), this.visibleEPackages);
+    }
+
+    @Benchmark
+    public List<IRepresentationDescription> convertDiagramDescriptions() {
+        List<RepresentationDescription> representationDescriptions = this.view.getDescriptions();
+        return representationDescriptions.stream()
+                .filter(this.diagramDescriptionConverter::canConvert)
+                .map(representationDescription -> this.diagramDescriptionConverter.convert(representationDescription, representationDescriptions, this.interpreter))
+                .toList();
+    }
+}
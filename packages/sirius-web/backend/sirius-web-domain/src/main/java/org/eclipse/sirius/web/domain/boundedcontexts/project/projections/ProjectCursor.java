@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.project.projections;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * The position of a project in the list of the projects sorted by name and identifier.
+ *
+ * <p>
+ * It contains both the name and the identifier of the project so that the projects following it can still be found
+ * once it has been deleted or renamed.
+ * </p>
+ *
+ * @author agent
+ */
+public record ProjectCursor(
+        UUID id,
+        String name) {
+
+    public ProjectCursor {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(name);
+    }
+}
@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.project.projections;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Nature;
+
+/**
+ * Projection used to retrieve only the data of a project needed to list projects.
+ *
+ * @author agent
+ */
+public record ProjectSummary(
+        UUID id,
+        String name,
+        List<Nature> natures) {
+
+    public ProjectSummary {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(natures);
+    }
+}
@@ -12,7 +12,11 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.project.repositories;
 
+import java.util.List;
 import java.util.Optional;
+
+import org.eclipse.sirius.web.domain.boundedcontexts.project.projections.ProjectCursor;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.projections.ProjectSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -30,4 +34,23 @@ public interface ProjectSearchRepository<T, ID> {
     Optional<T> findById(ID id);
 
     Page<T> findAll(Pageable pageable);
+
+    /**
+     * Returns the summary of the projects sorted by name and identifier.
+     *
+     * <p>
+     * The projects are paginated using the name and the identifier of the last project of the previous page, if any,
+     * instead of an offset in order to retrieve each page in the same amount of time.
+     * </p>
+     *
+     * @param cursor
+     *         The name and the identifier of the last project of the previous page or an empty optional for the first
+     *         page. The project does not have to exist anymore
+     * @param limit
+     *         The maximum number of projects to return
+     * @return The summary of the projects following the cursor
+     */
+    List<ProjectSummary> findAllSummaries(Optional<ProjectCursor> cursor, int limit);
+
+    long count();
 }
@@ -15,16 +15,24 @@ package org.eclipse.sirius.web.domain.boundedcontexts.project.repositories;
 import static org.springframework.data.relational.core.query.Criteria.where;
 import static org.springframework.data.relational.core.query.Query.query;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Nature;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.projections.ProjectCursor;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.projections.ProjectSummary;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.repositories.api.IProjectSearchRepositoryDelegate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Service;
 
 /**
@@ -35,10 +43,38 @@ import org.springframework.stereotype.Service;
 @Service
 public class ProjectSearchRepositoryDelegate implements IProjectSearchRepositoryDelegate {
 
+    private static final String FIND_ALL_SUMMARIES_QUERY = """
+            SELECT project.id, project.name, nature.name AS nature_name
+            FROM (
+                SELECT project.id, project.name
+                FROM project project
+                ORDER BY project.name ASC, project.id ASC
+                LIMIT :limit
+            ) project
+            LEFT JOIN nature nature ON nature.project_id = project.id
+            ORDER BY project.name ASC, project.id ASC
+            """;
+
+    private static final String FIND_ALL_SUMMARIES_AFTER_CURSOR_QUERY = """
+            SELECT project.id, project.name, nature.name AS nature_name
+            FROM (
+                SELECT project.id, project.name
+                FROM project project
+                WHERE (project.name, project.id) > (:cursorName, :cursorId)
+                ORDER BY project.name ASC, project.id ASC
+                LIMIT :limit
+            ) project
+            LEFT JOIN nature nature ON nature.project_id = project.id
+            ORDER BY project.name ASC, project.id ASC
+            """;
+
     private final JdbcAggregateOperations jdbcAggregateOperations;
 
-    public ProjectSearchRepositoryDelegate(JdbcAggregateOperations jdbcAggregateOperations) {
+    private final JdbcClient jdbcClient;
+
+    public ProjectSearchRepositoryDelegate(JdbcAggregateOperations jdbcAggregateOperations, JdbcClient jdbcClient) {
         this.jdbcAggregateOperations = Objects.requireNonNull(jdbcAggregateOperations);
+        this.jdbcClient = Objects.requireNonNull(jdbcClient);
     }
 
     @Override
@@ -57,4 +93,36 @@ public class ProjectSearchRepositoryDelegate implements IProjectSearchRepository
     public Page<Project> findAll(Pageable pageable) {
         return this.jdbcAggregateOperations.findAll(Project.class, pageable);
     }
+
+    @Override
+    public List<ProjectSummary> findAllSummaries(Optional<ProjectCursor> cursor, int limit) {
+        var statement = cursor
+                .map(projectCursor -> this.jdbcClient.sql(FIND_ALL_SUMMARIES_AFTER_CURSOR_QUERY)
+                        .param("cursorName", projectCursor.name())
+                        .param("cursorId", projectCursor.id()))
+                .orElseGet(() -> this.jdbcClient.sql(FIND_ALL_SUMMARIES_QUERY))
+                .param("limit", limit);
+
+        Map<UUID, String> projectId2name = new LinkedHashMap<>();
+        Map<UUID, List<Nature>> projectId2natures = new LinkedHashMap<>();
+        statement.query(resultSet -> {
+            var projectId = resultSet.getObject("id", UUID.class);
+            projectId2name.put(projectId, resultSet.getString("name"));
+
+            var natures = projectId2natures.computeIfAbsent(projectId, key -> new ArrayList<>());
+            var natureName = resultSet.getString("nature_name");
+            if (natureName != null) {
+                natures.add(new Nature(natureName));
+            }
+        });
+
+        return projectId2name.entrySet().stream()
+                .map(entry -> new ProjectSummary(entry.getKey(), entry.getValue(), projectId2natures.get(entry.getKey())))
+                .toList();
+    }
+
+    @Override
+    public long count() {
+        return this.jdbcAggregateOperations.count(Project.class);
+    }
 }
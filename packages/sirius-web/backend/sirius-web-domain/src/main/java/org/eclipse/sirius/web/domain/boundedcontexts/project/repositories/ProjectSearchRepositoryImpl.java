@@ -12,11 +12,14 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.project.repositories;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.projections.ProjectCursor;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.projections.ProjectSummary;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.repositories.api.IProjectSearchRepositoryDelegate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -50,4 +53,14 @@ public class ProjectSearchRepositoryImpl implements ProjectSearchRepository<Proj
     public Page<Project> findAll(Pageable pageable) {
         return this.projectSearchRepositoryDelegate.findAll(pageable);
     }
+
+    @Override
+    public List<ProjectSummary> findAllSummaries(Optional<ProjectCursor> cursor, int limit) {
+        return this.projectSearchRepositoryDelegate.findAllSummaries(cursor, limit);
+    }
+
+    @Override
+    public long count() {
+        return this.projectSearchRepositoryDelegate.count();
+    }
 }
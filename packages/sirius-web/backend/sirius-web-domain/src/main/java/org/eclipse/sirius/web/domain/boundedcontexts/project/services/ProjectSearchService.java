@@ -18,6 +18,8 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.projections.ProjectCursor;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.projections.ProjectSummary;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.repositories.IProjectRepository;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.services.api.IProjectSearchService;
 import org.springframework.data.domain.Page;
@@ -60,4 +62,14 @@ public class ProjectSearchService implements IProjectSearchService {
         var count = this.projectRepository.countAllById(projectIds);
         return new PageImpl<>(projects, pageable, count);
     }
+
+    @Override
+    public List<ProjectSummary> findAllSummaries(Optional<ProjectCursor> cursor, int limit) {
+        return this.projectRepository.findAllSummaries(cursor, limit);
+    }
+
+    @Override
+    public long count() {
+        return this.projectRepository.count();
+    }
 }
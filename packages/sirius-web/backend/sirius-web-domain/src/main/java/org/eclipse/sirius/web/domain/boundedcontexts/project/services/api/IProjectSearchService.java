@@ -17,6 +17,8 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.projections.ProjectCursor;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.projections.ProjectSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -34,4 +36,8 @@ public interface IProjectSearchService {
     Page<Project> findAll(Pageable pageable);
 
     Page<Project> findAllById(List<UUID> projectIds, Pageable pageable);
+
+    List<ProjectSummary> findAllSummaries(Optional<ProjectCursor> cursor, int limit);
+
+    long count();
 }
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections;
+
+/**
+ * The layout data of an element of a representation persisted separately from the content of the representation.
+ *
+ * <p>
+ * The kind is the name of the property of the layout data of the representation containing the layout data of this
+ * element, for example <code>nodeLayoutData</code>. The content is the serialized layout data.
+ * </p>
+ *
+ * <p>
+ * The view state of an element, such as the collapsed state of a lane of a deck, is persisted the same way with the
+ * kind <code>viewState</code>. Its content contains the properties of the element which it replaces.
+ * </p>
+ *
+ * @author agent
+ */
+public record RepresentationLayoutData(
+        String kind,
+        String elementId,
+        String content) {
+}
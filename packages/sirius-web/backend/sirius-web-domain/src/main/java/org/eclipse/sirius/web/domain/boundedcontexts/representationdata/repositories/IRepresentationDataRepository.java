@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.representationdata.repositories;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,6 +20,8 @@ import java.util.UUID;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataContentOnly;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataMetadataOnly;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationLayoutData;
+import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.ListPagingAndSortingRepository;
@@ -59,6 +62,36 @@ public interface IRepresentationDataRepository extends ListPagingAndSortingRepos
         """)
     Optional<RepresentationDataContentOnly> findContentById(UUID id);
 
+    @Query("""
+        SELECT GREATEST(representationData.last_modified_on, (
+            SELECT MAX(representationLayoutData.last_modified_on)
+            FROM representation_layout_data representationLayoutData
+            WHERE representationLayoutData.representation_id = representationData.id
+        ))
+        FROM representation_data representationData
+        WHERE representationData.id = :id
+        """)
+    Optional<Instant> findContentVersionById(UUID id);
+
+    @Query("""
+        SELECT representationData.id
+        FROM representation_data representationData
+        WHERE representationData.id = :id
+        FOR UPDATE
+        """)
+    Optional<UUID> lockById(UUID id);
+
+    @Query("""
+        SELECT representationData.id
+        FROM representation_data representationData
+        WHERE representationData.kind = :kind
+        AND representationData.migration_version COLLATE "C" < :migrationVersion
+        AND representationData.id > :afterId
+        ORDER BY representationData.id
+        LIMIT :limit
+        """)
+    List<UUID> findAllIdsToMigrate(String kind, String migrationVersion, UUID afterId, int limit);
+
     @Query("""
         SELECT representationData.project_id
         FROM representation_data representationData
@@ -80,4 +113,37 @@ public interface IRepresentationDataRepository extends ListPagingAndSortingRepos
         AND representationData.kind IN (:kinds)
         """)
     boolean existByIdAndKind(UUID representationId, List<String> kinds);
+
+    @Query("""
+        SELECT kind, element_id, content
+        FROM representation_layout_data representationLayoutData
+        WHERE representationLayoutData.representation_id = :representationId
+        """)
+    List<RepresentationLayoutData> findAllLayoutDataByRepresentationId(UUID representationId);
+
+    @Modifying
+    @Query("""
+        INSERT INTO representation_layout_data (representation_id, kind, element_id, content, last_modified_on)
+        SELECT :representationId, layoutData.kind, layoutData.element_id, layoutData.content, :lastModifiedOn
+        FROM UNNEST(:kinds, :elementIds, :contents) AS layoutData(kind, element_id, content)
+        ON CONFLICT (representation_id, kind, element_id)
+        DO UPDATE SET content = EXCLUDED.content, last_modified_on = EXCLUDED.last_modified_on
+        """)
+    void upsertAllLayoutData(UUID representationId, String[] kinds, String[] elementIds, String[] contents, Instant lastModifiedOn);
+
+    @Modifying
+    @Query("""
+        DELETE FROM representation_layout_data representationLayoutData
+        WHERE representationLayoutData.representation_id = :representationId
+        """)
+    void deleteAllLayoutDataByRepresentationId(UUID representationId);
+
+    @Modifying
+    @Query("""
+        DELETE FROM representation_layout_data representationLayoutData
+        WHERE representationLayoutData.representation_id = :representationId
+        AND representationLayoutData.kind = :kind
+        AND representationLayoutData.element_id = ANY(:elementIds)
+        """)
+    void deleteLayoutDataByRepresentationIdAndKindAndElementIdIn(UUID representationId, String kind, String[] elementIds);
 }
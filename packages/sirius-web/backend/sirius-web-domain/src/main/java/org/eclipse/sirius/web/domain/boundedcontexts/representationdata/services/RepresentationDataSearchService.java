@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -20,6 +21,7 @@ import java.util.UUID;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataContentOnly;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataMetadataOnly;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationLayoutData;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.repositories.IRepresentationDataRepository;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
@@ -54,6 +56,26 @@ public class RepresentationDataSearchService implements IRepresentationDataSearc
         return this.representationDataRepository.findContentById(id);
     }
 
+    @Override
+    public Optional<Instant> findContentVersionById(UUID id) {
+        return this.representationDataRepository.findContentVersionById(id);
+    }
+
+    @Override
+    public List<RepresentationLayoutData> findLayoutDataById(UUID id) {
+        return this.representationDataRepository.findAllLayoutDataByRepresentationId(id);
+    }
+
+    @Override
+    public boolean lockById(UUID id) {
+        return this.representationDataRepository.lockById(id).isPresent();
+    }
+
+    @Override
+    public List<UUID> findAllIdsToMigrate(String kind, String migrationVersion, UUID afterId, int limit) {
+        return this.representationDataRepository.findAllIdsToMigrate(kind, migrationVersion, afterId, limit);
+    }
+
     @Override
     public Optional<RepresentationDataMetadataOnly> findMetadataById(UUID id) {
         return this.representationDataRepository.findMetadataById(id);
@@ -12,10 +12,14 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
 import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationLayoutData;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.repositories.IRepresentationDataRepository;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataUpdateService;
 import org.eclipse.sirius.web.domain.services.Failure;
@@ -50,6 +54,7 @@ public class RepresentationDataUpdateService implements IRepresentationDataUpdat
             var representationData = optionalRepresentationData.get();
             representationData.updateContent(cause, content);
             this.representationDataRepository.save(representationData);
+            this.representationDataRepository.deleteAllLayoutDataByRepresentationId(id);
 
             result = new Success<>(null);
         } else {
@@ -69,6 +74,42 @@ public class RepresentationDataUpdateService implements IRepresentationDataUpdat
             representationData.updateContent(cause, content);
             representationData.updateMigrationData(lastMigrationPerformed, migrationVersion);
             this.representationDataRepository.save(representationData);
+            this.representationDataRepository.deleteAllLayoutDataByRepresentationId(id);
+
+            result = new Success<>(null);
+        } else {
+            result = new Failure<>(this.messageService.notFound());
+        }
+
+        return result;
+    }
+
+    @Override
+    public IResult<Void> updateLayoutData(ICause cause, UUID id, List<RepresentationLayoutData> layoutData) {
+        IResult<Void> result = null;
+
+        if (this.representationDataRepository.existsById(id)) {
+            String[] kinds = layoutData.stream().map(RepresentationLayoutData::kind).toArray(String[]::new);
+            String[] elementIds = layoutData.stream().map(RepresentationLayoutData::elementId).toArray(String[]::new);
+            String[] contents = layoutData.stream().map(RepresentationLayoutData::content).toArray(String[]::new);
+            this.representationDataRepository.upsertAllLayoutData(id, kinds, elementIds, contents, Instant.now());
+
+            result = new Success<>(null);
+        } else {
+            result = new Failure<>(this.messageService.notFound());
+        }
+
+        return result;
+    }
+
+    @Override
+    public IResult<Void> deleteLayoutData(ICause cause, UUID id, String kind, Collection<String> elementIds) {
+        IResult<Void> result = null;
+
+        if (this.representationDataRepository.existsById(id)) {
+            if (!elementIds.isEmpty()) {
+                this.representationDataRepository.deleteLayoutDataByRepresentationIdAndKindAndElementIdIn(id, kind, elementIds.toArray(String[]::new));
+            }
 
             result = new Success<>(null);
         } else {
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,6 +20,7 @@ import java.util.UUID;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataContentOnly;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataMetadataOnly;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationLayoutData;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 
 /**
@@ -34,6 +36,51 @@ public interface IRepresentationDataSearchService {
 
     Optional<RepresentationDataContentOnly> findContentById(UUID id);
 
+    /**
+     * Returns the version of the content of the representation data.
+     *
+     * <p>
+     * The version changes every time the content of the representation data or its layout data are updated.
+     * </p>
+     *
+     * @param id
+     *         The id of the representation data
+     * @return The version of the content or an empty optional if the representation data do not exist
+     */
+    Optional<Instant> findContentVersionById(UUID id);
+
+    List<RepresentationLayoutData> findLayoutDataById(UUID id);
+
+    /**
+     * Locks the representation data until the end of the current transaction.
+     *
+     * <p>
+     * The content and the layout data of the representation data cannot be modified by other transactions while the
+     * lock is held.
+     * </p>
+     *
+     * @param id
+     *         The id of the representation data
+     * @return <code>true</code> if the representation data exist and have been locked, <code>false</code> otherwise
+     */
+    boolean lockById(UUID id);
+
+    /**
+     * Returns the ids of the representation data of the given kind whose content has been migrated with a version older
+     * than the given one.
+     *
+     * @param kind
+     *         The kind of the representation data
+     * @param migrationVersion
+     *         The most recent migration version
+     * @param afterId
+     *         Only the ids greater than this one are returned, in order to iterate over the representation data
+     * @param limit
+     *         The maximum number of ids returned
+     * @return The ids of the representation data to migrate in ascending order
+     */
+    List<UUID> findAllIdsToMigrate(String kind, String migrationVersion, UUID afterId, int limit);
+
     Optional<RepresentationDataMetadataOnly> findMetadataById(UUID id);
 
     List<RepresentationDataMetadataOnly> findAllMetadataByProject(AggregateReference<Project, UUID> project);
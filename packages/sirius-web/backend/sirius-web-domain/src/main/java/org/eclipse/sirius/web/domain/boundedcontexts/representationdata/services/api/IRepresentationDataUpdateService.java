@@ -12,14 +12,22 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationLayoutData;
 import org.eclipse.sirius.web.domain.services.IResult;
 
 /**
  * Used to update existing representation data.
  *
+ * <p>
+ * The layout data of the elements of a representation can be updated separately from its content. Since the content
+ * of a representation is expected to contain its whole layout, updating the content removes those layout data.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public interface IRepresentationDataUpdateService {
@@ -27,4 +35,32 @@ public interface IRepresentationDataUpdateService {
     IResult<Void> updateContent(ICause cause, UUID id, String content);
 
     IResult<Void> updateContentWithMigrationData(ICause cause, UUID id, String content, String lastMigrationPerformed, String migrationVersion);
+
+    /**
+     * Inserts or updates the given layout data of the elements of the representation with a single statement.
+     *
+     * @param cause
+     *         The cause of the update
+     * @param id
+     *         The id of the representation
+     * @param layoutData
+     *         The layout data to insert or update, at most one per kind and element
+     * @return The result of the update
+     */
+    IResult<Void> updateLayoutData(ICause cause, UUID id, List<RepresentationLayoutData> layoutData);
+
+    /**
+     * Deletes the layout data of the given kind of the given elements of the representation.
+     *
+     * @param cause
+     *         The cause of the deletion
+     * @param id
+     *         The id of the representation
+     * @param kind
+     *         The kind of layout data
+     * @param elementIds
+     *         The ids of the elements whose layout data should be deleted since they have been removed
+     * @return The result of the deletion
+     */
+    IResult<Void> deleteLayoutData(ICause cause, UUID id, String kind, Collection<String> elementIds);
 }
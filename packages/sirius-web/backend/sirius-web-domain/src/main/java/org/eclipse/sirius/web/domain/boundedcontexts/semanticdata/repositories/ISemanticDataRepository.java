@@ -46,4 +46,24 @@ public interface ISemanticDataRepository extends ListPagingAndSortingRepository<
         GROUP BY semanticData.id
         """)
     List<SemanticData> findAllByDomains(List<String> domainUris);
+
+    @Query("""
+        SELECT semanticData.id
+        FROM semantic_data semanticData
+        WHERE semanticData.project_id = :projectId
+        FOR UPDATE
+        """)
+    Optional<UUID> lockByProjectId(UUID projectId);
+
+    @Query("""
+        SELECT DISTINCT semanticData.project_id
+        FROM semantic_data semanticData
+        JOIN document document
+        ON semanticData.id = document.semantic_data_id
+        WHERE semanticData.project_id > :afterProjectId
+        AND COALESCE(document.content::jsonb #>> '{migration,migrationVersion}', '0') COLLATE "C" < :migrationVersion
+        ORDER BY semanticData.project_id
+        LIMIT :limit
+        """)
+    List<UUID> findAllProjectIdsToMigrate(String migrationVersion, UUID afterProjectId, int limit);
 }
@@ -47,4 +47,16 @@ public class SemanticDataSearchService implements ISemanticDataSearchService {
     public List<SemanticData> findAllByDomains(List<String> domainUris) {
         return this.semanticDataRepository.findAllByDomains(domainUris);
     }
+
+    @Override
+    public boolean lockByProject(AggregateReference<Project, UUID> project) {
+        return this.semanticDataRepository.lockByProjectId(project.getId()).isPresent();
+    }
+
+    @Override
+    public List<AggregateReference<Project, UUID>> findAllProjectsToMigrate(String migrationVersion, AggregateReference<Project, UUID> afterProject, int limit) {
+        return this.semanticDataRepository.findAllProjectIdsToMigrate(migrationVersion, afterProject.getId(), limit).stream()
+                .map(AggregateReference::<Project, UUID>to)
+                .toList();
+    }
 }
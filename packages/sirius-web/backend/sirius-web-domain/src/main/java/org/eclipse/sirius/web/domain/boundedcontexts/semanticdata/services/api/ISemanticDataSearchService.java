@@ -30,4 +30,27 @@ public interface ISemanticDataSearchService {
     Optional<SemanticData> findByProject(AggregateReference<Project, UUID> project);
 
     List<SemanticData> findAllByDomains(List<String> domainUris);
+
+    /**
+     * Locks the semantic data of the given project until the end of the current transaction.
+     *
+     * @param project
+     *         The project
+     * @return <code>true</code> if the semantic data exist and have been locked, <code>false</code> otherwise
+     */
+    boolean lockByProject(AggregateReference<Project, UUID> project);
+
+    /**
+     * Returns the ids of the projects with at least one document whose content has been migrated with a version older
+     * than the given one.
+     *
+     * @param migrationVersion
+     *         The most recent migration version
+     * @param afterProject
+     *         Only the projects whose id is greater than the id of this one are returned
+     * @param limit
+     *         The maximum number of projects returned
+     * @return The projects to migrate in ascending order of their id
+     */
+    List<AggregateReference<Project, UUID>> findAllProjectsToMigrate(String migrationVersion, AggregateReference<Project, UUID> afterProject, int limit);
 }
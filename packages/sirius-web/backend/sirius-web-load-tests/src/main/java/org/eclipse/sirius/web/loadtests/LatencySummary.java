@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.loadtests;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The percentiles of some durations, in milliseconds.
+ *
+ * @author agent
+ */
+public record LatencySummary(int count, double p50, double p95, double p99, double max) {
+
+    private static final double NANOS_PER_MILLI = Duration.ofMillis(1).toNanos();
+
+    /**
+     * Computes the percentiles of the given durations with the nearest-rank method.
+     *
+     * @param durations
+     *         Some durations in nanoseconds
+     * @return The percentiles of the durations
+     */
+    public static LatencySummary of(List<Long> durations) {
+        var sortedDurations = durations.stream().sorted().toList();
+        if (sortedDurations.isEmpty()) {
+            return new LatencySummary(0, 0, 0, 0, 0);
+        }
+        return new LatencySummary(
+                sortedDurations.size(),
+                percentile(sortedDurations, 50),
+                percentile(sortedDurations, 95),
+                percentile(sortedDurations, 99),
+                sortedDurations.get(sortedDurations.size() - 1) / NANOS_PER_MILLI
+        );
+    }
+
+    private static double percentile(List<Long> sortedDurations, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedDurations.size());
+        return sortedDurations.get(Math.max(rank, 1) - 1) / NANOS_PER_MILLI;
+    }
+}
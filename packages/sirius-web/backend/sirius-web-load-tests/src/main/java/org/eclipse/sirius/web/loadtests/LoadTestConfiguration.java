@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.loadtests;
+
+import org.eclipse.sirius.components.diagrams.tests.graphql.DiagramEventSubscriptionRunner;
+import org.eclipse.sirius.components.trees.tests.graphql.RenameTreeItemMutationRunner;
+import org.eclipse.sirius.web.loadtests.VirtualUser.VirtualUserRunners;
+import org.eclipse.sirius.web.tests.graphql.DetailsEventSubscriptionRunner;
+import org.eclipse.sirius.web.tests.services.explorer.ExplorerEventSubscriptionRunner;
+import org.eclipse.sirius.web.tests.services.representation.RepresentationIdBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the load tests.
+ *
+ * @author agent
+ */
+@Configuration
+public class LoadTestConfiguration {
+
+    @Bean
+    public VirtualUserRunners virtualUserRunners(ExplorerEventSubscriptionRunner explorerEventSubscriptionRunner, DetailsEventSubscriptionRunner detailsEventSubscriptionRunner,
+            DiagramEventSubscriptionRunner diagramEventSubscriptionRunner, RenameTreeItemMutationRunner renameTreeItemMutationRunner, RepresentationIdBuilder representationIdBuilder) {
+        return new VirtualUserRunners(explorerEventSubscriptionRunner, detailsEventSubscriptionRunner, diagramEventSubscriptionRunner, renameTreeItemMutationRunner, representationIdBuilder);
+    }
+}
@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.loadtests;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The project shared by all the virtual users.
+ *
+ * <p>
+ * The explorer representation id expands the tree down to the renamed classes so that their renaming is visible by
+ * all the virtual users. The diagram is a class diagram of the component containing those classes.
+ * </p>
+ *
+ * @author agent
+ */
+public record LoadTestFixture(String editingContextId, String explorerRepresentationId, String diagramId, List<String> classIds) {
+
+    public LoadTestFixture {
+        Objects.requireNonNull(editingContextId);
+        Objects.requireNonNull(explorerRepresentationId);
+        Objects.requireNonNull(diagramId);
+        Objects.requireNonNull(classIds);
+    }
+}
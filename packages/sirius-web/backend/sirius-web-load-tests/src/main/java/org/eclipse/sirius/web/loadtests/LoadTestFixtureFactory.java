@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.loadtests;
+
+import com.jayway.jsonpath.JsonPath;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.collaborative.dto.CreateRepresentationInput;
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.components.core.api.IIdentityService;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.graphql.tests.AllRepresentationDescriptionsQueryRunner;
+import org.eclipse.sirius.components.graphql.tests.CreateRepresentationMutationRunner;
+import org.eclipse.sirius.components.papaya.Class;
+import org.eclipse.sirius.components.papaya.Component;
+import org.eclipse.sirius.components.papaya.Package;
+import org.eclipse.sirius.web.application.project.dto.CreateProjectFromTemplateInput;
+import org.eclipse.sirius.web.application.views.explorer.services.ExplorerDescriptionProvider;
+import org.eclipse.sirius.web.papaya.representations.classdiagram.ClassDiagramDescriptionProvider;
+import org.eclipse.sirius.web.papaya.services.PapayaProjectTemplateProvider;
+import org.eclipse.sirius.web.tests.graphql.CreateProjectFromTemplateMutationRunner;
+import org.eclipse.sirius.web.tests.services.representation.RepresentationIdBuilder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to create the project shared by the virtual users with the GraphQL API.
+ *
+ * <p>
+ * The project is created from the Papaya example template. The component with the most classes is displayed in a class
+ * diagram and its classes are the objects renamed by the virtual users.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class LoadTestFixtureFactory {
+
+    private final CreateProjectFromTemplateMutationRunner createProjectFromTemplateMutationRunner;
+
+    private final AllRepresentationDescriptionsQueryRunner allRepresentationDescriptionsQueryRunner;
+
+    private final CreateRepresentationMutationRunner createRepresentationMutationRunner;
+
+    private final IEditingContextSearchService editingContextSearchService;
+
+    private final IIdentityService identityService;
+
+    private final RepresentationIdBuilder representationIdBuilder;
+
+    public LoadTestFixtureFactory(CreateProjectFromTemplateMutationRunner createProjectFromTemplateMutationRunner, AllRepresentationDescriptionsQueryRunner allRepresentationDescriptionsQueryRunner,
+            CreateRepresentationMutationRunner createRepresentationMutationRunner, IEditingContextSearchService editingContextSearchService, IIdentityService identityService,
+            RepresentationIdBuilder representationIdBuilder) {
+        this.createProjectFromTemplateMutationRunner = Objects.requireNonNull(createProjectFromTemplateMutationRunner);
+        this.allRepresentationDescriptionsQueryRunner = Objects.requireNonNull(allRepresentationDescriptionsQueryRunner);
+        this.createRepresentationMutationRunner = Objects.requireNonNull(createRepresentationMutationRunner);
+        this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
+        this.identityService = Objects.requireNonNull(identityService);
+        this.representationIdBuilder = Objects.requireNonNull(representationIdBuilder);
+    }
+
+    public LoadTestFixture create() {
+        var createProjectInput = new CreateProjectFromTemplateInput(UUID.randomUUID(), PapayaProjectTemplateProvider.SIRIUS_WEB_PROJECT_TEMPLATE_ID);
+        var createProjectResult = this.createProjectFromTemplateMutationRunner.run(createProjectInput);
+        String editingContextId = JsonPath.read(createProjectResult, "$.data.createProjectFromTemplate.project.id");
+
+        var editingContext = this.editingContextSearchService.findById(editingContextId)
+                .filter(IEMFEditingContext.class::isInstance)
+                .map(IEMFEditingContext.class::cast)
+                .orElseThrow(() -> new IllegalStateException("The editing context of the load test cannot be loaded"));
+
+        List<Component> components = new ArrayList<>();
+        EcoreUtil.<Object>getAllProperContents(editingContext.getDomain().getResourceSet(), false).forEachRemaining(object -> {
+            if (object instanceof Component component) {
+                components.add(component);
+            }
+        });
+        var component = components.stream()
+                .max(Comparator.comparingLong(this::getClassCount))
+                .orElseThrow(() -> new IllegalStateException("The project of the load test does not contain any component"));
+
+        var componentId = this.identityService.getId(component);
+        var diagramId = this.createDiagram(editingContextId, componentId);
+        var explorerRepresentationId = this.representationIdBuilder.buildExplorerRepresentationId(ExplorerDescriptionProvider.DESCRIPTION_ID, this.getExpandedIds(component), List.of());
+
+        List<String> classIds = new ArrayList<>();
+        component.eAllContents().forEachRemaining(eObject -> {
+            if (eObject instanceof Class aClass) {
+                classIds.add(this.identityService.getId(aClass));
+            }
+        });
+
+        return new LoadTestFixture(editingContextId, explorerRepresentationId, diagramId, classIds);
+    }
+
+    private long getClassCount(Component component) {
+        Iterable<EObject> contents = component::eAllContents;
+        return StreamSupport.stream(contents.spliterator(), false)
+                .filter(Class.class::isInstance)
+                .count();
+    }
+
+    private String createDiagram(String editingContextId, String componentId) {
+        Map<String, Object> variables = Map.of("editingContextId", editingContextId, "objectId", componentId);
+        var representationDescriptionsResult = this.allRepresentationDescriptionsQueryRunner.run(variables);
+        List<String> representationDescriptionIds = JsonPath.read(representationDescriptionsResult,
+                "$.data.viewer.editingContext.representationDescriptions.edges[?(@.node.label == '" + ClassDiagramDescriptionProvider.NAME + "')].node.id");
+        var representationDescriptionId = representationDescriptionIds.stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("The class diagram description cannot be found"));
+
+        var createRepresentationInput = new CreateRepresentationInput(UUID.randomUUID(), editingContextId, representationDescriptionId, componentId, "Load test");
+        var createRepresentationResult = this.createRepresentationMutationRunner.run(createRepresentationInput);
+        return JsonPath.read(createRepresentationResult, "$.data.createRepresentation.representation.id");
+    }
+
+    /**
+     * Returns the ids of the tree items to expand in order to display the classes of the given component.
+     *
+     * @param component
+     *         The component
+     * @return The ids of the document, of the component, of its containers and of its packages
+     */
+    private List<String> getExpandedIds(Component component) {
+        List<String> expandedIds = new ArrayList<>();
+        expandedIds.add(component.eResource().getURI().path().substring(1));
+
+        EObject container = component;
+        while (container != null) {
+            expandedIds.add(this.identityService.getId(container));
+            container = container.eContainer();
+        }
+        component.eAllContents().forEachRemaining(eObject -> {
+            if (eObject instanceof Package) {
+                expandedIds.add(this.identityService.getId(eObject));
+            }
+        });
+        return expandedIds;
+    }
+}
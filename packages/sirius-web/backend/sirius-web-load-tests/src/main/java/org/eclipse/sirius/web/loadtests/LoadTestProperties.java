@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.loadtests;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * The configuration of the load test.
+ *
+ * <p>
+ * Each virtual user performs the given number of steps, each one made of a think time followed by a mutation. The
+ * warmup steps are performed first by all the virtual users and their results are discarded. The seed makes the
+ * scenario identical from one run to the other.
+ * </p>
+ *
+ * @author agent
+ */
+@ConfigurationProperties(prefix = "sirius.web.loadtests")
+public record LoadTestProperties(
+        @DefaultValue("30") int virtualUsers,
+        @DefaultValue("20") int warmupSteps,
+        @DefaultValue("100") int steps,
+        @DefaultValue("500ms") Duration thinkTime,
+        @DefaultValue("42") long seed,
+        @DefaultValue("target/load-test-result.json") String resultFile
+) {
+}
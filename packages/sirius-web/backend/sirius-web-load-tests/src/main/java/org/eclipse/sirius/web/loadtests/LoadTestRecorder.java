@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.loadtests;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the latency of the mutations and the time needed by the other virtual users to see them.
+ *
+ * <p>
+ * The time-to-refresh of a mutation is measured, for each subscription of the other virtual users, between the moment
+ * the mutation has been sent and the first refresh received after its completion. Refreshes received while a mutation
+ * is still in progress may not contain its changes and are thus not attributed to it. A refresh which contains the
+ * changes of several mutations is attributed to all of them.
+ * </p>
+ *
+ * @author agent
+ */
+public class LoadTestRecorder {
+
+    private final List<Long> mutationLatencies = new ArrayList<>();
+
+    private final List<CompletedMutation> completedMutations = new ArrayList<>();
+
+    private final Map<SubscriptionKind, List<Long>> timesToRefresh = new EnumMap<>(SubscriptionKind.class);
+
+    public synchronized void mutationCompleted(int virtualUser, long startTime, long endTime) {
+        this.mutationLatencies.add(endTime - startTime);
+        this.completedMutations.add(new CompletedMutation(virtualUser, startTime));
+    }
+
+    public RefreshObserver getRefreshObserver(int virtualUser, SubscriptionKind subscriptionKind) {
+        return new RefreshObserver(virtualUser, subscriptionKind);
+    }
+
+    public synchronized LatencySummary getMutationLatency() {
+        return LatencySummary.of(this.mutationLatencies);
+    }
+
+    public synchronized Map<SubscriptionKind, LatencySummary> getTimesToRefresh() {
+        Map<SubscriptionKind, LatencySummary> summaries = new EnumMap<>(SubscriptionKind.class);
+        for (SubscriptionKind subscriptionKind : SubscriptionKind.values()) {
+            summaries.put(subscriptionKind, LatencySummary.of(this.timesToRefresh.getOrDefault(subscriptionKind, List.of())));
+        }
+        return summaries;
+    }
+
+    private synchronized int refreshed(int virtualUser, SubscriptionKind subscriptionKind, int firstUnobservedMutation, long refreshTime) {
+        var times = this.timesToRefresh.computeIfAbsent(subscriptionKind, key -> new ArrayList<>());
+        for (int i = firstUnobservedMutation; i < this.completedMutations.size(); i++) {
+            var completedMutation = this.completedMutations.get(i);
+            if (completedMutation.virtualUser() != virtualUser) {
+                times.add(refreshTime - completedMutation.startTime());
+            }
+        }
+        return this.completedMutations.size();
+    }
+
+    /**
+     * A mutation which has been completed.
+     *
+     * @author agent
+     */
+    public record CompletedMutation(int virtualUser, long startTime) {
+    }
+
+    /**
+     * Observes the refreshes received by one subscription of a virtual user.
+     *
+     * @author agent
+     */
+    public final class RefreshObserver {
+
+        private final int virtualUser;
+
+        private final SubscriptionKind subscriptionKind;
+
+        private int firstUnobservedMutation;
+
+        private RefreshObserver(int virtualUser, SubscriptionKind subscriptionKind) {
+            this.virtualUser = virtualUser;
+            this.subscriptionKind = subscriptionKind;
+        }
+
+        public void refreshed(long refreshTime) {
+            this.firstUnobservedMutation = LoadTestRecorder.this.refreshed(this.virtualUser, this.subscriptionKind, this.firstUnobservedMutation, refreshTime);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.loadtests;
+
+import java.util.Map;
+
+/**
+ * The result of the measured phase of a load test.
+ *
+ * <p>
+ * The latencies are in milliseconds, the CPU time and the garbage collection time are in milliseconds too.
+ * </p>
+ *
+ * @author agent
+ */
+public record LoadTestReport(
+        int virtualUsers,
+        int mutations,
+        long durationMillis,
+        LatencySummary mutationLatency,
+        Map<SubscriptionKind, LatencySummary> timesToRefresh,
+        long cpuTimeMillis,
+        long allocatedBytes,
+        long gcCount,
+        long gcTimeMillis
+) {
+}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.loadtests;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.web.loadtests.VirtualUser.VirtualUserRunners;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Runs the load test once the server has started.
+ *
+ * <p>
+ * All the virtual users first perform the warmup steps in order to let the JIT compile the code involved and to fill
+ * the caches of the server. The measured steps are then performed with new subscriptions and the latencies, the time
+ * to refresh and the resources used by the process during this phase are written in the result file.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class LoadTestRunner implements ApplicationRunner {
+
+    private static final String WARMUP_PHASE = "warmup";
+
+    private static final String MEASURED_PHASE = "measured";
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private static final Duration SUBSCRIPTION_DELAY = Duration.ofSeconds(2);
+
+    private final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private final LoadTestProperties properties;
+
+    private final LoadTestFixtureFactory loadTestFixtureFactory;
+
+    private final VirtualUserRunners virtualUserRunners;
+
+    private final ObjectMapper objectMapper;
+
+    public LoadTestRunner(LoadTestProperties properties, LoadTestFixtureFactory loadTestFixtureFactory, VirtualUserRunners virtualUserRunners, ObjectMapper objectMapper) {
+        this.properties = Objects.requireNonNull(properties);
+        this.loadTestFixtureFactory = Objects.requireNonNull(loadTestFixtureFactory);
+        this.virtualUserRunners = Objects.requireNonNull(virtualUserRunners);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        var fixture = this.loadTestFixtureFactory.create();
+        this.logger.info("Load test of {} virtual users renaming {} classes", this.properties.virtualUsers(), fixture.classIds().size());
+
+        this.runPhase(WARMUP_PHASE, this.properties.warmupSteps(), fixture, new LoadTestRecorder());
+
+        var recorder = new LoadTestRecorder();
+        var start = ResourceUsage.current();
+        long startTime = System.nanoTime();
+        this.runPhase(MEASURED_PHASE, this.properties.steps(), fixture, recorder);
+        long duration = System.nanoTime() - startTime;
+        var resourceUsage = ResourceUsage.current().since(start);
+
+        var mutationLatency = recorder.getMutationLatency();
+        var report = new LoadTestReport(
+                this.properties.virtualUsers(),
+                mutationLatency.count(),
+                duration / NANOS_PER_MILLI,
+                mutationLatency,
+                recorder.getTimesToRefresh(),
+                resourceUsage.cpuTime() / NANOS_PER_MILLI,
+                resourceUsage.allocatedBytes(),
+                resourceUsage.gcCount(),
+                resourceUsage.gcTime()
+        );
+        this.write(report);
+    }
+
+    private void runPhase(String phase, int stepCount, LoadTestFixture fixture, LoadTestRecorder recorder) throws InterruptedException {
+        var scenarioFactory = new ScenarioFactory(this.properties);
+
+        List<VirtualUser> virtualUsers = new ArrayList<>();
+        for (int index = 0; index < this.properties.virtualUsers(); index++) {
+            var steps = scenarioFactory.create(phase, index, stepCount, fixture.classIds());
+            virtualUsers.add(new VirtualUser(index, fixture, steps, recorder, this.virtualUserRunners));
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(this.properties.virtualUsers());
+        try {
+            virtualUsers.forEach(VirtualUser::open);
+            // Gives the time to the subscriptions to receive their initial payload before the first mutation
+            TimeUnit.MILLISECONDS.sleep(SUBSCRIPTION_DELAY.toMillis());
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (VirtualUser virtualUser : virtualUsers) {
+                futures.add(executorService.submit(virtualUser::run));
+            }
+            for (Future<?> future : futures) {
+                this.await(future);
+            }
+        } finally {
+            virtualUsers.forEach(VirtualUser::close);
+            executorService.shutdownNow();
+        }
+        this.logger.info("Load test phase {} completed", phase);
+    }
+
+    private void await(Future<?> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+    }
+
+    private void write(LoadTestReport report) {
+        try {
+            var resultFile = Path.of(this.properties.resultFile()).toAbsolutePath();
+            Files.createDirectories(resultFile.getParent());
+            this.objectMapper.writerWithDefaultPrettyPrinter().writeValue(resultFile.toFile(), report);
+
+            this.logger.info("Mutation latency (ms): {}", report.mutationLatency());
+            report.timesToRefresh().forEach((subscriptionKind, timeToRefresh) -> this.logger.info("Time to refresh of the {} (ms): {}", subscriptionKind, timeToRefresh));
+            this.logger.info("CPU time: {}ms, allocated bytes: {}, GC: {} collections in {}ms", report.cpuTimeMillis(), report.allocatedBytes(), report.gcCount(), report.gcTimeMillis());
+            this.logger.info("Load test result written in {}", resultFile);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.loadtests;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * The resources used by the process since its start.
+ *
+ * <p>
+ * The allocated bytes are the sum of the bytes allocated by the live threads, the allocations of the threads which
+ * have terminated in the meantime are thus missing. The server and the virtual users share the same process, the work
+ * of the virtual users is however limited to the sending of the requests and the reception of the payloads.
+ * </p>
+ *
+ * @author agent
+ */
+public record ResourceUsage(long cpuTime, long allocatedBytes, long gcCount, long gcTime) {
+
+    public static ResourceUsage current() {
+        long cpuTime = 0;
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean operatingSystemMXBean) {
+            cpuTime = operatingSystemMXBean.getProcessCpuTime();
+        }
+
+        long allocatedBytes = 0;
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+            allocatedBytes = Arrays.stream(threadMXBean.getThreadAllocatedBytes(threadMXBean.getAllThreadIds()))
+                    .filter(bytes -> bytes > 0)
+                    .sum();
+        }
+
+        long gcCount = 0;
+        long gcTime = 0;
+        for (var garbageCollectorMXBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0, garbageCollectorMXBean.getCollectionCount());
+            gcTime += Math.max(0, garbageCollectorMXBean.getCollectionTime());
+        }
+        return new ResourceUsage(cpuTime, allocatedBytes, gcCount, gcTime);
+    }
+
+    public ResourceUsage since(ResourceUsage start) {
+        return new ResourceUsage(this.cpuTime - start.cpuTime, this.allocatedBytes - start.allocatedBytes, this.gcCount - start.gcCount, this.gcTime - start.gcTime);
+    }
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.loadtests;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Used to create the scripted scenario of each virtual user.
+ *
+ * <p>
+ * The scenario of a virtual user only depends on the seed of the load test and on the index of the virtual user, the
+ * same objects are thus renamed after the same think times from one run to the other.
+ * </p>
+ *
+ * @author agent
+ */
+public class ScenarioFactory {
+
+    private final LoadTestProperties properties;
+
+    public ScenarioFactory(LoadTestProperties properties) {
+        this.properties = Objects.requireNonNull(properties);
+    }
+
+    public List<ScenarioStep> create(String phase, int virtualUser, int stepCount, List<String> objectIds) {
+        var random = new Random(this.properties.seed() * 31 + virtualUser);
+        long thinkTimeMillis = this.properties.thinkTime().toMillis();
+
+        List<ScenarioStep> steps = new ArrayList<>(stepCount);
+        for (int i = 0; i < stepCount; i++) {
+            // Think times vary between 50% and 150% of the configured one so that the virtual users are not synchronized
+            var thinkTime = Duration.ofMillis(thinkTimeMillis / 2 + (long) (random.nextDouble() * thinkTimeMillis));
+            var objectId = objectIds.get(random.nextInt(objectIds.size()));
+            steps.add(new ScenarioStep(thinkTime, objectId, phase + "-" + virtualUser + "-" + i));
+        }
+        return steps;
+    }
+}
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.loadtests;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A step of the scenario of a virtual user, which waits for the given think time before renaming an object.
+ *
+ * @author agent
+ */
+public record ScenarioStep(Duration thinkTime, String objectId, String newLabel) {
+
+    public ScenarioStep {
+        Objects.requireNonNull(thinkTime);
+        Objects.requireNonNull(objectId);
+        Objects.requireNonNull(newLabel);
+    }
+}
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.loadtests;
+
+import java.io.IOException;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Entry point of the load tests.
+ *
+ * <p>
+ * The Sirius Web server is started in the same process as the virtual users with an embedded PostgreSQL database
+ * created from scratch for each run. The application stops once the load test has been performed.
+ * </p>
+ *
+ * @author agent
+ */
+@SpringBootApplication(scanBasePackages = { "org.eclipse.sirius.web.loadtests", "org.eclipse.sirius.web.tests" })
+@EnableConfigurationProperties(LoadTestProperties.class)
+public class SiriusWebLoadTests {
+
+    private static final String DATABASE = "postgres";
+
+    /**
+     * Starts the embedded database and the Sirius Web server before running the load test.
+     *
+     * @param args
+     *            The command line arguments
+     * @throws IOException
+     *             If the embedded database cannot be started
+     */
+    public static void main(String[] args) throws IOException {
+        try (var embeddedPostgres = EmbeddedPostgres.start()) {
+            var applicationContext = new SpringApplicationBuilder(SiriusWebLoadTests.class)
+                    .properties(
+                            "spring.datasource.url=" + embeddedPostgres.getJdbcUrl(DATABASE, DATABASE),
+                            "spring.datasource.username=" + DATABASE,
+                            "spring.datasource.password=" + DATABASE
+                    )
+                    .run(args);
+            SpringApplication.exit(applicationContext);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.loadtests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramEventInput;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
+import org.eclipse.sirius.components.collaborative.forms.dto.FormRefreshedEventPayload;
+import org.eclipse.sirius.components.collaborative.trees.dto.RenameTreeItemInput;
+import org.eclipse.sirius.components.collaborative.trees.dto.TreeRefreshedEventPayload;
+import org.eclipse.sirius.components.diagrams.tests.graphql.DiagramEventSubscriptionRunner;
+import org.eclipse.sirius.components.trees.tests.graphql.RenameTreeItemMutationRunner;
+import org.eclipse.sirius.web.application.views.details.dto.DetailsEventInput;
+import org.eclipse.sirius.web.application.views.explorer.ExplorerEventInput;
+import org.eclipse.sirius.web.tests.graphql.DetailsEventSubscriptionRunner;
+import org.eclipse.sirius.web.tests.services.explorer.ExplorerEventSubscriptionRunner;
+import org.eclipse.sirius.web.tests.services.representation.RepresentationIdBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+/**
+ * A user of the shared project.
+ *
+ * <p>
+ * Like the frontend, a virtual user opens the explorer, the details view of the first object that it renames and the
+ * class diagram. It then follows its scenario by renaming objects from the explorer.
+ * </p>
+ *
+ * @author agent
+ */
+public class VirtualUser {
+
+    private final int index;
+
+    private final LoadTestFixture fixture;
+
+    private final List<ScenarioStep> steps;
+
+    private final LoadTestRecorder recorder;
+
+    private final VirtualUserRunners runners;
+
+    private final List<Disposable> subscriptions = new ArrayList<>();
+
+    public VirtualUser(int index, LoadTestFixture fixture, List<ScenarioStep> steps, LoadTestRecorder recorder, VirtualUserRunners runners) {
+        this.index = index;
+        this.fixture = Objects.requireNonNull(fixture);
+        this.steps = Objects.requireNonNull(steps);
+        this.recorder = Objects.requireNonNull(recorder);
+        this.runners = Objects.requireNonNull(runners);
+    }
+
+    public void open() {
+        this.simulateRequest();
+
+        var editingContextId = this.fixture.editingContextId();
+
+        var explorerEventInput = new ExplorerEventInput(UUID.randomUUID(), editingContextId, this.fixture.explorerRepresentationId());
+        this.subscribe(this.runners.explorerEventSubscriptionRunner().run(explorerEventInput), TreeRefreshedEventPayload.class, SubscriptionKind.EXPLORER);
+
+        var selectedObjectIds = this.steps.stream().findFirst().map(ScenarioStep::objectId).stream().toList();
+        var detailsRepresentationId = this.runners.representationIdBuilder().buildDetailsRepresentationId(selectedObjectIds);
+        var detailsEventInput = new DetailsEventInput(UUID.randomUUID(), editingContextId, detailsRepresentationId);
+        this.subscribe(this.runners.detailsEventSubscriptionRunner().run(detailsEventInput), FormRefreshedEventPayload.class, SubscriptionKind.DETAILS);
+
+        var diagramEventInput = new DiagramEventInput(UUID.randomUUID(), editingContextId, this.fixture.diagramId());
+        this.subscribe(this.runners.diagramEventSubscriptionRunner().run(diagramEventInput), DiagramRefreshedEventPayload.class, SubscriptionKind.DIAGRAM);
+    }
+
+    public void run() {
+        this.simulateRequest();
+
+        for (ScenarioStep step : this.steps) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(step.thinkTime().toMillis());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            var input = new RenameTreeItemInput(UUID.randomUUID(), this.fixture.editingContextId(), this.fixture.explorerRepresentationId(), UUID.fromString(step.objectId()), step.newLabel());
+            long startTime = System.nanoTime();
+            this.runners.renameTreeItemMutationRunner().run(input);
+            this.recorder.mutationCompleted(this.index, startTime, System.nanoTime());
+        }
+    }
+
+    public void close() {
+        this.subscriptions.forEach(Disposable::dispose);
+        this.subscriptions.clear();
+    }
+
+    private void subscribe(Flux<Object> flux, Class<?> refreshedEventPayloadType, SubscriptionKind subscriptionKind) {
+        var refreshObserver = this.recorder.getRefreshObserver(this.index, subscriptionKind);
+        var subscription = flux.filter(refreshedEventPayloadType::isInstance)
+                .subscribe(payload -> refreshObserver.refreshed(System.nanoTime()));
+        this.subscriptions.add(subscription);
+    }
+
+    /**
+     * Used to give access to the request scoped services, as done by the integration tests.
+     */
+    private void simulateRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), new MockHttpServletResponse()));
+    }
+
+    /**
+     * The runners used by the virtual users to interact with the server with the GraphQL API.
+     *
+     * @author agent
+     */
+    public record VirtualUserRunners(
+            ExplorerEventSubscriptionRunner explorerEventSubscriptionRunner,
+            DetailsEventSubscriptionRunner detailsEventSubscriptionRunner,
+            DiagramEventSubscriptionRunner diagramEventSubscriptionRunner,
+            RenameTreeItemMutationRunner renameTreeItemMutationRunner,
+            RepresentationIdBuilder representationIdBuilder) {
+
+        public VirtualUserRunners {
+            Objects.requireNonNull(explorerEventSubscriptionRunner);
+            Objects.requireNonNull(detailsEventSubscriptionRunner);
+            Objects.requireNonNull(diagramEventSubscriptionRunner);
+            Objects.requireNonNull(renameTreeItemMutationRunner);
+            Objects.requireNonNull(representationIdBuilder);
+        }
+    }
+}
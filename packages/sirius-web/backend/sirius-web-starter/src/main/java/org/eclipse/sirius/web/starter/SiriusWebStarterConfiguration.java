@@ -21,6 +21,7 @@ import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProce
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessorFluxCustomizer;
 import org.eclipse.sirius.components.collaborative.api.ISubscriptionManagerFactory;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEventProcessorExecutorServiceProvider;
+import org.eclipse.sirius.components.collaborative.representations.PayloadConflation;
 import org.eclipse.sirius.components.collaborative.representations.SubscriptionManager;
 import org.eclipse.sirius.components.core.api.IInput;
 import org.eclipse.sirius.components.core.api.IPayload;
@@ -133,13 +134,14 @@ public class SiriusWebStarterConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public IEventProcessorSubscriptionProvider eventProcessorSubscriptionProvider(IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry) {
+    public IEventProcessorSubscriptionProvider eventProcessorSubscriptionProvider(IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry, PayloadConflation payloadConflation) {
         return new IEventProcessorSubscriptionProvider() {
             @Override
             public Flux<IPayload> getSubscription(String editingContextId, String representationId, IInput input) {
                 return editingContextEventProcessorRegistry.getOrCreateEditingContextEventProcessor(editingContextId)
                         .flatMap(processor -> processor.acquireRepresentationEventProcessor(representationId, input))
                         .map(representationEventProcessor -> customizeFlux(editingContextId, representationId, input, representationEventProcessor))
+                        .map(payloadConflation)
                         .orElse(Flux.empty());
             }
         };
@@ -28,9 +28,9 @@ import org.springframework.stereotype.Service;
 public class ProjectsQueryRunner implements IQueryRunner {
 
     private static final String PROJECTS_QUERY = """
-            query getProjects($page: Int!, $limit: Int!) {
+            query getProjects($page: Int, $limit: Int!, $after: String) {
               viewer {
-                projects(page: $page, limit: $limit) {
+                projects(page: $page, limit: $limit, after: $after) {
                   edges {
                     node {
                       id
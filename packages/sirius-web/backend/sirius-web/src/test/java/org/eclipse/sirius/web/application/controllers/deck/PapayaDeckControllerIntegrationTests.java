@@ -14,25 +14,33 @@ package org.eclipse.sirius.web.application.controllers.deck;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.core.api.Assertions.tuple;
 
 import com.jayway.jsonpath.JsonPath;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import org.eclipse.sirius.components.collaborative.deck.dto.DeckRefreshedEventPayload;
+import org.eclipse.sirius.components.collaborative.deck.dto.input.ChangeCardsVisibilityInput;
+import org.eclipse.sirius.components.collaborative.deck.dto.input.ChangeLaneCollapsedStateInput;
 import org.eclipse.sirius.components.collaborative.deck.dto.input.CreateDeckCardInput;
 import org.eclipse.sirius.components.collaborative.deck.dto.input.DeleteDeckCardInput;
 import org.eclipse.sirius.components.collaborative.dto.CreateRepresentationInput;
 import org.eclipse.sirius.components.core.api.SuccessPayload;
 import org.eclipse.sirius.web.AbstractIntegrationTests;
 import org.eclipse.sirius.web.data.PapayaIdentifiers;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationLayoutData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.repositories.IRepresentationDataRepository;
 import org.eclipse.sirius.web.services.deck.PapayaDeckDescriptionProvider;
 import org.eclipse.sirius.web.tests.services.api.IGivenCreatedDeckSubscription;
 import org.eclipse.sirius.web.tests.services.api.IGivenInitialServerState;
+import org.eclipse.sirius.web.tests.services.deck.ChangeCardsVisibilityMutationRunner;
+import org.eclipse.sirius.web.tests.services.deck.ChangeLaneCollapsedStateMutationRunner;
 import org.eclipse.sirius.web.tests.services.deck.CreateDeckCardMutationRunner;
 import org.eclipse.sirius.web.tests.services.deck.DeleteDeckCardMutationRunner;
 import org.junit.jupiter.api.BeforeEach;
@@ -72,6 +80,15 @@ public class PapayaDeckControllerIntegrationTests extends AbstractIntegrationTes
     @Autowired
     private DeleteDeckCardMutationRunner deleteDeckCardMutationRunner;
 
+    @Autowired
+    private ChangeLaneCollapsedStateMutationRunner changeLaneCollapsedStateMutationRunner;
+
+    @Autowired
+    private ChangeCardsVisibilityMutationRunner changeCardsVisibilityMutationRunner;
+
+    @Autowired
+    private IRepresentationDataRepository representationDataRepository;
+
     @BeforeEach
     public void beforeEach() {
         this.givenInitialServerState.initialize();
@@ -218,4 +235,94 @@ public class PapayaDeckControllerIntegrationTests extends AbstractIntegrationTes
                 .thenCancel()
                 .verify(Duration.ofSeconds(10));
     }
+
+    @Test
+    @DisplayName("Given a deck representation, when we collapse a lane and hide a card, then only their view state is persisted")
+    @Sql(scripts = {"/scripts/papaya.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenDeckRepresentationWhenWeCollapseLaneAndHideCardThenOnlyTheirViewStateIsPersisted() {
+        var flux = this.givenSubscriptionToDeck();
+
+        var deckId = new AtomicReference<String>();
+        var laneId = new AtomicReference<String>();
+        var cardId = new AtomicReference<String>();
+
+        Consumer<Object> initialDeckContentConsumer = payload -> Optional.of(payload)
+                .filter(DeckRefreshedEventPayload.class::isInstance)
+                .map(DeckRefreshedEventPayload.class::cast)
+                .map(DeckRefreshedEventPayload::deck)
+                .ifPresentOrElse(deck -> {
+                    deckId.set(deck.getId());
+                    assertThat(deck.lanes()).isNotEmpty();
+
+                    var lane = deck.lanes().get(0);
+                    laneId.set(lane.id());
+                    assertThat(lane.collapsed()).isFalse();
+
+                    cardId.set(lane.cards().get(0).id());
+                }, () -> fail("Missing deck"));
+
+        Runnable collapseLane = () -> {
+            var changeLaneCollapsedStateInput = new ChangeLaneCollapsedStateInput(
+                    UUID.randomUUID(),
+                    PapayaIdentifiers.PAPAYA_PROJECT.toString(),
+                    deckId.get(),
+                    laneId.get(),
+                    true
+            );
+            var result = this.changeLaneCollapsedStateMutationRunner.run(changeLaneCollapsedStateInput);
+            String typename = JsonPath.read(result, "$.data.changeLaneCollapsedState.__typename");
+            assertThat(typename).isEqualTo(SuccessPayload.class.getSimpleName());
+        };
+
+        Consumer<Object> collapsedLaneConsumer = payload -> Optional.of(payload)
+                .filter(DeckRefreshedEventPayload.class::isInstance)
+                .map(DeckRefreshedEventPayload.class::cast)
+                .map(DeckRefreshedEventPayload::deck)
+                .ifPresentOrElse(deck -> {
+                    assertThat(deck.lanes().get(0).collapsed()).isTrue();
+
+                    var viewStates = this.representationDataRepository.findAllLayoutDataByRepresentationId(UUID.fromString(deck.getId()));
+                    assertThat(viewStates)
+                            .extracting(RepresentationLayoutData::kind, RepresentationLayoutData::elementId)
+                            .containsExactly(tuple("viewState", "lanes/" + laneId.get()));
+                }, () -> fail("Missing deck"));
+
+        Runnable hideCard = () -> {
+            var changeCardsVisibilityInput = new ChangeCardsVisibilityInput(
+                    UUID.randomUUID(),
+                    PapayaIdentifiers.PAPAYA_PROJECT.toString(),
+                    deckId.get(),
+                    List.of(),
+                    List.of(cardId.get())
+            );
+            var result = this.changeCardsVisibilityMutationRunner.run(changeCardsVisibilityInput);
+            String typename = JsonPath.read(result, "$.data.changeCardsVisibility.__typename");
+            assertThat(typename).isEqualTo(SuccessPayload.class.getSimpleName());
+        };
+
+        Consumer<Object> hiddenCardConsumer = payload -> Optional.of(payload)
+                .filter(DeckRefreshedEventPayload.class::isInstance)
+                .map(DeckRefreshedEventPayload.class::cast)
+                .map(DeckRefreshedEventPayload::deck)
+                .ifPresentOrElse(deck -> {
+                    var lane = deck.lanes().get(0);
+                    assertThat(lane.collapsed()).isTrue();
+                    assertThat(lane.cards().get(0).visible()).isFalse();
+
+                    var viewStates = this.representationDataRepository.findAllLayoutDataByRepresentationId(UUID.fromString(deck.getId()));
+                    assertThat(viewStates)
+                            .extracting(RepresentationLayoutData::kind, RepresentationLayoutData::elementId)
+                            .containsExactlyInAnyOrder(tuple("viewState", "lanes/" + laneId.get()), tuple("viewState", "cards/" + cardId.get()));
+                }, () -> fail("Missing deck"));
+
+        StepVerifier.create(flux)
+                .consumeNextWith(initialDeckContentConsumer)
+                .then(collapseLane)
+                .consumeNextWith(collapsedLaneConsumer)
+                .then(hideCard)
+                .consumeNextWith(hiddenCardConsumer)
+                .thenCancel()
+                .verify(Duration.ofSeconds(10));
+    }
 }
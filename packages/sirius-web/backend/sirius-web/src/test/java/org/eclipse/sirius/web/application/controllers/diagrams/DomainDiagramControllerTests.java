@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.fail;
 import static org.eclipse.sirius.components.diagrams.tests.assertions.DiagramAssertions.assertThat;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -43,6 +44,7 @@ import org.eclipse.sirius.web.AbstractIntegrationTests;
 import org.eclipse.sirius.web.application.studio.services.representations.api.IDomainDiagramDescriptionProvider;
 import org.eclipse.sirius.web.data.StudioIdentifiers;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationLayoutData;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.repositories.IRepresentationDataRepository;
 import org.eclipse.sirius.web.tests.services.api.IGivenCreatedDiagramSubscription;
 import org.eclipse.sirius.web.tests.services.api.IGivenInitialServerState;
@@ -138,6 +140,7 @@ public class DomainDiagramControllerTests extends AbstractIntegrationTests {
         var currentRevisionId = new AtomicReference<UUID>();
         var humanNodeId  = new AtomicReference<String>();
         var initialDiagramData = new AtomicReference<RepresentationData>(null);
+        var initialLayoutData = new AtomicReference<List<RepresentationLayoutData>>(List.of());
 
         Consumer<Object> initialDiagramContentConsumer = payload -> Optional.of(payload)
                 .filter(DiagramRefreshedEventPayload.class::isInstance)
@@ -172,6 +175,7 @@ public class DomainDiagramControllerTests extends AbstractIntegrationTests {
                     assertThat(humanNodeLayout.position()).isEqualTo(initialPosition);
                     assertThat(humanNodeLayout.size()).isEqualTo(initialSize);
                     this.representationDataRepository.findById(UUID.fromString(diagramId.get())).ifPresent(initialDiagramData::set);
+                    initialLayoutData.set(this.representationDataRepository.findAllLayoutDataByRepresentationId(UUID.fromString(diagramId.get())));
                 }, () -> fail(MISSING_DIAGRAM));
 
         Runnable modifyDiagramLayout = () -> {
@@ -195,8 +199,13 @@ public class DomainDiagramControllerTests extends AbstractIntegrationTests {
                     assertThat(humanNodeLayout.size()).isEqualTo(modifiedSize);
 
                     var modifiedDiagramData = this.representationDataRepository.findById(UUID.fromString(diagramId.get())).get();
-                    assertThat(modifiedDiagramData).isNotEqualTo(initialDiagramData.get());
-                    assertThat(modifiedDiagramData.getContent()).isNotEqualTo(initialDiagramData.get().getContent());
+                    assertThat(modifiedDiagramData.getContent()).isEqualTo(initialDiagramData.get().getContent());
+
+                    var modifiedLayoutData = this.representationDataRepository.findAllLayoutDataByRepresentationId(UUID.fromString(diagramId.get()));
+                    assertThat(modifiedLayoutData)
+                            .hasSize(1)
+                            .allMatch(layoutData -> layoutData.elementId().equals(humanNodeId.get()))
+                            .isNotEqualTo(initialLayoutData.get());
                 }, () -> fail(MISSING_DIAGRAM));
 
         StepVerifier.create(flux)
@@ -205,14 +214,16 @@ public class DomainDiagramControllerTests extends AbstractIntegrationTests {
                 .consumeNextWith(initialDiagramLayoutConsumer)
                 .then(modifyDiagramLayout)
                 .consumeNextWith(modifiedDiagramLayoutConsumer)
-                .then(() -> this.reload(diagramId.get(), initialDiagramData.get()))
+                .then(() -> this.reload(diagramId.get(), initialDiagramData.get(), initialLayoutData.get()))
                 .consumeNextWith(initialDiagramLayoutConsumer)
                 .thenCancel()
                 .verify(Duration.ofSeconds(10));
     }
 
-    private void reload(String diagramId, RepresentationData representationData) {
+    private void reload(String diagramId, RepresentationData representationData, List<RepresentationLayoutData> layoutData) {
         this.representationDataRepository.save(representationData);
+        this.representationDataRepository.deleteAllLayoutDataByRepresentationId(representationData.getId());
+        layoutData.forEach(elementLayoutData -> this.representationDataRepository.upsertLayoutData(representationData.getId(), elementLayoutData.kind(), elementLayoutData.elementId(), elementLayoutData.content(), Instant.now()));
         TestTransaction.flagForCommit();
         TestTransaction.end();
 
@@ -46,6 +46,7 @@ import org.eclipse.sirius.components.gantt.tests.graphql.EditTaskMutationRunner;
 import org.eclipse.sirius.components.gantt.tests.navigation.GanttNavigator;
 import org.eclipse.sirius.web.AbstractIntegrationTests;
 import org.eclipse.sirius.web.data.PapayaIdentifiers;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.repositories.IRepresentationDataRepository;
 import org.eclipse.sirius.web.services.gantt.PapayaGanttDescriptionProvider;
 import org.eclipse.sirius.web.tests.services.api.IGivenCreatedGanttSubscription;
 import org.eclipse.sirius.web.tests.services.api.IGivenInitialServerState;
@@ -102,6 +103,9 @@ public class PapayaGanttControllerIntegrationTests extends AbstractIntegrationTe
     @Autowired
     private DeleteTaskDependencyMutationRunner deleteTaskDependencyMutationRunner;
 
+    @Autowired
+    private IRepresentationDataRepository representationDataRepository;
+
     @BeforeEach
     public void beforeEach() {
         this.givenInitialServerState.initialize();
@@ -369,6 +373,11 @@ public class PapayaGanttControllerIntegrationTests extends AbstractIntegrationTe
                             .findFirst().get();
                     assertThat(changedColumn.isDisplayed()).isFalse();
                     assertThat(changedColumn.width()).isEqualTo(50);
+
+                    var viewStates = this.representationDataRepository.findAllLayoutDataByRepresentationId(UUID.fromString(gantt.getId()));
+                    assertThat(viewStates)
+                            .hasSize(1)
+                            .allMatch(viewState -> viewState.kind().equals("viewState") && viewState.elementId().equals("columns/START_DATE"));
                 }, () -> fail(MISSING_GANTT));
 
 
@@ -156,6 +156,67 @@ public class ProjectControllerIntegrationTests extends AbstractIntegrationTests
         assertThat(projectIds).hasSize(2);
     }
 
+    @Test
+    @DisplayName("Given a set of projects, when a query is performed with a cursor, then the projects after the cursor are returned")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenSetOfProjectsWhenQueryIsPerformedWithCursorThenTheProjectsAfterTheCursorAreReturned() {
+        Map<String, Object> variables = Map.of("limit", 2);
+        var result = this.projectsQueryRunner.run(variables);
+
+        boolean hasPreviousPage = JsonPath.read(result, "$.data.viewer.projects.pageInfo.hasPreviousPage");
+        assertThat(hasPreviousPage).isFalse();
+
+        boolean hasNextPage = JsonPath.read(result, "$.data.viewer.projects.pageInfo.hasNextPage");
+        assertThat(hasNextPage).isTrue();
+
+        List<String> firstProjectIds = JsonPath.read(result, "$.data.viewer.projects.edges[*].node.id");
+        assertThat(firstProjectIds).hasSize(2);
+
+        String endCursor = JsonPath.read(result, "$.data.viewer.projects.pageInfo.endCursor");
+        variables = Map.of("limit", 2, "after", endCursor);
+        result = this.projectsQueryRunner.run(variables);
+
+        hasPreviousPage = JsonPath.read(result, "$.data.viewer.projects.pageInfo.hasPreviousPage");
+        assertThat(hasPreviousPage).isTrue();
+
+        int count = JsonPath.read(result, "$.data.viewer.projects.pageInfo.count");
+        assertThat(count).isGreaterThan(2);
+
+        List<String> nextProjectIds = JsonPath.read(result, "$.data.viewer.projects.edges[*].node.id");
+        assertThat(nextProjectIds).isNotEmpty().doesNotContainAnyElementsOf(firstProjectIds);
+    }
+
+    @Test
+    @DisplayName("Given a cursor whose project has been deleted, when a query is performed with this cursor, then the projects after the cursor are returned")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenCursorWhoseProjectHasBeenDeletedWhenQueryIsPerformedWithThisCursorThenTheProjectsAfterTheCursorAreReturned() {
+        Map<String, Object> variables = Map.of("limit", 1);
+        var result = this.projectsQueryRunner.run(variables);
+
+        List<String> firstProjectIds = JsonPath.read(result, "$.data.viewer.projects.edges[*].node.id");
+        assertThat(firstProjectIds).hasSize(1);
+        String endCursor = JsonPath.read(result, "$.data.viewer.projects.pageInfo.endCursor");
+
+        variables = Map.of("limit", 2, "after", endCursor);
+        result = this.projectsQueryRunner.run(variables);
+        List<String> nextProjectIds = JsonPath.read(result, "$.data.viewer.projects.edges[*].node.id");
+        assertThat(nextProjectIds).hasSize(2);
+
+        var input = new DeleteProjectInput(UUID.randomUUID(), UUID.fromString(firstProjectIds.get(0)));
+        result = this.deleteProjectMutationRunner.run(input);
+        String typename = JsonPath.read(result, "$.data.deleteProject.__typename");
+        assertThat(typename).isEqualTo(SuccessPayload.class.getSimpleName());
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        result = this.projectsQueryRunner.run(variables);
+        List<String> projectIdsAfterDeletion = JsonPath.read(result, "$.data.viewer.projects.edges[*].node.id");
+        assertThat(projectIdsAfterDeletion).isEqualTo(nextProjectIds);
+    }
+
     @Test
     @DisplayName("Given a valid project to create, when the mutation is performed, then the project is created")
     @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
@@ -12,10 +12,13 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.controllers.projects;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.projections.ProjectCursor;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.projections.ProjectSummary;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.repositories.api.IProjectSearchRepositoryDelegate;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
@@ -57,6 +60,16 @@ public class ProjectSearchControllerConfiguration {
                         .list();
                 return new PageImpl<>(projects, pageable, projects.size());
             }
+
+            @Override
+            public List<ProjectSummary> findAllSummaries(Optional<ProjectCursor> cursor, int limit) {
+                return List.of();
+            }
+
+            @Override
+            public long count() {
+                return 0;
+            }
         };
     }
 }
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.application.representation.services.RepresentationContentService;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationDataMigrationService;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataContentOnly;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationDataMetadataOnly;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.projections.RepresentationLayoutData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+
+/**
+ * Tests of the merge of the view states persisted separately in the content of the representations.
+ *
+ * @author agent
+ */
+public class RepresentationContentServiceTests {
+
+    private static final String GANTT_CONTENT = """
+            {
+              "id": "gantt",
+              "tasks": [
+                {
+                  "id": "START_DATE",
+                  "detail": { "name": "Task", "collapsed": false },
+                  "subTasks": [
+                    {
+                      "id": "subTask",
+                      "detail": { "name": "Sub task", "collapsed": false },
+                      "subTasks": []
+                    }
+                  ]
+                }
+              ],
+              "columns": [
+                { "id": "START_DATE", "isDisplayed": true, "width": 100 }
+              ]
+            }
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Given a gantt whose column and task share the same id, when the view state of the column is merged, then the task is not modified")
+    public void givenGanttWhoseColumnAndTaskShareTheSameIdWhenViewStateOfColumnIsMergedThenTaskIsNotModified() {
+        var layoutData = List.of(new RepresentationLayoutData("viewState", "columns/START_DATE", "{ \"id\": \"START_DATE\", \"isDisplayed\": false, \"width\": 50 }"));
+
+        var content = this.findContent(layoutData);
+
+        assertThat(content.at("/columns/0/isDisplayed").asBoolean()).isFalse();
+        assertThat(content.at("/columns/0/width").asInt()).isEqualTo(50);
+        assertThat(content.at("/tasks/0/isDisplayed").isMissingNode()).isTrue();
+        assertThat(content.at("/tasks/0/detail/name").asText()).isEqualTo("Task");
+    }
+
+    @Test
+    @DisplayName("Given a gantt, when the view state of a sub task is merged, then only its nested properties are overridden")
+    public void givenGanttWhenViewStateOfSubTaskIsMergedThenOnlyItsNestedPropertiesAreOverridden() {
+        var layoutData = List.of(new RepresentationLayoutData("viewState", "subTasks/subTask", "{ \"detail\": { \"collapsed\": true } }"));
+
+        var content = this.findContent(layoutData);
+
+        assertThat(content.at("/tasks/0/subTasks/0/detail/collapsed").asBoolean()).isTrue();
+        assertThat(content.at("/tasks/0/subTasks/0/detail/name").asText()).isEqualTo("Sub task");
+        assertThat(content.at("/tasks/0/detail/collapsed").asBoolean()).isFalse();
+    }
+
+    private ObjectNode findContent(List<RepresentationLayoutData> layoutData) {
+        IRepresentationDataMigrationService representationDataMigrationService = representationData -> {
+            try {
+                return Optional.of((ObjectNode) this.objectMapper.readTree(representationData.content()));
+            } catch (JsonProcessingException exception) {
+                return Optional.empty();
+            }
+        };
+        var representationContentService = new RepresentationContentService(new RepresentationDataSearchServiceStub(layoutData), representationDataMigrationService, this.objectMapper);
+
+        var optionalContent = representationContentService.findContentById(UUID.randomUUID());
+        assertThat(optionalContent).isPresent();
+        return optionalContent.get();
+    }
+
+    /**
+     * Stub of the search service returning the content of a gantt and the given layout data.
+     *
+     * @author agent
+     */
+    public static final class RepresentationDataSearchServiceStub implements IRepresentationDataSearchService {
+
+        private final List<RepresentationLayoutData> layoutData;
+
+        public RepresentationDataSearchServiceStub(List<RepresentationLayoutData> layoutData) {
+            this.layoutData = layoutData;
+        }
+
+        @Override
+        public boolean existsById(UUID id) {
+            return true;
+        }
+
+        @Override
+        public boolean existsByIdAndKind(UUID id, List<String> kinds) {
+            return true;
+        }
+
+        @Override
+        public Optional<RepresentationDataContentOnly> findContentById(UUID id) {
+            return Optional.of(new RepresentationDataContentOnly("siriusComponents://representation?type=Gantt", GANTT_CONTENT, "none", "0"));
+        }
+
+        @Override
+        public Optional<Instant> findContentVersionById(UUID id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<RepresentationLayoutData> findLayoutDataById(UUID id) {
+            return this.layoutData;
+        }
+
+        @Override
+        public boolean lockById(UUID id) {
+            return true;
+        }
+
+        @Override
+        public List<UUID> findAllIdsToMigrate(String kind, String migrationVersion, UUID afterId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public Optional<RepresentationDataMetadataOnly> findMetadataById(UUID id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<RepresentationDataMetadataOnly> findAllMetadataByProject(AggregateReference<Project, UUID> project) {
+            return List.of();
+        }
+
+        @Override
+        public List<RepresentationDataMetadataOnly> findAllMetadataByTargetObjectId(String targetObjectId) {
+            return List.of();
+        }
+
+        @Override
+        public boolean existAnyRepresentationForTargetObjectId(String targetObjectId) {
+            return false;
+        }
+
+        @Override
+        public Optional<AggregateReference<Project, UUID>> findProjectByRepresentationId(UUID representationId) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.web.AbstractIntegrationTests;
+import org.eclipse.sirius.web.data.MigrationIdentifiers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests of the representation search service.
+ *
+ * @author agent
+ */
+@Transactional
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class RepresentationSearchServiceTests extends AbstractIntegrationTests {
+
+    @Autowired
+    private IEditingContextSearchService editingContextSearchService;
+
+    @Autowired
+    private IRepresentationSearchService representationSearchService;
+
+    @Autowired
+    private IRepresentationPersistenceService representationPersistenceService;
+
+    @Test
+    @DisplayName("Given a representation, when it is loaded twice without modification, then the same instance is returned until its content is updated")
+    @Sql(scripts = {"/scripts/migration.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenRepresentationWhenItIsLoadedTwiceWithoutModificationThenTheSameInstanceIsReturnedUntilItsContentIsUpdated() {
+        var optionalEditingContext = this.editingContextSearchService.findById(MigrationIdentifiers.MIGRATION_NODE_DESCRIPTION_USER_RESIZABLE_STUDIO.toString());
+        assertThat(optionalEditingContext).isPresent();
+        var editingContext = optionalEditingContext.get();
+
+        var optionalDiagram = this.representationSearchService.findById(editingContext, MigrationIdentifiers.MIGRATION_STUDIO_DIAGRAM.toString(), Diagram.class);
+        assertThat(optionalDiagram).isPresent();
+        var diagram = optionalDiagram.get();
+
+        var optionalCachedDiagram = this.representationSearchService.findById(editingContext, MigrationIdentifiers.MIGRATION_STUDIO_DIAGRAM.toString(), Diagram.class);
+        assertThat(optionalCachedDiagram).isPresent();
+        assertThat(optionalCachedDiagram.get()).isSameAs(diagram);
+
+        var renamedDiagram = Diagram.newDiagram(diagram)
+                .label("renamedDiagram")
+                .build();
+        this.representationPersistenceService.save(null, editingContext, renamedDiagram);
+
+        var optionalUpdatedDiagram = this.representationSearchService.findById(editingContext, MigrationIdentifiers.MIGRATION_STUDIO_DIAGRAM.toString(), Diagram.class);
+        assertThat(optionalUpdatedDiagram).isPresent();
+        assertThat(optionalUpdatedDiagram.get()).isNotSameAs(diagram);
+        assertThat(optionalUpdatedDiagram.get().getLabel()).isEqualTo("renamedDiagram");
+    }
+}
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.sirius.components.domain.Domain;
+import org.eclipse.sirius.components.domain.DomainFactory;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.application.studio.services.StudioSnapshot;
+import org.eclipse.sirius.web.application.studio.services.StudioSnapshotCache;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+
+/**
+ * Tests of the cache of the studios shared by the editing contexts.
+ *
+ * @author agent
+ */
+public class StudioSnapshotCacheTests {
+
+    @Test
+    @DisplayName("Given a studio, when its snapshot is retrieved again, then it is only loaded again once the content of its documents has changed")
+    public void givenStudioWhenItsSnapshotIsRetrievedAgainThenItIsOnlyLoadedAgainOnceTheContentOfItsDocumentsHasChanged() {
+        var studioSnapshotCache = new StudioSnapshotCache();
+        var semanticData = this.createSemanticData("first content");
+        List<StudioSnapshot> loadedSnapshots = new ArrayList<>();
+
+        var snapshot = studioSnapshotCache.getSnapshot(semanticData, false, () -> this.load(loadedSnapshots));
+        assertThat(studioSnapshotCache.getSnapshot(semanticData, false, () -> this.load(loadedSnapshots))).isSameAs(snapshot);
+        assertThat(loadedSnapshots).containsExactly(snapshot);
+
+        var document = semanticData.getDocuments().iterator().next();
+        var modifiedDocument = Document.newDocument(document.getId())
+                .name(document.getName())
+                .content("second content")
+                .build();
+        semanticData.updateDocuments(new ICause.NoOp(), Set.of(modifiedDocument), Set.of());
+
+        var reloadedSnapshot = studioSnapshotCache.getSnapshot(semanticData, false, () -> this.load(loadedSnapshots));
+        assertThat(reloadedSnapshot).isNotSameAs(snapshot);
+        assertThat(loadedSnapshots).containsExactly(snapshot, reloadedSnapshot);
+
+        studioSnapshotCache.getSnapshot(semanticData, true, () -> this.load(loadedSnapshots));
+        assertThat(loadedSnapshots).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Given some studios, when the ones which do not exist anymore are removed, then their snapshots and the EPackages of their domains are forgotten")
+    public void givenSomeStudiosWhenTheOnesWhichDoNotExistAnymoreAreRemovedThenTheirSnapshotsAndTheEPackagesOfTheirDomainsAreForgotten() {
+        var studioSnapshotCache = new StudioSnapshotCache();
+        var firstSemanticData = this.createSemanticData("first studio");
+        var secondSemanticData = this.createSemanticData("second studio");
+        List<StudioSnapshot> loadedSnapshots = new ArrayList<>();
+
+        var firstSnapshot = studioSnapshotCache.getSnapshot(firstSemanticData, false, () -> this.load(loadedSnapshots));
+        var secondSnapshot = studioSnapshotCache.getSnapshot(secondSemanticData, false, () -> this.load(loadedSnapshots));
+
+        List<List<Domain>> convertedDomains = new ArrayList<>();
+        var firstEPackages = studioSnapshotCache.getEPackages(firstSnapshot.domains(), () -> this.convert(firstSnapshot.domains(), convertedDomains));
+        var secondEPackages = studioSnapshotCache.getEPackages(secondSnapshot.domains(), () -> this.convert(secondSnapshot.domains(), convertedDomains));
+        assertThat(studioSnapshotCache.getEPackages(firstSnapshot.domains(), () -> this.convert(firstSnapshot.domains(), convertedDomains))).isSameAs(firstEPackages);
+        assertThat(convertedDomains).hasSize(2);
+
+        studioSnapshotCache.retainAll(Set.of(firstSemanticData.getId()));
+
+        assertThat(studioSnapshotCache.getSnapshot(firstSemanticData, false, () -> this.load(loadedSnapshots))).isSameAs(firstSnapshot);
+        assertThat(studioSnapshotCache.getEPackages(firstSnapshot.domains(), () -> this.convert(firstSnapshot.domains(), convertedDomains))).isSameAs(firstEPackages);
+        assertThat(convertedDomains).hasSize(2);
+
+        assertThat(studioSnapshotCache.getEPackages(secondSnapshot.domains(), () -> this.convert(secondSnapshot.domains(), convertedDomains))).isNotSameAs(secondEPackages);
+        assertThat(convertedDomains).hasSize(3);
+        assertThat(studioSnapshotCache.getSnapshot(secondSemanticData, false, () -> this.load(loadedSnapshots))).isNotSameAs(secondSnapshot);
+        assertThat(loadedSnapshots).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Given a studio, when it is loaded, then the snapshots of the studios can be retrieved during its loading")
+    public void givenStudioWhenItIsLoadedThenTheSnapshotsOfTheStudiosCanBeRetrievedDuringItsLoading() {
+        var studioSnapshotCache = new StudioSnapshotCache();
+        var semanticData = this.createSemanticData("first content");
+        List<StudioSnapshot> loadedSnapshots = new ArrayList<>();
+
+        // The loading happens outside of the locks of the cache, an editing context can thus load the studio at the same time
+        var snapshot = studioSnapshotCache.getSnapshot(semanticData, false, () -> {
+            var concurrentSnapshot = studioSnapshotCache.getSnapshot(semanticData, false, () -> this.load(loadedSnapshots));
+            assertThat(concurrentSnapshot).isNotNull();
+            return this.load(loadedSnapshots);
+        });
+
+        assertThat(loadedSnapshots).hasSize(2);
+        assertThat(snapshot).isSameAs(loadedSnapshots.get(0));
+        assertThat(studioSnapshotCache.getSnapshot(semanticData, false, () -> this.load(loadedSnapshots))).isSameAs(snapshot);
+        assertThat(loadedSnapshots).hasSize(2);
+    }
+
+    private SemanticData createSemanticData(String content) {
+        var document = Document.newDocument(UUID.randomUUID())
+                .name("studio")
+                .content(content)
+                .build();
+        Set<Document> documents = new LinkedHashSet<>();
+        documents.add(document);
+        return SemanticData.newSemanticData()
+                .project(AggregateReference.to(UUID.randomUUID()))
+                .documents(documents)
+                .build(new ICause.NoOp());
+    }
+
+    private StudioSnapshot load(List<StudioSnapshot> loadedSnapshots) {
+        Domain domain = DomainFactory.eINSTANCE.createDomain();
+        domain.setName("domain" + loadedSnapshots.size());
+
+        var snapshot = new StudioSnapshot(List.of(), List.of(domain));
+        loadedSnapshots.add(snapshot);
+        return snapshot;
+    }
+
+    private List<EPackage> convert(List<Domain> domains, List<List<Domain>> convertedDomains) {
+        convertedDomains.add(domains);
+        return domains.stream()
+                .map(domain -> {
+                    EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+                    ePackage.setName(domain.getName());
+                    return ePackage;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.web.AbstractIntegrationTests;
+import org.eclipse.sirius.web.application.migration.services.DataMigrationCause;
+import org.eclipse.sirius.web.application.migration.services.api.IDataMigrationService;
+import org.eclipse.sirius.web.data.MigrationIdentifiers;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests of the migration of the persisted data.
+ *
+ * @author agent
+ */
+@Transactional
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class DataMigrationServiceTests extends AbstractIntegrationTests {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private static final int LIMIT = 100;
+
+    @Autowired
+    private IDataMigrationService dataMigrationService;
+
+    @Autowired
+    private IRepresentationDataSearchService representationDataSearchService;
+
+    @Test
+    @DisplayName("Given an old diagram, when it is migrated, then its content is persisted with the most recent migration version")
+    @Sql(scripts = {"/scripts/migration.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenOldDiagramWhenItIsMigratedThenItsContentIsPersistedWithTheMostRecentMigrationVersion() {
+        assertThat(this.dataMigrationService.getRepresentationKinds()).contains(Diagram.KIND);
+        assertThat(this.dataMigrationService.findRepresentationsToMigrate(Diagram.KIND, FIRST_ID, LIMIT)).contains(MigrationIdentifiers.MIGRATION_STUDIO_DIAGRAM);
+
+        var migrated = this.dataMigrationService.migrateRepresentation(new DataMigrationCause(UUID.randomUUID()), MigrationIdentifiers.MIGRATION_STUDIO_DIAGRAM);
+        assertThat(migrated).isTrue();
+
+        var optionalContent = this.representationDataSearchService.findContentById(MigrationIdentifiers.MIGRATION_STUDIO_DIAGRAM);
+        assertThat(optionalContent).isPresent();
+        assertThat(optionalContent.get().migrationVersion()).isNotEqualTo("0");
+
+        assertThat(this.dataMigrationService.findRepresentationsToMigrate(Diagram.KIND, FIRST_ID, LIMIT)).doesNotContain(MigrationIdentifiers.MIGRATION_STUDIO_DIAGRAM);
+    }
+
+    @Test
+    @DisplayName("Given a studio with old documents, when it is migrated, then its documents are not returned anymore by the projects to migrate")
+    @Sql(scripts = {"/scripts/migration.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenStudioWithOldDocumentsWhenItIsMigratedThenItsDocumentsAreNotReturnedAnymoreByTheProjectsToMigrate() {
+        var studioId = MigrationIdentifiers.MIGRATION_NODE_DESCRIPTION_USER_RESIZABLE_STUDIO;
+        assertThat(this.dataMigrationService.findProjectsToMigrate(FIRST_ID, LIMIT)).contains(studioId);
+
+        var migrated = this.dataMigrationService.migrateProject(new DataMigrationCause(UUID.randomUUID()), studioId);
+        assertThat(migrated).isTrue();
+
+        assertThat(this.dataMigrationService.findProjectsToMigrate(FIRST_ID, LIMIT)).doesNotContain(studioId);
+    }
+}
@@ -1,6 +1,7 @@
 DELETE FROM document;
 DELETE FROM semantic_data_domain;
 DELETE FROM semantic_data;
+DELETE FROM representation_layout_data;
 DELETE FROM representation_data;
 DELETE FROM image;
 DELETE FROM nature;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.trees;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -36,6 +37,7 @@ import org.eclipse.sirius.components.core.api.IPayload;
 import org.eclipse.sirius.components.core.api.IRepresentationInput;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.eclipse.sirius.components.trees.Tree;
+import org.eclipse.sirius.components.trees.renderer.TreeRenderingCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -74,6 +76,8 @@ public class TreeEventProcessor implements ITreeEventProcessor {
 
     private final AtomicReference<Tree> currentTree = new AtomicReference<>();
 
+    private final TreeRenderingCache treeRenderingCache = new TreeRenderingCache();
+
     private final Timer timer;
 
     public TreeEventProcessor(IEditingContext editingContext, ITreeService treeService, TreeCreationParameters treeCreationParameters, List<ITreeEventHandler> treeEventHandlers,
@@ -124,7 +128,10 @@ public class TreeEventProcessor implements ITreeEventProcessor {
 
     @Override
     public void refresh(ChangeDescription changeDescription) {
-        if (this.shouldRefresh(changeDescription)) {
+        boolean shouldRefresh = this.shouldRefresh(changeDescription);
+        this.invalidateRenderingCache(changeDescription, shouldRefresh);
+
+        if (shouldRefresh) {
             long start = System.currentTimeMillis();
 
             Tree tree = this.refreshTree();
@@ -176,8 +183,27 @@ public class TreeEventProcessor implements ITreeEventProcessor {
         };
     }
 
+    /**
+     * Removes from the rendering cache the tree items impacted by the given change. Semantic changes are always
+     * considered, even if they do not trigger a refresh, since the cache would be used by the next refresh otherwise.
+     * Without the details of the semantic elements modified, the whole tree will be rendered again.
+     *
+     * @param changeDescription
+     *         The description of the change
+     * @param shouldRefresh
+     *         Indicates if the tree will be refreshed for this change
+     */
+    private void invalidateRenderingCache(ChangeDescription changeDescription, boolean shouldRefresh) {
+        Object changedElements = changeDescription.getParameters().get(ChangeDescription.CHANGED_ELEMENTS);
+        if (ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind()) && changedElements instanceof Collection<?> collection) {
+            this.treeRenderingCache.invalidate(collection);
+        } else if (ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind()) || shouldRefresh) {
+            this.treeRenderingCache.clear();
+        }
+    }
+
     private Tree refreshTree() {
-        Tree tree = this.treeService.create(this.treeCreationParameters);
+        Tree tree = this.treeService.create(this.treeCreationParameters, this.treeRenderingCache);
         this.logger.trace("Tree refreshed: {}", this.treeCreationParameters.getEditingContext().getId());
         return tree;
     }
@@ -19,6 +19,7 @@ import org.eclipse.sirius.components.representations.GetOrCreateRandomIdProvider
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.eclipse.sirius.components.trees.Tree;
 import org.eclipse.sirius.components.trees.renderer.TreeRenderer;
+import org.eclipse.sirius.components.trees.renderer.TreeRenderingCache;
 import org.springframework.stereotype.Service;
 
 /**
@@ -31,6 +32,11 @@ public class TreeService implements ITreeService {
 
     @Override
     public Tree create(TreeCreationParameters treeCreationParameters) {
+        return this.create(treeCreationParameters, new TreeRenderingCache());
+    }
+
+    @Override
+    public Tree create(TreeCreationParameters treeCreationParameters, TreeRenderingCache treeRenderingCache) {
         VariableManager variableManager = new VariableManager();
         variableManager.put(GetOrCreateRandomIdProvider.PREVIOUS_REPRESENTATION_ID, treeCreationParameters.getId());
         variableManager.put(IEditingContext.EDITING_CONTEXT, treeCreationParameters.getEditingContext());
@@ -38,7 +44,7 @@ public class TreeService implements ITreeService {
         variableManager.put(TreeRenderer.EXPANDED, treeCreationParameters.getExpanded());
         variableManager.put(TreeRenderer.ACTIVE_FILTER_IDS, treeCreationParameters.getActiveFilterIds());
 
-        TreeRenderer treeRenderer = new TreeRenderer(variableManager, treeCreationParameters.getTreeDescription());
+        TreeRenderer treeRenderer = new TreeRenderer(variableManager, treeCreationParameters.getTreeDescription(), treeRenderingCache);
         return treeRenderer.render();
     }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@
 package org.eclipse.sirius.components.collaborative.trees.api;
 
 import org.eclipse.sirius.components.trees.Tree;
+import org.eclipse.sirius.components.trees.renderer.TreeRenderingCache;
 
 /**
  * Interface of the tree service.
@@ -21,4 +22,17 @@ import org.eclipse.sirius.components.trees.Tree;
  */
 public interface ITreeService {
     Tree create(TreeCreationParameters treeCreationParameters);
+
+    /**
+     * Creates the tree while reusing the tree items of the given cache which are still valid.
+     *
+     * @param treeCreationParameters
+     *         The parameters of the tree
+     * @param treeRenderingCache
+     *         The tree items rendered previously for the same tree
+     * @return The tree
+     */
+    default Tree create(TreeCreationParameters treeCreationParameters, TreeRenderingCache treeRenderingCache) {
+        return this.create(treeCreationParameters);
+    }
 }
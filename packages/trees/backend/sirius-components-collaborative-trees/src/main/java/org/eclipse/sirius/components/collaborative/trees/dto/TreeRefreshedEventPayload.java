@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,7 +15,7 @@ package org.eclipse.sirius.components.collaborative.trees.dto;
 import java.util.Objects;
 import java.util.UUID;
 
-import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshedEventPayload;
 import org.eclipse.sirius.components.trees.Tree;
 
 /**
@@ -23,7 +23,7 @@ import org.eclipse.sirius.components.trees.Tree;
  *
  * @author sbegaudeau
  */
-public record TreeRefreshedEventPayload(UUID id, Tree tree) implements IPayload {
+public record TreeRefreshedEventPayload(UUID id, Tree tree) implements IRepresentationRefreshedEventPayload {
     public TreeRefreshedEventPayload {
         Objects.requireNonNull(id);
         Objects.requireNonNull(tree);
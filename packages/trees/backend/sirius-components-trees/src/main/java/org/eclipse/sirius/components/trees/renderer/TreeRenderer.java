@@ -50,9 +50,27 @@ public class TreeRenderer {
 
     private final TreeDescription treeDescription;
 
+    private final TreeRenderingCache treeRenderingCache;
+
     public TreeRenderer(VariableManager variableManager, TreeDescription treeDescription) {
+        this(variableManager, treeDescription, new TreeRenderingCache());
+    }
+
+    /**
+     * Creates a renderer which will reuse the tree items of the given cache which have not been invalidated since the
+     * previous rendering.
+     *
+     * @param variableManager
+     *         The variable manager
+     * @param treeDescription
+     *         The description of the tree
+     * @param treeRenderingCache
+     *         The tree items rendered previously for the same tree
+     */
+    public TreeRenderer(VariableManager variableManager, TreeDescription treeDescription, TreeRenderingCache treeRenderingCache) {
         this.variableManager = Objects.requireNonNull(variableManager);
         this.treeDescription = Objects.requireNonNull(treeDescription);
+        this.treeRenderingCache = Objects.requireNonNull(treeRenderingCache);
     }
 
     public Tree render() {
@@ -60,6 +78,10 @@ public class TreeRenderer {
         String targetObjectId = this.treeDescription.getTargetObjectIdProvider().apply(this.variableManager);
         String label = this.treeDescription.getLabelProvider().apply(this.variableManager).toString();
 
+        List<String> expanded = this.getStrings(EXPANDED);
+        List<String> activeFilterIds = this.getStrings(ACTIVE_FILTER_IDS);
+        this.treeRenderingCache.startRendering(expanded, activeFilterIds);
+
         List<?> rootElements = this.treeDescription.getElementsProvider().apply(this.variableManager);
         List<TreeItem> childrenItems = new ArrayList<>(rootElements.size());
 
@@ -69,9 +91,11 @@ public class TreeRenderer {
             VariableManager rootElementVariableManager = this.variableManager.createChild();
             rootElementVariableManager.put(VariableManager.SELF, rootElement);
             rootElementVariableManager.put(INDEX, index++);
-            childrenItems.add(this.renderTreeItem(rootElementVariableManager));
+            childrenItems.add(this.renderTreeItem(rootElementVariableManager, new ArrayList<>()));
         }
 
+        this.treeRenderingCache.finishRendering();
+
         return Tree.newTree(treeId)
                 .targetObjectId(targetObjectId)
                 .descriptionId(this.treeDescription.getId())
@@ -80,8 +104,42 @@ public class TreeRenderer {
                 .build();
     }
 
-    private TreeItem renderTreeItem(VariableManager treeItemVariableManager) {
+    private List<String> getStrings(String variableName) {
+        return this.variableManager.get(variableName, List.class).orElse(List.of()).stream()
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .toList();
+    }
+
+    /**
+     * Renders the tree item of the element stored in the given variable manager or reuses the one rendered
+     * previously if the element and its content have not been modified since then.
+     *
+     * @param treeItemVariableManager
+     *         The variable manager of the tree item
+     * @param renderedKeys
+     *         The list in which the key of the tree item will be added
+     * @return The tree item
+     */
+    private TreeItem renderTreeItem(VariableManager treeItemVariableManager, List<TreeRenderingCache.TreeItemKey> renderedKeys) {
         String id = this.treeDescription.getTreeItemIdProvider().apply(treeItemVariableManager);
+        List<Object> ancestorIds = treeItemVariableManager.get(ANCESTOR_IDS, List.class).orElse(List.of());
+
+        if (this.loopDetected(treeItemVariableManager, id)) {
+            String kind = this.treeDescription.getKindProvider().apply(treeItemVariableManager);
+            StyledString label = this.treeDescription.getTreeItemLabelProvider().apply(treeItemVariableManager);
+            List<String> iconURLs = this.treeDescription.getIconURLProvider().apply(treeItemVariableManager);
+            return this.renderWarningTreeItem(id, kind, label, iconURLs, treeItemVariableManager);
+        }
+
+        var key = new TreeRenderingCache.TreeItemKey(ancestorIds, id);
+        renderedKeys.add(key);
+
+        var optionalCachedTreeItem = this.treeRenderingCache.get(key);
+        if (optionalCachedTreeItem.isPresent()) {
+            return optionalCachedTreeItem.get();
+        }
+
         String kind = this.treeDescription.getKindProvider().apply(treeItemVariableManager);
         StyledString label = this.treeDescription.getTreeItemLabelProvider().apply(treeItemVariableManager);
         boolean editable = this.treeDescription.getEditableProvider().apply(treeItemVariableManager);
@@ -89,26 +147,23 @@ public class TreeRenderer {
         boolean selectable = this.treeDescription.getSelectableProvider().apply(treeItemVariableManager);
         List<String> iconURLs = this.treeDescription.getIconURLProvider().apply(treeItemVariableManager);
 
-        if (this.loopDetected(treeItemVariableManager, id)) {
-            return this.renderWarningTreeItem(id, kind, label, iconURLs, treeItemVariableManager);
-        }
-
         Boolean hasChildren = this.treeDescription.getHasChildrenProvider().apply(treeItemVariableManager);
         List<?> children = this.treeDescription.getChildrenProvider().apply(treeItemVariableManager);
         List<TreeItem> childrenTreeItems = new ArrayList<>(children.size());
+        List<TreeRenderingCache.TreeItemKey> childrenKeys = new ArrayList<>(children.size());
 
         int childIndex = 0;
         boolean expanded = !children.isEmpty();
         for (Object child : children) {
             VariableManager childVariableManager = treeItemVariableManager.createChild();
-            List<Object> childAncestors = new ArrayList<Object>(treeItemVariableManager.get(ANCESTOR_IDS, List.class).orElse(List.of()));
+            List<Object> childAncestors = new ArrayList<Object>(ancestorIds);
             childAncestors.add(id);
             childVariableManager.put(ANCESTOR_IDS, childAncestors);
             childVariableManager.put(VariableManager.SELF, child);
             childVariableManager.put(INDEX, childIndex++);
-            childrenTreeItems.add(this.renderTreeItem(childVariableManager));
+            childrenTreeItems.add(this.renderTreeItem(childVariableManager, childrenKeys));
         }
-        return TreeItem
+        TreeItem treeItem = TreeItem
                 .newTreeItem(id)
                 .kind(kind)
                 .label(label)
@@ -120,6 +175,10 @@ public class TreeRenderer {
                 .hasChildren(hasChildren)
                 .expanded(expanded)
                 .build();
+
+        Object semanticElement = treeItemVariableManager.get(VariableManager.SELF, Object.class).orElse(null);
+        this.treeRenderingCache.put(key, semanticElement, treeItem, childrenKeys);
+        return treeItem;
     }
 
     private TreeItem renderWarningTreeItem(String id, String kind, StyledString label, List<String> iconURL, VariableManager currentVariableManager) {
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.trees.renderer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.sirius.components.trees.TreeItem;
+
+/**
+ * Keeps the tree items rendered during the previous rendering of a tree in order to reuse the subtrees which have not
+ * been impacted by a change.
+ *
+ * <p>
+ * A tree item is identified by its id and the ids of its ancestors since the same semantic element can be rendered at
+ * various places in the tree. The whole cache is cleared when the expanded tree items or the active filters change.
+ * When a semantic element is invalidated, the tree items rendered for this element and all their ancestors are
+ * removed from the cache while the other subtrees are kept.
+ * </p>
+ *
+ * @author agent
+ */
+public class TreeRenderingCache {
+
+    private final Map<TreeItemKey, Entry> entries = new HashMap<>();
+
+    private List<String> expandedIds = List.of();
+
+    private List<String> activeFilterIds = List.of();
+
+    private Set<TreeItemKey> renderedKeys = new HashSet<>();
+
+    /**
+     * Prepares the cache for a new rendering of the tree.
+     *
+     * @param expanded
+     *         The ids of the expanded tree items
+     * @param activeFilters
+     *         The ids of the active filters
+     */
+    public void startRendering(List<String> expanded, List<String> activeFilters) {
+        if (!Objects.equals(this.expandedIds, expanded) || !Objects.equals(this.activeFilterIds, activeFilters)) {
+            this.entries.clear();
+            this.expandedIds = List.copyOf(expanded);
+            this.activeFilterIds = List.copyOf(activeFilters);
+        }
+        this.renderedKeys = new HashSet<>();
+    }
+
+    /**
+     * Forgets the tree items which have not been part of the rendering which has just been completed.
+     */
+    public void finishRendering() {
+        this.entries.keySet().retainAll(this.renderedKeys);
+        this.renderedKeys = new HashSet<>();
+    }
+
+    /**
+     * Returns the tree item previously rendered with the given key and keeps the whole subtree alive.
+     *
+     * @param key
+     *         The key of the tree item
+     * @return The tree item previously rendered, if it has not been invalidated
+     */
+    public Optional<TreeItem> get(TreeItemKey key) {
+        var optionalEntry = Optional.ofNullable(this.entries.get(key));
+        optionalEntry.ifPresent(entry -> this.markRendered(key));
+        return optionalEntry.map(Entry::treeItem);
+    }
+
+    public void put(TreeItemKey key, Object semanticElement, TreeItem treeItem, List<TreeItemKey> childrenKeys) {
+        this.entries.put(key, new Entry(treeItem, semanticElement, childrenKeys));
+        this.renderedKeys.add(key);
+    }
+
+    /**
+     * Removes from the cache the tree items rendered for the given semantic elements along with all their ancestors.
+     *
+     * @param semanticElements
+     *         The semantic elements which have been modified
+     */
+    public void invalidate(Collection<?> semanticElements) {
+        Set<Object> modifiedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        modifiedElements.addAll(semanticElements);
+
+        List<TreeItemKey> keysToRemove = new ArrayList<>();
+        this.entries.forEach((key, entry) -> {
+            if (modifiedElements.contains(entry.semanticElement())) {
+                keysToRemove.add(key);
+            }
+        });
+
+        for (TreeItemKey key : keysToRemove) {
+            this.entries.remove(key);
+            key.getAncestorKeys().forEach(this.entries::remove);
+        }
+    }
+
+    public void clear() {
+        this.entries.clear();
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    private void markRendered(TreeItemKey key) {
+        if (this.renderedKeys.add(key)) {
+            Entry entry = this.entries.get(key);
+            if (entry != null) {
+                entry.childrenKeys().forEach(this::markRendered);
+            }
+        }
+    }
+
+    /**
+     * Identifies a tree item rendered at a given location in the tree.
+     *
+     * @author agent
+     *
+     * @param ancestorIds
+     *         The ids of the ancestors of the tree item, starting with the root
+     * @param id
+     *         The id of the tree item
+     */
+    public record TreeItemKey(List<Object> ancestorIds, String id) {
+
+        public TreeItemKey {
+            ancestorIds = List.copyOf(ancestorIds);
+            Objects.requireNonNull(id);
+        }
+
+        /**
+         * Returns the keys of the ancestors of this tree item, starting with its parent.
+         *
+         * @return The keys of the ancestors
+         */
+        public List<TreeItemKey> getAncestorKeys() {
+            List<TreeItemKey> ancestorKeys = new ArrayList<>(this.ancestorIds.size());
+            for (int i = this.ancestorIds.size() - 1; i >= 0; i--) {
+                ancestorKeys.add(new TreeItemKey(this.ancestorIds.subList(0, i), String.valueOf(this.ancestorIds.get(i))));
+            }
+            return ancestorKeys;
+        }
+    }
+
+    /**
+     * A tree item rendered along with the semantic element used to render it.
+     *
+     * @author agent
+     */
+    public record Entry(TreeItem treeItem, Object semanticElement, List<TreeItemKey> childrenKeys) {
+    }
+}
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.trees.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.core.api.labels.StyledString;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.components.trees.Tree;
+import org.eclipse.sirius.components.trees.TreeItem;
+import org.eclipse.sirius.components.trees.description.TreeDescription;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link TreeRenderingCache}.
+ *
+ * <p>
+ * The number of evaluations of the label provider is used as a deterministic measure of the rendering work performed
+ * on an explorer with 50k expanded items.
+ * </p>
+ *
+ * @author agent
+ */
+public class TreeRenderingCacheTests {
+
+    private static final int PACKAGE_COUNT = 50;
+
+    private static final int CLASS_COUNT = 1000;
+
+    private static final int TREE_ITEM_COUNT = 1 + PACKAGE_COUNT + PACKAGE_COUNT * CLASS_COUNT;
+
+    private final AtomicInteger labelEvaluationCount = new AtomicInteger();
+
+    @Test
+    public void givenLargeTreeWhenNothingHasBeenInvalidatedThenAllTheTreeItemsAreReused() {
+        Node root = this.createLargeModel();
+        TreeRenderingCache treeRenderingCache = new TreeRenderingCache();
+
+        Tree tree = this.render(root, treeRenderingCache, List.of());
+        assertThat(this.labelEvaluationCount.get()).isEqualTo(TREE_ITEM_COUNT);
+        assertThat(treeRenderingCache.size()).isEqualTo(TREE_ITEM_COUNT);
+
+        this.labelEvaluationCount.set(0);
+        Tree refreshedTree = this.render(root, treeRenderingCache, List.of());
+        assertThat(this.labelEvaluationCount.get()).isZero();
+        assertThat(refreshedTree.getChildren().get(0)).isSameAs(tree.getChildren().get(0));
+    }
+
+    @Test
+    public void givenLargeTreeWhenOneElementIsRenamedThenOnlyItsBranchIsRenderedAgain() {
+        Node root = this.createLargeModel();
+        TreeRenderingCache treeRenderingCache = new TreeRenderingCache();
+
+        Tree tree = this.render(root, treeRenderingCache, List.of());
+
+        Node renamedNode = root.children().get(3).children().get(42);
+        renamedNode.label = "renamed";
+        treeRenderingCache.invalidate(List.of(renamedNode));
+
+        this.labelEvaluationCount.set(0);
+        Tree refreshedTree = this.render(root, treeRenderingCache, List.of());
+
+        // The renamed element, its package and the root element
+        assertThat(this.labelEvaluationCount.get()).isEqualTo(3);
+
+        TreeItem refreshedRootItem = refreshedTree.getChildren().get(0);
+        TreeItem rootItem = tree.getChildren().get(0);
+        assertThat(refreshedRootItem.getChildren().get(2)).isSameAs(rootItem.getChildren().get(2));
+        assertThat(refreshedRootItem.getChildren().get(3).getChildren().get(42).getLabel().toString()).isEqualTo("renamed");
+        assertThat(refreshedRootItem.getChildren().get(3).getChildren().get(41)).isSameAs(rootItem.getChildren().get(3).getChildren().get(41));
+    }
+
+    @Test
+    public void givenLargeTreeWhenElementIsAddedThenRemovedElementsAreForgotten() {
+        Node root = this.createLargeModel();
+        TreeRenderingCache treeRenderingCache = new TreeRenderingCache();
+
+        this.render(root, treeRenderingCache, List.of());
+
+        Node firstPackage = root.children().get(0);
+        firstPackage.children().add(new Node("newClass", "newClass", new ArrayList<>()));
+        root.children().remove(1);
+        treeRenderingCache.invalidate(List.of(firstPackage, root));
+
+        this.labelEvaluationCount.set(0);
+        Tree refreshedTree = this.render(root, treeRenderingCache, List.of());
+
+        assertThat(this.labelEvaluationCount.get()).isEqualTo(3);
+        assertThat(refreshedTree.getChildren().get(0).getChildren()).hasSize(PACKAGE_COUNT - 1);
+        assertThat(treeRenderingCache.size()).isEqualTo(TREE_ITEM_COUNT - CLASS_COUNT);
+    }
+
+    @Test
+    public void givenTreeWhenActiveFiltersChangeThenTheWholeTreeIsRenderedAgain() {
+        Node root = this.createLargeModel();
+        TreeRenderingCache treeRenderingCache = new TreeRenderingCache();
+
+        this.render(root, treeRenderingCache, List.of());
+
+        this.labelEvaluationCount.set(0);
+        this.render(root, treeRenderingCache, List.of("filter"));
+        assertThat(this.labelEvaluationCount.get()).isEqualTo(TREE_ITEM_COUNT);
+    }
+
+    private Tree render(Node root, TreeRenderingCache treeRenderingCache, List<String> activeFilterIds) {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(TreeRenderer.EXPANDED, List.of());
+        variableManager.put(TreeRenderer.ACTIVE_FILTER_IDS, activeFilterIds);
+        return new TreeRenderer(variableManager, this.createDescription(root), treeRenderingCache).render();
+    }
+
+    private Node createLargeModel() {
+        List<Node> packages = new ArrayList<>();
+        for (int i = 0; i < PACKAGE_COUNT; i++) {
+            List<Node> classes = new ArrayList<>();
+            for (int j = 0; j < CLASS_COUNT; j++) {
+                String id = "class-" + i + "-" + j;
+                classes.add(new Node(id, id, new ArrayList<>()));
+            }
+            packages.add(new Node("package-" + i, "package-" + i, classes));
+        }
+        return new Node("root", "root", packages);
+    }
+
+    private TreeDescription createDescription(Node root) {
+        return TreeDescription.newTreeDescription("treeDescriptionId")
+                .canCreatePredicate(variableManager -> true)
+                .childrenProvider(variableManager -> this.getSelf(variableManager).children())
+                .deletableProvider(variableManager -> false)
+                .deleteHandler(variableManager -> new Success())
+                .editableProvider(variableManager -> true)
+                .elementsProvider(variableManager -> List.of(root))
+                .hasChildrenProvider(variableManager -> !this.getSelf(variableManager).children().isEmpty())
+                .iconURLProvider(variableManager -> List.of())
+                .idProvider(variableManager -> "treeId")
+                .kindProvider(variableManager -> "node")
+                .label("Large tree")
+                .labelProvider(variableManager -> StyledString.of("Large tree"))
+                .parentObjectProvider(variableManager -> null)
+                .renameHandler((variableManager, name) -> new Success())
+                .selectableProvider(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "treeId")
+                .treeItemIdProvider(variableManager -> this.getSelf(variableManager).id())
+                .treeItemObjectProvider(variableManager -> null)
+                .treeItemLabelProvider(variableManager -> {
+                    this.labelEvaluationCount.incrementAndGet();
+                    return StyledString.of(this.getSelf(variableManager).label);
+                })
+                .contextMenuEntries(List.of())
+                .build();
+    }
+
+    private Node getSelf(VariableManager variableManager) {
+        return variableManager.get(VariableManager.SELF, Node.class).orElseThrow();
+    }
+
+    /**
+     * A semantic element of the tree.
+     *
+     * @author agent
+     */
+    private static final class Node {
+
+        private final String id;
+
+        private final List<Node> children;
+
+        private String label;
+
+        private Node(String id, String label, List<Node> children) {
+            this.id = id;
+            this.label = label;
+            this.children = children;
+        }
+
+        public String id() {
+            return this.id;
+        }
+
+        public List<Node> children() {
+            return this.children;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,7 +15,7 @@ package org.eclipse.sirius.components.collaborative.validation.dto;
 import java.util.Objects;
 import java.util.UUID;
 
-import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshedEventPayload;
 import org.eclipse.sirius.components.validation.Validation;
 
 /**
@@ -23,7 +23,7 @@ import org.eclipse.sirius.components.validation.Validation;
  *
  * @author gcoutable
  */
-public record ValidationRefreshedEventPayload(UUID id, Validation validation) implements IPayload {
+public record ValidationRefreshedEventPayload(UUID id, Validation validation) implements IRepresentationRefreshedEventPayload {
     public ValidationRefreshedEventPayload {
         Objects.requireNonNull(id);
         Objects.requireNonNull(validation);
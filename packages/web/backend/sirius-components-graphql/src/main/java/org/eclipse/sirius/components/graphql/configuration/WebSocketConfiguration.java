@@ -14,6 +14,7 @@ package org.eclipse.sirius.components.graphql.configuration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import org.eclipse.sirius.components.graphql.api.URLConstants;
@@ -22,6 +23,7 @@ import org.eclipse.sirius.components.graphql.ws.api.IGraphQLWebSocketHandlerList
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistration;
@@ -34,7 +36,9 @@ import io.micrometer.core.instrument.MeterRegistry;
 /**
  * Spring configuration used to register all the Web Socket endpoints.
  * <p>
- * This class is used to creates the /subscriptions GraphQL endpoint to add support for GraphQL subscriptions.
+ * This class is used to creates the /subscriptions GraphQL endpoint to add support for GraphQL subscriptions. The
+ * messages sent to each session are buffered up to {@code sirius.components.graphql.ws.sendBufferSizeLimit} and a
+ * session is closed if a message cannot be sent within {@code sirius.components.graphql.ws.sendTimeLimit}.
  * </p>
  *
  * @author sbegaudeau
@@ -53,18 +57,26 @@ public class WebSocketConfiguration implements WebSocketConfigurer {
 
     private final IGraphQLWebSocketHandlerListener graphQLWebSocketHandlerListener;
 
+    private final Duration sendTimeLimit;
+
+    private final DataSize sendBufferSizeLimit;
+
     public WebSocketConfiguration(@Value("${sirius.components.cors.allowedOriginPatterns:}") String[] allowedOriginPatterns, GraphQL graphQL, ObjectMapper objectMapper, MeterRegistry meterRegistry,
-            IGraphQLWebSocketHandlerListener graphQLWebSocketHandlerListener) {
+            IGraphQLWebSocketHandlerListener graphQLWebSocketHandlerListener, @Value("${sirius.components.graphql.ws.sendTimeLimit:30s}") Duration sendTimeLimit,
+            @Value("${sirius.components.graphql.ws.sendBufferSizeLimit:10MB}") DataSize sendBufferSizeLimit) {
         this.allowedOriginPatterns = Objects.requireNonNull(allowedOriginPatterns);
         this.graphQL = Objects.requireNonNull(graphQL);
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.meterRegistry = Objects.requireNonNull(meterRegistry);
         this.graphQLWebSocketHandlerListener = Objects.requireNonNull(graphQLWebSocketHandlerListener);
+        this.sendTimeLimit = Objects.requireNonNull(sendTimeLimit);
+        this.sendBufferSizeLimit = Objects.requireNonNull(sendBufferSizeLimit);
     }
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
-        GraphQLWebSocketHandler graphQLWebSocketHandler = new GraphQLWebSocketHandler(this.objectMapper, this.graphQL, this.meterRegistry, this.graphQLWebSocketHandlerListener);
+        GraphQLWebSocketHandler graphQLWebSocketHandler = new GraphQLWebSocketHandler(this.objectMapper, this.graphQL, this.meterRegistry, this.graphQLWebSocketHandlerListener,
+                this.sendTimeLimit, (int) this.sendBufferSizeLimit.toBytes());
         WebSocketHandlerRegistration graphQLWebSocketRegistration = registry.addHandler(graphQLWebSocketHandler, URLConstants.GRAPHQL_SUBSCRIPTION_PATH);
         graphQLWebSocketRegistration.setAllowedOriginPatterns(this.allowedOriginPatterns);
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -43,6 +43,9 @@ import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.SubProtocolCapable;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import graphql.GraphQL;
@@ -165,6 +168,12 @@ import reactor.core.publisher.Flux;
  * a keep alive response from time to time to prevent the client from terminating the connection.
  * </p>
  *
+ * <p>
+ * The messages sent to a session are buffered so that a slow consumer does not block the threads producing them. A
+ * session whose buffer exceeds the configured size or whose pending send exceeds the configured time limit is closed
+ * and its subscriptions are disposed.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class GraphQLWebSocketHandler extends TextWebSocketHandler implements SubProtocolCapable {
@@ -175,8 +184,14 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
 
     private static final String TIMER_METRIC_NAME = "siriusweb_graphql_ws_sessions";
 
+    private static final String BUFFER_SIZE_METRIC_NAME = "siriusweb_graphql_ws_session_buffer_size";
+
+    private static final String EVICTED_SESSIONS_METRIC_NAME = "siriusweb_graphql_ws_evicted_sessions";
+
     private static final String MESSAGE = "message";
 
+    private static final String SESSION = "session";
+
     private static final String GRAPHQL_WS = "graphql-ws";
 
     private static final String TYPE = "type";
@@ -191,6 +206,10 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
 
     private final Map<WebSocketSession, Disposable> sessions2keepAliveSubscriptions = new ConcurrentHashMap<>();
 
+    private final Map<WebSocketSession, ConcurrentWebSocketSessionDecorator> sessions2concurrentSessions = new ConcurrentHashMap<>();
+
+    private final Map<WebSocketSession, Gauge> sessions2bufferSizeGauges = new ConcurrentHashMap<>();
+
     private final Counter connectionInitCounter;
 
     private final Counter startMessageCounter;
@@ -201,15 +220,24 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
 
     private final Counter connectionErrorCounter;
 
+    private final Counter evictedSessionsCounter;
+
     private final MeterRegistry meterRegistry;
 
     private final IGraphQLWebSocketHandlerListener listener;
 
-    public GraphQLWebSocketHandler(ObjectMapper objectMapper, GraphQL graphQL, MeterRegistry meterRegistry, IGraphQLWebSocketHandlerListener listener) {
+    private final Duration sendTimeLimit;
+
+    private final int sendBufferSizeLimit;
+
+    public GraphQLWebSocketHandler(ObjectMapper objectMapper, GraphQL graphQL, MeterRegistry meterRegistry, IGraphQLWebSocketHandlerListener listener, Duration sendTimeLimit,
+            int sendBufferSizeLimit) {
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.graphQL = Objects.requireNonNull(graphQL);
         this.meterRegistry = Objects.requireNonNull(meterRegistry);
         this.listener = Objects.requireNonNull(listener);
+        this.sendTimeLimit = Objects.requireNonNull(sendTimeLimit);
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
 
         // @formatter:off
         this.startMessageCounter = Counter.builder(COUNTER_METRIC_NAME)
@@ -229,6 +257,8 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
                 .register(meterRegistry);
         Gauge.builder(TIMER_METRIC_NAME, this.sessions2keepAliveSubscriptions.keySet()::size)
                 .register(meterRegistry);
+        this.evictedSessionsCounter = Counter.builder(EVICTED_SESSIONS_METRIC_NAME)
+                .register(meterRegistry);
         // @formatter:on
 
     }
@@ -239,8 +269,10 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
     }
 
     @Override
-    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
-        this.listener.handleTextMessage(session, message);
+    protected void handleTextMessage(WebSocketSession webSocketSession, TextMessage message) throws Exception {
+        this.listener.handleTextMessage(webSocketSession, message);
+
+        WebSocketSession session = Optional.<WebSocketSession>ofNullable(this.sessions2concurrentSessions.get(webSocketSession)).orElse(webSocketSession);
 
         Optional<IOperationMessage> optionalOperationMessage = this.parseRequest(message);
         if (optionalOperationMessage.isPresent()) {
@@ -283,6 +315,13 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
             session.sendMessage(textMessage);
         } catch (IOException exception) {
             this.logger.warn(exception.getMessage(), exception);
+        } catch (SessionLimitExceededException exception) {
+            // The slow consumers are evicted to release the messages buffered for them
+            try {
+                session.close(exception.getStatus());
+            } catch (IOException closeException) {
+                this.logger.warn(closeException.getMessage(), closeException);
+            }
         }
     }
 
@@ -335,22 +374,41 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
     }
 
     @Override
-    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
-        this.listener.afterConnectionEstablished(session);
+    public void afterConnectionEstablished(WebSocketSession webSocketSession) throws Exception {
+        this.listener.afterConnectionEstablished(webSocketSession);
+
+        var session = new ConcurrentWebSocketSessionDecorator(webSocketSession, (int) this.sendTimeLimit.toMillis(), this.sendBufferSizeLimit, OverflowStrategy.TERMINATE);
+        this.sessions2concurrentSessions.put(webSocketSession, session);
+
+        Gauge bufferSizeGauge = Gauge.builder(BUFFER_SIZE_METRIC_NAME, session::getBufferSize)
+                .tag(SESSION, webSocketSession.getId())
+                .baseUnit("bytes")
+                .register(this.meterRegistry);
+        this.sessions2bufferSizeGauges.put(webSocketSession, bufferSizeGauge);
 
         // @formatter:off
         Disposable subscribe = Flux.interval(GRAPHQL_KEEP_ALIVE_INTERVAL)
                 .subscribe(data -> this.send(session, new ConnectionKeepAliveMessage()));
         // @formatter:on
-        this.sessions2keepAliveSubscriptions.put(session, subscribe);
+        this.sessions2keepAliveSubscriptions.put(webSocketSession, subscribe);
     }
 
     @Override
-    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
-        this.listener.afterConnectionClosed(session, status);
+    public void afterConnectionClosed(WebSocketSession webSocketSession, CloseStatus status) throws Exception {
+        this.listener.afterConnectionClosed(webSocketSession, status);
+
+        Disposable keepAliveSubscription = this.sessions2keepAliveSubscriptions.remove(webSocketSession);
+        if (keepAliveSubscription != null) {
+            keepAliveSubscription.dispose();
+        }
 
-        Disposable keepAliveSubscription = this.sessions2keepAliveSubscriptions.remove(session);
-        keepAliveSubscription.dispose();
+        Optional.ofNullable(this.sessions2bufferSizeGauges.remove(webSocketSession)).ifPresent(this.meterRegistry::remove);
+        WebSocketSession session = Optional.<WebSocketSession>ofNullable(this.sessions2concurrentSessions.remove(webSocketSession)).orElse(webSocketSession);
+
+        if (CloseStatus.SESSION_NOT_RELIABLE.equals(status)) {
+            this.logger.warn("The session {} has been closed since it does not consume its messages fast enough", webSocketSession.getId());
+            this.evictedSessionsCounter.increment();
+        }
 
         // Closing the connection will trigger the same behavior as indicating that the connection should be closed
         new ConnectionTerminateMessageHandler(session, this.sessions2entries).handle();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,8 @@ import org.eclipse.sirius.components.graphql.ws.dto.IOperationMessage;
 import org.slf4j.Logger;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
 
 /**
  * Common interface of all the message handlers.
@@ -32,14 +34,30 @@ public interface IWebSocketMessageHandler {
         try {
             String responsePayload = objectMapper.writeValueAsString(message);
             TextMessage textMessage = new TextMessage(responsePayload);
-            synchronized (session) {
-                if (session.isOpen()) {
-                    logger.trace("Message sent: {}", message);
-                    session.sendMessage(textMessage);
+            if (session instanceof ConcurrentWebSocketSessionDecorator) {
+                // The messages are buffered by the session itself, the caller does not have to wait for the previous ones
+                this.doSend(session, textMessage, message, logger);
+            } else {
+                synchronized (session) {
+                    this.doSend(session, textMessage, message, logger);
                 }
             }
         } catch (IOException exception) {
             logger.warn(exception.getMessage(), exception);
+        } catch (SessionLimitExceededException exception) {
+            // The slow consumers are evicted to release the messages buffered for them
+            try {
+                session.close(exception.getStatus());
+            } catch (IOException closeException) {
+                logger.warn(closeException.getMessage(), closeException);
+            }
+        }
+    }
+
+    private void doSend(WebSocketSession session, TextMessage textMessage, IOperationMessage message, Logger logger) throws IOException {
+        if (session.isOpen()) {
+            logger.trace("Message sent: {}", message);
+            session.sendMessage(textMessage);
         }
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -17,12 +17,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.sirius.components.graphql.controllers.GraphQLPayload;
+import org.eclipse.sirius.components.graphql.ws.api.IGraphQLWebSocketHandlerListener;
 import org.eclipse.sirius.components.graphql.ws.dto.input.StartMessage;
 import org.eclipse.sirius.components.graphql.ws.dto.input.StopMessage;
 import org.eclipse.sirius.components.graphql.ws.handlers.ConnectionInitMessageHandler;
@@ -30,6 +37,7 @@ import org.eclipse.sirius.components.graphql.ws.handlers.ConnectionTerminateMess
 import org.eclipse.sirius.components.graphql.ws.handlers.StartMessageHandler;
 import org.eclipse.sirius.components.graphql.ws.handlers.StopMessageHandler;
 import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
@@ -41,6 +49,7 @@ import graphql.schema.FieldCoordinates;
 import graphql.schema.GraphQLCodeRegistry;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLSchema;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
@@ -197,4 +206,78 @@ public class WebSocketHandlerTests {
 
         assertThat(sessions2entries.size()).isEqualTo(0);
     }
+
+    @Test
+    public void givenSessionWhichDoesNotConsumeItsMessagesWhenTheBufferLimitIsExceededThenTheSessionIsEvicted() throws Exception {
+        CountDownLatch sendStarted = new CountDownLatch(1);
+        CountDownLatch sendReleased = new CountDownLatch(1);
+        AtomicReference<CloseStatus> closeStatus = new AtomicReference<>();
+        NoOpWebSocketSession session = new NoOpWebSocketSession() {
+            @Override
+            public void sendMessage(WebSocketMessage<?> message) throws IOException {
+                sendStarted.countDown();
+                try {
+                    sendReleased.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                super.sendMessage(message);
+            }
+
+            @Override
+            public void close(CloseStatus status) throws IOException {
+                closeStatus.set(status);
+            }
+        };
+
+        // @formatter:off
+        GraphQLObjectType queryType = GraphQLObjectType.newObject()
+                .name("Query")
+                .field(newFieldDefinition()
+                        .name("field")
+                        .type(Scalars.GraphQLString))
+                .build();
+        GraphQL graphQL = GraphQL.newGraphQL(GraphQLSchema.newSchema().query(queryType).build())
+                .build();
+        // @formatter:on
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        IGraphQLWebSocketHandlerListener listener = new IGraphQLWebSocketHandlerListener() {
+            @Override
+            public void handleTextMessage(WebSocketSession webSocketSession, TextMessage message) {
+            }
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession webSocketSession) {
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession webSocketSession, CloseStatus status) {
+            }
+        };
+        GraphQLWebSocketHandler handler = new GraphQLWebSocketHandler(new ObjectMapper(), graphQL, meterRegistry, listener, Duration.ofSeconds(30), 10);
+        handler.afterConnectionEstablished(session);
+        assertThat(meterRegistry.find("siriusweb_graphql_ws_session_buffer_size").gauges()).hasSize(1);
+
+        TextMessage connectionInitMessage = new TextMessage("{\"type\":\"connection_init\"}");
+        var blockedSend = CompletableFuture.runAsync(() -> {
+            try {
+                handler.handleMessage(session, connectionInitMessage);
+            } catch (Exception exception) {
+                throw new IllegalStateException(exception);
+            }
+        });
+        assertThat(sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // The messages of the second request are buffered and exceed the limit of the session
+        handler.handleMessage(session, connectionInitMessage);
+        assertThat(closeStatus.get()).isEqualTo(CloseStatus.SESSION_NOT_RELIABLE);
+
+        sendReleased.countDown();
+        blockedSend.get(5, TimeUnit.SECONDS);
+
+        handler.afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.counter("siriusweb_graphql_ws_evicted_sessions").count()).isEqualTo(1);
+        assertThat(meterRegistry.find("siriusweb_graphql_ws_session_buffer_size").gauges()).isEmpty();
+    }
 }
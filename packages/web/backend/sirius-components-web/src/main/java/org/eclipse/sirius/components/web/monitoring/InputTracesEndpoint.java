@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.web.monitoring;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.sirius.components.core.api.IInputTraceRegistry;
+import org.eclipse.sirius.components.core.api.InputTrace;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint used to find the slowest inputs recently executed along with the time spent in each phase of their
+ * execution.
+ *
+ * <p>
+ * As any other actuator endpoint, it has to be exposed with the property
+ * <code>management.endpoints.web.exposure.include=inputtraces</code> to be available at
+ * <code>/actuator/inputtraces</code>.
+ * </p>
+ *
+ * @author agent
+ */
+@Component
+@Endpoint(id = "inputtraces")
+public class InputTracesEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final IInputTraceRegistry inputTraceRegistry;
+
+    public InputTracesEndpoint(IInputTraceRegistry inputTraceRegistry) {
+        this.inputTraceRegistry = Objects.requireNonNull(inputTraceRegistry);
+    }
+
+    @ReadOperation
+    public List<InputTrace> slowestInputTraces(@Nullable Integer limit) {
+        return this.inputTraceRegistry.getSlowestInputTraces(Optional.ofNullable(limit).orElse(DEFAULT_LIMIT));
+    }
+}